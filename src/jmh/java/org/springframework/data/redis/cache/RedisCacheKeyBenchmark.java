@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.lang.Nullable;
+
+/**
+ * Benchmark comparing binary cache key creation through {@link RedisCache#createCacheKey(Object)} and
+ * {@link RedisCache#serializeCacheKey(String)} with the encoded keys {@link RedisCache} uses without near cache. Run
+ * with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisCacheKeyBenchmark {
+
+	@Param({ "string", "long", "uuid" }) String keyType;
+
+	Object key;
+	RedisCache cache;
+	BlackholeCacheWriter writer;
+
+	@Setup
+	public void setUp(Blackhole blackhole) {
+
+		switch (keyType) {
+			case "string":
+				key = "user:profile:4711";
+				break;
+			case "long":
+				key = 4711_0815L;
+				break;
+			default:
+				key = UUID.randomUUID();
+		}
+
+		writer = new BlackholeCacheWriter(blackhole);
+		cache = new RedisCache("users", writer, RedisCacheConfiguration.defaultCacheConfig());
+	}
+
+	@Benchmark
+	public void conversionServiceAndSerializer() {
+		writer.remove("users", cache.serializeCacheKey(cache.createCacheKey(key)));
+	}
+
+	@Benchmark
+	public void encoded() {
+		cache.evict(key);
+	}
+
+	static class BlackholeCacheWriter implements RedisCacheWriter {
+
+		private final Blackhole blackhole;
+
+		BlackholeCacheWriter(Blackhole blackhole) {
+			this.blackhole = blackhole;
+		}
+
+		@Override
+		public void remove(String name, byte[] key) {
+			blackhole.consume(key);
+		}
+
+		@Override
+		public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+			blackhole.consume(key);
+		}
+
+		@Nullable
+		@Override
+		public byte[] get(String name, byte[] key) {
+
+			blackhole.consume(key);
+			return null;
+		}
+
+		@Nullable
+		@Override
+		public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+			blackhole.consume(key);
+			return null;
+		}
+
+		@Override
+		public void clean(String name, byte[] pattern) {}
+	}
+}
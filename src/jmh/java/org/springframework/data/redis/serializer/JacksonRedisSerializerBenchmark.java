@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+
+/**
+ * Benchmark comparing the Jackson {@link RedisSerializer}s with plain {@link ObjectMapper#writeValueAsBytes(Object)}
+ * and {@link ObjectMapper#readValue(byte[], Class)} calls for a DTO serializing to about 2 KB of JSON without type
+ * information. Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonRedisSerializerBenchmark {
+
+	ObjectMapper typedMapper;
+	ObjectMapper genericMapper;
+	Jackson2JsonRedisSerializer<Order> typedSerializer;
+	GenericJackson2JsonRedisSerializer genericSerializer;
+
+	Order order;
+	byte[] typedJson;
+	byte[] genericJson;
+
+	@Setup
+	public void setUp() throws IOException {
+
+		typedMapper = new ObjectMapper();
+		typedSerializer = new Jackson2JsonRedisSerializer<>(Order.class);
+		typedSerializer.setObjectMapper(typedMapper);
+
+		genericMapper = new ObjectMapper();
+		genericMapper.enableDefaultTyping(DefaultTyping.NON_FINAL, As.PROPERTY);
+		genericSerializer = new GenericJackson2JsonRedisSerializer(genericMapper);
+
+		order = Order.create(16);
+		typedJson = typedMapper.writeValueAsBytes(order);
+		genericJson = genericMapper.writeValueAsBytes(order);
+	}
+
+	@Benchmark
+	public byte[] writeTypedObjectMapper() throws IOException {
+		return typedMapper.writeValueAsBytes(order);
+	}
+
+	@Benchmark
+	public byte[] writeTypedSerializer() {
+		return typedSerializer.serialize(order);
+	}
+
+	@Benchmark
+	public Object readTypedObjectMapper() throws IOException {
+		return typedMapper.readValue(typedJson, Order.class);
+	}
+
+	@Benchmark
+	public Object readTypedSerializer() {
+		return typedSerializer.deserialize(typedJson);
+	}
+
+	@Benchmark
+	public byte[] writeGenericObjectMapper() throws IOException {
+		return genericMapper.writeValueAsBytes(order);
+	}
+
+	@Benchmark
+	public byte[] writeGenericSerializer() {
+		return genericSerializer.serialize(order);
+	}
+
+	@Benchmark
+	public Object readGenericObjectMapper() throws IOException {
+		return genericMapper.readValue(genericJson, Object.class);
+	}
+
+	@Benchmark
+	public Object readGenericSerializer() {
+		return genericSerializer.deserialize(genericJson);
+	}
+
+	public static class Order {
+
+		public String id;
+		public String customer;
+		public String shippingAddress;
+		public long createdAt;
+		public List<Item> items = new ArrayList<>();
+
+		static Order create(int items) {
+
+			Order order = new Order();
+			order.id = "order-0f8fad5b-d9cb-469f-a165-70867728950e";
+			order.customer = "customer-7c9e6679-7425-40de-944b-e07fc1f90ae7";
+			order.shippingAddress = "Tiergartenstrasse 42, 10785 Berlin, Germany";
+			order.createdAt = 1_560_000_000_000L;
+
+			for (int i = 0; i < items; i++) {
+
+				Item item = new Item();
+				item.sku = "SKU-" + (100_000 + i);
+				item.description = "Item description number " + i + " for benchmarking";
+				item.quantity = i + 1;
+				item.price = 19.99 * (i + 1);
+				order.items.add(item);
+			}
+
+			return order;
+		}
+	}
+
+	public static class Item {
+
+		public String sku;
+		public String description;
+		public int quantity;
+		public double price;
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Non-blocking counterpart of {@link RedisCacheWriter} returning {@link CompletableFuture}s that complete once Redis
+ * responded, so that callers do not block while waiting for cache operations.
+ * <p />
+ * {@link AsyncRedisCacheWriter} does not wait for cache locks set by a
+ * {@link RedisCacheWriter#lockingRedisCacheWriter(org.springframework.data.redis.connection.RedisConnectionFactory) locking} {@link RedisCacheWriter}.
+ *
+ * @since 2.2
+ * @see RedisCache#retrieve(Object)
+ */
+public interface AsyncRedisCacheWriter {
+
+	/**
+	 * Create new {@link AsyncRedisCacheWriter} using the reactive connection of the given
+	 * {@link ReactiveRedisConnectionFactory}, such as
+	 * {@link org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @return new instance of {@link AsyncRedisCacheWriter}.
+	 */
+	static AsyncRedisCacheWriter create(ReactiveRedisConnectionFactory connectionFactory) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+
+		return new DefaultAsyncRedisCacheWriter(connectionFactory);
+	}
+
+	/**
+	 * Get the binary value representation from Redis stored for the given key.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @return {@link CompletableFuture} completing with {@literal null} if key does not exist.
+	 */
+	CompletableFuture<byte[]> get(String name, byte[] key);
+
+	/**
+	 * Write the given key/value pair to Redis an set the expiration time if defined.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @return {@link CompletableFuture} completing once the value has been written.
+	 */
+	CompletableFuture<Void> put(String name, byte[] key, byte[] value, @Nullable Duration ttl);
+
+	/**
+	 * Write the given value to Redis if the key does not already exist.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @return {@link CompletableFuture} completing with {@literal null} if the value has been written, with the value
+	 *         stored for the key if it already exists.
+	 */
+	CompletableFuture<byte[]> putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl);
+
+	/**
+	 * Remove the given key from Redis.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @return {@link CompletableFuture} completing once the key has been removed.
+	 */
+	CompletableFuture<Void> remove(String name, byte[] key);
+
+	/**
+	 * Remove all keys following the given pattern.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param pattern The pattern for the keys to remove. Must not be {@literal null}.
+	 * @return {@link CompletableFuture} completing once all keys have been removed.
+	 */
+	CompletableFuture<Void> clean(String name, byte[] pattern);
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.util.Assert;
+
+/**
+ * Strategy used by {@link RedisCacheWriter#clean(String, byte[])} to remove all keys matching a pattern.
+ *
+ * @since 2.2
+ * @see #keys()
+ * @see #scan(int, int)
+ */
+@FunctionalInterface
+public interface CacheCleanStrategy {
+
+	/**
+	 * Remove all keys matching {@code pattern}.
+	 *
+	 * @param connection the connection to use. Must not be {@literal null}.
+	 * @param name the cache name.
+	 * @param pattern the key pattern. Must not be {@literal null}.
+	 * @return the number of removed keys.
+	 */
+	long clean(RedisConnection connection, String name, byte[] pattern);
+
+	/**
+	 * Create a {@link CacheCleanStrategy} obtaining all matching keys with a single {@code KEYS} command and removing
+	 * them with a single {@code DEL} command. {@code KEYS} blocks the server while scanning the entire key space, so this
+	 * strategy is only suitable for small data sets.
+	 *
+	 * @return the {@link CacheCleanStrategy} using {@code KEYS}.
+	 */
+	static CacheCleanStrategy keys() {
+
+		return (connection, name, pattern) -> {
+
+			byte[][] keys = Optional.ofNullable(connection.keys(pattern)).orElse(Collections.emptySet())
+					.toArray(new byte[0][]);
+
+			if (keys.length == 0) {
+				return 0;
+			}
+
+			Long removed = connection.del(keys);
+			return removed != null ? removed : 0;
+		};
+	}
+
+	/**
+	 * Create a {@link CacheCleanStrategy} iterating over matching keys with {@code SCAN} and removing them in batches of
+	 * {@code batchSize} keys using {@code UNLINK}. In cluster mode, each master node is scanned in parallel.
+	 *
+	 * @param scanCount the {@code COUNT} hint for each {@code SCAN} iteration. Must be greater than zero.
+	 * @param batchSize the maximum number of keys to remove with a single {@code UNLINK}. Must be greater than zero.
+	 * @return the {@link CacheCleanStrategy} using {@code SCAN}.
+	 */
+	static CacheCleanStrategy scan(int scanCount, int batchSize) {
+		return scan(scanCount, batchSize, CleanListener.NONE);
+	}
+
+	/**
+	 * Create a {@link CacheCleanStrategy} iterating over matching keys with {@code SCAN} and removing them in batches of
+	 * {@code batchSize} keys using {@code UNLINK}. In cluster mode, each master node is scanned in parallel. Progress is
+	 * reported to {@link CleanListener}.
+	 *
+	 * @param scanCount the {@code COUNT} hint for each {@code SCAN} iteration. Must be greater than zero.
+	 * @param batchSize the maximum number of keys to remove with a single {@code UNLINK}. Must be greater than zero.
+	 * @param listener must not be {@literal null}.
+	 * @return the {@link CacheCleanStrategy} using {@code SCAN}.
+	 */
+	static CacheCleanStrategy scan(int scanCount, int batchSize, CleanListener listener) {
+		return new ScanCacheCleanStrategy(scanCount, batchSize, listener,
+				new SimpleAsyncTaskExecutor("redis-cache-clean-"));
+	}
+
+	/**
+	 * Create a {@link CacheCleanStrategy} iterating over matching keys with {@code SCAN} and removing them in batches of
+	 * {@code batchSize} keys using {@code UNLINK}. In cluster mode, each master node is scanned in parallel using the
+	 * given {@link Executor}. Progress is reported to {@link CleanListener}.
+	 *
+	 * @param scanCount the {@code COUNT} hint for each {@code SCAN} iteration. Must be greater than zero.
+	 * @param batchSize the maximum number of keys to remove with a single {@code UNLINK}. Must be greater than zero.
+	 * @param listener must not be {@literal null}.
+	 * @param executor executor to scan cluster nodes. Must not be {@literal null}.
+	 * @return the {@link CacheCleanStrategy} using {@code SCAN}.
+	 */
+	static CacheCleanStrategy scan(int scanCount, int batchSize, CleanListener listener, Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+
+		return new ScanCacheCleanStrategy(scanCount, batchSize, listener, executor);
+	}
+
+	/**
+	 * Listener notified about the progress of removing cache entries.
+	 */
+	interface CleanListener {
+
+		/**
+		 * {@link CleanListener} ignoring all notifications.
+		 */
+		CleanListener NONE = new CleanListener() {};
+
+		/**
+		 * Called after a batch of keys has been removed.
+		 *
+		 * @param name the cache name.
+		 * @param removed the total number of keys removed so far.
+		 */
+		default void onProgress(String name, long removed) {}
+
+		/**
+		 * Called after all keys have been removed.
+		 *
+		 * @param name the cache name.
+		 * @param removed the total number of removed keys.
+		 * @param duration time it took to remove the keys.
+		 */
+		default void onComplete(String name, long removed, Duration duration) {}
+	}
+}
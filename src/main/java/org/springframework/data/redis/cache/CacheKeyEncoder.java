@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.Nullable;
+
+/**
+ * Encodes {@link String}, integral {@link Number} and {@link UUID} cache keys directly into a single binary Redis key
+ * prefixed with the given prefix bytes, avoiding intermediate {@link String} and {@code byte[]} instances. Key types are
+ * only encoded if the {@link ConversionService} converts them to their {@link Object#toString()} representation and
+ * the key serializer writes {@literal UTF-8}, so that encoded keys are identical to keys created through the
+ * {@link ConversionService} and key serializer.
+ *
+ * @since 2.2
+ */
+class CacheKeyEncoder {
+
+	private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+	private static final String STRING_PROBE = "kéy-€-1";
+	private static final Object[] NUMBER_PROBES = { -42, -42L, (short) -42, (byte) -42 };
+	private static final UUID UUID_PROBE = UUID.fromString("0f1e2d3c-4b5a-6978-8796-a5b4c3d2e1f0");
+
+	private final boolean strings;
+	private final boolean numbers;
+	private final boolean uuids;
+
+	private CacheKeyEncoder(boolean strings, boolean numbers, boolean uuids) {
+
+		this.strings = strings;
+		this.numbers = numbers;
+		this.uuids = uuids;
+	}
+
+	/**
+	 * Create a {@link CacheKeyEncoder} for the key types the given {@link ConversionService} and key serializer treat
+	 * like {@link Object#toString()} encoded with {@literal UTF-8}.
+	 *
+	 * @param conversionService must not be {@literal null}.
+	 * @param keySerializer serializes {@link String} keys. Must not be {@literal null}.
+	 * @return {@literal null} if no key type can be encoded directly.
+	 */
+	@Nullable
+	static CacheKeyEncoder create(ConversionService conversionService, Function<String, byte[]> keySerializer) {
+
+		try {
+			if (!Arrays.equals(keySerializer.apply(STRING_PROBE), STRING_PROBE.getBytes(StandardCharsets.UTF_8))) {
+				return null;
+			}
+		} catch (RuntimeException e) {
+			return null;
+		}
+
+		boolean strings = convertsToString(conversionService, STRING_PROBE);
+		boolean numbers = true;
+
+		for (Object probe : NUMBER_PROBES) {
+			numbers &= convertsToString(conversionService, probe);
+		}
+
+		boolean uuids = convertsToString(conversionService, UUID_PROBE);
+
+		return strings || numbers || uuids ? new CacheKeyEncoder(strings, numbers, uuids) : null;
+	}
+
+	/**
+	 * Encode {@code key} prefixed with {@code prefix}.
+	 *
+	 * @param prefix the binary key prefix. Must not be {@literal null}.
+	 * @param key the cache key. Must not be {@literal null}.
+	 * @return {@literal null} if the type of {@code key} is not supported.
+	 */
+	@Nullable
+	byte[] encode(byte[] prefix, Object key) {
+
+		if (key instanceof String) {
+			return strings ? encodeString(prefix, (String) key) : null;
+		}
+
+		if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+			return numbers ? encodeLong(prefix, ((Number) key).longValue()) : null;
+		}
+
+		if (key instanceof UUID) {
+			return uuids ? encodeUuid(prefix, (UUID) key) : null;
+		}
+
+		return null;
+	}
+
+	private static byte[] encodeString(byte[] prefix, String key) {
+
+		int length = key.length();
+
+		for (int i = 0; i < length; i++) {
+			if (key.charAt(i) >= 0x80) {
+				return concat(prefix, key.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		byte[] result = new byte[prefix.length + length];
+		System.arraycopy(prefix, 0, result, 0, prefix.length);
+
+		for (int i = 0; i < length; i++) {
+			result[prefix.length + i] = (byte) key.charAt(i);
+		}
+
+		return result;
+	}
+
+	private static byte[] encodeLong(byte[] prefix, long value) {
+
+		if (value == Long.MIN_VALUE) {
+			return concat(prefix, Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+		}
+
+		boolean negative = value < 0;
+		long remaining = negative ? -value : value;
+		int digits = 1;
+
+		for (long limit = 10; digits < 19 && remaining >= limit; limit *= 10) {
+			digits++;
+		}
+
+		byte[] result = new byte[prefix.length + (negative ? 1 : 0) + digits];
+		System.arraycopy(prefix, 0, result, 0, prefix.length);
+
+		if (negative) {
+			result[prefix.length] = '-';
+		}
+
+		for (int i = result.length - 1; i >= result.length - digits; i--) {
+
+			result[i] = (byte) ('0' + remaining % 10);
+			remaining /= 10;
+		}
+
+		return result;
+	}
+
+	private static byte[] encodeUuid(byte[] prefix, UUID key) {
+
+		byte[] result = new byte[prefix.length + 36];
+		System.arraycopy(prefix, 0, result, 0, prefix.length);
+
+		long msb = key.getMostSignificantBits();
+		long lsb = key.getLeastSignificantBits();
+		int offset = prefix.length;
+
+		offset = writeHex(result, offset, msb >>> 32, 8);
+		result[offset++] = '-';
+		offset = writeHex(result, offset, msb >>> 16, 4);
+		result[offset++] = '-';
+		offset = writeHex(result, offset, msb, 4);
+		result[offset++] = '-';
+		offset = writeHex(result, offset, lsb >>> 48, 4);
+		result[offset++] = '-';
+		writeHex(result, offset, lsb, 12);
+
+		return result;
+	}
+
+	/**
+	 * Write the lowest {@code digits} hex digits of {@code value}.
+	 *
+	 * @return the offset after the written digits.
+	 */
+	private static int writeHex(byte[] target, int offset, long value, int digits) {
+
+		for (int i = digits - 1; i >= 0; i--) {
+
+			target[offset + i] = HEX_DIGITS[(int) (value & 0xF)];
+			value >>>= 4;
+		}
+
+		return offset + digits;
+	}
+
+	private static byte[] concat(byte[] prefix, byte[] key) {
+
+		byte[] result = new byte[prefix.length + key.length];
+		System.arraycopy(prefix, 0, result, 0, prefix.length);
+		System.arraycopy(key, 0, result, prefix.length, key.length);
+
+		return result;
+	}
+
+	private static boolean convertsToString(ConversionService conversionService, Object probe) {
+
+		try {
+			return probe.toString().equals(conversionService.convert(probe, String.class));
+		} catch (RuntimeException e) {
+			return false;
+		}
+	}
+}
@@ -34,6 +34,22 @@ public interface CacheKeyPrefix {
 	 */
 	String compute(String cacheName);
 
+	/**
+	 * Compute the prefix for the actual {@literal key} stored in Redis for a cache using
+	 * {@link RedisCacheConfiguration#enableGenerationalKeys(java.time.Duration) generational keys}. Defaults to
+	 * {@link #compute(String)} followed by the {@code generation} and double colons. A cache named {@code myCache} in
+	 * generation {@code 3} using the {@link #simple() default scheme} will prefix all cache keys with
+	 * {@code myCache::3::}.
+	 *
+	 * @param cacheName will never be {@literal null}.
+	 * @param generation the current cache generation.
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 */
+	default String compute(String cacheName, long generation) {
+		return compute(cacheName) + generation + "::";
+	}
+
 	/**
 	 * Creates a default {@link CacheKeyPrefix} scheme that prefixes cache keys with {@code cacheName} followed by double
 	 * colons. A cache named {@code myCache} will prefix all cache keys with {@code myCache::}.
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.util.Assert;
+
+/**
+ * Strategy used by a locking {@link RedisCacheWriter} to wait until a cache lock is released.
+ *
+ * @since 2.2
+ * @see #sleep(Duration)
+ * @see #notification(RedisMessageListenerContainer, Duration)
+ */
+@FunctionalInterface
+public interface CacheLockWaitStrategy {
+
+	/**
+	 * Channel a {@link RedisCacheWriter} publishes the cache name to when releasing a cache lock.
+	 */
+	String LOCK_RELEASED_CHANNEL = "__spring-data-redis:cache:lock-released";
+
+	/**
+	 * Block the calling thread until {@code isLocked} reports the cache lock for {@code name} as released.
+	 *
+	 * @param name the cache name.
+	 * @param isLocked checks the presence of the cache lock. Must not be {@literal null}.
+	 * @throws InterruptedException if the calling thread is interrupted while waiting.
+	 */
+	void awaitUnlocked(String name, BooleanSupplier isLocked) throws InterruptedException;
+
+	/**
+	 * @return {@literal true} if the {@link RedisCacheWriter} is required to publish a notification to
+	 *         {@link #LOCK_RELEASED_CHANNEL} when releasing a cache lock.
+	 */
+	default boolean requiresReleaseNotification() {
+		return false;
+	}
+
+	/**
+	 * Create a {@link CacheLockWaitStrategy} checking the presence of the cache lock and sleeping {@code sleepTime}
+	 * between checks.
+	 *
+	 * @param sleepTime must not be {@literal null}, zero or negative.
+	 * @return new instance of {@link CacheLockWaitStrategy}.
+	 */
+	static CacheLockWaitStrategy sleep(Duration sleepTime) {
+
+		Assert.notNull(sleepTime, "SleepTime must not be null!");
+		Assert.isTrue(!sleepTime.isZero() && !sleepTime.isNegative(), "SleepTime must be greater than zero!");
+
+		long sleepMillis = sleepTime.toMillis();
+
+		return (name, isLocked) -> {
+			while (isLocked.getAsBoolean()) {
+				Thread.sleep(sleepMillis);
+			}
+		};
+	}
+
+	/**
+	 * Create a {@link CacheLockWaitStrategy} waking waiting threads as soon as a lock release notification is received
+	 * through {@code listenerContainer}. A single subscription to {@link #LOCK_RELEASED_CHANNEL} is shared by all caches.
+	 * The presence of the cache lock is re-checked after {@code maxSleepTime} at the latest to cover missed notifications
+	 * and expired locks.
+	 *
+	 * @param listenerContainer must not be {@literal null}.
+	 * @param maxSleepTime must not be {@literal null}, zero or negative.
+	 * @return new instance of {@link CacheLockWaitStrategy}.
+	 */
+	static CacheLockWaitStrategy notification(RedisMessageListenerContainer listenerContainer, Duration maxSleepTime) {
+		return new NotificationCacheLockWaitStrategy(listenerContainer, maxSleepTime);
+	}
+}
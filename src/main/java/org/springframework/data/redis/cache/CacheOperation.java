@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Operations of a {@link RedisCacheWriter} whose latency is tracked by a {@link CacheStatisticsCollector}.
+ *
+ * @since 2.2
+ * @see CacheStatistics#getLatency(CacheOperation)
+ */
+public enum CacheOperation {
+
+	/**
+	 * Reading a single cache entry.
+	 */
+	GET,
+
+	/**
+	 * Writing a single cache entry.
+	 */
+	PUT,
+
+	/**
+	 * Writing a single cache entry if absent.
+	 */
+	PUT_IF_ABSENT,
+
+	/**
+	 * Removing a single cache entry.
+	 */
+	REMOVE,
+
+	/**
+	 * Reading multiple cache entries at once.
+	 */
+	GET_ALL,
+
+	/**
+	 * Writing multiple cache entries at once.
+	 */
+	PUT_ALL,
+
+	/**
+	 * Removing multiple cache entries at once.
+	 */
+	REMOVE_ALL,
+
+	/**
+	 * Removing all entries linked to tags along with the tags.
+	 */
+	REMOVE_BY_TAGS,
+
+	/**
+	 * Updating the expiration of multiple cache entries.
+	 */
+	EXPIRE,
+
+	/**
+	 * Adding entries to the size bound index and evicting excess entries.
+	 */
+	INDEX,
+
+	/**
+	 * Removing all entries matching a pattern.
+	 */
+	CLEAN,
+
+	/**
+	 * Waiting for a cache lock to be released, including the lock check itself.
+	 */
+	LOCK_WAIT
+}
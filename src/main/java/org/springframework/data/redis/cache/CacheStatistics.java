@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Instant;
+
+/**
+ * Counters and latencies recorded for a single cache by a {@link CacheStatisticsCollector}. Counters reflect Redis
+ * interactions of the {@link RedisCacheWriter}, so lookups served by a near cache are not included.
+ *
+ * @since 2.2
+ * @see CacheStatisticsCollector
+ * @see RedisCache#getStatistics()
+ */
+public interface CacheStatistics {
+
+	/**
+	 * @return the name of the cache.
+	 */
+	String getCacheName();
+
+	/**
+	 * @return the number of entries written.
+	 */
+	long getPuts();
+
+	/**
+	 * @return the number of entries requested, that is the sum of {@link #getHits() hits} and {@link #getMisses()
+	 *         misses}.
+	 */
+	default long getGets() {
+		return getHits() + getMisses();
+	}
+
+	/**
+	 * @return the number of requested entries found in Redis.
+	 */
+	long getHits();
+
+	/**
+	 * @return the number of requested entries not found in Redis.
+	 */
+	long getMisses();
+
+	/**
+	 * @return the number of entries removed.
+	 */
+	long getDeletes();
+
+	/**
+	 * Get the latency distribution of the given {@link CacheOperation}.
+	 *
+	 * @param operation must not be {@literal null}.
+	 * @return a snapshot of the latencies recorded so far. Never {@literal null}.
+	 */
+	LatencyHistogram getLatency(CacheOperation operation);
+
+	/**
+	 * @return the time the statistics were created or last reset.
+	 */
+	Instant getSince();
+}
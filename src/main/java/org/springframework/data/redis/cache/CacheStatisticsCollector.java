@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Collects per-cache counters and latencies reported by a {@link RedisCacheWriter}. Implementations must be thread-safe
+ * and should not block callers.
+ *
+ * @since 2.2
+ * @see RedisCacheManager.RedisCacheManagerBuilder#enableStatistics()
+ */
+public interface CacheStatisticsCollector {
+
+	/**
+	 * @return a {@link CacheStatisticsCollector} discarding all reported values.
+	 */
+	static CacheStatisticsCollector none() {
+		return NoOpCacheStatisticsCollector.INSTANCE;
+	}
+
+	/**
+	 * @return a new {@link CacheStatisticsCollector} keeping counters and latency histograms in memory.
+	 */
+	static CacheStatisticsCollector create() {
+		return new DefaultCacheStatisticsCollector();
+	}
+
+	/**
+	 * Record entries written to a cache.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @param count number of entries written.
+	 */
+	void incPuts(String cacheName, long count);
+
+	/**
+	 * Record requested entries found in a cache.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @param count number of entries found.
+	 */
+	void incHits(String cacheName, long count);
+
+	/**
+	 * Record requested entries not found in a cache.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @param count number of entries not found.
+	 */
+	void incMisses(String cacheName, long count);
+
+	/**
+	 * Record entries removed from a cache.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @param count number of entries removed.
+	 */
+	void incDeletes(String cacheName, long count);
+
+	/**
+	 * Record the duration of a {@link CacheOperation}.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @param operation must not be {@literal null}.
+	 * @param durationNanos duration in nanoseconds.
+	 */
+	void recordLatency(String cacheName, CacheOperation operation, long durationNanos);
+
+	/**
+	 * Get the {@link CacheStatistics} for the cache with the given name.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	CacheStatistics getCacheStatistics(String cacheName);
+
+	/**
+	 * Hand the {@link CacheStatistics} of each cache with recorded values to the given {@link CacheStatisticsExporter}.
+	 *
+	 * @param exporter must not be {@literal null}.
+	 */
+	void export(CacheStatisticsExporter exporter);
+
+	/**
+	 * Reset all counters and latencies of the cache with the given name.
+	 *
+	 * @param cacheName must not be {@literal null}.
+	 */
+	void reset(String cacheName);
+
+	/**
+	 * @return {@literal false} if reported values are discarded so that callers can skip measuring durations.
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Callback to publish {@link CacheStatistics}, for example to a metrics registry or a log. Invoked by
+ * {@link CacheStatisticsCollector#export(CacheStatisticsExporter)} once per cache.
+ *
+ * @since 2.2
+ */
+@FunctionalInterface
+public interface CacheStatisticsExporter {
+
+	/**
+	 * Export the given {@link CacheStatistics}.
+	 *
+	 * @param statistics never {@literal null}.
+	 */
+	void export(CacheStatistics statistics);
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Warms up near caches from the keys recorded in a {@link CacheWarmUpSnapshot} and periodically records the keys held
+ * by near caches. Batches of keys are fetched concurrently by up to {@link CacheWarmUpConfiguration#getParallelism()}
+ * daemon threads.
+ *
+ * @since 2.2
+ * @see CacheWarmUpConfiguration
+ */
+class CacheWarmUp {
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final CacheWarmUpConfiguration configuration;
+	private final ScheduledExecutorService executor;
+
+	private volatile boolean warmedUp = true;
+
+	/**
+	 * @param configuration must not be {@literal null}.
+	 */
+	CacheWarmUp(CacheWarmUpConfiguration configuration) {
+
+		Assert.notNull(configuration, "CacheWarmUpConfiguration must not be null!");
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-cache-warm-up-");
+		threadFactory.setDaemon(true);
+
+		this.configuration = configuration;
+		this.executor = new ScheduledThreadPoolExecutor(configuration.getParallelism(), threadFactory);
+	}
+
+	/**
+	 * Fetch the keys recorded in the snapshot file and add their values to the near caches. Keys of caches unknown to
+	 * {@code cacheLookup} are skipped. Failures are logged and do not fail the warm-up.
+	 *
+	 * @param cacheLookup resolves the {@link RedisCache} by its name, returning {@literal null} for unknown caches. Must
+	 *          not be {@literal null}.
+	 * @return a {@link CompletableFuture} completing once all batches have been fetched.
+	 */
+	CompletableFuture<Void> warmUp(Function<String, RedisCache> cacheLookup) {
+
+		Map<String, List<String>> snapshot;
+
+		try {
+			snapshot = CacheWarmUpSnapshot.read(configuration.getSnapshotFile());
+		} catch (IOException e) {
+
+			logger.warn("Cannot read cache warm-up snapshot. Skipping warm-up.", e);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		List<CompletableFuture<Void>> batches = new ArrayList<>();
+
+		snapshot.forEach((cacheName, keys) -> {
+
+			RedisCache cache = cacheLookup.apply(cacheName);
+
+			if (cache == null || keys.isEmpty()) {
+				return;
+			}
+
+			Progress progress = new Progress(cacheName, keys.size());
+
+			for (int from = 0; from < keys.size(); from += configuration.getBatchSize()) {
+
+				List<String> batch = keys.subList(from, Math.min(keys.size(), from + configuration.getBatchSize()));
+				batches.add(CompletableFuture.runAsync(() -> fetch(cache, batch, progress), executor));
+			}
+		});
+
+		if (batches.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		warmedUp = false;
+
+		return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).whenComplete((it, e) -> warmedUp = true);
+	}
+
+	/**
+	 * Periodically record the keys of the given caches according to the
+	 * {@link CacheWarmUpConfiguration#getSnapshotInterval() snapshot interval}.
+	 *
+	 * @param caches supplies the caches to record. Must not be {@literal null}.
+	 */
+	void scheduleSnapshots(Supplier<Collection<RedisCache>> caches) {
+
+		long interval = configuration.getSnapshotInterval().toMillis();
+
+		if (interval > 0) {
+			executor.scheduleWithFixedDelay(() -> writeSnapshot(caches.get()), interval, interval, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Record the keys held by the near caches of the given caches. Skipped while a warm-up is in progress to not replace
+	 * the snapshot with the partially warmed up near caches.
+	 *
+	 * @param caches must not be {@literal null}.
+	 */
+	void writeSnapshot(Collection<RedisCache> caches) {
+
+		if (!warmedUp) {
+			return;
+		}
+
+		Map<String, List<String>> snapshot = new LinkedHashMap<>();
+
+		for (RedisCache cache : caches) {
+
+			List<String> keys = cache.getNearCacheKeys();
+
+			if (!keys.isEmpty()) {
+				snapshot.put(cache.getName(), keys);
+			}
+		}
+
+		try {
+			CacheWarmUpSnapshot.write(configuration.getSnapshotFile(), snapshot);
+		} catch (IOException e) {
+			logger.warn("Cannot write cache warm-up snapshot.", e);
+		}
+	}
+
+	/**
+	 * Stop fetching and recording keys, and record the keys of the given caches one last time.
+	 *
+	 * @param caches must not be {@literal null}.
+	 */
+	void shutdown(Collection<RedisCache> caches) {
+
+		executor.shutdownNow();
+		writeSnapshot(caches);
+	}
+
+	private void fetch(RedisCache cache, List<String> keys, Progress progress) {
+
+		int found = 0;
+
+		try {
+			found = cache.warmUpNearCache(keys);
+		} catch (RuntimeException e) {
+			logger.warn(String.format("Cannot warm up cache '%s'.", cache.getName()), e);
+		}
+
+		CacheWarmUpProgress current = progress.add(keys.size(), found);
+		CacheWarmUpListener listener = configuration.getListener();
+
+		if (listener != null) {
+			listener.onProgress(current);
+		}
+
+		if (current.isComplete() && logger.isDebugEnabled()) {
+			logger.debug(String.format("Warmed up %s.", current));
+		}
+	}
+
+	private static class Progress {
+
+		private final String cacheName;
+		private final int totalKeys;
+		private int fetchedKeys;
+		private int foundKeys;
+
+		Progress(String cacheName, int totalKeys) {
+
+			this.cacheName = cacheName;
+			this.totalKeys = totalKeys;
+		}
+
+		synchronized CacheWarmUpProgress add(int fetched, int found) {
+
+			fetchedKeys += fetched;
+			foundKeys += found;
+
+			return new CacheWarmUpProgress(cacheName, totalKeys, fetchedKeys, foundKeys);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable {@link CacheWarmUpConfiguration} for warming up {@link RedisCacheConfiguration#enableNearCache(int, Duration)
+ * near caches} of a {@link RedisCacheManager} on startup. The {@link RedisCacheManager} periodically records the keys
+ * held by its near caches to a local snapshot file. On startup the recorded keys are fetched from Redis in parallel
+ * batches using bulk reads and added to the near caches, without invoking any value loader.
+ * <p />
+ * {@link CacheWarmUpConfiguration#snapshotFile(Path)} sets up the following defaults:
+ * <dl>
+ * <dt>snapshot interval</dt>
+ * <dd>1 minute</dd>
+ * <dt>batch size</dt>
+ * <dd>100</dd>
+ * <dt>parallelism</dt>
+ * <dd>4</dd>
+ * <dt>listener</dt>
+ * <dd>none</dd>
+ * </dl>
+ *
+ * @since 2.2
+ * @see RedisCacheManager.RedisCacheManagerBuilder#warmUp(CacheWarmUpConfiguration)
+ */
+public class CacheWarmUpConfiguration {
+
+	private final Path snapshotFile;
+	private final Duration snapshotInterval;
+	private final int batchSize;
+	private final int parallelism;
+	private final @Nullable CacheWarmUpListener listener;
+
+	private CacheWarmUpConfiguration(Path snapshotFile, Duration snapshotInterval, int batchSize, int parallelism,
+			@Nullable CacheWarmUpListener listener) {
+
+		this.snapshotFile = snapshotFile;
+		this.snapshotInterval = snapshotInterval;
+		this.batchSize = batchSize;
+		this.parallelism = parallelism;
+		this.listener = listener;
+	}
+
+	/**
+	 * Create a {@link CacheWarmUpConfiguration} recording hot keys to and warming up from {@code snapshotFile}.
+	 *
+	 * @param snapshotFile must not be {@literal null}.
+	 * @return new {@link CacheWarmUpConfiguration}.
+	 */
+	public static CacheWarmUpConfiguration snapshotFile(Path snapshotFile) {
+
+		Assert.notNull(snapshotFile, "Snapshot file must not be null!");
+
+		return new CacheWarmUpConfiguration(snapshotFile, Duration.ofMinutes(1), 100, 4, null);
+	}
+
+	/**
+	 * Set the interval at which the snapshot file is written. The snapshot is also written when the
+	 * {@link RedisCacheManager} is destroyed.
+	 *
+	 * @param snapshotInterval must not be {@literal null} or negative. Use {@link Duration#ZERO} to only write the
+	 *          snapshot on shutdown.
+	 * @return new {@link CacheWarmUpConfiguration}.
+	 */
+	public CacheWarmUpConfiguration withSnapshotInterval(Duration snapshotInterval) {
+
+		Assert.notNull(snapshotInterval, "Snapshot interval must not be null!");
+		Assert.isTrue(!snapshotInterval.isNegative(), "Snapshot interval must not be negative!");
+
+		return new CacheWarmUpConfiguration(snapshotFile, snapshotInterval, batchSize, parallelism, listener);
+	}
+
+	/**
+	 * Set the number of keys fetched with a single bulk read.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return new {@link CacheWarmUpConfiguration}.
+	 */
+	public CacheWarmUpConfiguration withBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		return new CacheWarmUpConfiguration(snapshotFile, snapshotInterval, batchSize, parallelism, listener);
+	}
+
+	/**
+	 * Set the number of batches fetched concurrently.
+	 *
+	 * @param parallelism must be greater than zero.
+	 * @return new {@link CacheWarmUpConfiguration}.
+	 */
+	public CacheWarmUpConfiguration withParallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+		return new CacheWarmUpConfiguration(snapshotFile, snapshotInterval, batchSize, parallelism, listener);
+	}
+
+	/**
+	 * Report warm-up progress to the given {@link CacheWarmUpListener}.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @return new {@link CacheWarmUpConfiguration}.
+	 */
+	public CacheWarmUpConfiguration withListener(CacheWarmUpListener listener) {
+
+		Assert.notNull(listener, "CacheWarmUpListener must not be null!");
+
+		return new CacheWarmUpConfiguration(snapshotFile, snapshotInterval, batchSize, parallelism, listener);
+	}
+
+	/**
+	 * @return never {@literal null}.
+	 */
+	public Path getSnapshotFile() {
+		return snapshotFile;
+	}
+
+	/**
+	 * @return never {@literal null}. {@link Duration#ZERO} if the snapshot is only written on shutdown.
+	 */
+	public Duration getSnapshotInterval() {
+		return snapshotInterval;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return the {@link CacheWarmUpListener} or {@literal null} if none configured.
+	 */
+	@Nullable
+	public CacheWarmUpListener getListener() {
+		return listener;
+	}
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Callback receiving the progress of a cache warm-up. Invoked once per fetched batch of keys, possibly from multiple
+ * threads concurrently.
+ *
+ * @since 2.2
+ * @see CacheWarmUpConfiguration#withListener(CacheWarmUpListener)
+ */
+@FunctionalInterface
+public interface CacheWarmUpListener {
+
+	/**
+	 * Called after a batch of keys has been fetched.
+	 *
+	 * @param progress never {@literal null}.
+	 */
+	void onProgress(CacheWarmUpProgress progress);
+}
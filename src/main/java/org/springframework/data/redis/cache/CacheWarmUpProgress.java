@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Progress of warming up a single cache from a snapshot.
+ *
+ * @since 2.2
+ * @see CacheWarmUpListener
+ */
+public final class CacheWarmUpProgress {
+
+	private final String cacheName;
+	private final int totalKeys;
+	private final int fetchedKeys;
+	private final int foundKeys;
+
+	CacheWarmUpProgress(String cacheName, int totalKeys, int fetchedKeys, int foundKeys) {
+
+		this.cacheName = cacheName;
+		this.totalKeys = totalKeys;
+		this.fetchedKeys = fetchedKeys;
+		this.foundKeys = foundKeys;
+	}
+
+	/**
+	 * @return the name of the cache being warmed up.
+	 */
+	public String getCacheName() {
+		return cacheName;
+	}
+
+	/**
+	 * @return the number of keys recorded in the snapshot for the cache.
+	 */
+	public int getTotalKeys() {
+		return totalKeys;
+	}
+
+	/**
+	 * @return the number of keys fetched from Redis so far.
+	 */
+	public int getFetchedKeys() {
+		return fetchedKeys;
+	}
+
+	/**
+	 * @return the number of fetched keys present in Redis and added to the near cache.
+	 */
+	public int getFoundKeys() {
+		return foundKeys;
+	}
+
+	/**
+	 * @return {@literal true} if all keys have been fetched.
+	 */
+	public boolean isComplete() {
+		return fetchedKeys >= totalKeys;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("%s: fetched %d of %d keys, found %d", cacheName, fetchedKeys, totalKeys, foundKeys);
+	}
+}
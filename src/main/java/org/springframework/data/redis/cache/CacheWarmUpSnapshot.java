@@ -0,0 +1,210 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes the hot keys of {@link RedisCache caches} from and to a local snapshot file.
+ * <p />
+ * The file starts with a four byte marker and a version byte followed by the number of caches. Each cache is written as
+ * its name, the number of keys and the keys. Names and keys are written as their length followed by their
+ * {@literal UTF-8} bytes. Snapshots are written to a temporary file that replaces the snapshot file once complete so
+ * that readers never observe partially written snapshots.
+ *
+ * @since 2.2
+ * @see CacheWarmUpConfiguration
+ */
+class CacheWarmUpSnapshot {
+
+	private static final byte[] MARKER = { 0, 'S', 'D', 'W' };
+	private static final byte VERSION = 1;
+
+	private CacheWarmUpSnapshot() {}
+
+	/**
+	 * Write the given keys per cache name to {@code file}, replacing an existing snapshot.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @param keysByCacheName cache keys per cache name. Must not be {@literal null}.
+	 * @throws IOException if the snapshot cannot be written.
+	 */
+	static void write(Path file, Map<String, List<String>> keysByCacheName) throws IOException {
+
+		List<byte[]> strings = new ArrayList<>();
+		int length = MARKER.length + 1 + 4;
+
+		for (Map.Entry<String, List<String>> entry : keysByCacheName.entrySet()) {
+
+			strings.add(entry.getKey().getBytes(StandardCharsets.UTF_8));
+			length += 4;
+
+			for (String key : entry.getValue()) {
+				strings.add(key.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+
+		for (byte[] string : strings) {
+			length += 4 + string.length;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(length).put(MARKER).put(VERSION).putInt(keysByCacheName.size());
+		int index = 0;
+
+		for (List<String> keys : keysByCacheName.values()) {
+
+			putString(buffer, strings.get(index++));
+			buffer.putInt(keys.size());
+
+			for (int i = 0; i < keys.size(); i++) {
+				putString(buffer, strings.get(index++));
+			}
+		}
+
+		buffer.flip();
+
+		Path directory = file.toAbsolutePath().getParent();
+
+		if (directory != null) {
+			Files.createDirectories(directory);
+		}
+
+		Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+		try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+
+			channel.force(false);
+		}
+
+		try {
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Read the keys per cache name from {@code file}.
+	 *
+	 * @param file must not be {@literal null}.
+	 * @return the keys per cache name in the order they were written. Empty if {@code file} does not exist.
+	 * @throws IOException if the snapshot cannot be read or is corrupt.
+	 */
+	static Map<String, List<String>> read(Path file) throws IOException {
+
+		if (!Files.exists(file)) {
+			return Collections.emptyMap();
+		}
+
+		ByteBuffer buffer;
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException(String.format("Cache warm-up snapshot %s exceeds 2GB.", file));
+			}
+
+			buffer = ByteBuffer.allocate((int) channel.size());
+
+			while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+				// read fully
+			}
+
+			buffer.flip();
+		}
+
+		try {
+			return read(buffer);
+		} catch (RuntimeException e) {
+			throw new IOException(String.format("Corrupt cache warm-up snapshot %s.", file), e);
+		}
+	}
+
+	private static Map<String, List<String>> read(ByteBuffer buffer) {
+
+		for (byte marker : MARKER) {
+			if (buffer.get() != marker) {
+				throw new IllegalStateException("Invalid marker.");
+			}
+		}
+
+		byte version = buffer.get();
+
+		if (version != VERSION) {
+			throw new IllegalStateException(String.format("Unsupported version %d.", version));
+		}
+
+		int caches = readLength(buffer);
+		Map<String, List<String>> keysByCacheName = new LinkedHashMap<>();
+
+		for (int i = 0; i < caches; i++) {
+
+			String cacheName = readString(buffer);
+			int count = readLength(buffer);
+			List<String> keys = new ArrayList<>(Math.min(count, buffer.remaining() / 4));
+
+			for (int j = 0; j < count; j++) {
+				keys.add(readString(buffer));
+			}
+
+			keysByCacheName.put(cacheName, keys);
+		}
+
+		return keysByCacheName;
+	}
+
+	private static void putString(ByteBuffer buffer, byte[] string) {
+		buffer.putInt(string.length).put(string);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+
+		int length = readLength(buffer);
+		byte[] string = new byte[length];
+		buffer.get(string);
+
+		return new String(string, StandardCharsets.UTF_8);
+	}
+
+	private static int readLength(ByteBuffer buffer) {
+
+		int length = buffer.getInt();
+
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalStateException(String.format("Invalid length %d.", length));
+		}
+
+		return length;
+	}
+}
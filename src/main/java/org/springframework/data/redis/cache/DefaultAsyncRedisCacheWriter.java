@@ -0,0 +1,226 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveScriptingCommands;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AsyncRedisCacheWriter} implementation issuing commands through a {@link ReactiveRedisConnection} obtained from
+ * a {@link ReactiveRedisConnectionFactory}. Commands are sent without blocking the calling thread and the returned
+ * {@link CompletableFuture}s complete on the thread receiving the Redis response.
+ * <p />
+ * Counters and latencies of cache operations are reported to a {@link CacheStatisticsCollector} like
+ * {@link DefaultRedisCacheWriter} does. By default, a {@link CacheStatisticsCollector#none() no-op collector} is used.
+ *
+ * @since 2.2
+ */
+class DefaultAsyncRedisCacheWriter implements AsyncRedisCacheWriter {
+
+	private final ReactiveRedisConnectionFactory connectionFactory;
+	private final CacheStatisticsCollector statistics;
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 */
+	DefaultAsyncRedisCacheWriter(ReactiveRedisConnectionFactory connectionFactory) {
+		this(connectionFactory, CacheStatisticsCollector.none());
+	}
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param statistics collector for cache statistics. Must not be {@literal null}.
+	 */
+	DefaultAsyncRedisCacheWriter(ReactiveRedisConnectionFactory connectionFactory, CacheStatisticsCollector statistics) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.notNull(statistics, "CacheStatisticsCollector must not be null!");
+
+		this.connectionFactory = connectionFactory;
+		this.statistics = statistics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.AsyncRedisCacheWriter#get(java.lang.String, byte[])
+	 */
+	@Override
+	public CompletableFuture<byte[]> get(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		return execute(name, CacheOperation.GET, connection -> connection.stringCommands().get(ByteBuffer.wrap(key))
+				.map(ByteUtils::getBytes).doOnSuccess(value -> {
+
+					if (value != null) {
+						statistics.incHits(name, 1);
+					} else {
+						statistics.incMisses(name, 1);
+					}
+				}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.AsyncRedisCacheWriter#put(java.lang.String, byte[], byte[], java.time.Duration)
+	 */
+	@Override
+	public CompletableFuture<Void> put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		Expiration expiration = shouldExpireWithin(ttl) ? Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS)
+				: Expiration.persistent();
+
+		return execute(name, CacheOperation.PUT, connection -> connection.stringCommands()
+				.set(ByteBuffer.wrap(key), ByteBuffer.wrap(value), expiration, SetOption.upsert()).then()
+				.doOnSuccess(it -> statistics.incPuts(name, 1)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.AsyncRedisCacheWriter#putIfAbsent(java.lang.String, byte[], byte[], java.time.Duration)
+	 */
+	@Override
+	public CompletableFuture<byte[]> putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		byte[] expiration = String.valueOf(shouldExpireWithin(ttl) ? ttl.toMillis() : 0)
+				.getBytes(StandardCharsets.UTF_8);
+
+		return execute(name, CacheOperation.PUT_IF_ABSENT,
+				connection -> evalPutIfAbsent(connection, key, value, expiration).map(ByteUtils::getBytes)
+						.doOnSuccess(existing -> {
+
+							if (existing == null) {
+								statistics.incPuts(name, 1);
+							}
+						}));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.AsyncRedisCacheWriter#remove(java.lang.String, byte[])
+	 */
+	@Override
+	public CompletableFuture<Void> remove(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		return execute(name, CacheOperation.REMOVE, connection -> connection.keyCommands().del(ByteBuffer.wrap(key))
+				.doOnSuccess(removed -> statistics.incDeletes(name, removed != null ? removed : 0)).then());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.AsyncRedisCacheWriter#clean(java.lang.String, byte[])
+	 */
+	@Override
+	public CompletableFuture<Void> clean(String name, byte[] pattern) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(pattern, "Pattern must not be null!");
+
+		return execute(name, CacheOperation.CLEAN, connection -> connection.keyCommands().keys(ByteBuffer.wrap(pattern)) //
+				.filter(keys -> !keys.isEmpty()) //
+				.flatMap(keys -> connection.keyCommands().mDel(keys)) //
+				.then());
+	}
+
+	/**
+	 * Create a new {@link DefaultAsyncRedisCacheWriter} reporting to the given {@link CacheStatisticsCollector}.
+	 *
+	 * @param statistics must not be {@literal null}.
+	 * @return new instance of {@link DefaultAsyncRedisCacheWriter}.
+	 */
+	DefaultAsyncRedisCacheWriter withStatisticsCollector(CacheStatisticsCollector statistics) {
+		return new DefaultAsyncRedisCacheWriter(connectionFactory, statistics);
+	}
+
+	/**
+	 * Run {@link DefaultRedisCacheWriter#PUT_IF_ABSENT_SCRIPT} via {@code EVALSHA} falling back to {@code EVAL} if the
+	 * script is not yet cached on the server.
+	 */
+	private static Mono<ByteBuffer> evalPutIfAbsent(ReactiveRedisConnection connection, byte[] key, byte[] value,
+			byte[] expiration) {
+
+		ReactiveScriptingCommands scripting = connection.scriptingCommands();
+		RedisScript<byte[]> script = DefaultRedisCacheWriter.PUT_IF_ABSENT_SCRIPT;
+		byte[] scriptBody = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+		Mono<ByteBuffer> evalSha = Mono.defer(() -> scripting.<ByteBuffer> evalSha(script.getSha1(), ReturnType.VALUE, 1,
+				ByteBuffer.wrap(key), ByteBuffer.wrap(value), ByteBuffer.wrap(expiration)).next());
+		Mono<ByteBuffer> eval = Mono.defer(() -> scripting.<ByteBuffer> eval(ByteBuffer.wrap(scriptBody), ReturnType.VALUE,
+				1, ByteBuffer.wrap(key), ByteBuffer.wrap(value), ByteBuffer.wrap(expiration)).next());
+
+		return evalSha.onErrorResume(DefaultRedisCacheWriter::isNoScriptError, e -> eval);
+	}
+
+	private <T> CompletableFuture<T> execute(String name, CacheOperation operation,
+			Function<ReactiveRedisConnection, Mono<T>> callback) {
+
+		return Mono.defer(() -> {
+
+			long start = statistics.isEnabled() ? System.nanoTime() : 0;
+			ReactiveRedisConnection connection = connectionFactory.getReactiveConnection();
+
+			try {
+				return callback.apply(connection) //
+						.doOnSuccess(it -> recordLatency(name, operation, start)) //
+						.doFinally(signal -> connection.closeLater().subscribe());
+			} catch (RuntimeException e) {
+
+				connection.closeLater().subscribe();
+				throw e;
+			}
+		}).toFuture();
+	}
+
+	private void recordLatency(String name, CacheOperation operation, long start) {
+
+		if (statistics.isEnabled()) {
+			statistics.recordLatency(name, operation, System.nanoTime() - start);
+		}
+	}
+
+	private static boolean shouldExpireWithin(@Nullable Duration ttl) {
+		return ttl != null && !ttl.isZero() && !ttl.isNegative();
+	}
+}
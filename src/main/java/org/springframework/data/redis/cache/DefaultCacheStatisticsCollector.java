@@ -0,0 +1,218 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheStatisticsCollector} keeping per-cache counters and latency histograms in memory. All values are
+ * recorded using {@link LongAdder}s so that concurrent callers do not contend on a single counter.
+ *
+ * @since 2.2
+ */
+class DefaultCacheStatisticsCollector implements CacheStatisticsCollector {
+
+	private final ConcurrentMap<String, MutableCacheStatistics> statistics = new ConcurrentHashMap<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incPuts(java.lang.String, long)
+	 */
+	@Override
+	public void incPuts(String cacheName, long count) {
+		statisticsFor(cacheName).puts.add(count);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incHits(java.lang.String, long)
+	 */
+	@Override
+	public void incHits(String cacheName, long count) {
+		statisticsFor(cacheName).hits.add(count);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incMisses(java.lang.String, long)
+	 */
+	@Override
+	public void incMisses(String cacheName, long count) {
+		statisticsFor(cacheName).misses.add(count);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#incDeletes(java.lang.String, long)
+	 */
+	@Override
+	public void incDeletes(String cacheName, long count) {
+		statisticsFor(cacheName).deletes.add(count);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#recordLatency(java.lang.String, org.springframework.data.redis.cache.CacheOperation, long)
+	 */
+	@Override
+	public void recordLatency(String cacheName, CacheOperation operation, long durationNanos) {
+		statisticsFor(cacheName).latencies.get(operation).record(durationNanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#getCacheStatistics(java.lang.String)
+	 */
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		return statisticsFor(cacheName);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#export(org.springframework.data.redis.cache.CacheStatisticsExporter)
+	 */
+	@Override
+	public void export(CacheStatisticsExporter exporter) {
+
+		Assert.notNull(exporter, "CacheStatisticsExporter must not be null!");
+
+		statistics.values().forEach(exporter::export);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheStatisticsCollector#reset(java.lang.String)
+	 */
+	@Override
+	public void reset(String cacheName) {
+
+		Assert.notNull(cacheName, "CacheName must not be null!");
+
+		statistics.remove(cacheName);
+	}
+
+	private MutableCacheStatistics statisticsFor(String cacheName) {
+
+		// avoid locking in computeIfAbsent for the common case of an existing entry
+		MutableCacheStatistics existing = statistics.get(cacheName);
+		return existing != null ? existing : statistics.computeIfAbsent(cacheName, MutableCacheStatistics::new);
+	}
+
+	private static class MutableCacheStatistics implements CacheStatistics {
+
+		private final String cacheName;
+		private final Instant since = Instant.now();
+		private final LongAdder puts = new LongAdder();
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder misses = new LongAdder();
+		private final LongAdder deletes = new LongAdder();
+		private final Map<CacheOperation, LatencyRecorder> latencies = new EnumMap<>(CacheOperation.class);
+
+		MutableCacheStatistics(String cacheName) {
+
+			this.cacheName = cacheName;
+
+			for (CacheOperation operation : CacheOperation.values()) {
+				latencies.put(operation, new LatencyRecorder());
+			}
+		}
+
+		@Override
+		public String getCacheName() {
+			return cacheName;
+		}
+
+		@Override
+		public long getPuts() {
+			return puts.sum();
+		}
+
+		@Override
+		public long getHits() {
+			return hits.sum();
+		}
+
+		@Override
+		public long getMisses() {
+			return misses.sum();
+		}
+
+		@Override
+		public long getDeletes() {
+			return deletes.sum();
+		}
+
+		@Override
+		public LatencyHistogram getLatency(CacheOperation operation) {
+
+			Assert.notNull(operation, "CacheOperation must not be null!");
+
+			return latencies.get(operation).snapshot();
+		}
+
+		@Override
+		public Instant getSince() {
+			return since;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("CacheStatistics [cacheName=%s, puts=%d, hits=%d, misses=%d, deletes=%d, since=%s]",
+					cacheName, getPuts(), getHits(), getMisses(), getDeletes(), since);
+		}
+	}
+
+	private static class LatencyRecorder {
+
+		private final LongAdder[] buckets = new LongAdder[LatencyHistogram.BUCKETS];
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		LatencyRecorder() {
+
+			for (int i = 0; i < buckets.length; i++) {
+				buckets[i] = new LongAdder();
+			}
+		}
+
+		void record(long durationNanos) {
+
+			buckets[LatencyHistogram.bucketFor(durationNanos)].increment();
+			totalNanos.add(durationNanos);
+			maxNanos.accumulate(durationNanos);
+		}
+
+		LatencyHistogram snapshot() {
+
+			long[] counts = new long[buckets.length];
+
+			for (int i = 0; i < buckets.length; i++) {
+				counts[i] = buckets[i].sum();
+			}
+
+			return new LatencyHistogram(counts, totalNanos.sum(), maxNanos.get());
+		}
+	}
+}
@@ -15,18 +15,36 @@
  */
 package org.springframework.data.redis.cache;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Optional;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.NonTransientDataAccessException;
 import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -39,9 +57,20 @@ import org.springframework.util.Assert;
  * {@link RedisCacheWriter#lockingRedisCacheWriter(RedisConnectionFactory) locking} or
  * {@link RedisCacheWriter#nonLockingRedisCacheWriter(RedisConnectionFactory) non-locking} mode. While
  * {@literal non-locking} aims for maximum performance it may result in overlapping, non atomic, command execution for
- * operations spanning multiple Redis interactions like {@code putIfAbsent}. The {@literal locking} counterpart prevents
+ * operations spanning multiple Redis interactions like {@code clean}. The {@literal locking} counterpart prevents
  * command overlap by setting an explicit lock key and checking against presence of this key which leads to additional
  * requests and potential command wait times.
+ * <p />
+ * Waiting for a lock release is delegated to a {@link CacheLockWaitStrategy}, either sleeping between lock checks or
+ * waking up on a release notification published when the lock is removed. Locks may be created with a time to live so
+ * that a crashed lock holder cannot block the cache forever. Each lock stores a random token and is only removed, and
+ * the release published, by the holder of that token so that a lock taken over after expiry is not released early.
+ * <p />
+ * Counters and latencies of cache operations are reported to a {@link CacheStatisticsCollector}. By default, a
+ * {@link CacheStatisticsCollector#none() no-op collector} is used and durations are not measured.
+ * <p />
+ * Operations that need to be atomic run as Lua scripts. Connections that do not support scripting, such as Jedis
+ * cluster connections, run the equivalent commands one by one instead.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -49,8 +78,78 @@ import org.springframework.util.Assert;
  */
 class DefaultRedisCacheWriter implements RedisCacheWriter {
 
+	private static final byte[] LOCK_RELEASED_CHANNEL = CacheLockWaitStrategy.LOCK_RELEASED_CHANNEL
+			.getBytes(StandardCharsets.UTF_8);
+
+	/**
+	 * Removes the lock or lease {@code KEYS[1]} if it still holds the token {@code ARGV[1]} and returns the number of
+	 * removed keys.
+	 */
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+			"if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " //
+					+ "return 0",
+			Long.class);
+
+	/**
+	 * Sets {@code KEYS[1]} to {@code ARGV[1]} if absent expiring after {@code ARGV[2]} milliseconds (if positive) and
+	 * returns the existing value otherwise.
+	 */
+	static final RedisScript<byte[]> PUT_IF_ABSENT_SCRIPT = new DefaultRedisScript<>(
+			"local result " //
+					+ "if tonumber(ARGV[2]) > 0 then result = redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) " //
+					+ "else result = redis.call('SET', KEYS[1], ARGV[1], 'NX') end " //
+					+ "if result then return false end " //
+					+ "return redis.call('GET', KEYS[1])",
+			byte[].class);
+
+	/**
+	 * Adds {@code ARGV[1]} to the tag set {@code KEYS[1]} and extends its expiration to {@code ARGV[2]} milliseconds (if
+	 * positive) unless it already expires later. A non-positive {@code ARGV[2]} makes the tag set persistent.
+	 */
+	private static final RedisScript<?> TAG_SCRIPT = RedisScript.of(
+			"local existed = redis.call('EXISTS', KEYS[1]) " //
+					+ "redis.call('SADD', KEYS[1], ARGV[1]) " //
+					+ "local ttl = tonumber(ARGV[2]) " //
+					+ "if ttl <= 0 then redis.call('PERSIST', KEYS[1]) " //
+					+ "else " //
+					+ "local current = redis.call('PTTL', KEYS[1]) " //
+					+ "if existed == 0 or (current >= 0 and current < ttl) then redis.call('PEXPIRE', KEYS[1], ttl) end " //
+					+ "end");
+
+	private static final int TAG_BATCH_SIZE = 1000;
+
+	/**
+	 * Number of members of a persistent tag set checked for removed entries on each tagged write. Persistent tag sets do
+	 * not expire along with the entries they reference, sampling keeps the share of stale members bounded.
+	 */
+	private static final int TAG_PRUNE_SAMPLES = 3;
+
+	/**
+	 * Removes members of the size bound index {@code KEYS[1]} written before {@code ARGV[3]} (if positive) as their
+	 * entries have expired. Then removes and returns up to {@code ARGV[2]} of the least recently written members exceeding
+	 * {@code ARGV[1]} members. Only touches the index so that the script runs in cluster environments, the caller removes
+	 * the returned entries.
+	 */
+	private static final RedisScript<?> EVICT_SCRIPT = RedisScript.of(
+			"if tonumber(ARGV[3]) > 0 then redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) end " //
+					+ "local excess = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[1]) " //
+					+ "if excess <= 0 then return {} end " //
+					+ "local last = math.min(excess, tonumber(ARGV[2])) - 1 " //
+					+ "local evicted = redis.call('ZRANGE', KEYS[1], 0, last) " //
+					+ "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, last) " //
+					+ "return evicted");
+
+	private static final int EVICTION_BATCH_SIZE = 100;
+
 	private final RedisConnectionFactory connectionFactory;
-	private final Duration sleepTime;
+	private final @Nullable CacheLockWaitStrategy lockWaitStrategy;
+	private final @Nullable Duration lockTtl;
+	private final CacheCleanStrategy cleanStrategy;
+	private final CacheStatisticsCollector statistics;
+
+	private final Map<String, byte[]> lockTokens = new ConcurrentHashMap<>();
+
+	private volatile boolean scriptingSupported = true;
 
 	/**
 	 * @param connectionFactory must not be {@literal null}.
@@ -65,12 +164,56 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 	 *          to disable locking.
 	 */
 	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, Duration sleepTime) {
+		this(connectionFactory, null, sleepingLockWaitStrategy(sleepTime));
+	}
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param lockTtl time after which a cache lock expires. Can be {@literal null} to hold the lock until released.
+	 * @param lockWaitStrategy strategy to wait for a cache lock to be released. Can be {@literal null} to disable
+	 *          locking.
+	 * @since 2.2
+	 */
+	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, @Nullable Duration lockTtl,
+			@Nullable CacheLockWaitStrategy lockWaitStrategy) {
+		this(connectionFactory, lockTtl, lockWaitStrategy, CacheCleanStrategy.keys());
+	}
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param lockTtl time after which a cache lock expires. Can be {@literal null} to hold the lock until released.
+	 * @param lockWaitStrategy strategy to wait for a cache lock to be released. Can be {@literal null} to disable
+	 *          locking.
+	 * @param cleanStrategy strategy to remove cache entries. Must not be {@literal null}.
+	 * @since 2.2
+	 */
+	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, @Nullable Duration lockTtl,
+			@Nullable CacheLockWaitStrategy lockWaitStrategy, CacheCleanStrategy cleanStrategy) {
+		this(connectionFactory, lockTtl, lockWaitStrategy, cleanStrategy, CacheStatisticsCollector.none());
+	}
+
+	/**
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param lockTtl time after which a cache lock expires. Can be {@literal null} to hold the lock until released.
+	 * @param lockWaitStrategy strategy to wait for a cache lock to be released. Can be {@literal null} to disable
+	 *          locking.
+	 * @param cleanStrategy strategy to remove cache entries. Must not be {@literal null}.
+	 * @param statistics collector for cache statistics. Must not be {@literal null}.
+	 * @since 2.2
+	 */
+	DefaultRedisCacheWriter(RedisConnectionFactory connectionFactory, @Nullable Duration lockTtl,
+			@Nullable CacheLockWaitStrategy lockWaitStrategy, CacheCleanStrategy cleanStrategy,
+			CacheStatisticsCollector statistics) {
 
 		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
-		Assert.notNull(sleepTime, "SleepTime must not be null!");
+		Assert.notNull(cleanStrategy, "CacheCleanStrategy must not be null!");
+		Assert.notNull(statistics, "CacheStatisticsCollector must not be null!");
 
 		this.connectionFactory = connectionFactory;
-		this.sleepTime = sleepTime;
+		this.lockTtl = lockTtl;
+		this.lockWaitStrategy = lockWaitStrategy;
+		this.cleanStrategy = cleanStrategy;
+		this.statistics = statistics;
 	}
 
 	/*
@@ -84,6 +227,8 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(value, "Value must not be null!");
 
+		long start = startTimer();
+
 		execute(name, connection -> {
 
 			if (shouldExpireWithin(ttl)) {
@@ -94,6 +239,9 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 
 			return "OK";
 		});
+
+		statistics.incPuts(name, 1);
+		recordLatency(name, CacheOperation.PUT, start);
 	}
 
 	/*
@@ -106,7 +254,121 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		Assert.notNull(name, "Name must not be null!");
 		Assert.notNull(key, "Key must not be null!");
 
-		return execute(name, connection -> connection.get(key));
+		long start = startTimer();
+		byte[] value = execute(name, connection -> connection.get(key));
+
+		if (value != null) {
+			statistics.incHits(name, 1);
+		} else {
+			statistics.incMisses(name, 1);
+		}
+
+		recordLatency(name, CacheOperation.GET, start);
+		return value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#putBounded(java.lang.String, byte[], byte[], java.time.Duration, byte[], long)
+	 */
+	@Override
+	public void putBounded(String name, byte[] key, byte[] value, @Nullable Duration ttl, byte[] indexKey,
+			long maxEntries) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+		Assert.notNull(indexKey, "Index key must not be null!");
+		Assert.isTrue(maxEntries > 0, "Max entries must be greater than zero!");
+
+		long start = startTimer();
+		long evicted = execute(name, connection -> {
+
+			long size = index(connection, indexKey, Collections.singletonList(key), () -> {
+
+				if (shouldExpireWithin(ttl)) {
+					connection.set(key, value, Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS), SetOption.upsert());
+				} else {
+					connection.set(key, value);
+				}
+			});
+
+			return size > maxEntries ? evictExcess(connection, indexKey, maxEntries, ttl) : 0;
+		});
+
+		statistics.incPuts(name, 1);
+		statistics.incDeletes(name, evicted);
+		recordLatency(name, CacheOperation.PUT, start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#indexBounded(java.lang.String, java.util.Collection, java.time.Duration, byte[], long)
+	 */
+	@Override
+	public void indexBounded(String name, Collection<byte[]> keys, @Nullable Duration ttl, byte[] indexKey,
+			long maxEntries) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.notNull(indexKey, "Index key must not be null!");
+		Assert.isTrue(maxEntries > 0, "Max entries must be greater than zero!");
+
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		long start = startTimer();
+		long evicted = execute(name, connection -> {
+
+			long size = index(connection, indexKey, keys, () -> {});
+
+			return size > maxEntries ? evictExcess(connection, indexKey, maxEntries, ttl) : 0;
+		});
+
+		statistics.incDeletes(name, evicted);
+		recordLatency(name, CacheOperation.INDEX, start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getAndExpire(java.lang.String, byte[], java.time.Duration)
+	 */
+	@Override
+	public byte[] getAndExpire(String name, byte[] key, Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(ttl, "TTL must not be null!");
+
+		long start = startTimer();
+		byte[] value = execute(name, connection -> {
+
+			if (!openPipeline(connection)) {
+
+				byte[] result = connection.get(key);
+
+				if (result != null) {
+					connection.pExpire(key, ttl.toMillis());
+				}
+
+				return result;
+			}
+
+			connection.get(key);
+			connection.pExpire(key, ttl.toMillis());
+
+			return (byte[]) connection.closePipeline().get(0);
+		});
+
+		if (value != null) {
+			statistics.incHits(name, 1);
+		} else {
+			statistics.incMisses(name, 1);
+		}
+
+		recordLatency(name, CacheOperation.GET, start);
+		return value;
 	}
 
 	/*
@@ -120,42 +382,165 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		Assert.notNull(key, "Key must not be null!");
 		Assert.notNull(value, "Value must not be null!");
 
-		return execute(name, connection -> {
+		byte[] expiration = String.valueOf(shouldExpireWithin(ttl) ? ttl.toMillis() : 0)
+				.getBytes(StandardCharsets.UTF_8);
+
+		long start = startTimer();
+		byte[] existing = execute(name, connection -> eval(connection, PUT_IF_ABSENT_SCRIPT, ReturnType.VALUE,
+				() -> setIfAbsentOrGet(connection, key, value, ttl), 1, key, value, expiration));
+
+		if (existing == null) {
+			statistics.incPuts(name, 1);
+		}
+
+		recordLatency(name, CacheOperation.PUT_IF_ABSENT, start);
+		return existing;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#remove(java.lang.String, byte[])
+	 */
+	@Override
+	public void remove(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		long start = startTimer();
+		Long removed = execute(name, connection -> connection.del(key));
+
+		statistics.incDeletes(name, removed != null ? removed : 0);
+		recordLatency(name, CacheOperation.REMOVE, start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getAll(java.lang.String, java.util.List)
+	 */
+	@Override
+	public List<byte[]> getAll(String name, List<byte[]> keys) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+
+		if (keys.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		long start = startTimer();
+		List<byte[]> values = execute(name, connection -> connection.mGet(keys.toArray(new byte[0][])));
+
+		if (values == null) {
+			values = Arrays.asList(new byte[keys.size()][]);
+		}
+
+		if (statistics.isEnabled()) {
+
+			long hits = values.stream().filter(Objects::nonNull).count();
+			statistics.incHits(name, hits);
+			statistics.incMisses(name, values.size() - hits);
+		}
+
+		recordLatency(name, CacheOperation.GET_ALL, start);
+		return values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#putAll(java.lang.String, java.util.Map, java.time.Duration)
+	 */
+	@Override
+	public void putAll(String name, Map<byte[], byte[]> entries, @Nullable Duration ttl) {
 
-			if (isLockingCacheWriter()) {
-				doLock(name, connection);
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(entries, "Entries must not be null!");
+
+		if (entries.isEmpty()) {
+			return;
+		}
+
+		long start = startTimer();
+
+		execute(name, connection -> {
+
+			if (!shouldExpireWithin(ttl)) {
+				connection.mSet(entries);
+				return "OK";
 			}
 
-			try {
-				if (connection.setNX(key, value)) {
+			Expiration expiration = Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS);
+			boolean pipelined = openPipeline(connection);
 
-					if (shouldExpireWithin(ttl)) {
-						connection.pExpire(key, ttl.toMillis());
-					}
-					return null;
+			try {
+				entries.forEach((key, value) -> connection.set(key, value, expiration, SetOption.upsert()));
+			} finally {
+				if (pipelined) {
+					connection.closePipeline();
 				}
+			}
 
-				return connection.get(key);
-			} finally {
+			return "OK";
+		});
 
-				if (isLockingCacheWriter()) {
-					doUnlock(name, connection);
+		statistics.incPuts(name, entries.size());
+		recordLatency(name, CacheOperation.PUT_ALL, start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#expire(java.lang.String, java.util.Collection, java.time.Duration)
+	 */
+	@Override
+	public void expire(String name, Collection<byte[]> keys, Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+		Assert.notNull(ttl, "TTL must not be null!");
+
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		long start = startTimer();
+
+		executeLockFree(connection -> {
+
+			boolean pipelined = openPipeline(connection);
+
+			try {
+				keys.forEach(key -> connection.pExpire(key, ttl.toMillis()));
+			} finally {
+				if (pipelined) {
+					connection.closePipeline();
 				}
 			}
+
+			return "OK";
 		});
+
+		recordLatency(name, CacheOperation.EXPIRE, start);
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.redis.cache.RedisCacheWriter#remove(java.lang.String, byte[])
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#removeAll(java.lang.String, java.util.Collection)
 	 */
 	@Override
-	public void remove(String name, byte[] key) {
+	public void removeAll(String name, Collection<byte[]> keys) {
 
 		Assert.notNull(name, "Name must not be null!");
-		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
 
-		execute(name, connection -> connection.del(key));
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		long start = startTimer();
+		Long removed = execute(name, connection -> connection.unlink(keys.toArray(new byte[0][])));
+
+		statistics.incDeletes(name, removed != null ? removed : 0);
+		recordLatency(name, CacheOperation.REMOVE_ALL, start);
 	}
 
 	/*
@@ -168,32 +553,215 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		Assert.notNull(name, "Name must not be null!");
 		Assert.notNull(pattern, "Pattern must not be null!");
 
+		long start = startTimer();
+
 		execute(name, connection -> {
 
+			byte[] lockToken = createLockToken();
 			boolean wasLocked = false;
 
 			try {
 
 				if (isLockingCacheWriter()) {
-					doLock(name, connection);
-					wasLocked = true;
+					wasLocked = Boolean.TRUE.equals(doLock(name, connection, lockToken));
 				}
 
-				byte[][] keys = Optional.ofNullable(connection.keys(pattern)).orElse(Collections.emptySet())
-						.toArray(new byte[0][]);
+				cleanStrategy.clean(connection, name, pattern);
+			} finally {
 
-				if (keys.length > 0) {
-					connection.del(keys);
+				if (wasLocked) {
+					doUnlock(name, connection, lockToken);
 				}
-			} finally {
+			}
+
+			return "OK";
+		});
+
+		recordLatency(name, CacheOperation.CLEAN, start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#increment(java.lang.String, byte[])
+	 */
+	@Override
+	public long increment(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		Long value = execute(name, connection -> connection.incr(key));
+		return value != null ? value : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getCounter(java.lang.String, byte[])
+	 */
+	@Override
+	public long getCounter(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		byte[] value = executeLockFree(connection -> connection.get(key));
+		return value != null ? Long.parseLong(new String(value, StandardCharsets.UTF_8)) : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#supports(org.springframework.data.redis.cache.RedisCacheWriterFeature)
+	 */
+	@Override
+	public boolean supports(RedisCacheWriterFeature feature) {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#peek(java.lang.String, byte[])
+	 */
+	@Override
+	public byte[] peek(String name, byte[] key) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+
+		return executeLockFree(connection -> connection.get(key));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#acquireLease(java.lang.String, byte[], byte[], java.time.Duration)
+	 */
+	@Override
+	public boolean acquireLease(String name, byte[] key, byte[] token, Duration ttl) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(token, "Token must not be null!");
+		Assert.isTrue(shouldExpireWithin(ttl), "Lease TTL must be positive!");
+
+		return Boolean.TRUE.equals(executeLockFree(connection -> connection.set(key, token,
+				Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS), SetOption.ifAbsent())));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#releaseLease(java.lang.String, byte[], byte[])
+	 */
+	@Override
+	public void releaseLease(String name, byte[] key, byte[] token) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(token, "Token must not be null!");
 
-				if (wasLocked && isLockingCacheWriter()) {
-					doUnlock(name, connection);
+		executeLockFree(connection -> eval(connection, UNLOCK_SCRIPT, ReturnType.INTEGER,
+				() -> compareAndDelete(connection, key, token), 1, key, token));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#putTagged(java.lang.String, byte[], byte[], java.time.Duration, java.util.Collection)
+	 */
+	@Override
+	public void putTagged(String name, byte[] key, byte[] value, @Nullable Duration ttl, Collection<byte[]> tagKeys) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+		Assert.notNull(tagKeys, "Tag keys must not be null!");
+
+		byte[] expiration = String.valueOf(shouldExpireWithin(ttl) ? ttl.toMillis() : 0)
+				.getBytes(StandardCharsets.UTF_8);
+		long start = startTimer();
+
+		execute(name, connection -> {
+
+			// link before writing so that a failure never leaves an entry that escapes removeByTags
+			for (byte[] tagKey : tagKeys) {
+				eval(connection, TAG_SCRIPT, ReturnType.VALUE, () -> tag(connection, tagKey, key, ttl), 1, tagKey, key,
+						expiration);
+			}
+
+			if (shouldExpireWithin(ttl)) {
+				connection.set(key, value, Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS), SetOption.upsert());
+			} else {
+
+				connection.set(key, value);
+
+				for (byte[] tagKey : tagKeys) {
+					pruneTag(connection, tagKey);
 				}
 			}
 
 			return "OK";
 		});
+
+		statistics.incPuts(name, 1);
+		recordLatency(name, CacheOperation.PUT, start);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#removeByTags(java.lang.String, java.util.Collection)
+	 */
+	@Override
+	public long removeByTags(String name, Collection<byte[]> tagKeys) {
+
+		Assert.notNull(name, "Name must not be null!");
+		Assert.notNull(tagKeys, "Tag keys must not be null!");
+
+		long start = startTimer();
+		Long removed = execute(name, connection -> {
+
+			long count = 0;
+
+			for (byte[] tagKey : tagKeys) {
+				count += removeTagged(connection, name, tagKey);
+			}
+
+			return count;
+		});
+
+		statistics.incDeletes(name, removed != null ? removed : 0);
+		recordLatency(name, CacheOperation.REMOVE_BY_TAGS, start);
+
+		return removed != null ? removed : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.RedisCacheWriter#getCacheStatistics(java.lang.String)
+	 */
+	@Override
+	public CacheStatistics getCacheStatistics(String name) {
+		return statistics.getCacheStatistics(name);
+	}
+
+	/**
+	 * Create a new {@link DefaultRedisCacheWriter} retaining the locking behavior of this instance but removing cache
+	 * entries using the given {@link CacheCleanStrategy}.
+	 *
+	 * @param cleanStrategy must not be {@literal null}.
+	 * @return new instance of {@link DefaultRedisCacheWriter}.
+	 * @since 2.2
+	 */
+	DefaultRedisCacheWriter withCleanStrategy(CacheCleanStrategy cleanStrategy) {
+		return new DefaultRedisCacheWriter(connectionFactory, lockTtl, lockWaitStrategy, cleanStrategy, statistics);
+	}
+
+	/**
+	 * Create a new {@link DefaultRedisCacheWriter} retaining the behavior of this instance but reporting to the given
+	 * {@link CacheStatisticsCollector}.
+	 *
+	 * @param statistics must not be {@literal null}.
+	 * @return new instance of {@link DefaultRedisCacheWriter}.
+	 * @since 2.2
+	 */
+	DefaultRedisCacheWriter withStatisticsCollector(CacheStatisticsCollector statistics) {
+		return new DefaultRedisCacheWriter(connectionFactory, lockTtl, lockWaitStrategy, cleanStrategy, statistics);
 	}
 
 	/**
@@ -202,7 +770,12 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 	 * @param name the name of the cache to lock.
 	 */
 	void lock(String name) {
-		execute(name, connection -> doLock(name, connection));
+
+		byte[] lockToken = createLockToken();
+
+		if (Boolean.TRUE.equals(execute(name, connection -> doLock(name, connection, lockToken)))) {
+			lockTokens.put(name, lockToken);
+		}
 	}
 
 	/**
@@ -211,15 +784,205 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 	 * @param name the name of the cache to unlock.
 	 */
 	void unlock(String name) {
-		executeLockFree(connection -> doUnlock(name, connection));
+
+		byte[] lockToken = lockTokens.remove(name);
+
+		if (lockToken != null) {
+			executeLockFree(connection -> doUnlock(name, connection, lockToken));
+		}
 	}
 
-	private Boolean doLock(String name, RedisConnection connection) {
-		return connection.setNX(createCacheLockKey(name), new byte[0]);
+	/**
+	 * Iterate over the members of the tag set using {@code SSCAN} and remove them in batches using {@code UNLINK} before
+	 * removing the tag set itself.
+	 */
+	private static long removeTagged(RedisConnection connection, String name, byte[] tagKey) {
+
+		long removed = 0;
+		List<byte[]> batch = new ArrayList<>(TAG_BATCH_SIZE);
+
+		try (Cursor<byte[]> cursor = connection.sScan(tagKey, ScanOptions.scanOptions().count(TAG_BATCH_SIZE).build())) {
+
+			while (cursor.hasNext()) {
+
+				batch.add(cursor.next());
+
+				if (batch.size() >= TAG_BATCH_SIZE) {
+					removed += unlink(connection, batch);
+				}
+			}
+		} catch (IOException e) {
+			throw new RedisSystemException(String.format("Failed to close cursor while evicting tagged entries of cache %s",
+					name), e);
+		}
+
+		if (!batch.isEmpty()) {
+			removed += unlink(connection, batch);
+		}
+
+		connection.unlink(tagKey);
+
+		return removed;
+	}
+
+	/**
+	 * Remove members of the persistent tag set {@code tagKey} whose entries no longer exist, checking a random sample of
+	 * {@link #TAG_PRUNE_SAMPLES} members. Runs outside of a script as tag sets and entries may live on different cluster
+	 * nodes.
+	 */
+	private static void pruneTag(RedisConnection connection, byte[] tagKey) {
+
+		List<byte[]> members = connection.sRandMember(tagKey, TAG_PRUNE_SAMPLES);
+
+		if (members == null) {
+			return;
+		}
+
+		List<byte[]> stale = new ArrayList<>(members.size());
+
+		for (byte[] member : members) {
+			if (!Boolean.TRUE.equals(connection.exists(member))) {
+				stale.add(member);
+			}
+		}
+
+		if (!stale.isEmpty()) {
+			connection.sRem(tagKey, stale.toArray(new byte[0][]));
+		}
+	}
+
+	private static long unlink(RedisConnection connection, List<byte[]> keys) {
+
+		Long count = connection.unlink(keys.toArray(new byte[0][]));
+		keys.clear();
+
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * Run {@code write} and add {@code keys} to the size bound index within a single pipeline if supported.
+	 *
+	 * @return the size of the index.
+	 */
+	private static long index(RedisConnection connection, byte[] indexKey, Collection<byte[]> keys, Runnable write) {
+
+		double score = System.currentTimeMillis();
+		boolean pipelined = openPipeline(connection);
+		Long size = null;
+
+		try {
+
+			write.run();
+			keys.forEach(key -> connection.zAdd(indexKey, score, key));
+			size = connection.zCard(indexKey);
+		} finally {
+
+			if (pipelined) {
+
+				List<Object> results = connection.closePipeline();
+				size = (Long) results.get(results.size() - 1);
+			}
+		}
+
+		return size != null ? size : 0;
 	}
 
-	private Long doUnlock(String name, RedisConnection connection) {
-		return connection.del(createCacheLockKey(name));
+	/**
+	 * Evict the least recently written entries exceeding {@code maxEntries} in batches of
+	 * {@link #EVICTION_BATCH_SIZE}.
+	 *
+	 * @return the number of evicted entries.
+	 */
+	private long evictExcess(RedisConnection connection, byte[] indexKey, long maxEntries, @Nullable Duration ttl) {
+
+		long expiredBefore = shouldExpireWithin(ttl) ? System.currentTimeMillis() - ttl.toMillis() : 0;
+		byte[] max = String.valueOf(maxEntries).getBytes(StandardCharsets.UTF_8);
+		byte[] batchSize = String.valueOf(EVICTION_BATCH_SIZE).getBytes(StandardCharsets.UTF_8);
+		byte[] binaryExpiredBefore = String.valueOf(expiredBefore).getBytes(StandardCharsets.UTF_8);
+
+		long evicted = 0;
+		List<byte[]> keys;
+
+		do {
+
+			keys = eval(connection, EVICT_SCRIPT, ReturnType.MULTI,
+					() -> removeExcessFromIndex(connection, indexKey, maxEntries, expiredBefore), 1, indexKey, max, batchSize,
+					binaryExpiredBefore);
+
+			if (keys != null && !keys.isEmpty()) {
+				evicted += unlink(connection, new ArrayList<>(keys));
+			}
+		} while (keys != null && keys.size() == EVICTION_BATCH_SIZE);
+
+		return evicted;
+	}
+
+	private Boolean doLock(String name, RedisConnection connection, byte[] lockToken) {
+
+		if (shouldExpireWithin(lockTtl)) {
+			return connection.set(createCacheLockKey(name), lockToken,
+					Expiration.from(lockTtl.toMillis(), TimeUnit.MILLISECONDS), SetOption.ifAbsent());
+		}
+
+		return connection.setNX(createCacheLockKey(name), lockToken);
+	}
+
+	/**
+	 * Remove the cache lock if it is still held with {@code lockToken} and notify waiting writers. A lock that expired and
+	 * got acquired by someone else in the meantime is left untouched.
+	 *
+	 * @return the number of removed locks.
+	 */
+	private long doUnlock(String name, RedisConnection connection, byte[] lockToken) {
+
+		byte[] lockKey = createCacheLockKey(name);
+		Long removed = eval(connection, UNLOCK_SCRIPT, ReturnType.INTEGER,
+				() -> compareAndDelete(connection, lockKey, lockToken), 1, lockKey, lockToken);
+
+		if (removed == null || removed == 0) {
+			return 0;
+		}
+
+		if (lockWaitStrategy != null && lockWaitStrategy.requiresReleaseNotification()) {
+			connection.publish(LOCK_RELEASED_CHANNEL, name.getBytes(StandardCharsets.UTF_8));
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Delete {@code key} if it holds {@code expected} without using scripts. Guarded by {@code WATCH} where transactions
+	 * are supported, cluster connections compare and delete in two steps.
+	 */
+	private static long compareAndDelete(RedisConnection connection, byte[] key, byte[] expected) {
+
+		if (connection instanceof RedisClusterConnection) {
+
+			if (!Arrays.equals(connection.get(key), expected)) {
+				return 0;
+			}
+
+			Long removed = connection.del(key);
+			return removed != null ? removed : 0;
+		}
+
+		connection.watch(key);
+
+		if (!Arrays.equals(connection.get(key), expected)) {
+
+			connection.unwatch();
+			return 0;
+		}
+
+		connection.multi();
+		connection.del(key);
+		List<Object> results = connection.exec();
+
+		return results != null && !results.isEmpty() && results.get(0) instanceof Long ? (Long) results.get(0) : 0;
+	}
+
+	private static byte[] createLockToken() {
+		return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
 	}
 
 	boolean doCheckLock(String name, RedisConnection connection) {
@@ -230,7 +993,7 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 	 * @return {@literal true} if {@link RedisCacheWriter} uses locks.
 	 */
 	private boolean isLockingCacheWriter() {
-		return !sleepTime.isZero() && !sleepTime.isNegative();
+		return lockWaitStrategy != null;
 	}
 
 	private <T> T execute(String name, Function<RedisConnection, T> callback) {
@@ -245,28 +1008,164 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		}
 	}
 
-	private void executeLockFree(Consumer<RedisConnection> callback) {
+	private <T> T executeLockFree(Function<RedisConnection, T> callback) {
 
 		RedisConnection connection = connectionFactory.getConnection();
 
 		try {
-			callback.accept(connection);
+			return callback.apply(connection);
 		} finally {
 			connection.close();
 		}
 	}
 
-	private void checkAndPotentiallyWaitUntilUnlocked(String name, RedisConnection connection) {
+	/**
+	 * Run {@link RedisScript} via {@code EVALSHA} falling back to {@code EVAL} if the script is not yet cached on the
+	 * server. Runs {@code fallback} instead if the connection does not support scripting.
+	 */
+	@Nullable
+	private <T> T eval(RedisConnection connection, RedisScript<?> script, ReturnType returnType, Supplier<T> fallback,
+			int numKeys, byte[]... keysAndArgs) {
 
-		if (!isLockingCacheWriter()) {
-			return;
+		if (!scriptingSupported) {
+			return fallback.get();
 		}
 
 		try {
+			return connection.evalSha(script.getSha1(), returnType, numKeys, keysAndArgs);
+		} catch (RuntimeException e) {
+
+			if (isNoScriptError(e)) {
+				return connection.eval(script.getScriptAsString().getBytes(StandardCharsets.UTF_8), returnType, numKeys,
+						keysAndArgs);
+			}
+
+			if (!isScriptingUnsupported(connection, e)) {
+				throw e;
+			}
+
+			scriptingSupported = false;
+			return fallback.get();
+		}
+	}
+
+	/**
+	 * Jedis cluster connections reject scripts on the client side without contacting the server.
+	 */
+	/**
+	 * @return {@literal true} if {@code e} or one of its causes reports a {@code NOSCRIPT} error raised by
+	 *         {@code EVALSHA} for a script not yet cached on the server.
+	 */
+	static boolean isNoScriptError(Throwable e) {
+
+		if (!(e instanceof NonTransientDataAccessException)) {
+			return false;
+		}
+
+		for (Throwable current = e; current != null; current = current.getCause()) {
+
+			if (current.getMessage() != null && current.getMessage().contains("NOSCRIPT")) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isScriptingUnsupported(RedisConnection connection, RuntimeException e) {
+
+		return e instanceof UnsupportedOperationException
+				|| (connection instanceof RedisClusterConnection && e instanceof InvalidDataAccessApiUsageException);
+	}
+
+	/**
+	 * Non-atomic variant of {@link #PUT_IF_ABSENT_SCRIPT}.
+	 */
+	@Nullable
+	private static byte[] setIfAbsentOrGet(RedisConnection connection, byte[] key, byte[] value,
+			@Nullable Duration ttl) {
+
+		Expiration expiration = shouldExpireWithin(ttl) ? Expiration.from(ttl.toMillis(), TimeUnit.MILLISECONDS)
+				: Expiration.persistent();
+
+		// retry if the existing value expires in between SET and GET
+		while (true) {
+
+			if (Boolean.TRUE.equals(connection.set(key, value, expiration, SetOption.ifAbsent()))) {
+				return null;
+			}
+
+			byte[] existing = connection.get(key);
 
-			while (doCheckLock(name, connection)) {
-				Thread.sleep(sleepTime.toMillis());
+			if (existing != null) {
+				return existing;
 			}
+		}
+	}
+
+	/**
+	 * Non-atomic variant of {@link #TAG_SCRIPT}.
+	 */
+	@Nullable
+	private static Void tag(RedisConnection connection, byte[] tagKey, byte[] key, @Nullable Duration ttl) {
+
+		boolean existed = Boolean.TRUE.equals(connection.exists(tagKey));
+		connection.sAdd(tagKey, key);
+
+		if (!shouldExpireWithin(ttl)) {
+
+			connection.persist(tagKey);
+			return null;
+		}
+
+		Long current = connection.pTtl(tagKey);
+
+		if (!existed || (current != null && current >= 0 && current < ttl.toMillis())) {
+			connection.pExpire(tagKey, ttl.toMillis());
+		}
+
+		return null;
+	}
+
+	/**
+	 * Non-atomic variant of {@link #EVICT_SCRIPT}. Removes only the members read so that concurrent index updates are
+	 * retained.
+	 */
+	private static List<byte[]> removeExcessFromIndex(RedisConnection connection, byte[] indexKey, long maxEntries,
+			long expiredBefore) {
+
+		if (expiredBefore > 0) {
+			connection.zRemRangeByScore(indexKey, Double.NEGATIVE_INFINITY, expiredBefore - 1);
+		}
+
+		Long size = connection.zCard(indexKey);
+		long excess = (size != null ? size : 0) - maxEntries;
+
+		if (excess <= 0) {
+			return Collections.emptyList();
+		}
+
+		Set<byte[]> evicted = connection.zRange(indexKey, 0, Math.min(excess, EVICTION_BATCH_SIZE) - 1);
+
+		if (evicted == null || evicted.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		connection.zRem(indexKey, evicted.toArray(new byte[0][]));
+		return new ArrayList<>(evicted);
+	}
+
+	private void checkAndPotentiallyWaitUntilUnlocked(String name, RedisConnection connection) {
+
+		if (lockWaitStrategy == null) {
+			return;
+		}
+
+		long start = startTimer();
+
+		try {
+			lockWaitStrategy.awaitUnlocked(name, () -> doCheckLock(name, connection));
+			recordLatency(name, CacheOperation.LOCK_WAIT, start);
 		} catch (InterruptedException ex) {
 
 			// Re-interrupt current thread, to allow other participants to react.
@@ -277,6 +1176,41 @@ class DefaultRedisCacheWriter implements RedisCacheWriter {
 		}
 	}
 
+	@Nullable
+	private static CacheLockWaitStrategy sleepingLockWaitStrategy(Duration sleepTime) {
+
+		Assert.notNull(sleepTime, "SleepTime must not be null!");
+
+		return sleepTime.isZero() || sleepTime.isNegative() ? null : CacheLockWaitStrategy.sleep(sleepTime);
+	}
+
+	/**
+	 * Open a pipeline on the given {@link RedisConnection} if supported. Cluster connections that do not support
+	 * pipelining still route each command to the node serving its slot.
+	 *
+	 * @return {@literal true} if the pipeline was opened.
+	 */
+	private static boolean openPipeline(RedisConnection connection) {
+
+		try {
+			connection.openPipeline();
+			return true;
+		} catch (UnsupportedOperationException e) {
+			return false;
+		}
+	}
+
+	private long startTimer() {
+		return statistics.isEnabled() ? System.nanoTime() : 0;
+	}
+
+	private void recordLatency(String name, CacheOperation operation, long start) {
+
+		if (statistics.isEnabled()) {
+			statistics.recordLatency(name, operation, System.nanoTime() - start);
+		}
+	}
+
 	private static boolean shouldExpireWithin(@Nullable Duration ttl) {
 		return ttl != null && !ttl.isZero() && !ttl.isNegative();
 	}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Binary cache value prefixed with the time it took to compute the value and its logical expiration time. Used by
+ * {@link RedisCache} to refresh entries before they expire and to serve stale entries while they are refreshed.
+ * <p />
+ * The layout is a four byte marker, the computation time in milliseconds, the expiration time in milliseconds since the
+ * epoch and the actual value. Values without marker are treated as not expiring.
+ *
+ * @since 2.2
+ * @see RedisCacheConfiguration#enableEarlyRefresh(double)
+ * @see RedisCacheConfiguration#enableStaleWhileRevalidate(java.time.Duration)
+ */
+class ExpiringCacheValue {
+
+	private static final byte[] MARKER = { 0, 'S', 'D', 'R' };
+	private static final int HEADER_LENGTH = MARKER.length + 8 + 8;
+
+	private final byte[] value;
+	private final long computeMillis;
+	private final long expiresAt;
+
+	private ExpiringCacheValue(byte[] value, long computeMillis, long expiresAt) {
+
+		this.value = value;
+		this.computeMillis = computeMillis;
+		this.expiresAt = expiresAt;
+	}
+
+	/**
+	 * Prefix {@code value} with its computation time and logical expiration time.
+	 *
+	 * @param value the serialized value. Must not be {@literal null}.
+	 * @param computeMillis time it took to compute the value.
+	 * @param expiresAt logical expiration time in milliseconds since the epoch.
+	 * @return the prefixed value.
+	 */
+	static byte[] wrap(byte[] value, long computeMillis, long expiresAt) {
+
+		return ByteBuffer.allocate(HEADER_LENGTH + value.length) //
+				.put(MARKER) //
+				.putLong(computeMillis) //
+				.putLong(expiresAt) //
+				.put(value) //
+				.array();
+	}
+
+	/**
+	 * Read a value written by {@link #wrap(byte[], long, long)}.
+	 *
+	 * @param binary the binary cache value. Must not be {@literal null}.
+	 * @return the {@link ExpiringCacheValue}. Never expires if {@code binary} was not written by
+	 *         {@link #wrap(byte[], long, long)}.
+	 */
+	static ExpiringCacheValue unwrap(byte[] binary) {
+
+		if (!hasMarker(binary)) {
+			return new ExpiringCacheValue(binary, 0, Long.MAX_VALUE);
+		}
+
+		ByteBuffer buffer = ByteBuffer.wrap(binary);
+		buffer.position(MARKER.length);
+
+		long computeMillis = buffer.getLong();
+		long expiresAt = buffer.getLong();
+		byte[] value = new byte[buffer.remaining()];
+		buffer.get(value);
+
+		return new ExpiringCacheValue(value, computeMillis, expiresAt);
+	}
+
+	/**
+	 * @return the actual serialized value.
+	 */
+	byte[] getValue() {
+		return value;
+	}
+
+	long getComputeMillis() {
+		return computeMillis;
+	}
+
+	/**
+	 * @param now current time in milliseconds since the epoch.
+	 * @return {@literal true} if the logical expiration time has been reached.
+	 */
+	boolean isExpired(long now) {
+		return now >= expiresAt;
+	}
+
+	/**
+	 * Decide whether to refresh the value ahead of its expiration. The probability rises the closer {@code now} gets to
+	 * the expiration time and the longer the value took to compute, following the {@literal XFetch} algorithm.
+	 *
+	 * @param now current time in milliseconds since the epoch.
+	 * @param beta values greater than {@literal 1.0} favor earlier refreshes.
+	 * @return {@literal true} to refresh the value.
+	 */
+	boolean shouldRefreshEarly(long now, double beta) {
+
+		if (computeMillis <= 0 || beta <= 0) {
+			return false;
+		}
+
+		// 1 - nextDouble() is in (0, 1] so the logarithm is finite and not positive
+		double gap = -computeMillis * beta * Math.log(1 - ThreadLocalRandom.current().nextDouble());
+		return now + gap >= expiresAt;
+	}
+
+	private static boolean hasMarker(byte[] binary) {
+
+		if (binary.length < HEADER_LENGTH) {
+			return false;
+		}
+
+		for (int i = 0; i < MARKER.length; i++) {
+			if (binary[i] != MARKER[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
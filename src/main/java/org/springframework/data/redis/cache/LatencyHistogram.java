@@ -0,0 +1,149 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import org.springframework.util.Assert;
+
+/**
+ * Snapshot of recorded latencies. Latencies are counted in buckets whose upper bounds double from one microsecond on,
+ * so percentiles are accurate to a factor of two while recording requires no more than a counter increment.
+ *
+ * @since 2.2
+ * @see CacheStatistics#getLatency(CacheOperation)
+ */
+public final class LatencyHistogram {
+
+	/**
+	 * Number of buckets. The last bucket, starting at 2^38 microseconds, also holds all larger latencies.
+	 */
+	static final int BUCKETS = 40;
+
+	private static final LatencyHistogram EMPTY = new LatencyHistogram(new long[BUCKETS], 0, 0);
+
+	private final long[] buckets;
+	private final long count;
+	private final long totalNanos;
+	private final long maxNanos;
+
+	/**
+	 * @param buckets sample counts per bucket. Must not be {@literal null}.
+	 * @param totalNanos sum of all samples in nanoseconds.
+	 * @param maxNanos largest sample in nanoseconds.
+	 */
+	LatencyHistogram(long[] buckets, long totalNanos, long maxNanos) {
+
+		Assert.isTrue(buckets.length == BUCKETS, "Invalid number of buckets!");
+
+		this.buckets = buckets;
+		this.count = Arrays.stream(buckets).sum();
+		this.totalNanos = totalNanos;
+		this.maxNanos = maxNanos;
+	}
+
+	/**
+	 * @return an empty {@link LatencyHistogram}.
+	 */
+	static LatencyHistogram empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Get the bucket for a latency.
+	 *
+	 * @param durationNanos latency in nanoseconds.
+	 * @return the bucket index.
+	 */
+	static int bucketFor(long durationNanos) {
+
+		long micros = Math.max(durationNanos, 0) / 1000;
+		return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKETS - 1);
+	}
+
+	/**
+	 * @return the number of recorded samples.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the sum of all recorded samples.
+	 */
+	public Duration getTotal() {
+		return Duration.ofNanos(totalNanos);
+	}
+
+	/**
+	 * @return the largest recorded sample. {@link Duration#ZERO} if no samples were recorded.
+	 */
+	public Duration getMax() {
+		return Duration.ofNanos(maxNanos);
+	}
+
+	/**
+	 * @return the average of all recorded samples. {@link Duration#ZERO} if no samples were recorded.
+	 */
+	public Duration getMean() {
+		return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+	}
+
+	/**
+	 * Estimate the latency below which the given fraction of samples falls. The estimate is the upper bound of the bucket
+	 * containing the percentile, capped at {@link #getMax()}.
+	 *
+	 * @param percentile between {@literal 0} and {@literal 1}, e.g. {@literal 0.99}.
+	 * @return the estimated latency. {@link Duration#ZERO} if no samples were recorded.
+	 */
+	public Duration getPercentile(double percentile) {
+
+		Assert.isTrue(percentile >= 0 && percentile <= 1, "Percentile must be between 0 and 1!");
+
+		if (count == 0) {
+			return Duration.ZERO;
+		}
+
+		long rank = Math.max((long) Math.ceil(percentile * count), 1);
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS - 1; i++) {
+
+			seen += buckets[i];
+
+			if (seen >= rank) {
+				return Duration.ofNanos(Math.min(upperBoundNanos(i), maxNanos));
+			}
+		}
+
+		return getMax();
+	}
+
+	private static long upperBoundNanos(int bucket) {
+		return (1L << bucket) * 1000;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("LatencyHistogram [count=%d, mean=%s, p99=%s, max=%s]", count, getMean(),
+				getPercentile(0.99), getMax());
+	}
+}
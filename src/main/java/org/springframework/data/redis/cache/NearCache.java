@@ -0,0 +1,195 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded in-process cache holding deserialized values of a {@link RedisCache} in least recently used order. Values
+ * expire after a fixed time to live. Every invalidation advances an invalidation counter so that values read from Redis
+ * are only added if no invalidation happened in the meantime.
+ *
+ * @since 2.2
+ */
+class NearCache {
+
+	private final int maxSize;
+	private final long ttlNanos;
+	private final Map<String, CachedValue> entries;
+
+	private long invalidations;
+	private long hits;
+	private long misses;
+
+	/**
+	 * @param maxSize must be greater than zero.
+	 * @param ttl must not be {@literal null}. {@link Duration#ZERO} to not expire values.
+	 */
+	NearCache(int maxSize, Duration ttl) {
+
+		Assert.isTrue(maxSize > 0, "Max size must be greater than zero!");
+		Assert.notNull(ttl, "TTL must not be null!");
+
+		this.maxSize = maxSize;
+		this.ttlNanos = ttl.toNanos();
+		this.entries = new LinkedHashMap<String, CachedValue>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedValue> eldest) {
+				return size() > NearCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * Get the value stored for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return {@literal null} if absent or expired.
+	 */
+	@Nullable
+	synchronized Object get(String key) {
+
+		CachedValue entry = entries.get(key);
+
+		if (entry != null && entry.isExpired(System.nanoTime())) {
+
+			entries.remove(key);
+			entry = null;
+		}
+
+		if (entry == null) {
+			misses++;
+			return null;
+		}
+
+		hits++;
+		return entry.value;
+	}
+
+	/**
+	 * @return the current invalidation counter to be passed on to {@link #putIfNotInvalidated(String, Object, long)}.
+	 */
+	synchronized long getInvalidations() {
+		return invalidations;
+	}
+
+	/**
+	 * Store a written {@code value} for {@code key} replacing an existing value. Counts as invalidation so that a value
+	 * concurrently read from Redis does not replace the written one.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 */
+	synchronized void put(String key, Object value) {
+
+		doPut(key, value);
+		invalidations++;
+	}
+
+	/**
+	 * Store {@code value} for {@code key} unless an invalidation happened after obtaining {@code invalidations} through
+	 * {@link #getInvalidations()}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param invalidations the invalidation counter obtained before reading {@code value}.
+	 */
+	synchronized void putIfNotInvalidated(String key, Object value, long invalidations) {
+
+		if (this.invalidations == invalidations) {
+			doPut(key, value);
+		}
+	}
+
+	/**
+	 * Remove the value stored for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	synchronized void evict(String key) {
+
+		entries.remove(key);
+		invalidations++;
+	}
+
+	/**
+	 * Remove all values.
+	 */
+	synchronized void clear() {
+
+		entries.clear();
+		invalidations++;
+	}
+
+	/**
+	 * @return the keys of all values not yet expired, most recently used first.
+	 */
+	synchronized List<String> keys() {
+
+		long now = System.nanoTime();
+		List<String> keys = new ArrayList<>(entries.size());
+
+		entries.forEach((key, entry) -> {
+			if (!entry.isExpired(now)) {
+				keys.add(key);
+			}
+		});
+
+		Collections.reverse(keys);
+		return keys;
+	}
+
+	synchronized int size() {
+		return entries.size();
+	}
+
+	synchronized long getHits() {
+		return hits;
+	}
+
+	synchronized long getMisses() {
+		return misses;
+	}
+
+	private void doPut(String key, Object value) {
+		entries.put(key, new CachedValue(value, ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0));
+	}
+
+	private static class CachedValue {
+
+		final Object value;
+		final long expiresAt;
+
+		CachedValue(Object value, long expiresAt) {
+
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return expiresAt != 0 && now - expiresAt >= 0;
+		}
+	}
+}
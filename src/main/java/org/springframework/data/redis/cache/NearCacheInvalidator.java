@@ -0,0 +1,261 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Keeps {@link NearCache near caches} of {@link RedisCache caches} created by a {@link RedisCacheManager} coherent
+ * across processes by publishing invalidations via Pub/Sub. Each message carries the id of the sending
+ * {@link NearCacheInvalidator} so that a process does not invalidate its own, already updated, near cache.
+ *
+ * @since 2.2
+ */
+class NearCacheInvalidator implements MessageListener {
+
+	private static final byte EVICT = 'E';
+	private static final byte EVICT_ALL = 'A';
+	private static final byte CLEAR = 'C';
+
+	// sender id, operation and length of the cache name
+	private static final int HEADER_LENGTH = 16 + 1 + 4;
+
+	// upper bound of keys encoded in a single EVICT_ALL message to keep messages reasonably small
+	private static final int MAX_KEYS_PER_MESSAGE = 1000;
+
+	private final RedisConnectionFactory connectionFactory;
+	private final byte[] channel;
+	private final UUID id = UUID.randomUUID();
+	private final ConcurrentMap<String, NearCache> nearCaches = new ConcurrentHashMap<>();
+
+	/**
+	 * @param listenerContainer must not be {@literal null}.
+	 * @param channel must not be {@literal null} or empty.
+	 */
+	NearCacheInvalidator(RedisMessageListenerContainer listenerContainer, String channel) {
+
+		Assert.notNull(listenerContainer, "RedisMessageListenerContainer must not be null!");
+		Assert.notNull(listenerContainer.getConnectionFactory(),
+				"RedisMessageListenerContainer must be configured with a RedisConnectionFactory!");
+		Assert.hasText(channel, "Channel must not be null or empty!");
+
+		this.connectionFactory = listenerContainer.getConnectionFactory();
+		this.channel = channel.getBytes(StandardCharsets.UTF_8);
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+	}
+
+	/**
+	 * Register the {@link NearCache} of the cache with the given {@code name} to receive invalidations.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param nearCache must not be {@literal null}.
+	 */
+	void register(String name, NearCache nearCache) {
+		nearCaches.put(name, nearCache);
+	}
+
+	/**
+	 * Notify other processes that the value stored for {@code key} changed.
+	 *
+	 * @param name the cache name. Must not be {@literal null}.
+	 * @param key the cache key. Must not be {@literal null}.
+	 */
+	void publishEvict(String name, String key) {
+		publish(encode(EVICT, name, key));
+	}
+
+	/**
+	 * Notify other processes that the values stored for {@code keys} changed. Encodes the keys into as few messages as
+	 * possible, published over a single connection.
+	 *
+	 * @param name the cache name. Must not be {@literal null}.
+	 * @param keys the cache keys. Must not be {@literal null}.
+	 */
+	void publishEvictAll(String name, Collection<String> keys) {
+
+		if (keys.isEmpty()) {
+			return;
+		}
+
+		List<byte[]> messages = new ArrayList<>(keys.size() / MAX_KEYS_PER_MESSAGE + 1);
+		List<byte[]> binaryKeys = new ArrayList<>(Math.min(keys.size(), MAX_KEYS_PER_MESSAGE));
+
+		for (String key : keys) {
+
+			binaryKeys.add(key.getBytes(StandardCharsets.UTF_8));
+
+			if (binaryKeys.size() >= MAX_KEYS_PER_MESSAGE) {
+				messages.add(encodeAll(name, binaryKeys));
+				binaryKeys.clear();
+			}
+		}
+
+		if (!binaryKeys.isEmpty()) {
+			messages.add(encodeAll(name, binaryKeys));
+		}
+
+		publish(messages);
+	}
+
+	/**
+	 * Notify other processes that the cache with the given {@code name} has been cleared.
+	 *
+	 * @param name the cache name. Must not be {@literal null}.
+	 */
+	void publishClear(String name) {
+		publish(encode(CLEAR, name, ""));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.MessageListener#onMessage(org.springframework.data.redis.connection.Message, byte[])
+	 */
+	@Override
+	public void onMessage(Message message, @Nullable byte[] pattern) {
+
+		ByteBuffer buffer = ByteBuffer.wrap(message.getBody());
+
+		if (buffer.remaining() < HEADER_LENGTH) {
+			return;
+		}
+
+		long mostSignificantBits = buffer.getLong();
+		long leastSignificantBits = buffer.getLong();
+
+		if (id.getMostSignificantBits() == mostSignificantBits && id.getLeastSignificantBits() == leastSignificantBits) {
+			return;
+		}
+
+		byte operation = buffer.get();
+		int nameLength = buffer.getInt();
+
+		if (nameLength < 0 || nameLength > buffer.remaining()) {
+			return; // malformed message not published by a NearCacheInvalidator
+		}
+
+		String name = readString(buffer, nameLength);
+		NearCache nearCache = nearCaches.get(name);
+
+		if (nearCache == null) {
+			return;
+		}
+
+		if (operation == CLEAR) {
+			nearCache.clear();
+		} else if (operation == EVICT) {
+			nearCache.evict(readString(buffer, buffer.remaining()));
+		} else if (operation == EVICT_ALL) {
+
+			while (buffer.remaining() >= 4) {
+
+				int keyLength = buffer.getInt();
+
+				if (keyLength < 0 || keyLength > buffer.remaining()) {
+					return;
+				}
+
+				nearCache.evict(readString(buffer, keyLength));
+			}
+		}
+	}
+
+	private void publish(byte[] message) {
+		publish(Collections.singletonList(message));
+	}
+
+	private void publish(List<byte[]> messages) {
+
+		RedisConnection connection = connectionFactory.getConnection();
+
+		try {
+			for (byte[] message : messages) {
+				connection.publish(channel, message);
+			}
+		} finally {
+			connection.close();
+		}
+	}
+
+	private byte[] encode(byte operation, String name, String key) {
+
+		byte[] binaryKey = key.getBytes(StandardCharsets.UTF_8);
+
+		return header(operation, name, binaryKey.length) //
+				.put(binaryKey) //
+				.array();
+	}
+
+	/**
+	 * Encode {@code keys} into a single {@link #EVICT_ALL} message, each key preceded by its length.
+	 */
+	private byte[] encodeAll(String name, List<byte[]> keys) {
+
+		int length = 0;
+
+		for (byte[] key : keys) {
+			length += 4 + key.length;
+		}
+
+		ByteBuffer buffer = header(EVICT_ALL, name, length);
+
+		for (byte[] key : keys) {
+			buffer.putInt(key.length).put(key);
+		}
+
+		return buffer.array();
+	}
+
+	/**
+	 * Allocate a buffer for a message with {@code payloadLength} bytes following the cache name and write the header and
+	 * the cache name.
+	 */
+	private ByteBuffer header(byte operation, String name, int payloadLength) {
+
+		byte[] binaryName = name.getBytes(StandardCharsets.UTF_8);
+
+		return ByteBuffer.allocate(HEADER_LENGTH + binaryName.length + payloadLength) //
+				.putLong(id.getMostSignificantBits()) //
+				.putLong(id.getLeastSignificantBits()) //
+				.put(operation) //
+				.putInt(binaryName.length) //
+				.put(binaryName);
+	}
+
+	private static String readString(ByteBuffer buffer, int length) {
+
+		String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+		buffer.position(buffer.position() + length);
+		return value;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Snapshot of the hit and miss counters of a {@link RedisCache} using a near cache, reported separately for the
+ * in-process tier and for Redis.
+ *
+ * @since 2.2
+ * @see RedisCacheConfiguration#enableNearCache(int, java.time.Duration)
+ * @see RedisCache#getNearCacheStatistics()
+ */
+public final class NearCacheStatistics {
+
+	private final long size;
+	private final long localHits;
+	private final long localMisses;
+	private final long remoteHits;
+	private final long remoteMisses;
+
+	NearCacheStatistics(long size, long localHits, long localMisses, long remoteHits, long remoteMisses) {
+
+		this.size = size;
+		this.localHits = localHits;
+		this.localMisses = localMisses;
+		this.remoteHits = remoteHits;
+		this.remoteMisses = remoteMisses;
+	}
+
+	/**
+	 * @return the number of values currently held by the near cache.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return the number of lookups served by the near cache.
+	 */
+	public long getLocalHits() {
+		return localHits;
+	}
+
+	/**
+	 * @return the number of lookups not served by the near cache.
+	 */
+	public long getLocalMisses() {
+		return localMisses;
+	}
+
+	/**
+	 * @return the number of near cache misses served by Redis.
+	 */
+	public long getRemoteHits() {
+		return remoteHits;
+	}
+
+	/**
+	 * @return the number of near cache misses not found in Redis either.
+	 */
+	public long getRemoteMisses() {
+		return remoteMisses;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("NearCacheStatistics [size=%d, localHits=%d, localMisses=%d, remoteHits=%d, remoteMisses=%d]",
+				size, localHits, localMisses, remoteHits, remoteMisses);
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Instant;
+
+/**
+ * {@link CacheStatisticsCollector} discarding all reported values.
+ *
+ * @since 2.2
+ */
+enum NoOpCacheStatisticsCollector implements CacheStatisticsCollector {
+
+	INSTANCE;
+
+	@Override
+	public void incPuts(String cacheName, long count) {}
+
+	@Override
+	public void incHits(String cacheName, long count) {}
+
+	@Override
+	public void incMisses(String cacheName, long count) {}
+
+	@Override
+	public void incDeletes(String cacheName, long count) {}
+
+	@Override
+	public void recordLatency(String cacheName, CacheOperation operation, long durationNanos) {}
+
+	@Override
+	public CacheStatistics getCacheStatistics(String cacheName) {
+		return new EmptyCacheStatistics(cacheName);
+	}
+
+	@Override
+	public void export(CacheStatisticsExporter exporter) {}
+
+	@Override
+	public void reset(String cacheName) {}
+
+	@Override
+	public boolean isEnabled() {
+		return false;
+	}
+
+	private static class EmptyCacheStatistics implements CacheStatistics {
+
+		private final String cacheName;
+		private final Instant since = Instant.now();
+
+		EmptyCacheStatistics(String cacheName) {
+			this.cacheName = cacheName;
+		}
+
+		@Override
+		public String getCacheName() {
+			return cacheName;
+		}
+
+		@Override
+		public long getPuts() {
+			return 0;
+		}
+
+		@Override
+		public long getHits() {
+			return 0;
+		}
+
+		@Override
+		public long getMisses() {
+			return 0;
+		}
+
+		@Override
+		public long getDeletes() {
+			return 0;
+		}
+
+		@Override
+		public LatencyHistogram getLatency(CacheOperation operation) {
+			return LatencyHistogram.empty();
+		}
+
+		@Override
+		public Instant getSince() {
+			return since;
+		}
+	}
+}
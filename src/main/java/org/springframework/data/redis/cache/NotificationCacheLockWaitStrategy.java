@@ -0,0 +1,114 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheLockWaitStrategy} waking up waiting threads on lock release notifications received via Pub/Sub. Each
+ * cache name is associated with a release counter so that a notification arriving between checking the lock and
+ * starting to wait is not lost.
+ *
+ * @since 2.2
+ */
+class NotificationCacheLockWaitStrategy implements CacheLockWaitStrategy, MessageListener {
+
+	private final long maxSleepMillis;
+	private final ConcurrentMap<String, ReleaseMonitor> monitors = new ConcurrentHashMap<>();
+
+	/**
+	 * @param listenerContainer must not be {@literal null}.
+	 * @param maxSleepTime must not be {@literal null}, zero or negative.
+	 */
+	NotificationCacheLockWaitStrategy(RedisMessageListenerContainer listenerContainer, Duration maxSleepTime) {
+
+		Assert.notNull(listenerContainer, "RedisMessageListenerContainer must not be null!");
+		Assert.notNull(maxSleepTime, "MaxSleepTime must not be null!");
+		Assert.isTrue(!maxSleepTime.isZero() && !maxSleepTime.isNegative(), "MaxSleepTime must be greater than zero!");
+
+		this.maxSleepMillis = maxSleepTime.toMillis();
+
+		listenerContainer.addMessageListener(this, new ChannelTopic(LOCK_RELEASED_CHANNEL));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheLockWaitStrategy#awaitUnlocked(java.lang.String, java.util.function.BooleanSupplier)
+	 */
+	@Override
+	public void awaitUnlocked(String name, BooleanSupplier isLocked) throws InterruptedException {
+
+		ReleaseMonitor monitor = monitors.computeIfAbsent(name, it -> new ReleaseMonitor());
+
+		while (true) {
+
+			long releases = monitor.releases;
+
+			if (!isLocked.getAsBoolean()) {
+				return;
+			}
+
+			synchronized (monitor) {
+				if (monitor.releases == releases) {
+					monitor.wait(maxSleepMillis);
+				}
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheLockWaitStrategy#requiresReleaseNotification()
+	 */
+	@Override
+	public boolean requiresReleaseNotification() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.connection.MessageListener#onMessage(org.springframework.data.redis.connection.Message, byte[])
+	 */
+	@Override
+	public void onMessage(Message message, @Nullable byte[] pattern) {
+
+		ReleaseMonitor monitor = monitors.get(new String(message.getBody(), StandardCharsets.UTF_8));
+
+		if (monitor == null) {
+			return;
+		}
+
+		synchronized (monitor) {
+			monitor.releases++;
+			monitor.notifyAll();
+		}
+	}
+
+	private static class ReleaseMonitor {
+		volatile long releases;
+	}
+}
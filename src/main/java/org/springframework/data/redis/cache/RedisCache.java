@@ -17,8 +17,30 @@ package org.springframework.data.redis.cache;
 
 import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.cache.support.NullValue;
 import org.springframework.cache.support.SimpleValueWrapper;
@@ -45,11 +67,38 @@ import org.springframework.util.ReflectionUtils;
 public class RedisCache extends AbstractValueAdaptingCache {
 
 	private static final byte[] BINARY_NULL_VALUE = RedisSerializer.java().serialize(NullValue.INSTANCE);
+	private static final byte[] LEASE_KEY_SUFFIX = "~load".getBytes(StandardCharsets.UTF_8);
+	private static final long MAX_LEASE_POLL_MILLIS = 50;
+	private static final String GENERATION_KEY_SUFFIX = "~generation";
+	private static final String TAG_KEY_INFIX = "~tag::";
+	private static final String INDEX_KEY_SUFFIX = "~lru";
+	private static final byte[] REFRESH_KEY_SUFFIX = "~refresh".getBytes(StandardCharsets.UTF_8);
+	private static final long MIN_REFRESH_LEASE_MILLIS = 1000;
+	private static final int TOUCH_BATCH_SIZE = 1000;
+
+	private final Log logger = LogFactory.getLog(getClass());
 
 	private final String name;
 	private final RedisCacheWriter cacheWriter;
 	private final RedisCacheConfiguration cacheConfig;
 	private final ConversionService conversionService;
+	private final ConcurrentMap<String, CompletableFuture<Object>> loadsInFlight = new ConcurrentHashMap<>();
+	private final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
+
+	private final @Nullable NearCache nearCache;
+	private final @Nullable NearCacheInvalidator nearCacheInvalidator;
+	private final @Nullable AsyncRedisCacheWriter asyncCacheWriter;
+	private final @Nullable CacheKeyEncoder keyEncoder;
+	private final @Nullable TouchBuffer touchBuffer;
+	private final Executor backgroundExecutor;
+	private final @Nullable ScheduledExecutorService touchScheduler;
+	private volatile @Nullable BinaryKeyPrefix binaryKeyPrefix;
+	private final LongAdder remoteHits = new LongAdder();
+	private final LongAdder remoteMisses = new LongAdder();
+
+	private volatile long generation;
+	private volatile long generationRefreshedAt;
+	private volatile boolean generationInitialized;
 
 	/**
 	 * Create new {@link RedisCache}.
@@ -59,6 +108,77 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 * @param cacheConfig must not be {@literal null}.
 	 */
 	protected RedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig) {
+		this(name, cacheWriter, cacheConfig, null);
+	}
+
+	/**
+	 * Create new {@link RedisCache} publishing near cache invalidations through the given {@link NearCacheInvalidator}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param cacheWriter must not be {@literal null}.
+	 * @param cacheConfig must not be {@literal null}.
+	 * @param nearCacheInvalidator can be {@literal null}.
+	 * @since 2.2
+	 */
+	RedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig,
+			@Nullable NearCacheInvalidator nearCacheInvalidator) {
+		this(name, cacheWriter, cacheConfig, nearCacheInvalidator, null);
+	}
+
+	/**
+	 * Create new {@link RedisCache} publishing near cache invalidations through the given {@link NearCacheInvalidator}
+	 * and retrieving values through the given {@link AsyncRedisCacheWriter}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param cacheWriter must not be {@literal null}.
+	 * @param cacheConfig must not be {@literal null}.
+	 * @param nearCacheInvalidator can be {@literal null}.
+	 * @param asyncCacheWriter can be {@literal null}.
+	 * @since 2.2
+	 */
+	RedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig,
+			@Nullable NearCacheInvalidator nearCacheInvalidator, @Nullable AsyncRedisCacheWriter asyncCacheWriter) {
+		this(name, cacheWriter, cacheConfig, nearCacheInvalidator, asyncCacheWriter, null);
+	}
+
+	/**
+	 * Create new {@link RedisCache} publishing near cache invalidations through the given {@link NearCacheInvalidator},
+	 * retrieving values through the given {@link AsyncRedisCacheWriter} and running background refreshes and expiration
+	 * updates on the given {@link Executor}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param cacheWriter must not be {@literal null}.
+	 * @param cacheConfig must not be {@literal null}.
+	 * @param nearCacheInvalidator can be {@literal null}.
+	 * @param asyncCacheWriter can be {@literal null}.
+	 * @param backgroundExecutor can be {@literal null} to run background work on the calling thread.
+	 * @since 2.2
+	 */
+	RedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig,
+			@Nullable NearCacheInvalidator nearCacheInvalidator, @Nullable AsyncRedisCacheWriter asyncCacheWriter,
+			@Nullable Executor backgroundExecutor) {
+		this(name, cacheWriter, cacheConfig, nearCacheInvalidator, asyncCacheWriter, backgroundExecutor, null);
+	}
+
+	/**
+	 * Create new {@link RedisCache} publishing near cache invalidations through the given {@link NearCacheInvalidator},
+	 * retrieving values through the given {@link AsyncRedisCacheWriter}, running background refreshes and expiration
+	 * updates on the given {@link Executor} and flushing
+	 * {@link RedisCacheConfiguration#enableSlidingExpiration(Duration) coalesced expiration updates} through the given
+	 * {@link ScheduledExecutorService}. The executors are owned by the caller.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param cacheWriter must not be {@literal null}.
+	 * @param cacheConfig must not be {@literal null}.
+	 * @param nearCacheInvalidator can be {@literal null}.
+	 * @param asyncCacheWriter can be {@literal null}.
+	 * @param backgroundExecutor can be {@literal null} to run background work on the calling thread.
+	 * @param touchScheduler can be {@literal null} to restart expiration on each read instead of coalescing updates.
+	 * @since 2.2
+	 */
+	RedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig,
+			@Nullable NearCacheInvalidator nearCacheInvalidator, @Nullable AsyncRedisCacheWriter asyncCacheWriter,
+			@Nullable Executor backgroundExecutor, @Nullable ScheduledExecutorService touchScheduler) {
 
 		super(cacheConfig.getAllowCacheNullValues());
 
@@ -66,10 +186,34 @@ public class RedisCache extends AbstractValueAdaptingCache {
 		Assert.notNull(cacheWriter, "CacheWriter must not be null!");
 		Assert.notNull(cacheConfig, "CacheConfig must not be null!");
 
+		assertSupportedBy(cacheWriter, cacheConfig);
+		Assert.isTrue(!(cacheConfig.usePrefix() && cacheConfig.useGenerationalKeys()) || isPositive(cacheConfig.getTtl()),
+				"Generational keys require a TTL! Entries of previous generations would otherwise never be removed.");
+
 		this.name = name;
 		this.cacheWriter = cacheWriter;
 		this.cacheConfig = cacheConfig;
 		this.conversionService = cacheConfig.getConversionService();
+		this.nearCache = cacheConfig.useNearCache()
+				? new NearCache(cacheConfig.getNearCacheMaxSize(), cacheConfig.getNearCacheTtl())
+				: null;
+		this.nearCacheInvalidator = nearCache != null ? nearCacheInvalidator : null;
+		this.asyncCacheWriter = asyncCacheWriter;
+		this.backgroundExecutor = backgroundExecutor != null ? backgroundExecutor : Runnable::run;
+		this.touchScheduler = touchScheduler;
+		this.keyEncoder = usesDefaultKeyCreation()
+				? CacheKeyEncoder.create(conversionService, this::serializeCacheKey)
+				: null;
+
+		Duration touchInterval = cacheConfig.getSlidingExpirationTouchInterval();
+		this.touchBuffer = cacheConfig.useSlidingExpiration() && touchScheduler != null && touchInterval != null
+				&& !touchInterval.isZero()
+				? new TouchBuffer(touchInterval)
+				: null;
+
+		if (this.nearCache != null && this.nearCacheInvalidator != null) {
+			this.nearCacheInvalidator.register(name, this.nearCache);
+		}
 	}
 
 	/*
@@ -79,13 +223,38 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	@Override
 	protected Object lookup(Object key) {
 
-		byte[] value = cacheWriter.get(name, createAndConvertCacheKey(key));
+		if (nearCache == null) {
 
-		if (value == null) {
+			byte[] value = getFromRedis(createAndConvertCacheKey(key));
+			return value != null ? readCacheValue(value) : null;
+		}
+
+		String cacheKey = createCacheKey(key);
+		Object cached = nearCache.get(cacheKey);
+
+		if (cached != null) {
+
+			if (touchBuffer != null) {
+				touch(Collections.singletonList(serializeCacheKey(cacheKey)));
+			}
+
+			return cached;
+		}
+
+		long invalidations = nearCache.getInvalidations();
+		byte[] value = getFromRedis(serializeCacheKey(cacheKey));
+		Object storeValue = value != null ? readCacheValue(value) : null;
+
+		if (storeValue == null) {
+
+			countRemoteLookup(false);
 			return null;
 		}
 
-		return deserializeCacheValue(value);
+		countRemoteLookup(true);
+		nearCache.putIfNotInvalidated(cacheKey, storeValue, invalidations);
+
+		return storeValue;
 	}
 
 	/*
@@ -112,7 +281,35 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	 */
 	@Override
 	@SuppressWarnings("unchecked")
-	public synchronized <T> T get(Object key, Callable<T> valueLoader) {
+	public <T> T get(Object key, Callable<T> valueLoader) {
+
+		if (cacheConfig.useRefreshAhead()) {
+
+			ValueWrapper result = getAndRefreshIfDue(key, valueLoader);
+
+			if (result != null) {
+				return (T) result.get();
+			}
+		}
+
+		if (cacheConfig.isSingleFlightLoading()) {
+			return getSingleFlight(key, valueLoader);
+		}
+
+		synchronized (this) {
+
+			ValueWrapper result = get(key);
+
+			if (result != null) {
+				return (T) result.get();
+			}
+
+			return loadAndStore(key, valueLoader);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T getSingleFlight(Object key, Callable<T> valueLoader) {
 
 		ValueWrapper result = get(key);
 
@@ -120,197 +317,1343 @@ public class RedisCache extends AbstractValueAdaptingCache {
 			return (T) result.get();
 		}
 
-		T value = valueFromLoader(key, valueLoader);
-		put(key, value);
-		return value;
-	}
+		String cacheKey = createCacheKey(key);
+		CompletableFuture<Object> load = new CompletableFuture<>();
+		CompletableFuture<Object> inFlight = loadsInFlight.putIfAbsent(cacheKey, load);
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.cache.Cache#put(java.lang.Object, java.lang.Object)
-	 */
-	@Override
-	public void put(Object key, @Nullable Object value) {
+		if (inFlight != null) {
+			return (T) awaitLoad(inFlight);
+		}
 
-		Object cacheValue = preProcessCacheValue(value);
+		try {
 
-		if (!isAllowNullValues() && cacheValue == null) {
+			T value = loadAndPut(key, valueLoader);
+			load.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
 
-			throw new IllegalArgumentException(String.format(
-					"Cache '%s' does not allow 'null' values. Avoid storing null via '@Cacheable(unless=\"#result == null\")' or configure RedisCache to allow 'null' via RedisCacheConfiguration.",
-					name));
+			load.completeExceptionally(e);
+			throw e;
+		} finally {
+			loadsInFlight.remove(cacheKey, load);
 		}
-
-		cacheWriter.put(name, createAndConvertCacheKey(key), serializeCacheValue(cacheValue), cacheConfig.getTtl());
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.cache.Cache#putIfAbsent(java.lang.Object, java.lang.Object)
-	 */
-	@Override
-	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+	@SuppressWarnings("unchecked")
+	private <T> T loadAndPut(Object key, Callable<T> valueLoader) {
 
-		Object cacheValue = preProcessCacheValue(value);
+		Duration leaseTtl = cacheConfig.getLoadLeaseTtl();
 
-		if (!isAllowNullValues() && cacheValue == null) {
-			return get(key);
+		if (leaseTtl.isZero()) {
+			return loadAndStore(key, valueLoader);
 		}
 
-		byte[] result = cacheWriter.putIfAbsent(name, createAndConvertCacheKey(key), serializeCacheValue(cacheValue),
-				cacheConfig.getTtl());
+		byte[] binaryKey = createAndConvertCacheKey(key);
+		byte[] leaseKey = ByteUtils.concat(binaryKey, LEASE_KEY_SUFFIX);
+		byte[] leaseToken = createLeaseToken();
+		long pollMillis = Math.max(1, Math.min(MAX_LEASE_POLL_MILLIS, leaseTtl.toMillis() / 10));
 
-		if (result == null) {
-			return null;
+		boolean leased;
+
+		// the lease holder loads the value while others wait for it to appear or for the lease to expire.
+		while (!(leased = cacheWriter.acquireLease(name, leaseKey, leaseToken, leaseTtl))) {
+
+			try {
+				Thread.sleep(pollMillis);
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				break;
+			}
+
+			ValueWrapper result = peek(binaryKey);
+			if (result != null) {
+				return (T) result.get();
+			}
 		}
 
-		return new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(result)));
-	}
+		try {
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.cache.Cache#evict(java.lang.Object)
-	 */
-	@Override
-	public void evict(Object key) {
-		cacheWriter.remove(name, createAndConvertCacheKey(key));
-	}
+			ValueWrapper result = peek(binaryKey);
+			if (result != null) {
+				return (T) result.get();
+			}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.cache.Cache#clear()
-	 */
-	@Override
-	public void clear() {
+			return loadAndStore(key, valueLoader);
+		} finally {
 
-		byte[] pattern = conversionService.convert(createCacheKey("*"), byte[].class);
-		cacheWriter.clean(name, pattern);
+			if (leased) {
+				cacheWriter.releaseLease(name, leaseKey, leaseToken);
+			}
+		}
 	}
 
 	/**
-	 * Get {@link RedisCacheConfiguration} used.
-	 *
-	 * @return immutable {@link RedisCacheConfiguration}. Never {@literal null}.
+	 * Read the value stored at {@code binaryKey} without recording the read as a cache hit or miss. The caller already
+	 * recorded the miss that made it wait for another caller to load the value.
 	 */
-	public RedisCacheConfiguration getCacheConfiguration() {
-		return cacheConfig;
+	@Nullable
+	private ValueWrapper peek(byte[] binaryKey) {
+
+		byte[] value = cacheWriter.peek(name, binaryKey);
+		return value != null ? toValueWrapper(readCacheValue(value)) : null;
+	}
+
+	private static byte[] createLeaseToken() {
+		return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
 	}
 
 	/**
-	 * Customization hook called before passing object to
-	 * {@link org.springframework.data.redis.serializer.RedisSerializer}.
+	 * Read the entry for {@code key} and trigger a background refresh if it is expired or due for an early refresh.
 	 *
-	 * @param value can be {@literal null}.
-	 * @return preprocessed value. Can be {@literal null}.
+	 * @return {@literal null} if absent or expired without being allowed to serve stale values.
 	 */
 	@Nullable
-	protected Object preProcessCacheValue(@Nullable Object value) {
+	private ValueWrapper getAndRefreshIfDue(Object key, Callable<?> valueLoader) {
 
-		if (value != null) {
-			return value;
+		String cacheKey = createCacheKey(key);
+
+		if (nearCache != null) {
+
+			Object cached = nearCache.get(cacheKey);
+
+			if (cached != null) {
+				return toValueWrapper(cached);
+			}
 		}
 
-		return isAllowNullValues() ? NullValue.INSTANCE : null;
+		long invalidations = nearCache != null ? nearCache.getInvalidations() : 0;
+		byte[] value = getFromRedis(serializeCacheKey(cacheKey));
+
+		if (value == null) {
+
+			countRemoteLookup(false);
+			return null;
+		}
+
+		ExpiringCacheValue entry = ExpiringCacheValue.unwrap(value);
+		long now = System.currentTimeMillis();
+		boolean expired = entry.isExpired(now);
+
+		if (expired && cacheConfig.getStaleWhileRevalidate().isZero()) {
+
+			countRemoteLookup(false);
+			return null;
+		}
+
+		if (expired || entry.shouldRefreshEarly(now, cacheConfig.getEarlyRefreshBeta())) {
+			refreshAsync(key, cacheKey, valueLoader, entry.getComputeMillis());
+		}
+
+		Object storeValue = deserializeCacheValue(entry.getValue());
+		countRemoteLookup(true);
+
+		// stale values are served while refreshing but must not outlive the refresh in the near cache.
+		if (nearCache != null && !expired) {
+			nearCache.putIfNotInvalidated(cacheKey, storeValue, invalidations);
+		}
+
+		return toValueWrapper(storeValue);
 	}
 
 	/**
-	 * Serialize the key.
-	 *
-	 * @param cacheKey must not be {@literal null}.
-	 * @return never {@literal null}.
+	 * Reload the value for {@code key} in the background. A refresh lease in Redis makes sure only one caller across all
+	 * processes refreshes the entry. The lease expires so that a crashed caller does not prevent future refreshes.
 	 */
-	protected byte[] serializeCacheKey(String cacheKey) {
-		return ByteUtils.getBytes(cacheConfig.getKeySerializationPair().write(cacheKey));
+	private void refreshAsync(Object key, String cacheKey, Callable<?> valueLoader, long computeMillis) {
+
+		if (!refreshesInFlight.add(cacheKey)) {
+			return;
+		}
+
+		boolean accepted = runInBackground(() -> {
+
+			byte[] leaseKey = ByteUtils.concat(serializeCacheKey(cacheKey), REFRESH_KEY_SUFFIX);
+			byte[] leaseToken = createLeaseToken();
+			Duration leaseTtl = Duration.ofMillis(Math.max(MIN_REFRESH_LEASE_MILLIS, 3 * computeMillis));
+			boolean leased = false;
+
+			try {
+
+				leased = cacheWriter.acquireLease(name, leaseKey, leaseToken, leaseTtl);
+
+				if (leased) {
+					loadAndStore(key, valueLoader);
+				}
+			} finally {
+
+				refreshesInFlight.remove(cacheKey);
+
+				if (leased) {
+					cacheWriter.releaseLease(name, leaseKey, leaseToken);
+				}
+			}
+		}, "refresh entry " + cacheKey);
+
+		if (!accepted) {
+			refreshesInFlight.remove(cacheKey);
+		}
 	}
 
 	/**
-	 * Serialize the value to cache.
-	 *
-	 * @param value must not be {@literal null}.
-	 * @return never {@literal null}.
+	 * Invoke {@code valueLoader} and store the loaded value along with the time it took to load it.
 	 */
-	protected byte[] serializeCacheValue(Object value) {
+	private <T> T loadAndStore(Object key, Callable<T> valueLoader) {
 
-		if (isAllowNullValues() && value instanceof NullValue) {
-			return BINARY_NULL_VALUE;
+		long start = System.nanoTime();
+		T value = valueFromLoader(key, valueLoader);
+
+		if (cacheConfig.useRefreshAhead()) {
+			doPut(key, value, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		} else {
+			put(key, value);
 		}
 
-		return ByteUtils.getBytes(cacheConfig.getValueSerializationPair().write(value));
+		return value;
 	}
 
 	/**
-	 * Deserialize the given value to the actual cache value.
+	 * Return the value to which this cache maps the given key without blocking the calling thread while waiting for
+	 * Redis. Requires an {@link AsyncRedisCacheWriter}, see
+	 * {@link RedisCacheManager.RedisCacheManagerBuilder#asyncCacheWriter(AsyncRedisCacheWriter)}. Without one, the value
+	 * is read synchronously.
 	 *
-	 * @param value must not be {@literal null}.
-	 * @return can be {@literal null}.
+	 * @param key the key whose associated value is to be returned.
+	 * @return {@link CompletableFuture} completing with the {@link ValueWrapper} or with {@literal null} if this cache
+	 *         contains no mapping for the key.
+	 * @since 2.2
 	 */
-	@Nullable
-	protected Object deserializeCacheValue(byte[] value) {
+	public CompletableFuture<ValueWrapper> retrieve(Object key) {
 
-		if (isAllowNullValues() && ObjectUtils.nullSafeEquals(value, BINARY_NULL_VALUE)) {
-			return NullValue.INSTANCE;
+		if (asyncCacheWriter == null) {
+			return CompletableFuture.completedFuture(get(key));
 		}
 
-		return cacheConfig.getValueSerializationPair().read(ByteBuffer.wrap(value));
+		String cacheKey = createNearCacheKey(key);
+
+		return retrieve(asyncCacheWriter, cacheKey, createAndConvertCacheKey(key, cacheKey));
 	}
 
 	/**
-	 * Customization hook for creating cache key before it gets serialized.
+	 * Retrieve the value stored for the given keys. Keys are created by the caller as creating them may block, which
+	 * must not happen on the threads completing {@link AsyncRedisCacheWriter} operations.
 	 *
-	 * @param key will never be {@literal null}.
-	 * @return never {@literal null}.
+	 * @param cacheKey the near cache key, can be {@literal null} if no near cache is used.
 	 */
-	protected String createCacheKey(Object key) {
+	private CompletableFuture<ValueWrapper> retrieve(AsyncRedisCacheWriter asyncCacheWriter, @Nullable String cacheKey,
+			byte[] binaryKey) {
 
-		String convertedKey = convertKey(key);
+		if (nearCache != null && cacheKey != null) {
 
-		if (!cacheConfig.usePrefix()) {
-			return convertedKey;
+			Object cached = nearCache.get(cacheKey);
+
+			if (cached != null) {
+				return CompletableFuture.completedFuture(toValueWrapper(cached));
+			}
 		}
 
-		return prefixCacheKey(convertedKey);
+		long invalidations = nearCache != null ? nearCache.getInvalidations() : 0;
+
+		return asyncCacheWriter.get(name, binaryKey).thenApply(value -> {
+
+			Object storeValue = value != null ? readCacheValue(value) : null;
+			countRemoteLookup(storeValue != null);
+
+			if (storeValue != null) {
+				touchInBackground(Collections.singletonList(binaryKey));
+			}
+
+			if (storeValue != null && nearCache != null && cacheKey != null) {
+				nearCache.putIfNotInvalidated(cacheKey, storeValue, invalidations);
+			}
+
+			return toValueWrapper(storeValue);
+		});
 	}
 
 	/**
-	 * Convert {@code key} to a {@link String} representation used for cache key creation.
+	 * Return the value to which this cache maps the given key, obtaining the value from {@code valueLoader} and storing
+	 * it if absent, without blocking the calling thread while waiting for Redis. Concurrent loads of the same key within
+	 * this process share a single {@code valueLoader} invocation if
+	 * {@link RedisCacheConfiguration#enableSingleFlightLoading() single-flight loading} is enabled.
 	 *
-	 * @param key will never be {@literal null}.
-	 * @return never {@literal null}.
-	 * @throws IllegalStateException if {@code key} cannot be converted to {@link String}.
+	 * @param key the key whose associated value is to be returned.
+	 * @param valueLoader supplies the value if absent. Must not be {@literal null}.
+	 * @return {@link CompletableFuture} completing with the cached or loaded value.
+	 * @since 2.2
+	 * @see #retrieve(Object)
 	 */
-	protected String convertKey(Object key) {
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
 
-		TypeDescriptor source = TypeDescriptor.forObject(key);
-		if (conversionService.canConvert(source, TypeDescriptor.valueOf(String.class))) {
-			return conversionService.convert(key, String.class);
-		}
+		Assert.notNull(valueLoader, "ValueLoader must not be null!");
 
-		Method toString = ReflectionUtils.findMethod(key.getClass(), "toString");
+		AsyncRedisCacheWriter asyncCacheWriter = this.asyncCacheWriter;
 
-		if (toString != null && !Object.class.equals(toString.getDeclaringClass())) {
-			return key.toString();
+		if (asyncCacheWriter == null) {
+			return retrieve(key).thenCompose(result -> result != null ? CompletableFuture.completedFuture((T) result.get())
+					: loadAndStoreAsync(key, valueLoader));
 		}
 
-		throw new IllegalStateException(
-				String.format("Cannot convert %s to String. Register a Converter or override toString().", source));
+		// create keys upfront as reading the key generation blocks
+		String cacheKey = createCacheKey(key);
+		byte[] binaryKey = serializeCacheKey(cacheKey);
+
+		return retrieve(asyncCacheWriter, nearCache != null ? cacheKey : null, binaryKey).thenCompose(result -> {
+
+			if (result != null) {
+				return CompletableFuture.completedFuture((T) result.get());
+			}
+
+			if (!cacheConfig.isSingleFlightLoading()) {
+				return loadAndStoreAsync(asyncCacheWriter, cacheKey, binaryKey, valueLoader);
+			}
+
+			CompletableFuture<Object> load = new CompletableFuture<>();
+			CompletableFuture<Object> inFlight = loadsInFlight.putIfAbsent(cacheKey, load);
+
+			if (inFlight != null) {
+				return (CompletableFuture<T>) inFlight;
+			}
+
+			loadAndStoreAsync(asyncCacheWriter, cacheKey, binaryKey, valueLoader).whenComplete((value, e) -> {
+
+				loadsInFlight.remove(cacheKey, load);
+
+				if (e != null) {
+					load.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+				} else {
+					load.complete(value);
+				}
+			});
+
+			return (CompletableFuture<T>) load;
+		});
 	}
 
-	private byte[] createAndConvertCacheKey(Object key) {
-		return serializeCacheKey(createCacheKey(key));
+	/**
+	 * Invoke {@code valueLoader} and store the loaded value once it is available.
+	 */
+	private <T> CompletableFuture<T> loadAndStoreAsync(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		long start = System.nanoTime();
+
+		// run the loader within the stage so that a failing loader completes the returned future
+		return CompletableFuture.completedFuture(key).thenCompose(it -> valueLoader.get()).thenApply(value -> {
+
+			doPut(key, value, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+			return value;
+		});
 	}
 
-	private String prefixCacheKey(String key) {
+	/**
+	 * Invoke {@code valueLoader} and store the loaded value through {@code asyncCacheWriter} once it is available. Work
+	 * that may block, such as publishing near cache invalidations, runs in the background.
+	 */
+	private <T> CompletableFuture<T> loadAndStoreAsync(AsyncRedisCacheWriter asyncCacheWriter, String cacheKey,
+			byte[] binaryKey, Supplier<CompletableFuture<T>> valueLoader) {
 
-		// allow contextual cache names by computing the key prefix on every call.
-		return cacheConfig.getKeyPrefixFor(name) + key;
+		long start = System.nanoTime();
+
+		// run the loader within the stage so that a failing loader completes the returned future
+		return CompletableFuture.completedFuture(cacheKey).thenCompose(it -> valueLoader.get()).thenCompose(value -> {
+
+			long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			Object cacheValue = preProcessCacheValue(value);
+
+			if (!isAllowNullValues() && cacheValue == null) {
+				throw nullValuesNotAllowed();
+			}
+
+			return asyncCacheWriter.put(name, binaryKey, writeCacheValue(cacheValue, computeMillis), getStorageTtl())
+					.thenApply(it -> {
+
+						if (cacheConfig.useSizeBound()) {
+							runInBackground(() -> indexBounded(Collections.singletonList(binaryKey)), "index entry " + cacheKey);
+						}
+
+						updateNearCacheInBackground(cacheKey, cacheValue);
+						return value;
+					});
+		});
 	}
 
-	private static <T> T valueFromLoader(Object key, Callable<T> valueLoader) {
+	@Nullable
+	private static Object awaitLoad(CompletableFuture<Object> load) {
 
 		try {
-			return valueLoader.call();
-		} catch (Exception e) {
-			throw new ValueRetrievalException(key, valueLoader, e);
+			return load.join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.Cache#put(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		doPut(key, value, 0);
+	}
+
+	private void doPut(Object key, @Nullable Object value, long computeMillis) {
+
+		Object cacheValue = preProcessCacheValue(value);
+
+		if (!isAllowNullValues() && cacheValue == null) {
+			throw nullValuesNotAllowed();
+		}
+
+		String cacheKey = createNearCacheKey(key);
+		byte[] binaryKey = createAndConvertCacheKey(key, cacheKey);
+		byte[] binaryValue = writeCacheValue(cacheValue, computeMillis);
+
+		write(binaryKey, binaryValue);
+		updateNearCache(cacheKey, cacheValue);
+	}
+
+	private void write(byte[] binaryKey, byte[] binaryValue) {
+
+		if (cacheConfig.useSizeBound()) {
+			cacheWriter.putBounded(name, binaryKey, binaryValue, getStorageTtl(), getIndexKey(), cacheConfig.getMaxEntries());
+		} else {
+			cacheWriter.put(name, binaryKey, binaryValue, getStorageTtl());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.Cache#putIfAbsent(java.lang.Object, java.lang.Object)
+	 */
+	@Override
+	public ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+
+		Object cacheValue = preProcessCacheValue(value);
+
+		if (!isAllowNullValues() && cacheValue == null) {
+			return get(key);
+		}
+
+		String cacheKey = createNearCacheKey(key);
+		byte[] binaryKey = createAndConvertCacheKey(key, cacheKey);
+		byte[] binaryValue = writeCacheValue(cacheValue, 0);
+		byte[] result = cacheWriter.putIfAbsent(name, binaryKey, binaryValue, getStorageTtl());
+
+		if (result == null) {
+
+			indexBounded(Collections.singletonList(binaryKey));
+			updateNearCache(cacheKey, cacheValue);
+			return null;
+		}
+
+		if (!cacheConfig.useRefreshAhead()) {
+			return new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(result)));
+		}
+
+		ExpiringCacheValue existing = ExpiringCacheValue.unwrap(result);
+
+		// expired values are only retained to be served while refreshing, they do not count as present.
+		if (existing.isExpired(System.currentTimeMillis())) {
+
+			write(binaryKey, binaryValue);
+			updateNearCache(cacheKey, cacheValue);
+			return null;
+		}
+
+		return new SimpleValueWrapper(fromStoreValue(deserializeCacheValue(existing.getValue())));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.Cache#evict(java.lang.Object)
+	 */
+	@Override
+	public void evict(Object key) {
+
+		String cacheKey = createNearCacheKey(key);
+
+		cacheWriter.remove(name, createAndConvertCacheKey(key, cacheKey));
+		evictNearCache(cacheKey);
+	}
+
+	/**
+	 * Return the values to which this cache maps the given keys using a single {@link RedisCacheWriter#getAll(String, List)
+	 * bulk read}.
+	 *
+	 * @param keys the keys whose associated values are to be returned. Must not be {@literal null}.
+	 * @return the {@link ValueWrapper values} of all keys present in this cache in the order of {@code keys}. Never
+	 *         {@literal null}.
+	 * @since 2.2
+	 */
+	public <K> Map<K, ValueWrapper> getAll(Collection<K> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		// pre-populate to retain the order of keys for values served by the near cache
+		Map<K, ValueWrapper> result = new LinkedHashMap<>(keys.size());
+		List<K> remoteKeys = new ArrayList<>(keys.size());
+		List<String> remoteCacheKeys = new ArrayList<>(keys.size());
+		List<byte[]> binaryKeys = new ArrayList<>(keys.size());
+		List<byte[]> touchedKeys = new ArrayList<>();
+
+		for (K key : keys) {
+
+			String cacheKey = createCacheKey(key);
+			Object cached = nearCache != null ? nearCache.get(cacheKey) : null;
+
+			result.put(key, cached != null ? toValueWrapper(cached) : null);
+
+			if (cached != null && touchBuffer != null) {
+				touchedKeys.add(serializeCacheKey(cacheKey));
+			}
+
+			if (cached == null) {
+
+				remoteKeys.add(key);
+				remoteCacheKeys.add(cacheKey);
+				binaryKeys.add(serializeCacheKey(cacheKey));
+			}
+		}
+
+		if (!binaryKeys.isEmpty()) {
+
+			long invalidations = nearCache != null ? nearCache.getInvalidations() : 0;
+			List<byte[]> values = cacheWriter.getAll(name, binaryKeys);
+
+			for (int i = 0; i < remoteKeys.size(); i++) {
+
+				byte[] value = values.get(i);
+				Object storeValue = value != null ? readCacheValue(value) : null;
+
+				if (storeValue == null) {
+
+					result.remove(remoteKeys.get(i));
+					countRemoteLookup(false);
+					continue;
+				}
+
+				result.put(remoteKeys.get(i), toValueWrapper(storeValue));
+				touchedKeys.add(binaryKeys.get(i));
+				countRemoteLookup(true);
+
+				if (nearCache != null) {
+					nearCache.putIfNotInvalidated(remoteCacheKeys.get(i), storeValue, invalidations);
+				}
+			}
+		}
+
+		touch(touchedKeys);
+
+		return result;
+	}
+
+	/**
+	 * @return the keys of the near cache, most recently used first. Empty if no near cache is used.
+	 * @see CacheWarmUpConfiguration
+	 */
+	List<String> getNearCacheKeys() {
+		return nearCache != null ? nearCache.keys() : Collections.emptyList();
+	}
+
+	/**
+	 * Read the values stored for the given cache keys using a single {@link RedisCacheWriter#getAll(String, List) bulk
+	 * read} and add them to the near cache without invoking any value loader.
+	 *
+	 * @param cacheKeys keys as created by {@link #createCacheKey(Object)}. Must not be {@literal null}.
+	 * @return the number of values found.
+	 * @see CacheWarmUpConfiguration
+	 */
+	int warmUpNearCache(List<String> cacheKeys) {
+
+		if (nearCache == null || cacheKeys.isEmpty()) {
+			return 0;
+		}
+
+		List<byte[]> binaryKeys = new ArrayList<>(cacheKeys.size());
+		cacheKeys.forEach(cacheKey -> binaryKeys.add(serializeCacheKey(cacheKey)));
+
+		long invalidations = nearCache.getInvalidations();
+		List<byte[]> values = cacheWriter.getAll(name, binaryKeys);
+		int found = 0;
+
+		for (int i = 0; i < cacheKeys.size(); i++) {
+
+			byte[] value = values.get(i);
+			Object storeValue = value != null ? readCacheValue(value) : null;
+
+			if (storeValue != null) {
+
+				nearCache.putIfNotInvalidated(cacheKeys.get(i), storeValue, invalidations);
+				found++;
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * Associate all given key/value pairs with this cache using a single
+	 * {@link RedisCacheWriter#putAll(String, Map, Duration) bulk write}.
+	 *
+	 * @param entries the key/value pairs to store. Must not be {@literal null}.
+	 * @throws IllegalArgumentException if a value is {@literal null} and the cache does not allow {@literal null} values.
+	 * @since 2.2
+	 */
+	public void putAll(Map<?, ?> entries) {
+
+		Assert.notNull(entries, "Entries must not be null!");
+
+		Map<String, Object> cacheEntries = new LinkedHashMap<>(entries.size());
+		Map<byte[], byte[]> binaryEntries = new LinkedHashMap<>(entries.size());
+
+		entries.forEach((key, value) -> {
+
+			Object cacheValue = preProcessCacheValue(value);
+
+			if (!isAllowNullValues() && cacheValue == null) {
+				throw nullValuesNotAllowed();
+			}
+
+			String cacheKey = createCacheKey(key);
+
+			cacheEntries.put(cacheKey, cacheValue);
+			binaryEntries.put(serializeCacheKey(cacheKey), writeCacheValue(cacheValue, 0));
+		});
+
+		cacheWriter.putAll(name, binaryEntries, getStorageTtl());
+		indexBounded(new ArrayList<>(binaryEntries.keySet()));
+		updateNearCache(cacheEntries);
+	}
+
+	/**
+	 * Associate the specified value with the specified key in this cache and link the entry to the given tags so that it
+	 * can be evicted along with all other entries sharing a tag through {@link #evictByTag(String)}.
+	 *
+	 * @param key the key with which the specified value is to be associated.
+	 * @param value the value to be associated with the specified key.
+	 * @param tags the tags to link the entry to. Must not be {@literal null}.
+	 * @since 2.2
+	 * @see RedisCacheWriter#putTagged(String, byte[], byte[], Duration, Collection)
+	 */
+	public void put(Object key, @Nullable Object value, Collection<String> tags) {
+
+		Assert.notNull(tags, "Tags must not be null!");
+
+		if (tags.isEmpty()) {
+
+			put(key, value);
+			return;
+		}
+
+		Object cacheValue = preProcessCacheValue(value);
+
+		if (!isAllowNullValues() && cacheValue == null) {
+			throw nullValuesNotAllowed();
+		}
+
+		String cacheKey = createNearCacheKey(key);
+		byte[] binaryKey = createAndConvertCacheKey(key, cacheKey);
+
+		cacheWriter.putTagged(name, binaryKey, writeCacheValue(cacheValue, 0), getStorageTtl(), getTagKeys(tags));
+		indexBounded(Collections.singletonList(binaryKey));
+		updateNearCache(cacheKey, cacheValue);
+	}
+
+	/**
+	 * Evict all entries of this cache linked to the given tag.
+	 *
+	 * @param tag must not be {@literal null}.
+	 * @return the number of evicted entries.
+	 * @since 2.2
+	 * @see #put(Object, Object, Collection)
+	 */
+	public long evictByTag(String tag) {
+
+		Assert.notNull(tag, "Tag must not be null!");
+
+		return evictByTags(Collections.singleton(tag));
+	}
+
+	/**
+	 * Evict all entries of this cache linked to any of the given tags. Clears the near cache, if used, as the evicted keys
+	 * are only known to Redis.
+	 *
+	 * @param tags must not be {@literal null}.
+	 * @return the number of evicted entries.
+	 * @since 2.2
+	 * @see #put(Object, Object, Collection)
+	 */
+	public long evictByTags(Collection<String> tags) {
+
+		Assert.notNull(tags, "Tags must not be null!");
+
+		if (tags.isEmpty()) {
+			return 0;
+		}
+
+		long evicted = cacheWriter.removeByTags(name, getTagKeys(tags));
+		clearNearCache();
+
+		return evicted;
+	}
+
+	/**
+	 * Evict the mappings for all given keys from this cache using a single
+	 * {@link RedisCacheWriter#removeAll(String, Collection) bulk removal}.
+	 *
+	 * @param keys the keys whose mappings are to be removed. Must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public void evictAll(Collection<?> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		List<String> cacheKeys = new ArrayList<>(keys.size());
+		List<byte[]> binaryKeys = new ArrayList<>(keys.size());
+
+		for (Object key : keys) {
+
+			String cacheKey = createCacheKey(key);
+
+			cacheKeys.add(cacheKey);
+			binaryKeys.add(serializeCacheKey(cacheKey));
+		}
+
+		cacheWriter.removeAll(name, binaryKeys);
+		evictNearCache(cacheKeys);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.Cache#clear()
+	 */
+	@Override
+	public void clear() {
+
+		if (useGenerationalKeys()) {
+			updateGeneration(cacheWriter.increment(name, getGenerationKey()));
+		} else {
+
+			byte[] pattern = conversionService.convert(createCacheKey("*"), byte[].class);
+			cacheWriter.clean(name, pattern);
+		}
+
+		clearNearCache();
+	}
+
+	/**
+	 * Get the hit and miss counters of the near cache and of Redis.
+	 *
+	 * @return {@literal null} if this cache does not use a
+	 *         {@link RedisCacheConfiguration#enableNearCache(int, Duration) near cache}.
+	 * @since 2.2
+	 */
+	@Nullable
+	public NearCacheStatistics getNearCacheStatistics() {
+
+		if (nearCache == null) {
+			return null;
+		}
+
+		return new NearCacheStatistics(nearCache.size(), nearCache.getHits(), nearCache.getMisses(), remoteHits.sum(),
+				remoteMisses.sum());
+	}
+
+	/**
+	 * Get the counters and latencies recorded by the {@link RedisCacheWriter} for this cache.
+	 *
+	 * @return never {@literal null}. Empty unless statistics are enabled, see
+	 *         {@link RedisCacheManager.RedisCacheManagerBuilder#enableStatistics()}.
+	 * @since 2.2
+	 */
+	public CacheStatistics getStatistics() {
+		return cacheWriter.getCacheStatistics(name);
+	}
+
+	/**
+	 * Get {@link RedisCacheConfiguration} used.
+	 *
+	 * @return immutable {@link RedisCacheConfiguration}. Never {@literal null}.
+	 */
+	public RedisCacheConfiguration getCacheConfiguration() {
+		return cacheConfig;
+	}
+
+	/**
+	 * Customization hook called before passing object to
+	 * {@link org.springframework.data.redis.serializer.RedisSerializer}.
+	 *
+	 * @param value can be {@literal null}.
+	 * @return preprocessed value. Can be {@literal null}.
+	 */
+	@Nullable
+	protected Object preProcessCacheValue(@Nullable Object value) {
+
+		if (value != null) {
+			return value;
+		}
+
+		return isAllowNullValues() ? NullValue.INSTANCE : null;
+	}
+
+	/**
+	 * Serialize the key.
+	 *
+	 * @param cacheKey must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	protected byte[] serializeCacheKey(String cacheKey) {
+		return ByteUtils.getBytes(cacheConfig.getKeySerializationPair().write(cacheKey));
+	}
+
+	/**
+	 * Serialize the value to cache.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	protected byte[] serializeCacheValue(Object value) {
+
+		if (isAllowNullValues() && value instanceof NullValue) {
+			return BINARY_NULL_VALUE;
+		}
+
+		return ByteUtils.getBytes(cacheConfig.getValueSerializationPair().write(value));
+	}
+
+	/**
+	 * Deserialize the given value to the actual cache value.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return can be {@literal null}.
+	 */
+	@Nullable
+	protected Object deserializeCacheValue(byte[] value) {
+
+		if (isAllowNullValues() && ObjectUtils.nullSafeEquals(value, BINARY_NULL_VALUE)) {
+			return NullValue.INSTANCE;
+		}
+
+		return cacheConfig.getValueSerializationPair().read(ByteBuffer.wrap(value));
+	}
+
+	/**
+	 * Customization hook for creating cache key before it gets serialized.
+	 *
+	 * @param key will never be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	protected String createCacheKey(Object key) {
+
+		String convertedKey = convertKey(key);
+
+		if (!cacheConfig.usePrefix()) {
+			return convertedKey;
+		}
+
+		return prefixCacheKey(convertedKey);
+	}
+
+	/**
+	 * Convert {@code key} to a {@link String} representation used for cache key creation.
+	 *
+	 * @param key will never be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws IllegalStateException if {@code key} cannot be converted to {@link String}.
+	 */
+	protected String convertKey(Object key) {
+
+		TypeDescriptor source = TypeDescriptor.forObject(key);
+		if (conversionService.canConvert(source, TypeDescriptor.valueOf(String.class))) {
+			return conversionService.convert(key, String.class);
+		}
+
+		Method toString = ReflectionUtils.findMethod(key.getClass(), "toString");
+
+		if (toString != null && !Object.class.equals(toString.getDeclaringClass())) {
+			return key.toString();
+		}
+
+		throw new IllegalStateException(
+				String.format("Cannot convert %s to String. Register a Converter or override toString().", source));
+	}
+
+	private byte[] createAndConvertCacheKey(Object key) {
+
+		if (keyEncoder != null) {
+
+			byte[] binaryKey = keyEncoder.encode(getBinaryKeyPrefix(), key);
+
+			if (binaryKey != null) {
+				return binaryKey;
+			}
+		}
+
+		return serializeCacheKey(createCacheKey(key));
+	}
+
+	/**
+	 * Serialize {@code cacheKey} if present, otherwise create the binary key for {@code key} directly.
+	 */
+	private byte[] createAndConvertCacheKey(Object key, @Nullable String cacheKey) {
+		return cacheKey != null ? serializeCacheKey(cacheKey) : createAndConvertCacheKey(key);
+	}
+
+	/**
+	 * @return the {@link String} cache key if a near cache is used, {@literal null} otherwise.
+	 */
+	@Nullable
+	private String createNearCacheKey(Object key) {
+		return nearCache != null ? createCacheKey(key) : null;
+	}
+
+	private byte[] getBinaryKeyPrefix() {
+
+		String prefix = !cacheConfig.usePrefix() ? ""
+				: useGenerationalKeys() ? cacheConfig.getKeyPrefixFor(name, getGeneration())
+						: cacheConfig.getKeyPrefixFor(name);
+		BinaryKeyPrefix binaryKeyPrefix = this.binaryKeyPrefix;
+
+		// the prefix rarely changes so keep its binary representation until it does.
+		if (binaryKeyPrefix == null || !binaryKeyPrefix.prefix.equals(prefix)) {
+
+			binaryKeyPrefix = new BinaryKeyPrefix(prefix);
+			this.binaryKeyPrefix = binaryKeyPrefix;
+		}
+
+		return binaryKeyPrefix.bytes;
+	}
+
+	/**
+	 * @return {@literal true} if this class does not customize cache key creation so that keys can be encoded through
+	 *         {@link CacheKeyEncoder}.
+	 */
+	private boolean usesDefaultKeyCreation() {
+
+		return isDeclaredByRedisCache("createCacheKey", Object.class) && isDeclaredByRedisCache("convertKey", Object.class)
+				&& isDeclaredByRedisCache("serializeCacheKey", String.class);
+	}
+
+	private boolean isDeclaredByRedisCache(String methodName, Class<?> parameterType) {
+
+		Method method = ReflectionUtils.findMethod(getClass(), methodName, parameterType);
+		return method != null && RedisCache.class.equals(method.getDeclaringClass());
+	}
+
+	/**
+	 * Reject configurations requiring {@link RedisCacheWriterFeature features} that {@code cacheWriter} does not support
+	 * instead of failing on first use.
+	 */
+	private static void assertSupportedBy(RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfig) {
+
+		if (cacheConfig.usePrefix() && cacheConfig.useGenerationalKeys()) {
+			assertSupported(cacheWriter, "generational keys", RedisCacheWriterFeature.COUNTERS);
+		}
+
+		if (cacheConfig.useSizeBound()) {
+			assertSupported(cacheWriter, "size bounds", RedisCacheWriterFeature.SIZE_BOUNDS);
+		}
+
+		if (cacheConfig.useSlidingExpiration()) {
+			assertSupported(cacheWriter, "sliding expiration", RedisCacheWriterFeature.SLIDING_EXPIRATION);
+		}
+	}
+
+	private static void assertSupported(RedisCacheWriter cacheWriter, String description,
+			RedisCacheWriterFeature feature) {
+
+		Assert.isTrue(cacheWriter.supports(feature),
+				() -> String.format(
+						"%s does not support %s! Implement the operations of RedisCacheWriterFeature.%s and RedisCacheWriter#supports.",
+						cacheWriter.getClass().getName(), description, feature));
+	}
+
+	private static boolean isPositive(Duration duration) {
+		return !duration.isZero() && !duration.isNegative();
+	}
+
+	private String prefixCacheKey(String key) {
+
+		// allow contextual cache names by computing the key prefix on every call.
+		if (useGenerationalKeys()) {
+			return cacheConfig.getKeyPrefixFor(name, getGeneration()) + key;
+		}
+
+		return cacheConfig.getKeyPrefixFor(name) + key;
+	}
+
+	private boolean useGenerationalKeys() {
+		return cacheConfig.usePrefix() && cacheConfig.useGenerationalKeys();
+	}
+
+	/**
+	 * Obtain the current cache generation. The generation is read from Redis on first access and whenever the configured
+	 * refresh interval has elapsed.
+	 */
+	private long getGeneration() {
+
+		Duration refreshInterval = cacheConfig.getGenerationRefreshInterval();
+
+		if (!generationInitialized || refreshInterval == null
+				|| System.nanoTime() - generationRefreshedAt >= refreshInterval.toNanos()) {
+
+			updateGeneration(cacheWriter.getCounter(name, getGenerationKey()));
+		}
+
+		return generation;
+	}
+
+	private void updateGeneration(long generation) {
+
+		this.generation = generation;
+		this.generationRefreshedAt = System.nanoTime();
+		this.generationInitialized = true;
+	}
+
+	private byte[] getGenerationKey() {
+		return (name + GENERATION_KEY_SUFFIX).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Deserialize a value read from Redis considering the expiration time stored along with it.
+	 *
+	 * @return {@literal null} if the value is expired.
+	 */
+	@Nullable
+	private Object readCacheValue(byte[] value) {
+
+		if (!cacheConfig.useRefreshAhead()) {
+			return deserializeCacheValue(value);
+		}
+
+		ExpiringCacheValue entry = ExpiringCacheValue.unwrap(value);
+		return entry.isExpired(System.currentTimeMillis()) ? null : deserializeCacheValue(entry.getValue());
+	}
+
+	/**
+	 * Serialize a value to be written to Redis along with its computation and expiration time if required.
+	 */
+	private byte[] writeCacheValue(Object cacheValue, long computeMillis) {
+
+		byte[] value = serializeCacheValue(cacheValue);
+
+		if (!cacheConfig.useRefreshAhead()) {
+			return value;
+		}
+
+		return ExpiringCacheValue.wrap(value, computeMillis,
+				System.currentTimeMillis() + cacheConfig.getTtl().toMillis());
+	}
+
+	/**
+	 * Record writes not performed through
+	 * {@link RedisCacheWriter#putBounded(String, byte[], byte[], Duration, byte[], long)} if the number of entries is
+	 * bounded.
+	 */
+	private void indexBounded(List<byte[]> binaryKeys) {
+
+		if (cacheConfig.useSizeBound()) {
+			cacheWriter.indexBounded(name, binaryKeys, getStorageTtl(), getIndexKey(), cacheConfig.getMaxEntries());
+		}
+	}
+
+	private byte[] getIndexKey() {
+		return createCacheScopedKey(INDEX_KEY_SUFFIX);
+	}
+
+	/**
+	 * Create the key of a data structure maintained for the whole cache, such as the size bound index. The key starts
+	 * with the {@link RedisCacheConfiguration#getKeyPrefixFor(String) key prefix} of the cache, excluding the generation,
+	 * so that it shares the namespace of the cache entries. Falls back to the cache name if prefixes are disabled.
+	 */
+	private byte[] createCacheScopedKey(String suffix) {
+		return serializeCacheKey((cacheConfig.usePrefix() ? cacheConfig.getKeyPrefixFor(name) : name) + suffix);
+	}
+
+	/**
+	 * Read the value for {@code binaryKey} from Redis, restarting its expiration if sliding expiration is enabled.
+	 */
+	@Nullable
+	private byte[] getFromRedis(byte[] binaryKey) {
+
+		if (!cacheConfig.useSlidingExpiration()) {
+			return cacheWriter.get(name, binaryKey);
+		}
+
+		if (touchBuffer == null) {
+			return cacheWriter.getAndExpire(name, binaryKey, cacheConfig.getTtl());
+		}
+
+		byte[] value = cacheWriter.get(name, binaryKey);
+
+		if (value != null) {
+			touch(Collections.singletonList(binaryKey));
+		}
+
+		return value;
+	}
+
+	/**
+	 * Restart the expiration of keys that have been read if sliding expiration is enabled. Keys are collected and expired
+	 * in background batches if a touch interval is configured, otherwise they are expired right away.
+	 */
+	private void touch(List<byte[]> binaryKeys) {
+
+		if (!cacheConfig.useSlidingExpiration() || binaryKeys.isEmpty()) {
+			return;
+		}
+
+		if (touchBuffer == null) {
+			cacheWriter.expire(name, binaryKeys, cacheConfig.getTtl());
+			return;
+		}
+
+		List<byte[]> due = touchBuffer.add(binaryKeys, System.nanoTime());
+
+		if (due != null) {
+			expireInBackground(due);
+		} else if (touchBuffer.requestFlush()) {
+			scheduleTouchBufferFlush(touchBuffer);
+		}
+	}
+
+	/**
+	 * Expire the keys collected in {@code touchBuffer} once the touch interval has elapsed even if no further reads drain
+	 * them.
+	 */
+	private void scheduleTouchBufferFlush(TouchBuffer touchBuffer) {
+
+		Assert.state(touchScheduler != null, "Coalesced expiration updates require a scheduler!");
+
+		try {
+			touchScheduler.schedule(() -> expireInBackground(touchBuffer.flush(System.nanoTime())),
+					touchBuffer.getInterval().toNanos(), TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException e) {
+			expireInBackground(touchBuffer.flush(System.nanoTime()));
+		}
+	}
+
+	/**
+	 * Variant of {@link #touch(List)} that does not block the caller.
+	 */
+	private void touchInBackground(List<byte[]> binaryKeys) {
+
+		if (!cacheConfig.useSlidingExpiration()) {
+			return;
+		}
+
+		if (touchBuffer != null) {
+			touch(binaryKeys);
+		} else {
+			expireInBackground(binaryKeys);
+		}
+	}
+
+	private void expireInBackground(List<byte[]> binaryKeys) {
+
+		if (!binaryKeys.isEmpty()) {
+			runInBackground(() -> expire(binaryKeys), String.format("restart expiration of %d entries", binaryKeys.size()));
+		}
+	}
+
+	private void expire(List<byte[]> binaryKeys) {
+
+		for (int from = 0; from < binaryKeys.size(); from += TOUCH_BATCH_SIZE) {
+			cacheWriter.expire(name, binaryKeys.subList(from, Math.min(binaryKeys.size(), from + TOUCH_BATCH_SIZE)),
+					cacheConfig.getTtl());
+		}
+	}
+
+	/**
+	 * Run {@code task} on the background {@link Executor} logging failures. Tasks rejected by a saturated
+	 * {@link Executor} are dropped.
+	 *
+	 * @param task must not be {@literal null}.
+	 * @param action description of the task used for logging.
+	 * @return {@literal true} if the task was accepted.
+	 */
+	private boolean runInBackground(Runnable task, String action) {
+
+		try {
+
+			backgroundExecutor.execute(() -> {
+
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+
+					if (logger.isWarnEnabled()) {
+						logger.warn(String.format("Failed to %s of cache %s", action, name), e);
+					}
+				}
+			});
+
+			return true;
+		} catch (RejectedExecutionException e) {
+
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Skipped to %s of cache %s as the background executor is saturated", action, name));
+			}
+
+			return false;
+		}
+	}
+
+	/**
+	 * @return the TTL of entries in Redis retaining expired entries to serve them while being refreshed.
+	 */
+	private Duration getStorageTtl() {
+
+		if (!cacheConfig.useRefreshAhead()) {
+			return cacheConfig.getTtl();
+		}
+
+		return cacheConfig.getTtl().plus(cacheConfig.getStaleWhileRevalidate());
+	}
+
+	private void updateNearCache(@Nullable String cacheKey, Object cacheValue) {
+
+		if (nearCache == null || cacheKey == null) {
+			return;
+		}
+
+		nearCache.put(cacheKey, cacheValue);
+
+		if (nearCacheInvalidator != null) {
+			nearCacheInvalidator.publishEvict(name, cacheKey);
+		}
+	}
+
+	/**
+	 * Variant of {@link #updateNearCache(String, Object)} publishing a single invalidation for all entries.
+	 */
+	private void updateNearCache(Map<String, Object> cacheEntries) {
+
+		if (nearCache == null) {
+			return;
+		}
+
+		cacheEntries.forEach(nearCache::put);
+
+		if (nearCacheInvalidator != null) {
+			nearCacheInvalidator.publishEvictAll(name, cacheEntries.keySet());
+		}
+	}
+
+	/**
+	 * Variant of {@link #updateNearCache(String, Object)} publishing the invalidation in the background.
+	 */
+	private void updateNearCacheInBackground(String cacheKey, Object cacheValue) {
+
+		if (nearCache == null) {
+			return;
+		}
+
+		nearCache.put(cacheKey, cacheValue);
+
+		NearCacheInvalidator nearCacheInvalidator = this.nearCacheInvalidator;
+
+		if (nearCacheInvalidator != null) {
+			runInBackground(() -> nearCacheInvalidator.publishEvict(name, cacheKey), "publish invalidation of " + cacheKey);
+		}
+	}
+
+	private void evictNearCache(@Nullable String cacheKey) {
+
+		if (nearCache == null || cacheKey == null) {
+			return;
+		}
+
+		nearCache.evict(cacheKey);
+
+		if (nearCacheInvalidator != null) {
+			nearCacheInvalidator.publishEvict(name, cacheKey);
+		}
+	}
+
+	/**
+	 * Variant of {@link #evictNearCache(String)} publishing a single invalidation for all keys.
+	 */
+	private void evictNearCache(Collection<String> cacheKeys) {
+
+		if (nearCache == null) {
+			return;
+		}
+
+		cacheKeys.forEach(nearCache::evict);
+
+		if (nearCacheInvalidator != null) {
+			nearCacheInvalidator.publishEvictAll(name, cacheKeys);
+		}
+	}
+
+	private void clearNearCache() {
+
+		if (nearCache == null) {
+			return;
+		}
+
+		nearCache.clear();
+
+		if (nearCacheInvalidator != null) {
+			nearCacheInvalidator.publishClear(name);
+		}
+	}
+
+	private List<byte[]> getTagKeys(Collection<String> tags) {
+
+		List<byte[]> tagKeys = new ArrayList<>(tags.size());
+
+		for (String tag : tags) {
+			tagKeys.add(createCacheScopedKey(TAG_KEY_INFIX + tag));
+		}
+
+		return tagKeys;
+	}
+
+	private void countRemoteLookup(boolean hit) {
+
+		if (nearCache != null) {
+			(hit ? remoteHits : remoteMisses).increment();
+		}
+	}
+
+	private IllegalArgumentException nullValuesNotAllowed() {
+
+		return new IllegalArgumentException(String.format(
+				"Cache '%s' does not allow 'null' values. Avoid storing null via '@Cacheable(unless=\"#result == null\")' or configure RedisCache to allow 'null' via RedisCacheConfiguration.",
+				name));
+	}
+
+	private static <T> T valueFromLoader(Object key, Callable<T> valueLoader) {
+
+		try {
+			return valueLoader.call();
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+	}
+
+	/**
+	 * Key prefix along with its binary representation.
+	 */
+	private static class BinaryKeyPrefix {
+
+		final String prefix;
+		final byte[] bytes;
+
+		BinaryKeyPrefix(String prefix) {
+
+			this.prefix = prefix;
+			this.bytes = prefix.getBytes(StandardCharsets.UTF_8);
 		}
 	}
 }
@@ -51,10 +51,23 @@ public class RedisCacheConfiguration {
 
 	private final ConversionService conversionService;
 
+	private final boolean singleFlightLoading;
+	private final Duration loadLeaseTtl;
+	private final @Nullable Duration generationRefreshInterval;
+	private final int nearCacheMaxSize;
+	private final Duration nearCacheTtl;
+	private final double earlyRefreshBeta;
+	private final Duration staleWhileRevalidate;
+	private final @Nullable Duration slidingExpiration;
+	private final long maxEntries;
+
 	@SuppressWarnings("unchecked")
 	private RedisCacheConfiguration(Duration ttl, Boolean cacheNullValues, Boolean usePrefix, CacheKeyPrefix keyPrefix,
 			SerializationPair<String> keySerializationPair, SerializationPair<?> valueSerializationPair,
-			ConversionService conversionService) {
+			ConversionService conversionService, boolean singleFlightLoading, Duration loadLeaseTtl,
+			@Nullable Duration generationRefreshInterval, int nearCacheMaxSize, Duration nearCacheTtl,
+			double earlyRefreshBeta, Duration staleWhileRevalidate, @Nullable Duration slidingExpiration,
+			long maxEntries) {
 
 		this.ttl = ttl;
 		this.cacheNullValues = cacheNullValues;
@@ -63,6 +76,15 @@ public class RedisCacheConfiguration {
 		this.keySerializationPair = keySerializationPair;
 		this.valueSerializationPair = (SerializationPair<Object>) valueSerializationPair;
 		this.conversionService = conversionService;
+		this.singleFlightLoading = singleFlightLoading;
+		this.loadLeaseTtl = loadLeaseTtl;
+		this.generationRefreshInterval = generationRefreshInterval;
+		this.nearCacheMaxSize = nearCacheMaxSize;
+		this.nearCacheTtl = nearCacheTtl;
+		this.earlyRefreshBeta = earlyRefreshBeta;
+		this.staleWhileRevalidate = staleWhileRevalidate;
+		this.slidingExpiration = slidingExpiration;
+		this.maxEntries = maxEntries;
 	}
 
 	/**
@@ -124,7 +146,8 @@ public class RedisCacheConfiguration {
 
 		return new RedisCacheConfiguration(Duration.ZERO, true, true, CacheKeyPrefix.simple(),
 				SerializationPair.fromSerializer(RedisSerializer.string()),
-				SerializationPair.fromSerializer(RedisSerializer.java(classLoader)), conversionService);
+				SerializationPair.fromSerializer(RedisSerializer.java(classLoader)), conversionService, false,
+				Duration.ZERO, null, 0, Duration.ZERO, 0, Duration.ZERO, null, 0);
 	}
 
 	/**
@@ -138,7 +161,8 @@ public class RedisCacheConfiguration {
 		Assert.notNull(ttl, "TTL duration must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
 	}
 
 	/**
@@ -167,7 +191,8 @@ public class RedisCacheConfiguration {
 		Assert.notNull(cacheKeyPrefix, "Function for computing prefix must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, true, cacheKeyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
 	}
 
 	/**
@@ -179,8 +204,9 @@ public class RedisCacheConfiguration {
 	 * @return new {@link RedisCacheConfiguration}.
 	 */
 	public RedisCacheConfiguration disableCachingNullValues() {
-		return new RedisCacheConfiguration(ttl, false, usePrefix, keyPrefix, keySerializationPair, valueSerializationPair,
-				conversionService);
+		return new RedisCacheConfiguration(ttl, false, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
 	}
 
 	/**
@@ -193,7 +219,8 @@ public class RedisCacheConfiguration {
 	public RedisCacheConfiguration disableKeyPrefix() {
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, false, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
 	}
 
 	/**
@@ -207,7 +234,8 @@ public class RedisCacheConfiguration {
 		Assert.notNull(conversionService, "ConversionService must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
 	}
 
 	/**
@@ -221,7 +249,8 @@ public class RedisCacheConfiguration {
 		Assert.notNull(keySerializationPair, "KeySerializationPair must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
 	}
 
 	/**
@@ -235,7 +264,219 @@ public class RedisCacheConfiguration {
 		Assert.notNull(valueSerializationPair, "ValueSerializationPair must not be null!");
 
 		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
-				valueSerializationPair, conversionService);
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
+	}
+
+	/**
+	 * Enable single-flight loading for {@link org.springframework.cache.Cache#get(Object, java.util.concurrent.Callable)}.
+	 * Concurrent callers within the same JVM requesting the same key share a single invocation of the value loader while
+	 * different keys are loaded in parallel.
+	 *
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableSingleFlightLoading() {
+		return enableSingleFlightLoading(Duration.ZERO);
+	}
+
+	/**
+	 * Enable single-flight loading for {@link org.springframework.cache.Cache#get(Object, java.util.concurrent.Callable)}
+	 * guarded by a lease stored in Redis. Concurrent callers within the same JVM requesting the same key share a single
+	 * invocation of the value loader. Across processes, only the caller holding the lease ({@code SET NX PX}) invokes the
+	 * value loader while others wait for the value to appear or for the lease to expire. <br />
+	 * The lease expires after {@code leaseTtl} so that a crashed loader cannot block others. Use {@link Duration#ZERO} to
+	 * disable the lease.
+	 *
+	 * @param leaseTtl must not be {@literal null} or negative.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableSingleFlightLoading(Duration leaseTtl) {
+
+		Assert.notNull(leaseTtl, "Lease TTL must not be null!");
+		Assert.isTrue(!leaseTtl.isNegative(), "Lease TTL must not be negative!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, true, leaseTtl, generationRefreshInterval, nearCacheMaxSize,
+				nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
+	}
+
+	/**
+	 * Enable generational cache keys. A per-cache generation number stored in Redis becomes part of the
+	 * {@link CacheKeyPrefix key prefix} so that {@link Cache#clear()} only increments the generation instead of removing
+	 * each entry. Entries of previous generations are no longer visible and are removed once they expire. <br />
+	 * The generation is cached locally and refreshed from Redis after {@code refreshInterval}. Other processes therefore
+	 * observe a {@link Cache#clear()} with a delay of at most {@code refreshInterval}. <br />
+	 * <strong>NOTE</strong>: Generational keys require {@link #usePrefix() key prefixes} and a
+	 * {@link #entryTtl(Duration) TTL} so that entries of previous generations do not remain in Redis forever.
+	 * {@link RedisCache} rejects generational keys without a TTL.
+	 *
+	 * @param refreshInterval must not be {@literal null} or negative.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableGenerationalKeys(Duration refreshInterval) {
+
+		Assert.notNull(refreshInterval, "Refresh interval must not be null!");
+		Assert.isTrue(!refreshInterval.isNegative(), "Refresh interval must not be negative!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, refreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
+	}
+
+	/**
+	 * Enable an in-process near cache holding up to {@code maxSize} recently used values in front of Redis. Values are
+	 * evicted from the near cache once {@code expireAfter} has elapsed. {@link Cache#put(Object, Object) Writes},
+	 * {@link Cache#evict(Object) evictions} and {@link Cache#clear() clearing} invalidate the near cache of other
+	 * processes if the {@link RedisCacheManager} is configured with
+	 * {@link RedisCacheManager.RedisCacheManagerBuilder#nearCacheInvalidation(org.springframework.data.redis.listener.RedisMessageListenerContainer) near cache
+	 * invalidation}. Otherwise other processes keep serving their local copy until it expires. <br />
+	 * <strong>NOTE</strong>: The near cache returns the same value instance to all callers. Cached values should be
+	 * immutable.
+	 *
+	 * @param maxSize maximum number of values held by the near cache. Must be greater than zero.
+	 * @param expireAfter time after which a value is evicted from the near cache. Must not be {@literal null} or
+	 *          negative. Use {@link Duration#ZERO} to retain values until they are evicted due to size or invalidation.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableNearCache(int maxSize, Duration expireAfter) {
+
+		Assert.isTrue(maxSize > 0, "Near cache size must be greater than zero!");
+		Assert.notNull(expireAfter, "Near cache TTL must not be null!");
+		Assert.isTrue(!expireAfter.isNegative(), "Near cache TTL must not be negative!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				maxSize, expireAfter, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
+	}
+
+	/**
+	 * Enable probabilistic early refresh of expiring entries loaded through
+	 * {@link Cache#get(Object, java.util.concurrent.Callable)} using a {@code beta} of {@literal 1.0}.
+	 *
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 * @see #enableEarlyRefresh(double)
+	 */
+	public RedisCacheConfiguration enableEarlyRefresh() {
+		return enableEarlyRefresh(1.0);
+	}
+
+	/**
+	 * Enable probabilistic early refresh of expiring entries loaded through
+	 * {@link Cache#get(Object, java.util.concurrent.Callable)}. The time it took to load a value is stored along with the
+	 * value. As the entry approaches its {@link #entryTtl(Duration) expiration}, readers trigger a background refresh with
+	 * a probability rising towards the expiration time so that usually a single reader refreshes a hot entry before it
+	 * expires. <br />
+	 * <strong>NOTE</strong>: Requires a {@link #entryTtl(Duration) TTL}. Values are stored with a small header that
+	 * readers not using this configuration cannot interpret.
+	 *
+	 * @param beta values greater than {@literal 1.0} favor earlier refreshes, values smaller than {@literal 1.0} favor
+	 *          later refreshes. Must be greater than zero.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableEarlyRefresh(double beta) {
+
+		Assert.isTrue(beta > 0, "Beta must be greater than zero!");
+		Assert.state(slidingExpiration == null, "Early refresh cannot be combined with sliding expiration!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, beta, staleWhileRevalidate, slidingExpiration, maxEntries);
+	}
+
+	/**
+	 * Retain entries for {@code maxStaleness} beyond their {@link #entryTtl(Duration) TTL}. Expired entries read through
+	 * {@link Cache#get(Object, java.util.concurrent.Callable)} are served while a single caller refreshes them in the
+	 * background. Other reads treat expired entries as absent. <br />
+	 * <strong>NOTE</strong>: Requires a {@link #entryTtl(Duration) TTL}. Values are stored with a small header that
+	 * readers not using this configuration cannot interpret.
+	 *
+	 * @param maxStaleness must not be {@literal null}, zero or negative.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableStaleWhileRevalidate(Duration maxStaleness) {
+
+		Assert.notNull(maxStaleness, "Max staleness must not be null!");
+		Assert.isTrue(!maxStaleness.isZero() && !maxStaleness.isNegative(), "Max staleness must be greater than zero!");
+		Assert.state(slidingExpiration == null, "Stale-while-revalidate cannot be combined with sliding expiration!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, maxStaleness, slidingExpiration, maxEntries);
+	}
+
+	/**
+	 * Restart the {@link #entryTtl(Duration) TTL} of an entry whenever it is read from Redis. Each read resets the
+	 * expiration within the same round trip by pipelining {@code GET} and {@code PEXPIRE}.
+	 * {@link RedisCache#getAll(java.util.Collection) Bulk reads} reset the expiration of all entries found using one
+	 * additional pipelined round trip. <br />
+	 * <strong>NOTE</strong>: Requires a {@link #entryTtl(Duration) TTL}. Reads served by a
+	 * {@link #enableNearCache(int, Duration) near cache} do not reset the expiration. Cannot be combined with
+	 * {@link #enableEarlyRefresh(double) early refresh} or {@link #enableStaleWhileRevalidate(Duration)
+	 * stale-while-revalidate}.
+	 *
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 * @see #enableSlidingExpiration(Duration)
+	 */
+	public RedisCacheConfiguration enableSlidingExpiration() {
+		return enableSlidingExpiration(Duration.ZERO);
+	}
+
+	/**
+	 * Restart the {@link #entryTtl(Duration) TTL} of an entry whenever it is read. Reads issue a plain {@code GET} and
+	 * collect the keys read, including reads served by a {@link #enableNearCache(int, Duration) near cache}. The
+	 * collected keys are expired in the background in pipelined batches once {@code touchInterval} has elapsed so that
+	 * each key is expired at most once per interval. Keys not followed by further reads are expired by a scheduled flush
+	 * and a large number of collected keys is expired right away. Entries therefore expire up to {@code touchInterval}
+	 * earlier than their last read plus the TTL. <br />
+	 * <strong>NOTE</strong>: Requires a {@link #entryTtl(Duration) TTL} considerably longer than {@code touchInterval}.
+	 * Cannot be combined with {@link #enableEarlyRefresh(double) early refresh} or
+	 * {@link #enableStaleWhileRevalidate(Duration) stale-while-revalidate}.
+	 *
+	 * @param touchInterval must not be {@literal null} or negative. Use {@link Duration#ZERO} to reset the expiration on
+	 *          each read within the same round trip.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration enableSlidingExpiration(Duration touchInterval) {
+
+		Assert.notNull(touchInterval, "Touch interval must not be null!");
+		Assert.isTrue(!touchInterval.isNegative(), "Touch interval must not be negative!");
+		Assert.state(earlyRefreshBeta <= 0 && staleWhileRevalidate.isZero(),
+				"Sliding expiration cannot be combined with early refresh or stale-while-revalidate!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, touchInterval, maxEntries);
+	}
+
+	/**
+	 * Bound the number of entries of the cache. Each write records the key along with the write time in a sorted set
+	 * named after the cache (for example {@code myCache~lru}). Once the set holds more than {@code maxEntries} keys, the
+	 * least recently written entries are evicted in batches by a Lua script, so the bound holds across all processes
+	 * sharing the cache. <br />
+	 * <strong>NOTE</strong>: The bound is approximate. Entries removed by {@link Cache#evict(Object)} or
+	 * {@link Cache#clear()} remain in the index until they are evicted or, with a {@link #entryTtl(Duration) TTL}, expire.
+	 * Reads do not change the eviction order.
+	 *
+	 * @param maxEntries must be greater than zero.
+	 * @return new {@link RedisCacheConfiguration}.
+	 * @since 2.2
+	 */
+	public RedisCacheConfiguration maxEntries(long maxEntries) {
+
+		Assert.isTrue(maxEntries > 0, "Max entries must be greater than zero!");
+
+		return new RedisCacheConfiguration(ttl, cacheNullValues, usePrefix, keyPrefix, keySerializationPair,
+				valueSerializationPair, conversionService, singleFlightLoading, loadLeaseTtl, generationRefreshInterval,
+				nearCacheMaxSize, nearCacheTtl, earlyRefreshBeta, staleWhileRevalidate, slidingExpiration, maxEntries);
 	}
 
 	/**
@@ -260,6 +501,20 @@ public class RedisCacheConfiguration {
 		return keyPrefix.compute(cacheName);
 	}
 
+	/**
+	 * Get the computed {@literal key} prefix for a given {@literal cacheName} and cache {@literal generation}.
+	 *
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 * @see CacheKeyPrefix#compute(String, long)
+	 */
+	public String getKeyPrefixFor(String cacheName, long generation) {
+
+		Assert.notNull(cacheName, "Cache name must not be null!");
+
+		return keyPrefix.compute(cacheName, generation);
+	}
+
 	/**
 	 * @return {@literal true} if cache keys need to be prefixed with the {@link #getKeyPrefixFor(String)} if present or
 	 *         the default which resolves to {@link Cache#getName()}.
@@ -303,6 +558,133 @@ public class RedisCacheConfiguration {
 		return conversionService;
 	}
 
+	/**
+	 * @return {@literal true} if concurrent loads of the same key are collapsed into a single value loader invocation.
+	 * @since 2.2
+	 */
+	public boolean isSingleFlightLoading() {
+		return singleFlightLoading;
+	}
+
+	/**
+	 * @return the lease duration guarding value loading across processes. {@link Duration#ZERO} if no lease is used.
+	 *         Never {@literal null}.
+	 * @since 2.2
+	 */
+	public Duration getLoadLeaseTtl() {
+		return loadLeaseTtl;
+	}
+
+	/**
+	 * @return {@literal true} if a cache generation is part of the {@literal key} prefix.
+	 * @since 2.2
+	 * @see #enableGenerationalKeys(Duration)
+	 */
+	public boolean useGenerationalKeys() {
+		return generationRefreshInterval != null;
+	}
+
+	/**
+	 * @return the interval after which the locally cached generation is refreshed from Redis. {@literal null} if
+	 *         generational keys are not used.
+	 * @since 2.2
+	 */
+	@Nullable
+	public Duration getGenerationRefreshInterval() {
+		return generationRefreshInterval;
+	}
+
+	/**
+	 * @return {@literal true} if an in-process near cache is used in front of Redis.
+	 * @since 2.2
+	 * @see #enableNearCache(int, Duration)
+	 */
+	public boolean useNearCache() {
+		return nearCacheMaxSize > 0;
+	}
+
+	/**
+	 * @return the maximum number of values held by the near cache. {@literal 0} if no near cache is used.
+	 * @since 2.2
+	 */
+	public int getNearCacheMaxSize() {
+		return nearCacheMaxSize;
+	}
+
+	/**
+	 * @return the time after which a value is evicted from the near cache. Never {@literal null}.
+	 * @since 2.2
+	 */
+	public Duration getNearCacheTtl() {
+		return nearCacheTtl;
+	}
+
+	/**
+	 * @return the {@code beta} used for probabilistic early refresh. {@literal 0} if early refresh is disabled.
+	 * @since 2.2
+	 * @see #enableEarlyRefresh(double)
+	 */
+	public double getEarlyRefreshBeta() {
+		return earlyRefreshBeta;
+	}
+
+	/**
+	 * @return the time expired entries are retained and served while being refreshed. {@link Duration#ZERO} if
+	 *         stale-while-revalidate is disabled.
+	 * @since 2.2
+	 * @see #enableStaleWhileRevalidate(Duration)
+	 */
+	public Duration getStaleWhileRevalidate() {
+		return staleWhileRevalidate;
+	}
+
+	/**
+	 * @return {@literal true} if entries carry their computation and expiration time to be refreshed ahead of or after
+	 *         their expiration.
+	 * @since 2.2
+	 */
+	public boolean useRefreshAhead() {
+		return !ttl.isZero() && !ttl.isNegative() && (earlyRefreshBeta > 0 || !staleWhileRevalidate.isZero());
+	}
+
+	/**
+	 * @return {@literal true} if entries have a {@link #entryTtl(Duration) TTL} that is restarted on reads.
+	 * @since 2.2
+	 * @see #enableSlidingExpiration(Duration)
+	 */
+	public boolean useSlidingExpiration() {
+		return slidingExpiration != null && !ttl.isZero() && !ttl.isNegative();
+	}
+
+	/**
+	 * @return the interval in which keys read are expired in batches. {@link Duration#ZERO} if the expiration is reset on
+	 *         each read, {@literal null} if sliding expiration is disabled.
+	 * @since 2.2
+	 * @see #enableSlidingExpiration(Duration)
+	 */
+	@Nullable
+	public Duration getSlidingExpirationTouchInterval() {
+		return slidingExpiration;
+	}
+
+	/**
+	 * @return the maximum number of entries. {@literal 0} if the number of entries is not bounded.
+	 * @since 2.2
+	 * @see #maxEntries(long)
+	 */
+	public long getMaxEntries() {
+		return maxEntries;
+	}
+
+	/**
+	 * @return {@literal true} if the number of entries is bounded.
+	 * @since 2.2
+	 * @see #maxEntries(long)
+	 */
+	public boolean useSizeBound() {
+		return maxEntries > 0;
+	}
+
 	/**
 	 * Registers default cache key converters. The following converters get registered:
 	 * <ul>
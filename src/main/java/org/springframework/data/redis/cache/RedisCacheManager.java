@@ -15,6 +15,7 @@
  */
 package org.springframework.data.redis.cache;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -24,11 +25,26 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
 import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link org.springframework.cache.CacheManager} backed by a {@link RedisCache Redis} cache.
@@ -45,12 +61,31 @@ import org.springframework.util.Assert;
  * @see RedisCacheConfiguration
  * @see RedisCacheWriter
  */
-public class RedisCacheManager extends AbstractTransactionSupportingCacheManager {
+public class RedisCacheManager extends AbstractTransactionSupportingCacheManager implements DisposableBean {
+
+	/**
+	 * Default channel used to publish near cache invalidations.
+	 *
+	 * @since 2.2
+	 * @see RedisCacheManagerBuilder#nearCacheInvalidation(RedisMessageListenerContainer)
+	 */
+	public static final String DEFAULT_NEAR_CACHE_INVALIDATION_CHANNEL = "__spring-data-redis:cache:invalidate";
+
+	private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Mono",
+			RedisCacheManager.class.getClassLoader());
+	private static final int BACKGROUND_QUEUE_CAPACITY = 10_000;
 
 	private final RedisCacheWriter cacheWriter;
 	private final RedisCacheConfiguration defaultCacheConfig;
 	private final Map<String, RedisCacheConfiguration> initialCacheConfiguration;
 	private final boolean allowInFlightCacheCreation;
+	private @Nullable NearCacheInvalidator nearCacheInvalidator;
+	private @Nullable AsyncRedisCacheWriter asyncCacheWriter;
+	private @Nullable Executor backgroundExecutor;
+	private final ExecutorService defaultBackgroundExecutor = createDefaultBackgroundExecutor();
+	private final ScheduledExecutorService touchScheduler = createTouchScheduler();
+	private @Nullable CacheWarmUp warmUp;
+	private volatile CompletableFuture<Void> warmedUp = CompletableFuture.completedFuture(null);
 
 	/**
 	 * Creates new {@link RedisCacheManager} using given {@link RedisCacheWriter} and default
@@ -216,6 +251,50 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 		return RedisCacheManagerBuilder.fromCacheWriter(cacheWriter);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.cache.support.AbstractCacheManager#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		super.afterPropertiesSet();
+
+		CacheWarmUp warmUp = this.warmUp;
+
+		if (warmUp != null) {
+
+			warmedUp = warmUp.warmUp(this::lookupRedisCache);
+			warmedUp.whenComplete((it, e) -> warmUp.scheduleSnapshots(this::getRedisCaches));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		if (warmUp != null) {
+			warmUp.shutdown(getRedisCaches());
+		}
+
+		touchScheduler.shutdown();
+		defaultBackgroundExecutor.shutdown();
+	}
+
+	/**
+	 * Obtain a {@link CompletableFuture} completing once the {@link RedisCacheManagerBuilder#warmUp(CacheWarmUpConfiguration)
+	 * warm-up} started by {@link #afterPropertiesSet()} has fetched all keys recorded in the snapshot.
+	 *
+	 * @return never {@literal null}. Completed if no warm-up is configured.
+	 * @since 2.2
+	 */
+	public CompletableFuture<Void> whenWarmedUp() {
+		return warmedUp;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.cache.support.AbstractCacheManager#loadCaches()
@@ -257,6 +336,78 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 		return Collections.unmodifiableMap(configurationMap);
 	}
 
+	/**
+	 * Evict all entries linked to the given tag from all caches known to this {@link RedisCacheManager}. Eviction takes
+	 * place immediately, even for {@link #setTransactionAware(boolean) transaction-aware} cache managers.
+	 *
+	 * @param tag must not be {@literal null}.
+	 * @return the number of evicted entries.
+	 * @since 2.2
+	 * @see RedisCache#put(Object, Object, Collection)
+	 */
+	public long evictByTag(String tag) {
+
+		Assert.notNull(tag, "Tag must not be null!");
+
+		return evictByTags(Collections.singleton(tag));
+	}
+
+	/**
+	 * Evict all entries linked to any of the given tags from all caches known to this {@link RedisCacheManager}. Eviction
+	 * takes place immediately, even for {@link #setTransactionAware(boolean) transaction-aware} cache managers.
+	 *
+	 * @param tags must not be {@literal null}.
+	 * @return the number of evicted entries.
+	 * @since 2.2
+	 * @see RedisCache#put(Object, Object, Collection)
+	 */
+	public long evictByTags(Collection<String> tags) {
+
+		Assert.notNull(tags, "Tags must not be null!");
+
+		long evicted = 0;
+
+		for (RedisCache cache : getRedisCaches()) {
+			evicted += cache.evictByTags(tags);
+		}
+
+		return evicted;
+	}
+
+	private List<RedisCache> getRedisCaches() {
+
+		List<RedisCache> caches = new ArrayList<>();
+
+		for (String cacheName : getCacheNames()) {
+
+			RedisCache cache = unwrap(lookupCache(cacheName));
+
+			if (cache != null) {
+				caches.add(cache);
+			}
+		}
+
+		return caches;
+	}
+
+	/**
+	 * Look up the {@link RedisCache} with the given {@code name}, creating it if in-flight cache creation is allowed.
+	 */
+	@Nullable
+	private RedisCache lookupRedisCache(String name) {
+		return unwrap(getCache(name));
+	}
+
+	@Nullable
+	private static RedisCache unwrap(@Nullable Cache cache) {
+
+		if (cache instanceof TransactionAwareCacheDecorator) {
+			cache = ((TransactionAwareCacheDecorator) cache).getTargetCache();
+		}
+
+		return cache instanceof RedisCache ? (RedisCache) cache : null;
+	}
+
 	/**
 	 * Configuration hook for creating {@link RedisCache} with given name and {@code cacheConfig}.
 	 *
@@ -265,7 +416,43 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 	 * @return never {@literal null}.
 	 */
 	protected RedisCache createRedisCache(String name, @Nullable RedisCacheConfiguration cacheConfig) {
-		return new RedisCache(name, cacheWriter, cacheConfig != null ? cacheConfig : defaultCacheConfig);
+		return new RedisCache(name, cacheWriter, cacheConfig != null ? cacheConfig : defaultCacheConfig,
+				nearCacheInvalidator, asyncCacheWriter,
+				backgroundExecutor != null ? backgroundExecutor : defaultBackgroundExecutor, touchScheduler);
+	}
+
+	/**
+	 * Create the {@link ExecutorService} used by caches if no {@link RedisCacheManagerBuilder#backgroundExecutor(Executor)
+	 * background executor} is configured. Runs up to the number of available processors daemon threads that terminate
+	 * when idle and rejects tasks once {@link #BACKGROUND_QUEUE_CAPACITY} tasks are waiting.
+	 */
+	private static ExecutorService createDefaultBackgroundExecutor() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-cache-background-");
+		threadFactory.setDaemon(true);
+
+		int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(BACKGROUND_QUEUE_CAPACITY), threadFactory);
+		executor.allowCoreThreadTimeOut(true);
+
+		return executor;
+	}
+
+	/**
+	 * Create the {@link ScheduledExecutorService} flushing
+	 * {@link RedisCacheConfiguration#enableSlidingExpiration(java.time.Duration) coalesced expiration updates}.
+	 */
+	private static ScheduledExecutorService createTouchScheduler() {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-cache-touch-");
+		threadFactory.setDaemon(true);
+
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+		scheduler.setKeepAliveTime(60, TimeUnit.SECONDS);
+		scheduler.allowCoreThreadTimeOut(true);
+
+		return scheduler;
 	}
 
 	/**
@@ -283,6 +470,13 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 		private final Map<String, RedisCacheConfiguration> initialCaches = new LinkedHashMap<>();
 		private boolean enableTransactions;
 		boolean allowInFlightCacheCreation = true;
+		private @Nullable CacheCleanStrategy cleanStrategy;
+		private @Nullable CacheStatisticsCollector statisticsCollector;
+		private @Nullable AsyncRedisCacheWriter asyncCacheWriter;
+		private @Nullable Executor backgroundExecutor;
+		private @Nullable CacheWarmUpConfiguration warmUpConfiguration;
+		private @Nullable RedisMessageListenerContainer nearCacheListenerContainer;
+		private String nearCacheInvalidationChannel = DEFAULT_NEAR_CACHE_INVALIDATION_CHANNEL;
 
 		private RedisCacheManagerBuilder(RedisCacheWriter cacheWriter) {
 			this.cacheWriter = cacheWriter;
@@ -298,7 +492,13 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 
 			Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
 
-			return builder(new DefaultRedisCacheWriter(connectionFactory));
+			RedisCacheManagerBuilder builder = builder(new DefaultRedisCacheWriter(connectionFactory));
+
+			if (REACTOR_PRESENT && connectionFactory instanceof ReactiveRedisConnectionFactory) {
+				builder.asyncCacheWriter = AsyncRedisCacheWriter.create((ReactiveRedisConnectionFactory) connectionFactory);
+			}
+
+			return builder;
 		}
 
 		/**
@@ -406,6 +606,148 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 			return this;
 		}
 
+		/**
+		 * Define the {@link CacheCleanStrategy} used to remove entries on {@link RedisCache#clear()}. Requires the
+		 * {@link RedisCacheWriter} to be created through {@link RedisCacheWriter} factory methods or
+		 * {@link #fromConnectionFactory(RedisConnectionFactory)}.
+		 *
+		 * @param cleanStrategy must not be {@literal null}.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 */
+		public RedisCacheManagerBuilder cleanStrategy(CacheCleanStrategy cleanStrategy) {
+
+			Assert.notNull(cleanStrategy, "CacheCleanStrategy must not be null!");
+
+			this.cleanStrategy = cleanStrategy;
+			return this;
+		}
+
+		/**
+		 * Use the given {@link AsyncRedisCacheWriter} for {@link RedisCache#retrieve(Object) non-blocking retrieval}.
+		 * {@link #fromConnectionFactory(RedisConnectionFactory)} configures an {@link AsyncRedisCacheWriter} if the
+		 * {@link RedisConnectionFactory} is a {@link ReactiveRedisConnectionFactory}.
+		 *
+		 * @param asyncCacheWriter must not be {@literal null}.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 */
+		public RedisCacheManagerBuilder asyncCacheWriter(AsyncRedisCacheWriter asyncCacheWriter) {
+
+			Assert.notNull(asyncCacheWriter, "AsyncRedisCacheWriter must not be null!");
+
+			this.asyncCacheWriter = asyncCacheWriter;
+			return this;
+		}
+
+		/**
+		 * Run background work of the caches, such as
+		 * {@link RedisCacheConfiguration#enableEarlyRefresh(double) refreshes} and
+		 * {@link RedisCacheConfiguration#enableSlidingExpiration(java.time.Duration) expiration updates}, on the given
+		 * {@link Executor}. Tasks rejected by the {@link Executor} are skipped. Defaults to a bounded pool of daemon threads
+		 * shared by the caches of the {@link RedisCacheManager} and shut down when it is
+		 * {@link RedisCacheManager#destroy() destroyed}. A given {@link Executor} is not shut down by the
+		 * {@link RedisCacheManager}.
+		 *
+		 * @param backgroundExecutor must not be {@literal null}.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 */
+		public RedisCacheManagerBuilder backgroundExecutor(Executor backgroundExecutor) {
+
+			Assert.notNull(backgroundExecutor, "Executor must not be null!");
+
+			this.backgroundExecutor = backgroundExecutor;
+			return this;
+		}
+
+		/**
+		 * Warm up {@link RedisCacheConfiguration#enableNearCache(int, java.time.Duration) near caches} on
+		 * {@link RedisCacheManager#afterPropertiesSet() startup} from the keys recorded in the configured snapshot file.
+		 * Values are fetched from Redis only, no value loader is invoked. The {@link RedisCacheManager} records the keys
+		 * held by its near caches periodically and when it is {@link RedisCacheManager#destroy() destroyed}.
+		 *
+		 * @param warmUpConfiguration must not be {@literal null}.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 * @see RedisCacheManager#whenWarmedUp()
+		 */
+		public RedisCacheManagerBuilder warmUp(CacheWarmUpConfiguration warmUpConfiguration) {
+
+			Assert.notNull(warmUpConfiguration, "CacheWarmUpConfiguration must not be null!");
+
+			this.warmUpConfiguration = warmUpConfiguration;
+			return this;
+		}
+
+		/**
+		 * Record per-cache counters and latency histograms in memory. Requires the {@link RedisCacheWriter} to be created
+		 * through {@link RedisCacheWriter} factory methods or {@link #fromConnectionFactory(RedisConnectionFactory)}.
+		 * Operations of an {@link AsyncRedisCacheWriter} are recorded if it is created through
+		 * {@link AsyncRedisCacheWriter#create(ReactiveRedisConnectionFactory)}, custom implementations are not counted.
+		 *
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 * @see RedisCache#getStatistics()
+		 */
+		public RedisCacheManagerBuilder enableStatistics() {
+			return enableStatistics(CacheStatisticsCollector.create());
+		}
+
+		/**
+		 * Report per-cache counters and latencies to the given {@link CacheStatisticsCollector}, e.g. to
+		 * {@link CacheStatisticsCollector#export(CacheStatisticsExporter) export} them periodically. Requires the
+		 * {@link RedisCacheWriter} to be created through {@link RedisCacheWriter} factory methods or
+		 * {@link #fromConnectionFactory(RedisConnectionFactory)}. Operations of an {@link AsyncRedisCacheWriter} are
+		 * reported if it is created through {@link AsyncRedisCacheWriter#create(ReactiveRedisConnectionFactory)}, custom
+		 * implementations are not counted.
+		 *
+		 * @param statisticsCollector must not be {@literal null}.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 */
+		public RedisCacheManagerBuilder enableStatistics(CacheStatisticsCollector statisticsCollector) {
+
+			Assert.notNull(statisticsCollector, "CacheStatisticsCollector must not be null!");
+
+			this.statisticsCollector = statisticsCollector;
+			return this;
+		}
+
+		/**
+		 * Keep {@link RedisCacheConfiguration#enableNearCache(int, java.time.Duration) near caches} coherent across
+		 * processes by publishing invalidations to {@link RedisCacheManager#DEFAULT_NEAR_CACHE_INVALIDATION_CHANNEL} and
+		 * subscribing to it through {@code listenerContainer}.
+		 *
+		 * @param listenerContainer must not be {@literal null}.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 */
+		public RedisCacheManagerBuilder nearCacheInvalidation(RedisMessageListenerContainer listenerContainer) {
+			return nearCacheInvalidation(listenerContainer, DEFAULT_NEAR_CACHE_INVALIDATION_CHANNEL);
+		}
+
+		/**
+		 * Keep {@link RedisCacheConfiguration#enableNearCache(int, java.time.Duration) near caches} coherent across
+		 * processes by publishing invalidations to {@code channel} and subscribing to it through {@code listenerContainer}.
+		 * All {@link RedisCacheManager cache managers} sharing caches must use the same channel.
+		 *
+		 * @param listenerContainer must not be {@literal null}.
+		 * @param channel must not be {@literal null} or empty.
+		 * @return this {@link RedisCacheManagerBuilder}.
+		 * @since 2.2
+		 */
+		public RedisCacheManagerBuilder nearCacheInvalidation(RedisMessageListenerContainer listenerContainer,
+				String channel) {
+
+			Assert.notNull(listenerContainer, "RedisMessageListenerContainer must not be null!");
+			Assert.hasText(channel, "Channel must not be null or empty!");
+
+			this.nearCacheListenerContainer = listenerContainer;
+			this.nearCacheInvalidationChannel = channel;
+			return this;
+		}
+
 		/**
 		 * Get the {@link Set} of cache names for which the builder holds {@link RedisCacheConfiguration configuration}.
 		 *
@@ -435,12 +777,50 @@ public class RedisCacheManager extends AbstractTransactionSupportingCacheManager
 		 */
 		public RedisCacheManager build() {
 
-			RedisCacheManager cm = new RedisCacheManager(cacheWriter, defaultCacheConfiguration, initialCaches,
+			RedisCacheManager cm = new RedisCacheManager(createCacheWriter(), defaultCacheConfiguration, initialCaches,
 					allowInFlightCacheCreation);
 
 			cm.setTransactionAware(enableTransactions);
 
+			if (nearCacheListenerContainer != null) {
+				cm.nearCacheInvalidator = new NearCacheInvalidator(nearCacheListenerContainer, nearCacheInvalidationChannel);
+			}
+
+			cm.asyncCacheWriter = statisticsCollector != null && asyncCacheWriter instanceof DefaultAsyncRedisCacheWriter
+					? ((DefaultAsyncRedisCacheWriter) asyncCacheWriter).withStatisticsCollector(statisticsCollector)
+					: asyncCacheWriter;
+			cm.backgroundExecutor = backgroundExecutor;
+
+			if (warmUpConfiguration != null) {
+				cm.warmUp = new CacheWarmUp(warmUpConfiguration);
+			}
+
 			return cm;
 		}
+
+		private RedisCacheWriter createCacheWriter() {
+
+			if (cleanStrategy == null && statisticsCollector == null) {
+				return cacheWriter;
+			}
+
+			if (!(cacheWriter instanceof DefaultRedisCacheWriter)) {
+				throw new IllegalStateException(String.format("Cannot apply %s to %s.",
+						cleanStrategy != null ? "CacheCleanStrategy" : "CacheStatisticsCollector",
+						cacheWriter.getClass().getName()));
+			}
+
+			DefaultRedisCacheWriter writer = (DefaultRedisCacheWriter) cacheWriter;
+
+			if (cleanStrategy != null) {
+				writer = writer.withCleanStrategy(cleanStrategy);
+			}
+
+			if (statisticsCollector != null) {
+				writer = writer.withStatisticsCollector(statisticsCollector);
+			}
+
+			return writer;
+		}
 	}
 }
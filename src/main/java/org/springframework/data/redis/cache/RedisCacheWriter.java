@@ -15,7 +15,14 @@
  */
 package org.springframework.data.redis.cache;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.lang.Nullable;
@@ -46,6 +53,24 @@ public interface RedisCacheWriter {
 		return new DefaultRedisCacheWriter(connectionFactory);
 	}
 
+	/**
+	 * Create new {@link RedisCacheWriter} without locking behavior removing cache entries using the given
+	 * {@link CacheCleanStrategy}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param cleanStrategy must not be {@literal null}.
+	 * @return new instance of {@link DefaultRedisCacheWriter}.
+	 * @since 2.2
+	 */
+	static RedisCacheWriter nonLockingRedisCacheWriter(RedisConnectionFactory connectionFactory,
+			CacheCleanStrategy cleanStrategy) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.notNull(cleanStrategy, "CacheCleanStrategy must not be null!");
+
+		return new DefaultRedisCacheWriter(connectionFactory, null, null, cleanStrategy);
+	}
+
 	/**
 	 * Create new {@link RedisCacheWriter} with locking behavior.
 	 *
@@ -59,6 +84,27 @@ public interface RedisCacheWriter {
 		return new DefaultRedisCacheWriter(connectionFactory, Duration.ofMillis(50));
 	}
 
+	/**
+	 * Create new {@link RedisCacheWriter} with locking behavior using the given {@link CacheLockWaitStrategy} to wait for
+	 * lock release. Locks expire after {@code lockTtl}.
+	 *
+	 * @param connectionFactory must not be {@literal null}.
+	 * @param lockTtl time after which a lock expires. Must not be {@literal null}. Use {@link Duration#ZERO} to hold the
+	 *          lock until released.
+	 * @param lockWaitStrategy must not be {@literal null}.
+	 * @return new instance of {@link DefaultRedisCacheWriter}.
+	 * @since 2.2
+	 */
+	static RedisCacheWriter lockingRedisCacheWriter(RedisConnectionFactory connectionFactory, Duration lockTtl,
+			CacheLockWaitStrategy lockWaitStrategy) {
+
+		Assert.notNull(connectionFactory, "ConnectionFactory must not be null!");
+		Assert.notNull(lockTtl, "Lock TTL must not be null!");
+		Assert.notNull(lockWaitStrategy, "CacheLockWaitStrategy must not be null!");
+
+		return new DefaultRedisCacheWriter(connectionFactory, lockTtl, lockWaitStrategy);
+	}
+
 	/**
 	 * Write the given key/value pair to Redis an set the expiration time if defined.
 	 *
@@ -99,6 +145,53 @@ public interface RedisCacheWriter {
 	 */
 	void remove(String name, byte[] key);
 
+	/**
+	 * Get the binary value representations from Redis stored for the given keys. The default implementation calls
+	 * {@link #get(String, byte[])} for each key. Implementations are encouraged to fetch all values in as few round trips
+	 * as possible.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @return the values in the order of {@code keys}. Contains {@literal null} elements for keys that do not exist.
+	 * @since 2.2
+	 */
+	default List<byte[]> getAll(String name, List<byte[]> keys) {
+
+		List<byte[]> values = new ArrayList<>(keys.size());
+
+		for (byte[] key : keys) {
+			values.add(get(name, key));
+		}
+
+		return values;
+	}
+
+	/**
+	 * Write the given key/value pairs to Redis and set the expiration time if defined. The default implementation calls
+	 * {@link #put(String, byte[], byte[], Duration)} for each entry. Implementations are encouraged to write all entries
+	 * in as few round trips as possible.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param entries The key/value pairs to store. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @since 2.2
+	 */
+	default void putAll(String name, Map<byte[], byte[]> entries, @Nullable Duration ttl) {
+		entries.forEach((key, value) -> put(name, key, value, ttl));
+	}
+
+	/**
+	 * Remove the given keys from Redis. The default implementation calls {@link #remove(String, byte[])} for each key.
+	 * Implementations are encouraged to remove all keys in as few round trips as possible.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param keys The keys for the cache entries. Must not be {@literal null}.
+	 * @since 2.2
+	 */
+	default void removeAll(String name, Collection<byte[]> keys) {
+		keys.forEach(key -> remove(name, key));
+	}
+
 	/**
 	 * Remove all keys following the given pattern.
 	 *
@@ -106,4 +199,221 @@ public interface RedisCacheWriter {
 	 * @param pattern The pattern for the keys to remove. Must not be {@literal null}.
 	 */
 	void clean(String name, byte[] pattern);
+
+	/**
+	 * Increment the numeric value stored at {@code key} by one, initializing it with {@literal 0} if absent.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key holding the counter must not be {@literal null}.
+	 * @return the value after the increment.
+	 * @throws UnsupportedOperationException if the {@link RedisCacheWriter} does not support counters.
+	 * @since 2.2
+	 */
+	default long increment(String name, byte[] key) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support incrementing counters.", getClass().getName()));
+	}
+
+	/**
+	 * Read the numeric value stored at {@code key}. Counters are read on the hot path of cache access, implementations
+	 * should therefore neither wait for cache locks nor record the read as a cache hit or miss. The default implementation
+	 * parses the value returned by {@link #get(String, byte[])}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key holding the counter must not be {@literal null}.
+	 * @return the value of the counter or {@literal 0} if absent.
+	 * @since 2.2
+	 * @see #increment(String, byte[])
+	 */
+	default long getCounter(String name, byte[] key) {
+
+		byte[] value = get(name, key);
+		return value != null ? Long.parseLong(new String(value, StandardCharsets.UTF_8)) : 0;
+	}
+
+	/**
+	 * Write the given key/value pair to Redis and link the key to the given tags. Tags are Redis sets holding the keys of
+	 * all tagged entries. Each tag set expires no earlier than the entries it references. Tag sets of entries without
+	 * expiration are persistent, implementations should remove members of entries that no longer exist.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @param tagKeys The keys of the tag sets to add {@code key} to. Must not be {@literal null}.
+	 * @throws UnsupportedOperationException if the {@link RedisCacheWriter} does not support tags.
+	 * @since 2.2
+	 * @see #removeByTags(String, Collection)
+	 */
+	default void putTagged(String name, byte[] key, byte[] value, @Nullable Duration ttl, Collection<byte[]> tagKeys) {
+		throw new UnsupportedOperationException(String.format("%s does not support tags.", getClass().getName()));
+	}
+
+	/**
+	 * Remove all keys linked to the given tags along with the tag sets themselves.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param tagKeys The keys of the tag sets. Must not be {@literal null}.
+	 * @return the number of removed cache entries.
+	 * @throws UnsupportedOperationException if the {@link RedisCacheWriter} does not support tags.
+	 * @since 2.2
+	 * @see #putTagged(String, byte[], byte[], Duration, Collection)
+	 */
+	default long removeByTags(String name, Collection<byte[]> tagKeys) {
+		throw new UnsupportedOperationException(String.format("%s does not support tags.", getClass().getName()));
+	}
+
+	/**
+	 * Write the given key/value pair to Redis and record the write in the size bound index {@code indexKey} of the cache.
+	 * Once the index holds more than {@code maxEntries} keys, the least recently written entries are evicted across all
+	 * processes sharing the cache. The default implementation calls {@link #put(String, byte[], byte[], Duration)}
+	 * followed by {@link #indexBounded(String, Collection, Duration, byte[], long)}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key for the cache entry. Must not be {@literal null}.
+	 * @param value The value stored for the key. Must not be {@literal null}.
+	 * @param ttl Optional expiration time. Can be {@literal null}.
+	 * @param indexKey The key of the size bound index. Must not be {@literal null}.
+	 * @param maxEntries The maximum number of entries of the cache. Must be greater than zero.
+	 * @throws UnsupportedOperationException if the {@link RedisCacheWriter} does not support size bounds.
+	 * @since 2.2
+	 * @see #indexBounded(String, Collection, Duration, byte[], long)
+	 */
+	default void putBounded(String name, byte[] key, byte[] value, @Nullable Duration ttl, byte[] indexKey,
+			long maxEntries) {
+
+		put(name, key, value, ttl);
+		indexBounded(name, Collections.singletonList(key), ttl, indexKey, maxEntries);
+	}
+
+	/**
+	 * Record writes of the given keys, performed by other operations, in the size bound index {@code indexKey} of the
+	 * cache and evict the least recently written entries exceeding {@code maxEntries}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param keys The keys written. Must not be {@literal null}.
+	 * @param ttl Optional expiration time the keys were written with. Can be {@literal null}.
+	 * @param indexKey The key of the size bound index. Must not be {@literal null}.
+	 * @param maxEntries The maximum number of entries of the cache. Must be greater than zero.
+	 * @throws UnsupportedOperationException if the {@link RedisCacheWriter} does not support size bounds.
+	 * @since 2.2
+	 * @see #putBounded(String, byte[], byte[], Duration, byte[], long)
+	 */
+	default void indexBounded(String name, Collection<byte[]> keys, @Nullable Duration ttl, byte[] indexKey,
+			long maxEntries) {
+		throw new UnsupportedOperationException(String.format("%s does not support size bounds.", getClass().getName()));
+	}
+
+	/**
+	 * Get the binary value representation from Redis stored for the given key and reset its expiration to {@code ttl}.
+	 * The default implementation calls {@link #get(String, byte[])} followed by
+	 * {@link #expire(String, Collection, Duration)}. Implementations are encouraged to do both within a single round trip.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key to get the value for. Must not be {@literal null}.
+	 * @param ttl The new expiration time. Must not be {@literal null}.
+	 * @return {@literal null} if key does not exist.
+	 * @throws UnsupportedOperationException if the {@link RedisCacheWriter} does not support sliding expiration.
+	 * @since 2.2
+	 */
+	@Nullable
+	default byte[] getAndExpire(String name, byte[] key, Duration ttl) {
+
+		byte[] value = get(name, key);
+
+		if (value != null) {
+			expire(name, Collections.singletonList(key), ttl);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Reset the expiration of the given keys to {@code ttl}. Absent keys are ignored.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param keys The keys to expire. Must not be {@literal null}.
+	 * @param ttl The new expiration time. Must not be {@literal null}.
+	 * @throws UnsupportedOperationException if the {@link RedisCacheWriter} does not support sliding expiration.
+	 * @since 2.2
+	 */
+	default void expire(String name, Collection<byte[]> keys, Duration ttl) {
+		throw new UnsupportedOperationException(
+				String.format("%s does not support sliding expiration.", getClass().getName()));
+	}
+
+	/**
+	 * Get the binary value representation from Redis stored for the given key without recording the read in the
+	 * {@link #getCacheStatistics(String) cache statistics}. Used for internal reads such as waiting for another caller to
+	 * load a value. The default implementation calls {@link #get(String, byte[])}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @return {@literal null} if key does not exist.
+	 * @since 2.2
+	 */
+	@Nullable
+	default byte[] peek(String name, byte[] key) {
+		return get(name, key);
+	}
+
+	/**
+	 * Acquire the lease {@code key} by storing {@code token} if the lease is absent. Leases coordinate loading and
+	 * refreshing entries across processes and are not recorded in the {@link #getCacheStatistics(String) cache
+	 * statistics}. The default implementation calls {@link #putIfAbsent(String, byte[], byte[], Duration)}.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key of the lease must not be {@literal null}.
+	 * @param token The value identifying the lease holder must not be {@literal null}.
+	 * @param ttl The time after which the lease expires if not released. Must not be {@literal null}.
+	 * @return {@literal true} if the lease was acquired.
+	 * @since 2.2
+	 * @see #releaseLease(String, byte[], byte[])
+	 */
+	default boolean acquireLease(String name, byte[] key, byte[] token, Duration ttl) {
+		return putIfAbsent(name, key, token, ttl) == null;
+	}
+
+	/**
+	 * Release the lease {@code key} if it still holds {@code token}. A lease that expired and got acquired by another
+	 * caller in the meantime is left untouched. The default implementation compares the value returned by
+	 * {@link #get(String, byte[])} before calling {@link #remove(String, byte[])} and is therefore not atomic.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @param key The key of the lease must not be {@literal null}.
+	 * @param token The value used to acquire the lease must not be {@literal null}.
+	 * @since 2.2
+	 * @see #acquireLease(String, byte[], byte[], Duration)
+	 */
+	default void releaseLease(String name, byte[] key, byte[] token) {
+
+		if (Arrays.equals(get(name, key), token)) {
+			remove(name, key);
+		}
+	}
+
+	/**
+	 * Check whether the given optional {@link RedisCacheWriterFeature feature} is supported. Implementations overriding
+	 * the operations of a feature should return {@literal true} for it. The default implementation supports no optional
+	 * features.
+	 *
+	 * @param feature must not be {@literal null}.
+	 * @return {@literal true} if the {@link RedisCacheWriter} implements the operations of {@code feature}.
+	 * @since 2.2
+	 */
+	default boolean supports(RedisCacheWriterFeature feature) {
+		return false;
+	}
+
+	/**
+	 * Get the {@link CacheStatistics} recorded for the cache with the given name. The default implementation does not
+	 * record statistics.
+	 *
+	 * @param name The cache name must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @since 2.2
+	 */
+	default CacheStatistics getCacheStatistics(String name) {
+		return CacheStatisticsCollector.none().getCacheStatistics(name);
+	}
 }
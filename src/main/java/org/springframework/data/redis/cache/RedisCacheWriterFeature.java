@@ -0,0 +1,50 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+/**
+ * Optional features of a {@link RedisCacheWriter}. {@link RedisCache} rejects configurations requiring a feature the
+ * {@link RedisCacheWriter} does not {@link RedisCacheWriter#supports(RedisCacheWriterFeature) support}.
+ *
+ * @since 2.2
+ */
+public enum RedisCacheWriterFeature {
+
+	/**
+	 * Incrementing and reading counters, required for
+	 * {@link RedisCacheConfiguration#enableGenerationalKeys(java.time.Duration) generational keys}.
+	 *
+	 * @see RedisCacheWriter#increment(String, byte[])
+	 * @see RedisCacheWriter#getCounter(String, byte[])
+	 */
+	COUNTERS,
+
+	/**
+	 * Indexing entries and evicting the least recently written ones, required for
+	 * {@link RedisCacheConfiguration#maxEntries(long) size bounds}.
+	 *
+	 * @see RedisCacheWriter#indexBounded(String, java.util.Collection, java.time.Duration, byte[], long)
+	 */
+	SIZE_BOUNDS,
+
+	/**
+	 * Restarting the expiration of entries, required for
+	 * {@link RedisCacheConfiguration#enableSlidingExpiration() sliding expiration}.
+	 *
+	 * @see RedisCacheWriter#expire(String, java.util.Collection, java.time.Duration)
+	 */
+	SLIDING_EXPIRATION
+}
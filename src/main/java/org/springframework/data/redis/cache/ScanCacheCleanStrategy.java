@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheCleanStrategy} iterating over matching keys using {@code SCAN} and removing them in fixed-size batches
+ * using {@code UNLINK}. On connections supporting pipelining up to {@link #PIPELINE_DEPTH} batches are sent within a
+ * single pipeline. Cluster master nodes are scanned in parallel, removing their batches one at a time.
+ *
+ * @since 2.2
+ */
+class ScanCacheCleanStrategy implements CacheCleanStrategy {
+
+	static final int PIPELINE_DEPTH = 16;
+
+	private final int scanCount;
+	private final int batchSize;
+	private final CleanListener listener;
+	private final Executor executor;
+
+	/**
+	 * @param scanCount must be greater than zero.
+	 * @param batchSize must be greater than zero.
+	 * @param listener must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	ScanCacheCleanStrategy(int scanCount, int batchSize, CleanListener listener, Executor executor) {
+
+		Assert.isTrue(scanCount > 0, "Scan count must be greater than zero!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		Assert.notNull(listener, "CleanListener must not be null!");
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.scanCount = scanCount;
+		this.batchSize = batchSize;
+		this.listener = listener;
+		this.executor = executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.cache.CacheCleanStrategy#clean(org.springframework.data.redis.connection.RedisConnection, java.lang.String, byte[])
+	 */
+	@Override
+	public long clean(RedisConnection connection, String name, byte[] pattern) {
+
+		long start = System.nanoTime();
+		AtomicLong removed = new AtomicLong();
+		ScanOptions options = ScanOptions.scanOptions().count(scanCount).match(new String(pattern, StandardCharsets.UTF_8))
+				.build();
+
+		if (connection instanceof RedisClusterConnection) {
+			cleanCluster((RedisClusterConnection) connection, name, options, removed);
+		} else {
+			scanAndUnlink(connection, () -> connection.scan(options), PIPELINE_DEPTH, name, removed);
+		}
+
+		listener.onComplete(name, removed.get(), Duration.ofNanos(System.nanoTime() - start));
+
+		return removed.get();
+	}
+
+	private void cleanCluster(RedisClusterConnection connection, String name, ScanOptions options, AtomicLong removed) {
+
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+		for (RedisClusterNode node : connection.clusterGetNodes()) {
+
+			if (node.isMaster()) {
+				futures.add(CompletableFuture.runAsync(
+						() -> scanAndUnlink(connection, () -> connection.scan(node, options), 1, name, removed), executor));
+			}
+		}
+
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+		} catch (CompletionException e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw new RedisSystemException(String.format("Failed to clean cache %s", name), e.getCause());
+		}
+	}
+
+	private void scanAndUnlink(RedisConnection connection, Supplier<Cursor<byte[]>> scan, int pipelineDepth,
+			String name, AtomicLong removed) {
+
+		List<byte[][]> batches = new ArrayList<>(pipelineDepth);
+		List<byte[]> batch = new ArrayList<>(batchSize);
+
+		try (Cursor<byte[]> cursor = scan.get()) {
+
+			while (cursor.hasNext()) {
+
+				batch.add(cursor.next());
+
+				if (batch.size() >= batchSize) {
+
+					batches.add(batch.toArray(new byte[0][]));
+					batch.clear();
+
+					if (batches.size() >= pipelineDepth) {
+						unlink(connection, batches, name, removed);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new RedisSystemException(String.format("Failed to close cursor while cleaning cache %s", name), e);
+		}
+
+		if (!batch.isEmpty()) {
+			batches.add(batch.toArray(new byte[0][]));
+		}
+
+		if (!batches.isEmpty()) {
+			unlink(connection, batches, name, removed);
+		}
+	}
+
+	/**
+	 * Remove the given batches, pipelining them if there is more than one and the connection supports pipelining. The
+	 * cursor is only advanced between calls so that {@code SCAN} never runs inside the pipeline.
+	 */
+	private void unlink(RedisConnection connection, List<byte[][]> batches, String name, AtomicLong removed) {
+
+		if (batches.size() > 1 && openPipeline(connection)) {
+
+			List<Object> results;
+
+			try {
+				batches.forEach(connection::unlink);
+			} finally {
+				results = connection.closePipeline();
+			}
+
+			results.forEach(count -> onUnlinked(name, count instanceof Long ? (Long) count : null, removed));
+		} else {
+			batches.forEach(keys -> onUnlinked(name, connection.unlink(keys), removed));
+		}
+
+		batches.clear();
+	}
+
+	private void onUnlinked(String name, @Nullable Long count, AtomicLong removed) {
+		listener.onProgress(name, removed.addAndGet(count != null ? count : 0));
+	}
+
+	private static boolean openPipeline(RedisConnection connection) {
+
+		try {
+			connection.openPipeline();
+			return true;
+		} catch (UnsupportedOperationException e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Collects keys read from a {@link RedisCache} using {@link RedisCacheConfiguration#enableSlidingExpiration(Duration)
+ * sliding expiration} so that their expiration is reset in batches. Keys read multiple times within the touch interval
+ * are collected once so that each key is touched at most once per interval. The caller recording a key once the
+ * interval has elapsed drains the collected keys. Keys collected without further reads are drained by a
+ * {@link #requestFlush() scheduled flush}. Reaching the maximum number of collected keys drains them right away.
+ *
+ * @since 2.2
+ */
+class TouchBuffer {
+
+	static final int DEFAULT_MAX_PENDING = 10_000;
+
+	private final Duration interval;
+	private final long intervalNanos;
+	private final int maxPending;
+	private final Set<ByteArrayWrapper> pending = ConcurrentHashMap.newKeySet();
+	private final AtomicLong nextDrain;
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	/**
+	 * @param interval must not be {@literal null} and greater than {@link Duration#ZERO}.
+	 */
+	TouchBuffer(Duration interval) {
+		this(interval, DEFAULT_MAX_PENDING);
+	}
+
+	/**
+	 * @param interval must not be {@literal null} and greater than {@link Duration#ZERO}.
+	 * @param maxPending maximum number of collected keys. Must be greater than zero.
+	 */
+	TouchBuffer(Duration interval, int maxPending) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.isTrue(!interval.isZero() && !interval.isNegative(), "Interval must be greater than zero!");
+		Assert.isTrue(maxPending > 0, "Max pending must be greater than zero!");
+
+		this.interval = interval;
+		this.intervalNanos = interval.toNanos();
+		this.maxPending = maxPending;
+		this.nextDrain = new AtomicLong(System.nanoTime() + intervalNanos);
+	}
+
+	/**
+	 * Record that the given keys were read.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @param now current time as obtained from {@link System#nanoTime()}.
+	 * @return the keys to touch if the touch interval has elapsed or the maximum number of collected keys is reached,
+	 *         {@literal null} otherwise.
+	 */
+	@Nullable
+	List<byte[]> add(List<byte[]> keys, long now) {
+
+		for (byte[] key : keys) {
+			pending.add(new ByteArrayWrapper(key));
+		}
+
+		if (pending.size() >= maxPending) {
+
+			nextDrain.set(now + intervalNanos);
+			return drain();
+		}
+
+		long next = nextDrain.get();
+
+		// only one caller drains per interval
+		if (now - next < 0 || !nextDrain.compareAndSet(next, now + intervalNanos)) {
+			return null;
+		}
+
+		return drain();
+	}
+
+	/**
+	 * Request a flush of the collected keys after the touch interval so that keys are touched even if no further reads
+	 * drain them.
+	 *
+	 * @return {@literal true} if the caller is to schedule {@link #flush(long)}, {@literal false} if no keys are collected
+	 *         or a flush is already scheduled.
+	 */
+	boolean requestFlush() {
+		return !pending.isEmpty() && flushScheduled.compareAndSet(false, true);
+	}
+
+	/**
+	 * Remove and return all collected keys on a scheduled flush and restart the touch interval.
+	 *
+	 * @param now current time as obtained from {@link System#nanoTime()}.
+	 * @return never {@literal null}.
+	 */
+	List<byte[]> flush(long now) {
+
+		flushScheduled.set(false);
+		nextDrain.set(now + intervalNanos);
+
+		return drain();
+	}
+
+	/**
+	 * Remove and return all collected keys.
+	 *
+	 * @return never {@literal null}.
+	 */
+	List<byte[]> drain() {
+
+		List<byte[]> keys = new ArrayList<>(pending.size());
+
+		for (Iterator<ByteArrayWrapper> iterator = pending.iterator(); iterator.hasNext();) {
+
+			keys.add(iterator.next().getArray());
+			iterator.remove();
+		}
+
+		return keys;
+	}
+
+	int size() {
+		return pending.size();
+	}
+
+	Duration getInterval() {
+		return interval;
+	}
+}
@@ -20,16 +20,25 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.ClusterRedirectException;
 import org.springframework.data.redis.ClusterStateFailureException;
 import org.springframework.data.redis.ExceptionTranslationStrategy;
@@ -40,7 +49,6 @@ import org.springframework.lang.Nullable;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.ObjectUtils;
 
 /**
  * {@link ClusterCommandExecutor} takes care of running commands across the known cluster nodes. By providing an
@@ -183,6 +191,31 @@ public class ClusterCommandExecutor implements DisposableBean {
 		return executeCommandAsyncOnNodes(cmd, getClusterTopology().getActiveMasterNodes());
 	}
 
+	/**
+	 * Run {@link ClusterCommandCallback} on all reachable master nodes and wait at most {@code timeout} for the results.
+	 *
+	 * @param cmd must not be {@literal null}.
+	 * @param timeout must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws ClusterCommandExecutionFailureException if a node fails or does not respond within {@code timeout}.
+	 * @since 2.2
+	 */
+	public <S, T> MultiNodeResult<T> executeCommandOnAllNodes(ClusterCommandCallback<S, T> cmd, Duration timeout) {
+		return executeCommandAsyncOnNodes(cmd, getClusterTopology().getActiveMasterNodes(), timeout);
+	}
+
+	/**
+	 * Run {@link ClusterCommandCallback} on all reachable master nodes without blocking the caller.
+	 *
+	 * @param cmd must not be {@literal null}.
+	 * @return never {@literal null}. The {@link CompletionStage} completes exceptionally with
+	 *         {@link ClusterCommandExecutionFailureException} if at least one node fails.
+	 * @since 2.2
+	 */
+	public <S, T> CompletionStage<MultiNodeResult<T>> submitCommandOnAllNodes(ClusterCommandCallback<S, T> cmd) {
+		return submitCommandOnNodes(cmd, getClusterTopology().getActiveMasterNodes());
+	}
+
 	/**
 	 * @param callback must not be {@literal null}.
 	 * @param nodes must not be {@literal null}.
@@ -192,6 +225,45 @@ public class ClusterCommandExecutor implements DisposableBean {
 	 */
 	public <S, T> MultiNodeResult<T> executeCommandAsyncOnNodes(ClusterCommandCallback<S, T> callback,
 			Iterable<RedisClusterNode> nodes) {
+		return collectResults(submitToNodes(callback, nodes), null);
+	}
+
+	/**
+	 * Run {@link ClusterCommandCallback} on the given nodes and wait at most {@code timeout} for the results.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @param nodes must not be {@literal null}.
+	 * @param timeout must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws ClusterCommandExecutionFailureException if a node fails or does not respond within {@code timeout}.
+	 * @throws IllegalArgumentException in case the node could not be resolved to a topology-known node
+	 * @since 2.2
+	 */
+	public <S, T> MultiNodeResult<T> executeCommandAsyncOnNodes(ClusterCommandCallback<S, T> callback,
+			Iterable<RedisClusterNode> nodes, Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		return collectResults(submitToNodes(callback, nodes), timeout);
+	}
+
+	/**
+	 * Run {@link ClusterCommandCallback} on the given nodes without blocking the caller.
+	 *
+	 * @param callback must not be {@literal null}.
+	 * @param nodes must not be {@literal null}.
+	 * @return never {@literal null}. The {@link CompletionStage} completes exceptionally with
+	 *         {@link ClusterCommandExecutionFailureException} if at least one node fails.
+	 * @throws IllegalArgumentException in case the node could not be resolved to a topology-known node
+	 * @since 2.2
+	 */
+	public <S, T> CompletionStage<MultiNodeResult<T>> submitCommandOnNodes(ClusterCommandCallback<S, T> callback,
+			Iterable<RedisClusterNode> nodes) {
+		return combineResults(submitToNodes(callback, nodes));
+	}
+
+	private <S, T> Map<NodeExecution, CompletableFuture<NodeResult<T>>> submitToNodes(
+			ClusterCommandCallback<S, T> callback, Iterable<RedisClusterNode> nodes) {
 
 		Assert.notNull(callback, "Callback must not be null!");
 		Assert.notNull(nodes, "Nodes must not be null!");
@@ -207,64 +279,106 @@ public class ClusterCommandExecutor implements DisposableBean {
 			}
 		}
 
-		Map<NodeExecution, Future<NodeResult<T>>> futures = new LinkedHashMap<>();
+		Map<NodeExecution, CompletableFuture<NodeResult<T>>> futures = new LinkedHashMap<>();
 		for (RedisClusterNode node : resolvedRedisClusterNodes) {
-			futures.put(new NodeExecution(node), executor.submit(() -> executeCommandOnSingleNode(callback, node)));
+			futures.put(new NodeExecution(node), submit(() -> executeCommandOnSingleNode(callback, node)));
 		}
 
-		return collectResults(futures);
+		return futures;
 	}
 
-	private <T> MultiNodeResult<T> collectResults(Map<NodeExecution, Future<NodeResult<T>>> futures) {
+	private <T> CompletableFuture<NodeResult<T>> submit(Supplier<NodeResult<T>> execution) {
+		return CompletableFuture.supplyAsync(execution, executor);
+	}
 
-		boolean done = false;
+	/**
+	 * Wait for all {@code futures} to complete and collect their results. Returns as soon as the last node has answered
+	 * or {@code timeout} has elapsed.
+	 *
+	 * @param futures must not be {@literal null}.
+	 * @param timeout can be {@literal null} to wait without a deadline.
+	 * @return never {@literal null}.
+	 * @throws ClusterCommandExecutionFailureException if at least one execution failed or did not complete in time.
+	 */
+	private <T> MultiNodeResult<T> collectResults(Map<NodeExecution, CompletableFuture<NodeResult<T>>> futures,
+			@Nullable Duration timeout) {
 
-		MultiNodeResult<T> result = new MultiNodeResult<>();
-		Map<RedisClusterNode, Throwable> exceptions = new HashMap<>();
+		CompletableFuture<Void> all = CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]));
 
-		Set<String> saveGuard = new HashSet<>();
-		while (!done) {
+		try {
+			if (timeout != null) {
+				all.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+			} else {
+				all.get();
+			}
+		} catch (ExecutionException | CancellationException e) {
+			// failures are collected per node below
+		} catch (TimeoutException e) {
+			return toMultiNodeResult(futures, execution -> new QueryTimeoutException(
+					String.format("Node %s did not respond within %s", execution.getNode(), timeout)));
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			return toMultiNodeResult(futures, execution -> new ClusterCommandExecutionFailureException(e));
+		}
 
-			done = true;
-			for (Map.Entry<NodeExecution, Future<NodeResult<T>>> entry : futures.entrySet()) {
+		return toMultiNodeResult(futures, null);
+	}
 
-				if (!entry.getValue().isDone() && !entry.getValue().isCancelled()) {
-					done = false;
-				} else {
+	/**
+	 * Combine {@code futures} into a single {@link CompletableFuture} completing once all executions have completed.
+	 *
+	 * @param futures must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	private <T> CompletableFuture<MultiNodeResult<T>> combineResults(
+			Map<NodeExecution, CompletableFuture<NodeResult<T>>> futures) {
+
+		return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0])) //
+				.handle((ignore, error) -> toMultiNodeResult(futures, null));
+	}
 
-					NodeExecution execution = entry.getKey();
-					try {
+	/**
+	 * Collect the outcome of {@code futures} into a {@link MultiNodeResult} retaining the submission order.
+	 *
+	 * @param futures must not be {@literal null}.
+	 * @param pendingFailure function creating the error for executions that have not completed yet. Can be
+	 *          {@literal null} if all futures are completed.
+	 * @return never {@literal null}.
+	 * @throws ClusterCommandExecutionFailureException if at least one execution failed or did not complete.
+	 */
+	private <T> MultiNodeResult<T> toMultiNodeResult(Map<NodeExecution, CompletableFuture<NodeResult<T>>> futures,
+			@Nullable Function<NodeExecution, Throwable> pendingFailure) {
 
-						String futureId = ObjectUtils.getIdentityHexString(entry.getValue());
-						if (!saveGuard.contains(futureId)) {
+		MultiNodeResult<T> result = new MultiNodeResult<>();
+		Map<RedisClusterNode, Throwable> exceptions = new LinkedHashMap<>();
 
-							if (execution.isPositional()) {
-								result.add(execution.getPositionalKey(), entry.getValue().get());
-							} else {
-								result.add(entry.getValue().get());
-							}
-							saveGuard.add(futureId);
-						}
-					} catch (ExecutionException e) {
+		for (Map.Entry<NodeExecution, CompletableFuture<NodeResult<T>>> entry : futures.entrySet()) {
 
-						RuntimeException ex = convertToDataAccessException((Exception) e.getCause());
-						exceptions.put(execution.getNode(), ex != null ? ex : e.getCause());
-					} catch (InterruptedException e) {
+			NodeExecution execution = entry.getKey();
+			CompletableFuture<NodeResult<T>> future = entry.getValue();
 
-						Thread.currentThread().interrupt();
+			if (!future.isDone()) {
 
-						RuntimeException ex = convertToDataAccessException((Exception) e.getCause());
-						exceptions.put(execution.getNode(), ex != null ? ex : e.getCause());
-						break;
-					}
+				future.cancel(true);
+				if (pendingFailure != null) {
+					exceptions.put(execution.getNode(), pendingFailure.apply(execution));
 				}
+				continue;
 			}
+
 			try {
-				Thread.sleep(10);
-			} catch (InterruptedException e) {
 
-				done = true;
-				Thread.currentThread().interrupt();
+				if (execution.isPositional()) {
+					result.add(execution.getPositionalKey(), future.join());
+				} else {
+					result.add(future.join());
+				}
+			} catch (CompletionException | CancellationException e) {
+
+				Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+				RuntimeException ex = cause instanceof Exception ? convertToDataAccessException((Exception) cause) : null;
+				exceptions.put(execution.getNode(), ex != null ? ex : cause);
 			}
 		}
 
@@ -283,28 +397,68 @@ public class ClusterCommandExecutor implements DisposableBean {
 	 */
 	public <S, T> MultiNodeResult<T> executeMultiKeyCommand(MultiKeyClusterCommandCallback<S, T> cmd,
 			Iterable<byte[]> keys) {
+		return collectResults(submitMultiKey(cmd, keys), null);
+	}
+
+	/**
+	 * Run {@link MultiKeyClusterCommandCallback} with on a curated set of nodes serving one or more keys and wait at most
+	 * {@code timeout} for the results.
+	 *
+	 * @param cmd must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @param timeout must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws ClusterCommandExecutionFailureException if a node fails or does not respond within {@code timeout}.
+	 * @since 2.2
+	 */
+	public <S, T> MultiNodeResult<T> executeMultiKeyCommand(MultiKeyClusterCommandCallback<S, T> cmd,
+			Iterable<byte[]> keys, Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		return collectResults(submitMultiKey(cmd, keys), timeout);
+	}
+
+	/**
+	 * Run {@link MultiKeyClusterCommandCallback} with on a curated set of nodes serving one or more keys without blocking
+	 * the caller.
+	 *
+	 * @param cmd must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @return never {@literal null}. The {@link CompletionStage} completes exceptionally with
+	 *         {@link ClusterCommandExecutionFailureException} if at least one node fails.
+	 * @since 2.2
+	 */
+	public <S, T> CompletionStage<MultiNodeResult<T>> submitMultiKeyCommand(MultiKeyClusterCommandCallback<S, T> cmd,
+			Iterable<byte[]> keys) {
+		return combineResults(submitMultiKey(cmd, keys));
+	}
+
+	private <S, T> Map<NodeExecution, CompletableFuture<NodeResult<T>>> submitMultiKey(
+			MultiKeyClusterCommandCallback<S, T> cmd, Iterable<byte[]> keys) {
 
 		Map<RedisClusterNode, PositionalKeys> nodeKeyMap = new HashMap<>();
+		ClusterTopology topology = getClusterTopology();
 
 		int index = 0;
 		for (byte[] key : keys) {
-			for (RedisClusterNode node : getClusterTopology().getKeyServingNodes(key)) {
+			for (RedisClusterNode node : topology.getKeyServingNodes(key)) {
 				nodeKeyMap.computeIfAbsent(node, val -> PositionalKeys.empty()).append(PositionalKey.of(key, index++));
 			}
 		}
 
-		Map<NodeExecution, Future<NodeResult<T>>> futures = new LinkedHashMap<>();
+		Map<NodeExecution, CompletableFuture<NodeResult<T>>> futures = new LinkedHashMap<>();
 		for (Entry<RedisClusterNode, PositionalKeys> entry : nodeKeyMap.entrySet()) {
 
 			if (entry.getKey().isMaster()) {
 				for (PositionalKey key : entry.getValue()) {
 					futures.put(new NodeExecution(entry.getKey(), key),
-							executor.submit(() -> executeMultiKeyCommandOnSingleNode(cmd, entry.getKey(), key.getBytes())));
+							submit(() -> executeMultiKeyCommandOnSingleNode(cmd, entry.getKey(), key.getBytes())));
 				}
 			}
 		}
 
-		return collectResults(futures);
+		return futures;
 	}
 
 	private <S, T> NodeResult<T> executeMultiKeyCommandOnSingleNode(MultiKeyClusterCommandCallback<S, T> cmd,
@@ -328,6 +482,140 @@ public class ClusterCommandExecutor implements DisposableBean {
 		}
 	}
 
+	/**
+	 * Run {@link SlotGroupedClusterCommandCallback} for {@code keys} spanning one or more slots. Keys are grouped by slot
+	 * and the slot groups are grouped by their serving master node so that the callback is invoked once per node with
+	 * all slot groups served by it. This allows sending a single multi-key command per slot group, pipelined per node.
+	 * <br />
+	 * The returned {@link MultiNodeResult} contains one {@link NodeResult} per slot group. The {@link NodeResult#getKey()
+	 * key} of a result is the first key of the slot group in the order of {@code keys}.
+	 *
+	 * @param cmd must not be {@literal null}.
+	 * @param keys must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws ClusterCommandExecutionFailureException if at least one node fails.
+	 * @since 2.2
+	 */
+	public <S, T> MultiNodeResult<T> executeSlotGroupedCommand(SlotGroupedClusterCommandCallback<S, T> cmd,
+			byte[]... keys) {
+
+		Assert.notNull(cmd, "SlotGroupedClusterCommandCallback must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+
+		MultiNodeResult<T> result = new MultiNodeResult<>();
+
+		forEachSlotGroupResult(cmd, keys, (group, value) -> result
+				.add(new NodeResult<>(group.getNode(), value, group.getKeys().get(0))));
+
+		return result;
+	}
+
+	/**
+	 * Run {@link SlotGroupedClusterCommandCallback} returning one value per key for {@code keys} spanning one or more
+	 * slots. Keys are grouped by slot and the slot groups are grouped by their serving master node so that the callback
+	 * is invoked once per node with all slot groups served by it. The per slot group results are reassembled in the
+	 * order of {@code keys}.
+	 *
+	 * @param cmd must not be {@literal null}. Must return a {@link List} with one element per key for each slot group.
+	 * @param keys must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws ClusterCommandExecutionFailureException if at least one node fails.
+	 * @since 2.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <S, T> List<T> executeSlotGroupedCommandInKeyOrder(SlotGroupedClusterCommandCallback<S, List<T>> cmd,
+			byte[]... keys) {
+
+		Assert.notNull(cmd, "SlotGroupedClusterCommandCallback must not be null!");
+		Assert.notNull(keys, "Keys must not be null!");
+
+		Object[] values = new Object[keys.length];
+
+		forEachSlotGroupResult(cmd, keys, (group, groupValues) -> {
+
+			int[] positions = group.getPositions();
+
+			Assert.state(groupValues != null && groupValues.size() == positions.length,
+					() -> String.format("Expected %d results for slot %d but got %s.", positions.length, group.getSlot(),
+							groupValues != null ? groupValues.size() : null));
+
+			for (int i = 0; i < positions.length; i++) {
+				values[positions[i]] = groupValues.get(i);
+			}
+		});
+
+		return (List<T>) Arrays.asList(values);
+	}
+
+	private <S, T> void forEachSlotGroupResult(SlotGroupedClusterCommandCallback<S, T> cmd, byte[][] keys,
+			BiConsumer<SlotGroup, T> consumer) {
+
+		Map<RedisClusterNode, List<SlotGroup>> nodeGroups = groupBySlotAndNode(keys);
+		Map<NodeExecution, CompletableFuture<NodeResult<List<T>>>> futures = new LinkedHashMap<>();
+
+		for (Entry<RedisClusterNode, List<SlotGroup>> entry : nodeGroups.entrySet()) {
+			futures.put(new NodeExecution(entry.getKey()),
+					submit(() -> executeSlotGroupedCommandOnSingleNode(cmd, entry.getKey(), entry.getValue())));
+		}
+
+		Iterator<List<SlotGroup>> groups = nodeGroups.values().iterator();
+		for (NodeResult<List<T>> nodeResult : collectResults(futures, null).getResults()) {
+
+			List<SlotGroup> slotGroups = groups.next();
+			List<T> values = nodeResult.getValue();
+
+			Assert.state(values != null && values.size() == slotGroups.size(),
+					() -> String.format("Expected %d slot group results from node %s but got %s.", slotGroups.size(),
+							nodeResult.getNode(), values != null ? values.size() : null));
+
+			for (int i = 0; i < slotGroups.size(); i++) {
+				consumer.accept(slotGroups.get(i), values.get(i));
+			}
+		}
+	}
+
+	private Map<RedisClusterNode, List<SlotGroup>> groupBySlotAndNode(byte[][] keys) {
+
+		ClusterTopology topology = getClusterTopology();
+		Map<Integer, SlotGroup> slotGroups = new LinkedHashMap<>();
+
+		for (int i = 0; i < keys.length; i++) {
+
+			int slot = ClusterSlotHashUtil.calculateSlot(keys[i]);
+			slotGroups.computeIfAbsent(slot, it -> new SlotGroup(it, topology.getSlotServingMasterNode(it))) //
+					.add(keys[i], i);
+		}
+
+		Map<RedisClusterNode, List<SlotGroup>> nodeGroups = new LinkedHashMap<>();
+		for (SlotGroup group : slotGroups.values()) {
+			nodeGroups.computeIfAbsent(group.getNode(), it -> new ArrayList<>()).add(group);
+		}
+
+		return nodeGroups;
+	}
+
+	private <S, T> NodeResult<List<T>> executeSlotGroupedCommandOnSingleNode(SlotGroupedClusterCommandCallback<S, T> cmd,
+			RedisClusterNode node, List<SlotGroup> groups) {
+
+		S client = this.resourceProvider.getResourceForSpecificNode(node);
+		Assert.notNull(client, "Could not acquire resource for node. Is your cluster info up to date?");
+
+		List<byte[][]> slotGroups = new ArrayList<>(groups.size());
+		for (SlotGroup group : groups) {
+			slotGroups.add(group.getKeys().toArray(new byte[0][]));
+		}
+
+		try {
+			return new NodeResult<>(node, cmd.doInCluster(client, slotGroups));
+		} catch (RuntimeException ex) {
+
+			RuntimeException translatedException = convertToDataAccessException(ex);
+			throw translatedException != null ? translatedException : ex;
+		} finally {
+			this.resourceProvider.returnResourceForSpecificNode(node, client);
+		}
+	}
+
 	private ClusterTopology getClusterTopology() {
 		return this.topologyProvider.getTopology();
 	}
@@ -386,6 +674,59 @@ public class ClusterCommandExecutor implements DisposableBean {
 		S doInCluster(T client, byte[] key);
 	}
 
+	/**
+	 * Callback interface for Redis 'low level' code using the cluster client to execute multi key commands for keys
+	 * grouped by slot. The callback is invoked once per node with all slot groups served by the node and is expected to
+	 * return one result per slot group in the order of {@code slotGroups}.
+	 *
+	 * @param <T> native driver connection
+	 * @param <S>
+	 * @since 2.2
+	 */
+	public interface SlotGroupedClusterCommandCallback<T, S> {
+		List<S> doInCluster(T client, List<byte[][]> slotGroups);
+	}
+
+	/**
+	 * Keys sharing the same slot along with their position in the original key sequence.
+	 *
+	 * @since 2.2
+	 */
+	private static class SlotGroup {
+
+		private final int slot;
+		private final RedisClusterNode node;
+		private final List<byte[]> keys = new ArrayList<>();
+		private final List<Integer> positions = new ArrayList<>();
+
+		SlotGroup(int slot, RedisClusterNode node) {
+			this.slot = slot;
+			this.node = node;
+		}
+
+		void add(byte[] key, int position) {
+
+			keys.add(key);
+			positions.add(position);
+		}
+
+		int getSlot() {
+			return slot;
+		}
+
+		RedisClusterNode getNode() {
+			return node;
+		}
+
+		List<byte[]> getKeys() {
+			return keys;
+		}
+
+		int[] getPositions() {
+			return positions.stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
 	/**
 	 * {@link NodeExecution} encapsulates the execution of a command on a specific node along with arguments, such as
 	 * keys, involved.
@@ -28,7 +28,12 @@ import org.springframework.util.Assert;
  */
 public final class ClusterSlotHashUtil {
 
-	private static final int SLOT_COUNT = 16384;
+	/**
+	 * Number of hash slots in a Redis Cluster: {@value}.
+	 *
+	 * @since 2.2
+	 */
+	public static final int SLOT_COUNT = 16384;
 
 	private static final byte SUBKEY_START = '{';
 	private static final byte SUBKEY_END = '}';
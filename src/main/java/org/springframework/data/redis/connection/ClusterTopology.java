@@ -15,9 +15,13 @@
  */
 package org.springframework.data.redis.connection;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.springframework.data.redis.ClusterStateFailureException;
@@ -27,6 +31,10 @@ import org.springframework.util.StringUtils;
 
 /**
  * {@link ClusterTopology} holds snapshot like information about {@link RedisClusterNode}s.
+ * <p>
+ * Slot ownership is resolved once when the topology is created into a routing table holding the master, the serving
+ * nodes and the replicas for each of the {@link ClusterSlotHashUtil#SLOT_COUNT} slots. Key and slot lookups are
+ * therefore constant-time operations that do not depend on the number of nodes.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -36,13 +44,79 @@ public class ClusterTopology {
 
 	private final Set<RedisClusterNode> nodes;
 
+	private final RedisClusterNode[] slotMasters = new RedisClusterNode[ClusterSlotHashUtil.SLOT_COUNT];
+	private final Set<?>[] slotServingNodes = new Set<?>[ClusterSlotHashUtil.SLOT_COUNT];
+	private final Set<?>[] slotReplicas = new Set<?>[ClusterSlotHashUtil.SLOT_COUNT];
+
 	/**
 	 * Creates new instance of {@link ClusterTopology}.
 	 *
 	 * @param nodes can be {@literal null}.
 	 */
 	public ClusterTopology(@Nullable Set<RedisClusterNode> nodes) {
+
 		this.nodes = nodes != null ? nodes : Collections.emptySet();
+
+		initRoutingTable();
+	}
+
+	/**
+	 * Populate the slot routing tables. Nodes sharing the same slots share a single immutable {@link Set} instance so the
+	 * tables only hold one reference per slot.
+	 */
+	private void initRoutingTable() {
+
+		List<List<RedisClusterNode>> servingNodes = new ArrayList<>(Collections.nCopies(slotMasters.length, null));
+
+		for (RedisClusterNode node : nodes) {
+
+			for (Integer slot : node.getSlotRange().getSlots()) {
+
+				if (slot == null || slot < 0 || slot >= slotMasters.length) {
+					continue;
+				}
+
+				if (servingNodes.get(slot) == null) {
+					servingNodes.set(slot, new ArrayList<>(1));
+				}
+				servingNodes.get(slot).add(node);
+
+				if (node.isMaster() && slotMasters[slot] == null) {
+					slotMasters[slot] = node;
+				}
+			}
+		}
+
+		Map<List<RedisClusterNode>, Set<RedisClusterNode>> servingNodeSets = new HashMap<>();
+		Map<RedisClusterNode, Set<RedisClusterNode>> replicaSets = new HashMap<>();
+
+		for (int slot = 0; slot < slotMasters.length; slot++) {
+
+			List<RedisClusterNode> serving = servingNodes.get(slot);
+			slotServingNodes[slot] = serving == null ? Collections.emptySet()
+					: servingNodeSets.computeIfAbsent(serving,
+							it -> Collections.unmodifiableSet(new LinkedHashSet<>(it)));
+
+			RedisClusterNode master = slotMasters[slot];
+			slotReplicas[slot] = master == null ? Collections.emptySet()
+					: replicaSets.computeIfAbsent(master, this::findReplicas);
+		}
+	}
+
+	private Set<RedisClusterNode> findReplicas(RedisClusterNode master) {
+
+		if (master.getId() == null) {
+			return Collections.emptySet();
+		}
+
+		Set<RedisClusterNode> replicas = new LinkedHashSet<>();
+		for (RedisClusterNode node : nodes) {
+			if (node.isReplica() && master.getId().equals(node.getMasterId())) {
+				replicas.add(node);
+			}
+		}
+
+		return replicas.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(replicas);
 	}
 
 	/**
@@ -108,17 +182,52 @@ public class ClusterTopology {
 	 * Get the {@link RedisClusterNode}s (master and slave) serving s specific slot.
 	 *
 	 * @param slot
-	 * @return never {@literal null}.
+	 * @return never {@literal null}. The returned {@link Set} is immutable.
 	 */
+	@SuppressWarnings("unchecked")
 	public Set<RedisClusterNode> getSlotServingNodes(int slot) {
 
-		Set<RedisClusterNode> slotServingNodes = new LinkedHashSet<>(nodes.size());
-		for (RedisClusterNode node : nodes) {
-			if (node.servesSlot(slot)) {
-				slotServingNodes.add(node);
-			}
+		if (!isValidSlot(slot)) {
+			return Collections.emptySet();
 		}
-		return slotServingNodes;
+
+		return (Set<RedisClusterNode>) slotServingNodes[slot];
+	}
+
+	/**
+	 * Get the {@link RedisClusterNode} that is the current master serving the given slot.
+	 *
+	 * @param slot
+	 * @return never {@literal null}.
+	 * @throws ClusterStateFailureException if no master node serves the slot.
+	 * @since 2.2
+	 */
+	public RedisClusterNode getSlotServingMasterNode(int slot) {
+
+		RedisClusterNode master = isValidSlot(slot) ? slotMasters[slot] : null;
+
+		if (master == null) {
+			throw new ClusterStateFailureException(String.format("Could not find master node serving slot %s.", slot));
+		}
+
+		return master;
+	}
+
+	/**
+	 * Get the replica {@link RedisClusterNode}s of the master serving the given slot.
+	 *
+	 * @param slot
+	 * @return never {@literal null}. The returned {@link Set} is immutable.
+	 * @since 2.2
+	 */
+	@SuppressWarnings("unchecked")
+	public Set<RedisClusterNode> getSlotServingReplicaNodes(int slot) {
+
+		if (!isValidSlot(slot)) {
+			return Collections.emptySet();
+		}
+
+		return (Set<RedisClusterNode>) slotReplicas[slot];
 	}
 
 	/**
@@ -133,15 +242,32 @@ public class ClusterTopology {
 		Assert.notNull(key, "Key for node lookup must not be null!");
 
 		int slot = ClusterSlotHashUtil.calculateSlot(key);
+		RedisClusterNode master = slotMasters[slot];
 
-		for (RedisClusterNode node : nodes) {
-			if (node.isMaster() && node.servesSlot(slot)) {
-				return node;
-			}
+		if (master == null) {
+			throw new ClusterStateFailureException(
+					String.format("Could not find master node serving slot %s for key '%s',", slot, Arrays.toString(key)));
 		}
 
-		throw new ClusterStateFailureException(
-				String.format("Could not find master node serving slot %s for key '%s',", slot, Arrays.toString(key)));
+		return master;
+	}
+
+	/**
+	 * Get the replica {@link RedisClusterNode}s of the master serving the given key.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return never {@literal null}. The returned {@link Set} is immutable.
+	 * @since 2.2
+	 */
+	public Set<RedisClusterNode> getKeyServingReplicaNodes(byte[] key) {
+
+		Assert.notNull(key, "Key for node lookup must not be null!");
+
+		return getSlotServingReplicaNodes(ClusterSlotHashUtil.calculateSlot(key));
+	}
+
+	private static boolean isValidSlot(int slot) {
+		return slot >= 0 && slot < ClusterSlotHashUtil.SLOT_COUNT;
 	}
 
 	/**
@@ -215,7 +341,7 @@ public class ClusterTopology {
 
 	/**
 	 * @param key must not be {@literal null}.
-	 * @return {@literal null}.
+	 * @return never {@literal null}. The returned {@link Set} is immutable.
 	 */
 	public Set<RedisClusterNode> getKeyServingNodes(byte[] key) {
 
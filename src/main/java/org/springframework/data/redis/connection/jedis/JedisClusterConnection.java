@@ -23,6 +23,8 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.JedisClusterConnectionHandler;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -34,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
@@ -51,6 +54,7 @@ import org.springframework.data.redis.connection.*;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.ClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiKeyClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.NodeResult;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.SlotGroupedClusterCommandCallback;
 import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
 import org.springframework.data.redis.connection.convert.Converters;
 import org.springframework.data.redis.core.Cursor;
@@ -877,6 +881,43 @@ public class JedisClusterConnection implements DefaultedRedisClusterConnection {
 	 */
 	protected interface JedisMultiKeyClusterCommandCallback<T> extends MultiKeyClusterCommandCallback<Jedis, T> {}
 
+	/**
+	 * {@link Jedis} specific {@link SlotGroupedClusterCommandCallback}.
+	 *
+	 * @param <T>
+	 * @since 2.2
+	 */
+	protected interface JedisSlotGroupedClusterCommandCallback<T> extends SlotGroupedClusterCommandCallback<Jedis, T> {}
+
+	/**
+	 * Send {@code command} for each slot group using a single {@link Pipeline} on {@code client}.
+	 *
+	 * @param client must not be {@literal null}.
+	 * @param slotGroups must not be {@literal null}.
+	 * @param command must not be {@literal null}.
+	 * @return the results in the order of {@code slotGroups}.
+	 * @since 2.2
+	 */
+	static <T> List<T> pipelined(Jedis client, List<byte[][]> slotGroups,
+			BiFunction<Pipeline, byte[][], Response<T>> command) {
+
+		Pipeline pipeline = client.pipelined();
+		List<Response<T>> responses = new ArrayList<>(slotGroups.size());
+
+		for (byte[][] slotGroup : slotGroups) {
+			responses.add(command.apply(pipeline, slotGroup));
+		}
+
+		pipeline.sync();
+
+		List<T> results = new ArrayList<>(responses.size());
+		for (Response<T> response : responses) {
+			results.add(response.get());
+		}
+
+		return results;
+	}
+
 	/**
 	 * Jedis specific implementation of {@link ClusterNodeResourceProvider}.
 	 *
@@ -17,19 +17,20 @@ package org.springframework.data.redis.connection.jedis;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import redis.clients.jedis.BinaryJedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.ScanParams;
 
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
@@ -42,7 +43,7 @@ import org.springframework.data.redis.connection.SortParameters;
 import org.springframework.data.redis.connection.ValueEncoding;
 import org.springframework.data.redis.connection.convert.Converters;
 import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterCommandCallback;
-import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisMultiKeyClusterCommandCallback;
+import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisSlotGroupedClusterCommandCallback;
 import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.ScanCursor;
 import org.springframework.data.redis.core.ScanIteration;
@@ -50,7 +51,6 @@ import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
-import org.springframework.util.ObjectUtils;
 
 /**
  * @author Christoph Strobl
@@ -80,10 +80,7 @@ class JedisClusterKeyCommands implements RedisKeyCommands {
 			}
 		}
 
-		return (long) connection.getClusterCommandExecutor()
-				.executeMultiKeyCommand((JedisMultiKeyClusterCommandCallback<Long>) (client, key) -> client.del(key),
-						Arrays.asList(keys))
-				.resultsAsList().size();
+		return sumSlotGroupResults(Pipeline::del, keys);
 	}
 
 	/*
@@ -96,8 +93,7 @@ class JedisClusterKeyCommands implements RedisKeyCommands {
 
 		Assert.notNull(keys, "Keys must not be null!");
 
-		return connection.<Long> execute("UNLINK", Arrays.asList(keys), Collections.emptyList()).stream()
-				.mapToLong(val -> val).sum();
+		return sumSlotGroupResults(Pipeline::unlink, keys);
 	}
 
 	/*
@@ -126,8 +122,7 @@ class JedisClusterKeyCommands implements RedisKeyCommands {
 
 		Assert.notNull(keys, "Keys must not be null!");
 
-		return connection.<Long> execute("TOUCH", Arrays.asList(keys), Collections.emptyList()).stream()
-				.mapToLong(val -> val).sum();
+		return sumSlotGroupResults(Pipeline::touch, keys);
 	}
 
 	/*
@@ -564,9 +559,18 @@ class JedisClusterKeyCommands implements RedisKeyCommands {
 			}
 		}
 
+		return sumSlotGroupResults(Pipeline::exists, keys);
+	}
+
+	/**
+	 * Run a multi-key {@code command} returning a count once per slot group, pipelined per node, and sum up the results.
+	 */
+	private Long sumSlotGroupResults(BiFunction<Pipeline, byte[][], Response<Long>> command, byte[]... keys) {
+
 		return connection.getClusterCommandExecutor()
-				.executeMultiKeyCommand((JedisMultiKeyClusterCommandCallback<Boolean>) BinaryJedis::exists, Arrays.asList(keys))
-				.resultsAsList().stream().mapToLong(val -> ObjectUtils.nullSafeEquals(val, Boolean.TRUE) ? 1 : 0).sum();
+				.executeSlotGroupedCommand((JedisSlotGroupedClusterCommandCallback<Long>) (client,
+						slotGroups) -> JedisClusterConnection.pipelined(client, slotGroups, command), keys)
+				.resultsAsList().stream().mapToLong(val -> val != null ? val : 0).sum();
 	}
 
 	/*
@@ -17,8 +17,9 @@ package org.springframework.data.redis.connection.jedis;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import redis.clients.jedis.BinaryJedis;
 import redis.clients.jedis.Connection;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.params.SetParams;
 
 import java.util.ArrayList;
@@ -35,7 +36,7 @@ import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.data.redis.connection.RedisStringCommands;
 import org.springframework.data.redis.connection.convert.Converters;
 import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterCommandCallback;
-import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisMultiKeyClusterCommandCallback;
+import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisSlotGroupedClusterCommandCallback;
 import org.springframework.data.redis.connection.lettuce.LettuceConverters;
 import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.data.redis.util.ByteUtils;
@@ -100,9 +101,10 @@ class JedisClusterStringCommands implements RedisStringCommands {
 			return connection.getCluster().mget(keys);
 		}
 
-		return connection.getClusterCommandExecutor()
-				.executeMultiKeyCommand((JedisMultiKeyClusterCommandCallback<byte[]>) BinaryJedis::get, Arrays.asList(keys))
-				.resultsAsListSortBy(keys);
+		return connection.getClusterCommandExecutor().executeSlotGroupedCommandInKeyOrder(
+				(JedisSlotGroupedClusterCommandCallback<List<byte[]>>) (client,
+						slotGroups) -> JedisClusterConnection.pipelined(client, slotGroups, Pipeline::mget),
+				keys);
 	}
 
 	/*
@@ -242,13 +244,12 @@ class JedisClusterStringCommands implements RedisStringCommands {
 			}
 		}
 
-		boolean result = true;
-		for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
-			if (!set(entry.getKey(), entry.getValue())) {
-				result = false;
-			}
-		}
-		return result;
+		return connection.getClusterCommandExecutor()
+				.executeSlotGroupedCommand((JedisSlotGroupedClusterCommandCallback<String>) (client,
+						slotGroups) -> JedisClusterConnection.pipelined(client, slotGroups,
+								(pipeline, keys) -> pipeline.mset(toKeyValueArray(keys, tuples))),
+						tuples.keySet().toArray(new byte[tuples.size()][]))
+				.resultsAsList().stream().allMatch(Converters::stringToBoolean);
 	}
 
 	/*
@@ -268,13 +269,42 @@ class JedisClusterStringCommands implements RedisStringCommands {
 			}
 		}
 
-		boolean result = true;
-		for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
-			if (!setNX(entry.getKey(), entry.getValue()) && result) {
-				result = false;
-			}
+		return connection.getClusterCommandExecutor()
+				.executeSlotGroupedCommand((JedisSlotGroupedClusterCommandCallback<Boolean>) (client, slotGroups) -> {
+
+					Pipeline pipeline = client.pipelined();
+					List<List<Response<Long>>> responses = new ArrayList<>(slotGroups.size());
+
+					for (byte[][] keys : slotGroups) {
+
+						List<Response<Long>> slotResponses = new ArrayList<>(keys.length);
+						for (byte[] key : keys) {
+							slotResponses.add(pipeline.setnx(key, tuples.get(key)));
+						}
+						responses.add(slotResponses);
+					}
+
+					pipeline.sync();
+
+					List<Boolean> results = new ArrayList<>(responses.size());
+					for (List<Response<Long>> slotResponses : responses) {
+						results.add(slotResponses.stream().allMatch(response -> JedisConverters.toBoolean(response.get())));
+					}
+					return results;
+				}, tuples.keySet().toArray(new byte[tuples.size()][])) //
+				.resultsAsList().stream().allMatch(Boolean.TRUE::equals);
+	}
+
+	private static byte[][] toKeyValueArray(byte[][] keys, Map<byte[], byte[]> tuples) {
+
+		byte[][] keyValues = new byte[keys.length * 2][];
+
+		for (int i = 0; i < keys.length; i++) {
+			keyValues[i * 2] = keys[i];
+			keyValues[i * 2 + 1] = tuples.get(keys[i]);
 		}
-		return result;
+
+		return keyValues;
 	}
 
 	/*
@@ -15,7 +15,15 @@
  */
 package org.springframework.data.redis.connection.lettuce;
 
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.connection.ClusterSlotHashUtil;
 import org.springframework.util.Assert;
@@ -27,8 +35,12 @@ import org.springframework.util.Assert;
  */
 class LettuceClusterStringCommands extends LettuceStringCommands {
 
+	private final LettuceClusterConnection connection;
+
 	LettuceClusterStringCommands(LettuceClusterConnection connection) {
+
 		super(connection);
+		this.connection = connection;
 	}
 
 	/*
@@ -44,12 +56,31 @@ class LettuceClusterStringCommands extends LettuceStringCommands {
 			return super.mSetNX(tuples);
 		}
 
-		boolean result = true;
-		for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
-			if (!setNX(entry.getKey(), entry.getValue()) && result) {
-				result = false;
+		try {
+
+			// issue all commands before awaiting the first reply so they are pipelined per node
+			RedisClusterAsyncCommands<byte[], byte[]> commands = getAsyncConnection();
+			List<RedisFuture<Boolean>> futures = new ArrayList<>(tuples.size());
+
+			for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
+				futures.add(commands.setnx(entry.getKey(), entry.getValue()));
+			}
+
+			if (!LettuceFutures.awaitAll(connection.getTimeout(), TimeUnit.MILLISECONDS,
+					futures.toArray(new RedisFuture<?>[0]))) {
+				throw new RedisCommandTimeoutException(
+						String.format("Command timed out after %d millisecond(s)", connection.getTimeout()));
+			}
+
+			boolean result = true;
+			for (RedisFuture<Boolean> future : futures) {
+				if (!Boolean.TRUE.equals(future.get())) {
+					result = false;
+				}
 			}
+			return result;
+		} catch (Exception ex) {
+			throw connection.convertLettuceAccessException(ex);
 		}
-		return result;
 	}
 }
@@ -16,15 +16,21 @@
 package org.springframework.data.redis.connection.lettuce;
 
 import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
+import java.util.List;
 
 import org.springframework.data.redis.connection.ClusterTopology;
 import org.springframework.data.redis.connection.ClusterTopologyProvider;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
- * Lettuce specific implementation of {@link ClusterTopologyProvider}.
+ * Lettuce specific implementation of {@link ClusterTopologyProvider}. The {@link ClusterTopology} is cached until
+ * Lettuce reloads its {@link Partitions}.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
@@ -33,6 +39,7 @@ import org.springframework.util.Assert;
 class LettuceClusterTopologyProvider implements ClusterTopologyProvider {
 
 	private final RedisClusterClient client;
+	private volatile @Nullable CachedTopology cached;
 
 	/**
 	 * @param client must not be {@literal null}.
@@ -50,6 +57,50 @@ class LettuceClusterTopologyProvider implements ClusterTopologyProvider {
 	 */
 	@Override
 	public ClusterTopology getTopology() {
-		return new ClusterTopology(new LinkedHashSet<>(LettuceConverters.partitionsToClusterNodes(client.getPartitions())));
+
+		Partitions partitions = client.getPartitions();
+		CachedTopology cached = this.cached;
+
+		if (cached != null && cached.isCurrent(partitions)) {
+			return cached.topology;
+		}
+
+		List<RedisClusterNode> snapshot = new ArrayList<>(partitions.getPartitions());
+		ClusterTopology topology = new ClusterTopology(
+				new LinkedHashSet<>(LettuceConverters.partitionsToClusterNodes(partitions)));
+
+		this.cached = new CachedTopology(snapshot, topology);
+		return topology;
+	}
+
+	/**
+	 * {@link ClusterTopology} along with the Lettuce {@link RedisClusterNode}s it was created from. Lettuce replaces the
+	 * node instances when reloading {@link Partitions} so comparing node identity detects topology changes.
+	 */
+	private static class CachedTopology {
+
+		private final List<RedisClusterNode> partitions;
+		private final ClusterTopology topology;
+
+		CachedTopology(List<RedisClusterNode> partitions, ClusterTopology topology) {
+
+			this.partitions = partitions;
+			this.topology = topology;
+		}
+
+		boolean isCurrent(Partitions current) {
+
+			if (current.size() != partitions.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < partitions.size(); i++) {
+				if (current.getPartition(i) != partitions.get(i)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
 	}
 }
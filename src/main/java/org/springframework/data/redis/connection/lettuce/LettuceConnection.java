@@ -269,6 +269,14 @@ public class LettuceConnection extends AbstractRedisConnection {
 		return EXCEPTION_TRANSLATION.translate(ex);
 	}
 
+	/**
+	 * @return the command timeout in milliseconds.
+	 * @since 2.2
+	 */
+	long getTimeout() {
+		return timeout;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.connection.RedisConnection#geoCommands()
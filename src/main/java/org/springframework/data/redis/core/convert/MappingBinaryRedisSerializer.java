@@ -0,0 +1,996 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.SimpleAssociationHandler;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+import org.springframework.data.mapping.model.PropertyValueProvider;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.core.mapping.RedisPersistentEntity;
+import org.springframework.data.redis.core.mapping.RedisPersistentProperty;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.data.util.ClassTypeInformation;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Compact binary {@link RedisSerializer} writing the properties of an object in the order the
+ * {@link RedisMappingContext} lists them. Numbers are written as variable length integers, strings and binary values
+ * are prefixed with their length and {@literal null} properties are recorded in a bit set instead of taking up space.
+ * <p>
+ * The layout of a type is resolved once from its {@link RedisPersistentEntity} when creating the serializer. Values are
+ * read and written through the {@link PersistentPropertyAccessor} and {@link EntityInstantiator} of the entity so that
+ * no reflection is involved per value. Every serialized value starts with a four byte hash of the layout. Reading a
+ * value written for a different layout, for example after adding a property, fails with a
+ * {@link SerializationException}.
+ * <p>
+ * Supported property types are primitives and their wrappers, {@link String}, {@code byte[]}, enums, {@link UUID},
+ * {@link Date}, {@link Instant}, {@link LocalDate}, {@link LocalDateTime}, {@link BigInteger}, {@link BigDecimal},
+ * nested entities as well as {@link Collection}s and {@link Map}s of those. Values are read and written using their
+ * declared type, so properties must not hold subclasses of the declared type. Associations are not supported.
+ * <p>
+ * <b>Note:</b> {@literal null} objects are serialized as empty arrays and vice versa.
+ *
+ * @since 2.2
+ */
+public class MappingBinaryRedisSerializer<T> implements RedisSerializer<T> {
+
+	private static final byte[] EMPTY_ARRAY = new byte[0];
+
+	private final Class<T> type;
+	private final RedisMappingContext mappingContext;
+	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final Map<Class<?>, EntityCodec> entityCodecs = new HashMap<>();
+	private final EntityCodec codec;
+	private final int schemaHash;
+
+	/**
+	 * Creates a new {@link MappingBinaryRedisSerializer} for the given {@code type} using a new
+	 * {@link RedisMappingContext}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@code type} holds properties of unsupported types.
+	 */
+	public MappingBinaryRedisSerializer(Class<T> type) {
+		this(type, new RedisMappingContext());
+	}
+
+	/**
+	 * Creates a new {@link MappingBinaryRedisSerializer} for the given {@code type}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@code type} holds properties of unsupported types.
+	 */
+	public MappingBinaryRedisSerializer(Class<T> type, RedisMappingContext mappingContext) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(mappingContext, "RedisMappingContext must not be null!");
+
+		this.type = type;
+		this.mappingContext = mappingContext;
+		this.codec = getEntityCodec(ClassTypeInformation.from(type));
+
+		StringBuilder schema = new StringBuilder();
+		codec.describe(schema, new ArrayList<>());
+
+		CRC32 crc = new CRC32();
+		crc.update(schema.toString().getBytes(StandardCharsets.UTF_8));
+		this.schemaHash = (int) crc.getValue();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Override
+	public byte[] serialize(@Nullable T value) throws SerializationException {
+
+		if (value == null) {
+			return EMPTY_ARRAY;
+		}
+
+		Output output = new Output();
+		output.writeFixedInt(schemaHash);
+
+		try {
+			codec.write(value, output);
+		} catch (RuntimeException e) {
+			throw new SerializationException("Could not write binary value: " + e.getMessage(), e);
+		}
+
+		return output.toByteArray();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	@SuppressWarnings("unchecked")
+	public T deserialize(@Nullable byte[] bytes) throws SerializationException {
+
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+
+		Input input = new Input(bytes);
+
+		try {
+
+			int hash = input.readFixedInt();
+
+			if (hash != schemaHash) {
+				throw new SerializationException(String.format(
+						"Could not read binary value: Schema hash %08x does not match %08x of %s", hash, schemaHash,
+						type.getName()));
+			}
+
+			return (T) codec.read(input);
+		} catch (SerializationException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new SerializationException("Could not read binary value: " + e.getMessage(), e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#getTargetType()
+	 */
+	@Override
+	public Class<?> getTargetType() {
+		return type;
+	}
+
+	private EntityCodec getEntityCodec(TypeInformation<?> typeInformation) {
+
+		EntityCodec entityCodec = entityCodecs.get(typeInformation.getType());
+
+		if (entityCodec == null) {
+
+			RedisPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(typeInformation);
+
+			// register before resolving properties to support recursive types
+			entityCodec = new EntityCodec(entity, instantiators.getInstantiatorFor(entity));
+			entityCodecs.put(typeInformation.getType(), entityCodec);
+			entityCodec.initialize();
+		}
+
+		return entityCodec;
+	}
+
+	private Codec getCodec(TypeInformation<?> typeInformation, String path) {
+
+		Class<?> rawType = ClassUtils.resolvePrimitiveIfNecessary(typeInformation.getType());
+		SimpleCodec simpleCodec = SimpleCodec.forType(rawType);
+
+		if (simpleCodec != null) {
+			return simpleCodec;
+		}
+
+		if (rawType.isEnum()) {
+			return new EnumCodec(rawType);
+		}
+
+		if (typeInformation.isMap()) {
+
+			TypeInformation<?> keyType = typeInformation.getComponentType();
+			TypeInformation<?> valueType = typeInformation.getMapValueType();
+
+			if (keyType == null || valueType == null) {
+				throw unsupported(typeInformation, path);
+			}
+
+			return new MapCodec(rawType, keyType.getType(), getCodec(keyType, path + ".key"),
+					getCodec(valueType, path + ".value"));
+		}
+
+		if (typeInformation.isCollectionLike() && !rawType.isArray()) {
+
+			TypeInformation<?> elementType = typeInformation.getComponentType();
+
+			if (elementType == null) {
+				throw unsupported(typeInformation, path);
+			}
+
+			return new CollectionCodec(rawType, elementType.getType(), getCodec(elementType, path + ".element"));
+		}
+
+		if (rawType.isArray() || rawType.isInterface() || rawType == Object.class
+				|| rawType.getName().startsWith("java.")) {
+			throw unsupported(typeInformation, path);
+		}
+
+		return getEntityCodec(typeInformation);
+	}
+
+	private static IllegalArgumentException unsupported(TypeInformation<?> typeInformation, String path) {
+		return new IllegalArgumentException(
+				String.format("Cannot serialize property %s of type %s in binary format", path, typeInformation));
+	}
+
+	/**
+	 * Binary format of a single value.
+	 */
+	private interface Codec {
+
+		void write(Object value, Output output);
+
+		Object read(Input input);
+
+		/**
+		 * Append the layout to {@code schema} for hashing.
+		 *
+		 * @param visited entity types already described to stop at recursive types.
+		 */
+		void describe(StringBuilder schema, List<Class<?>> visited);
+	}
+
+	/**
+	 * {@link Codec} for a {@link RedisPersistentEntity} writing a bit set of {@literal null} properties followed by the
+	 * values of all other properties.
+	 */
+	private class EntityCodec implements Codec {
+
+		private final RedisPersistentEntity<?> entity;
+		private final EntityInstantiator instantiator;
+		private final List<RedisPersistentProperty> properties = new ArrayList<>();
+		private final Map<String, Integer> propertyIndexes = new HashMap<>();
+
+		private Codec[] codecs = new Codec[0];
+		private boolean[] constructorParameters = new boolean[0];
+
+		EntityCodec(RedisPersistentEntity<?> entity, EntityInstantiator instantiator) {
+
+			this.entity = entity;
+			this.instantiator = instantiator;
+		}
+
+		void initialize() {
+
+			entity.doWithAssociations((SimpleAssociationHandler) association -> {
+				throw unsupported(association.getInverse().getTypeInformation(),
+						entity.getName() + "." + association.getInverse().getName());
+			});
+
+			entity.doWithProperties((PropertyHandler<RedisPersistentProperty>) properties::add);
+
+			PreferredConstructor<?, RedisPersistentProperty> constructor = entity.getPersistenceConstructor();
+			Codec[] codecs = new Codec[properties.size()];
+			boolean[] constructorParameters = new boolean[properties.size()];
+
+			for (int i = 0; i < properties.size(); i++) {
+
+				RedisPersistentProperty property = properties.get(i);
+
+				propertyIndexes.put(property.getName(), i);
+				codecs[i] = getCodec(property.getTypeInformation(), entity.getName() + "." + property.getName());
+				constructorParameters[i] = constructor != null && constructor.isConstructorParameter(property);
+			}
+
+			this.codecs = codecs;
+			this.constructorParameters = constructorParameters;
+		}
+
+		@Override
+		public void write(Object value, Output output) {
+
+			if (value.getClass() != entity.getType()) {
+				throw new IllegalArgumentException(String.format("Cannot write %s as declared type %s",
+						value.getClass().getName(), entity.getType().getName()));
+			}
+
+			PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(value);
+			Object[] values = new Object[codecs.length];
+			byte[] nulls = new byte[(codecs.length + 7) / 8];
+
+			for (int i = 0; i < codecs.length; i++) {
+
+				values[i] = accessor.getProperty(properties.get(i));
+
+				if (values[i] == null) {
+					nulls[i >> 3] |= 1 << (i & 7);
+				}
+			}
+
+			output.writeRaw(nulls);
+
+			for (int i = 0; i < codecs.length; i++) {
+				if (values[i] != null) {
+					codecs[i].write(values[i], output);
+				}
+			}
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Object read(Input input) {
+
+			byte[] nulls = input.readRaw((codecs.length + 7) / 8);
+			Object[] values = new Object[codecs.length];
+
+			for (int i = 0; i < codecs.length; i++) {
+				if ((nulls[i >> 3] & (1 << (i & 7))) == 0) {
+					values[i] = codecs[i].read(input);
+				}
+			}
+
+			PropertyValueProvider<RedisPersistentProperty> provider = new PropertyValueProvider<RedisPersistentProperty>() {
+
+				@Override
+				public <V> V getPropertyValue(RedisPersistentProperty property) {
+
+					Integer index = propertyIndexes.get(property.getName());
+					return index != null ? (V) values[index] : null;
+				}
+			};
+
+			Object instance = instantiator.createInstance((RedisPersistentEntity) entity,
+					new PersistentEntityParameterValueProvider<>(entity, provider, null));
+			PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(instance);
+
+			for (int i = 0; i < codecs.length; i++) {
+				if (values[i] != null && !constructorParameters[i]) {
+					accessor.setProperty(properties.get(i), values[i]);
+				}
+			}
+
+			return accessor.getBean();
+		}
+
+		@Override
+		public void describe(StringBuilder schema, List<Class<?>> visited) {
+
+			schema.append(entity.getName());
+
+			if (visited.contains(entity.getType())) {
+				return;
+			}
+
+			visited.add(entity.getType());
+			schema.append('{');
+
+			for (int i = 0; i < codecs.length; i++) {
+
+				schema.append(properties.get(i).getName()).append(':');
+				codecs[i].describe(schema, visited);
+				schema.append(';');
+			}
+
+			schema.append('}');
+		}
+	}
+
+	/**
+	 * {@link Codec} writing the size of a {@link Collection} followed by a presence marker and value per element.
+	 */
+	private static class CollectionCodec implements Codec {
+
+		private final Class<?> collectionType;
+		private final Class<?> elementType;
+		private final Codec elementCodec;
+
+		CollectionCodec(Class<?> collectionType, Class<?> elementType, Codec elementCodec) {
+
+			this.collectionType = collectionType;
+			this.elementType = elementType;
+			this.elementCodec = elementCodec;
+		}
+
+		@Override
+		public void write(Object value, Output output) {
+
+			Collection<?> collection = (Collection<?>) value;
+			output.writeVarLong(collection.size());
+
+			for (Object element : collection) {
+				writeNullable(element, elementCodec, output);
+			}
+		}
+
+		@Override
+		public Object read(Input input) {
+
+			int size = input.readLength();
+			Collection<Object> collection = CollectionFactory.createCollection(collectionType, elementType, size);
+
+			for (int i = 0; i < size; i++) {
+				collection.add(readNullable(elementCodec, input));
+			}
+
+			return collection;
+		}
+
+		@Override
+		public void describe(StringBuilder schema, List<Class<?>> visited) {
+
+			schema.append(collectionType.getName()).append('<');
+			elementCodec.describe(schema, visited);
+			schema.append('>');
+		}
+	}
+
+	/**
+	 * {@link Codec} writing the size of a {@link Map} followed by its keys and values each with a presence marker.
+	 */
+	private static class MapCodec implements Codec {
+
+		private final Class<?> mapType;
+		private final Class<?> keyType;
+		private final Codec keyCodec;
+		private final Codec valueCodec;
+
+		MapCodec(Class<?> mapType, Class<?> keyType, Codec keyCodec, Codec valueCodec) {
+
+			this.mapType = mapType;
+			this.keyType = keyType;
+			this.keyCodec = keyCodec;
+			this.valueCodec = valueCodec;
+		}
+
+		@Override
+		public void write(Object value, Output output) {
+
+			Map<?, ?> map = (Map<?, ?>) value;
+			output.writeVarLong(map.size());
+
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+
+				writeNullable(entry.getKey(), keyCodec, output);
+				writeNullable(entry.getValue(), valueCodec, output);
+			}
+		}
+
+		@Override
+		public Object read(Input input) {
+
+			int size = input.readLength();
+			Map<Object, Object> map = CollectionFactory.createMap(mapType, keyType, size);
+
+			for (int i = 0; i < size; i++) {
+				map.put(readNullable(keyCodec, input), readNullable(valueCodec, input));
+			}
+
+			return map;
+		}
+
+		@Override
+		public void describe(StringBuilder schema, List<Class<?>> visited) {
+
+			schema.append(mapType.getName()).append('<');
+			keyCodec.describe(schema, visited);
+			schema.append(',');
+			valueCodec.describe(schema, visited);
+			schema.append('>');
+		}
+	}
+
+	/**
+	 * {@link Codec} writing the ordinal of an {@link Enum} constant. The constant names are part of the schema so that
+	 * reordering constants changes the schema hash.
+	 */
+	private static class EnumCodec implements Codec {
+
+		private final Class<?> enumType;
+		private final Object[] constants;
+
+		EnumCodec(Class<?> enumType) {
+
+			this.enumType = enumType;
+			this.constants = enumType.getEnumConstants();
+		}
+
+		@Override
+		public void write(Object value, Output output) {
+			output.writeVarLong(((Enum<?>) value).ordinal());
+		}
+
+		@Override
+		public Object read(Input input) {
+
+			int ordinal = input.readLength();
+
+			if (ordinal >= constants.length) {
+				throw new IllegalArgumentException(
+						String.format("Invalid ordinal %d for enum %s", ordinal, enumType.getName()));
+			}
+
+			return constants[ordinal];
+		}
+
+		@Override
+		public void describe(StringBuilder schema, List<Class<?>> visited) {
+			schema.append(enumType.getName()).append(Arrays.toString(constants));
+		}
+	}
+
+	/**
+	 * {@link Codec}s for types without properties of their own.
+	 */
+	private enum SimpleCodec implements Codec {
+
+		BOOLEAN(Boolean.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeByte((Boolean) value ? 1 : 0);
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readByte() != 0;
+			}
+		},
+
+		BYTE(Byte.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeByte((Byte) value);
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readByte();
+			}
+		},
+
+		SHORT(Short.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeZigZag((Short) value);
+			}
+
+			@Override
+			public Object read(Input input) {
+				return (short) input.readZigZag();
+			}
+		},
+
+		INTEGER(Integer.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeZigZag((Integer) value);
+			}
+
+			@Override
+			public Object read(Input input) {
+				return (int) input.readZigZag();
+			}
+		},
+
+		LONG(Long.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeZigZag((Long) value);
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readZigZag();
+			}
+		},
+
+		CHARACTER(Character.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeVarLong((Character) value);
+			}
+
+			@Override
+			public Object read(Input input) {
+				return (char) input.readVarLong();
+			}
+		},
+
+		FLOAT(Float.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeFixedInt(Float.floatToIntBits((Float) value));
+			}
+
+			@Override
+			public Object read(Input input) {
+				return Float.intBitsToFloat(input.readFixedInt());
+			}
+		},
+
+		DOUBLE(Double.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeFixedLong(Double.doubleToLongBits((Double) value));
+			}
+
+			@Override
+			public Object read(Input input) {
+				return Double.longBitsToDouble(input.readFixedLong());
+			}
+		},
+
+		STRING(String.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readString();
+			}
+		},
+
+		BYTES(byte[].class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeBytes((byte[]) value);
+			}
+
+			@Override
+			public Object read(Input input) {
+				return input.readBytes();
+			}
+		},
+
+		UUID(java.util.UUID.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+
+				output.writeFixedLong(((UUID) value).getMostSignificantBits());
+				output.writeFixedLong(((UUID) value).getLeastSignificantBits());
+			}
+
+			@Override
+			public Object read(Input input) {
+				return new UUID(input.readFixedLong(), input.readFixedLong());
+			}
+		},
+
+		DATE(Date.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeZigZag(((Date) value).getTime());
+			}
+
+			@Override
+			public Object read(Input input) {
+				return new Date(input.readZigZag());
+			}
+		},
+
+		INSTANT(Instant.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+
+				output.writeZigZag(((Instant) value).getEpochSecond());
+				output.writeVarLong(((Instant) value).getNano());
+			}
+
+			@Override
+			public Object read(Input input) {
+				return Instant.ofEpochSecond(input.readZigZag(), input.readVarLong());
+			}
+		},
+
+		LOCAL_DATE(LocalDate.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeZigZag(((LocalDate) value).toEpochDay());
+			}
+
+			@Override
+			public Object read(Input input) {
+				return LocalDate.ofEpochDay(input.readZigZag());
+			}
+		},
+
+		LOCAL_DATE_TIME(LocalDateTime.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+
+				output.writeZigZag(((LocalDateTime) value).toLocalDate().toEpochDay());
+				output.writeVarLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+			}
+
+			@Override
+			public Object read(Input input) {
+				return LocalDateTime.of(LocalDate.ofEpochDay(input.readZigZag()),
+						LocalTime.ofNanoOfDay(input.readVarLong()));
+			}
+		},
+
+		BIG_INTEGER(BigInteger.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+				output.writeBytes(((BigInteger) value).toByteArray());
+			}
+
+			@Override
+			public Object read(Input input) {
+				return new BigInteger(input.readBytes());
+			}
+		},
+
+		BIG_DECIMAL(BigDecimal.class) {
+
+			@Override
+			public void write(Object value, Output output) {
+
+				output.writeZigZag(((BigDecimal) value).scale());
+				output.writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+			}
+
+			@Override
+			public Object read(Input input) {
+
+				int scale = (int) input.readZigZag();
+				return new BigDecimal(new BigInteger(input.readBytes()), scale);
+			}
+		};
+
+		private final Class<?> type;
+
+		SimpleCodec(Class<?> type) {
+			this.type = type;
+		}
+
+		@Nullable
+		static SimpleCodec forType(Class<?> type) {
+
+			for (SimpleCodec codec : values()) {
+				if (codec.type == type) {
+					return codec;
+				}
+			}
+
+			return null;
+		}
+
+		@Override
+		public void describe(StringBuilder schema, List<Class<?>> visited) {
+			schema.append(type.getName());
+		}
+	}
+
+	private static void writeNullable(@Nullable Object value, Codec codec, Output output) {
+
+		if (value == null) {
+			output.writeByte(0);
+		} else {
+
+			output.writeByte(1);
+			codec.write(value, output);
+		}
+	}
+
+	@Nullable
+	private static Object readNullable(Codec codec, Input input) {
+		return input.readByte() == 0 ? null : codec.read(input);
+	}
+
+	/**
+	 * Growable output buffer.
+	 */
+	private static class Output {
+
+		private byte[] buffer = new byte[128];
+		private int position;
+
+		void writeByte(int value) {
+
+			ensureCapacity(1);
+			buffer[position++] = (byte) value;
+		}
+
+		void writeRaw(byte[] bytes) {
+
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buffer, position, bytes.length);
+			position += bytes.length;
+		}
+
+		void writeBytes(byte[] bytes) {
+
+			writeVarLong(bytes.length);
+			writeRaw(bytes);
+		}
+
+		void writeZigZag(long value) {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		void writeVarLong(long value) {
+
+			ensureCapacity(10);
+
+			while ((value & ~0x7FL) != 0) {
+
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+
+			buffer[position++] = (byte) value;
+		}
+
+		void writeFixedInt(int value) {
+
+			ensureCapacity(4);
+
+			for (int shift = 24; shift >= 0; shift -= 8) {
+				buffer[position++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeFixedLong(long value) {
+
+			writeFixedInt((int) (value >>> 32));
+			writeFixedInt((int) value);
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, position);
+		}
+
+		private void ensureCapacity(int length) {
+
+			if (position + length > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+			}
+		}
+	}
+
+	/**
+	 * Input reading a {@code byte[]} written through {@link Output}.
+	 */
+	private static class Input {
+
+		private final byte[] buffer;
+		private int position;
+
+		Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		byte readByte() {
+
+			require(1);
+			return buffer[position++];
+		}
+
+		byte[] readRaw(int length) {
+
+			require(length);
+			byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+			position += length;
+			return bytes;
+		}
+
+		byte[] readBytes() {
+			return readRaw(readLength());
+		}
+
+		String readString() {
+
+			int length = readLength();
+			require(length);
+
+			String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return value;
+		}
+
+		/**
+		 * Read a variable length integer used as length or count.
+		 */
+		int readLength() {
+
+			long length = readVarLong();
+
+			if (length < 0 || length > buffer.length) {
+				throw new IllegalArgumentException(String.format("Invalid length %d", length));
+			}
+
+			return (int) length;
+		}
+
+		long readZigZag() {
+
+			long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		long readVarLong() {
+
+			long value = 0;
+
+			for (int shift = 0; shift < 64; shift += 7) {
+
+				byte b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+
+			throw new IllegalArgumentException("Malformed variable length integer");
+		}
+
+		int readFixedInt() {
+
+			require(4);
+
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				value = (value << 8) | (buffer[position++] & 0xFF);
+			}
+
+			return value;
+		}
+
+		long readFixedLong() {
+			return ((long) readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+		}
+
+		private void require(int length) {
+
+			if (length > buffer.length - position) {
+				throw new IllegalArgumentException("Unexpected end of binary value");
+			}
+		}
+	}
+}
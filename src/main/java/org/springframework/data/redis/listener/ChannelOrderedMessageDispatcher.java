@@ -0,0 +1,346 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Dispatcher running message listener invocations on a fixed number of worker threads. Each worker owns a bounded
+ * queue and tasks are assigned to a worker by hashing the channel a message was received on. Messages published to the
+ * same channel are therefore processed in the order they were received while messages of different channels are
+ * processed in parallel.
+ * <p>
+ * The {@link OverflowPolicy} determines how a full worker queue is handled. Queue depth and the number of dispatched,
+ * dropped and rejected tasks can be inspected at runtime.
+ *
+ * @since 2.2
+ * @see RedisMessageListenerContainer#setMessageDispatcher(ChannelOrderedMessageDispatcher)
+ */
+public class ChannelOrderedMessageDispatcher implements DisposableBean {
+
+	/**
+	 * The default capacity of a single worker queue: 1024 tasks.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	private static final long OFFER_WAIT_MILLIS = 100;
+
+	private final Log logger = LogFactory.getLog(getClass());
+
+	private final Worker[] workers;
+	private final Thread[] threads;
+	private final int queueCapacity;
+	private final OverflowPolicy overflowPolicy;
+
+	private final LongAdder dispatched = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	private volatile boolean running = true;
+
+	/**
+	 * Create a new {@link ChannelOrderedMessageDispatcher} using one worker per available processor, a queue capacity of
+	 * {@link #DEFAULT_QUEUE_CAPACITY} and {@link OverflowPolicy#BLOCK}.
+	 *
+	 * @param threadNamePrefix the prefix to use for the names of the worker threads. Must not be {@literal null}.
+	 */
+	public ChannelOrderedMessageDispatcher(String threadNamePrefix) {
+		this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY, OverflowPolicy.BLOCK, threadNamePrefix);
+	}
+
+	/**
+	 * Create a new {@link ChannelOrderedMessageDispatcher}.
+	 *
+	 * @param workerCount the number of worker threads. Must be greater than zero.
+	 * @param queueCapacity the maximum number of pending tasks per worker. Must be greater than zero.
+	 * @param overflowPolicy the policy to apply when a worker queue is full. Must not be {@literal null}.
+	 * @param threadNamePrefix the prefix to use for the names of the worker threads. Must not be {@literal null}.
+	 */
+	public ChannelOrderedMessageDispatcher(int workerCount, int queueCapacity, OverflowPolicy overflowPolicy,
+			String threadNamePrefix) {
+		this(workerCount, queueCapacity, overflowPolicy, createThreadFactory(threadNamePrefix));
+	}
+
+	/**
+	 * Create a new {@link ChannelOrderedMessageDispatcher}.
+	 *
+	 * @param workerCount the number of worker threads. Must be greater than zero.
+	 * @param queueCapacity the maximum number of pending tasks per worker. Must be greater than zero.
+	 * @param overflowPolicy the policy to apply when a worker queue is full. Must not be {@literal null}.
+	 * @param threadFactory the {@link ThreadFactory} creating the worker threads. Must not be {@literal null}.
+	 */
+	public ChannelOrderedMessageDispatcher(int workerCount, int queueCapacity, OverflowPolicy overflowPolicy,
+			ThreadFactory threadFactory) {
+
+		Assert.isTrue(workerCount > 0, "Worker count must be greater than zero!");
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than zero!");
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null!");
+		Assert.notNull(threadFactory, "ThreadFactory must not be null!");
+
+		this.queueCapacity = queueCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.workers = new Worker[workerCount];
+		this.threads = new Thread[workerCount];
+
+		for (int i = 0; i < workerCount; i++) {
+			workers[i] = new Worker(queueCapacity);
+			threads[i] = threadFactory.newThread(workers[i]);
+			threads[i].start();
+		}
+	}
+
+	private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+
+		Assert.notNull(threadNamePrefix, "Thread name prefix must not be null!");
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+		threadFactory.setDaemon(true);
+		return threadFactory;
+	}
+
+	/**
+	 * Dispatch the given {@link Runnable} to the worker responsible for {@code channel}. Tasks dispatched for the same
+	 * channel are run sequentially in dispatch order.
+	 *
+	 * @param channel the channel the task belongs to. Must not be {@literal null}.
+	 * @param task the task to run. Must not be {@literal null}.
+	 * @throws TaskRejectedException if the dispatcher has been shut down or the worker queue is full and the
+	 *           {@link OverflowPolicy} is {@link OverflowPolicy#FAIL}.
+	 */
+	public void dispatch(ByteArrayWrapper channel, Runnable task) {
+
+		Assert.notNull(channel, "Channel must not be null!");
+		Assert.notNull(task, "Task must not be null!");
+
+		if (!running) {
+			rejected.increment();
+			throw new TaskRejectedException("Dispatcher has been shut down");
+		}
+
+		BlockingQueue<Runnable> queue = workers[workerIndex(channel)].queue;
+
+		switch (overflowPolicy) {
+
+			case BLOCK:
+				enqueueBlocking(queue, task);
+				break;
+
+			case DROP_OLDEST:
+				while (!queue.offer(task)) {
+					if (queue.poll() != null) {
+						dropped.increment();
+					}
+				}
+				break;
+
+			case FAIL:
+				if (!queue.offer(task)) {
+					rejected.increment();
+					throw new TaskRejectedException(
+							String.format("Queue for channel '%s' reached its capacity of %d", new String(channel.getArray()),
+									queueCapacity));
+				}
+				break;
+		}
+
+		dispatched.increment();
+	}
+
+	private void enqueueBlocking(BlockingQueue<Runnable> queue, Runnable task) {
+
+		try {
+			while (!queue.offer(task, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (!running) {
+					rejected.increment();
+					throw new TaskRejectedException("Dispatcher has been shut down");
+				}
+			}
+		} catch (InterruptedException ex) {
+
+			Thread.currentThread().interrupt();
+			rejected.increment();
+			throw new TaskRejectedException("Interrupted while waiting for queue capacity", ex);
+		}
+	}
+
+	int workerIndex(ByteArrayWrapper channel) {
+
+		int hash = channel.hashCode();
+		hash ^= (hash >>> 16);
+
+		return (hash & Integer.MAX_VALUE) % workers.length;
+	}
+
+	/**
+	 * @return the number of worker threads.
+	 */
+	public int getWorkerCount() {
+		return workers.length;
+	}
+
+	/**
+	 * @return the maximum number of pending tasks per worker.
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * @return the configured {@link OverflowPolicy}.
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * @return the number of tasks currently waiting across all workers.
+	 */
+	public int getQueueDepth() {
+
+		int depth = 0;
+		for (Worker worker : workers) {
+			depth += worker.queue.size();
+		}
+		return depth;
+	}
+
+	/**
+	 * @param worker the worker index, {@literal 0} to {@link #getWorkerCount()} - 1.
+	 * @return the number of tasks currently waiting for the given worker.
+	 */
+	public int getQueueDepth(int worker) {
+
+		Assert.isTrue(worker >= 0 && worker < workers.length, "Worker index out of range!");
+
+		return workers[worker].queue.size();
+	}
+
+	/**
+	 * @return the total number of tasks accepted for dispatch.
+	 */
+	public long getDispatchedCount() {
+		return dispatched.sum();
+	}
+
+	/**
+	 * @return the total number of pending tasks discarded through {@link OverflowPolicy#DROP_OLDEST}.
+	 */
+	public long getDroppedCount() {
+		return dropped.sum();
+	}
+
+	/**
+	 * @return the total number of tasks rejected because of {@link OverflowPolicy#FAIL} or shutdown.
+	 */
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+	/**
+	 * @return {@literal true} if the dispatcher accepts tasks.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Shut down the dispatcher. Pending tasks are discarded and worker threads are interrupted.
+	 */
+	@Override
+	public void destroy() {
+
+		if (!running) {
+			return;
+		}
+
+		running = false;
+
+		int discarded = 0;
+		for (int i = 0; i < workers.length; i++) {
+
+			discarded += workers[i].queue.size();
+			workers[i].queue.clear();
+			threads[i].interrupt();
+		}
+
+		if (logger.isDebugEnabled()) {
+			logger.debug(String.format("Stopped message dispatcher, discarded %d pending tasks", discarded));
+		}
+	}
+
+	/**
+	 * Policy applied when dispatching to a worker whose queue has reached its capacity.
+	 */
+	public enum OverflowPolicy {
+
+		/**
+		 * Block the dispatching (subscription) thread until the worker queue has capacity.
+		 */
+		BLOCK,
+
+		/**
+		 * Discard the oldest pending task of the worker queue to make room for the new one.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Reject the task by throwing {@link TaskRejectedException}.
+		 */
+		FAIL
+	}
+
+	private class Worker implements Runnable {
+
+		private final BlockingQueue<Runnable> queue;
+
+		Worker(int capacity) {
+			this.queue = new ArrayBlockingQueue<>(capacity);
+		}
+
+		@Override
+		public void run() {
+
+			while (running) {
+
+				Runnable task;
+				try {
+					task = queue.take();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+
+				try {
+					task.run();
+				} catch (Throwable ex) {
+					logger.warn("Message dispatch task failed", ex);
+				}
+			}
+		}
+	}
+}
@@ -34,6 +34,7 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.data.redis.connection.ConnectionUtils;
 import org.springframework.data.redis.connection.Message;
@@ -58,6 +59,10 @@ import org.springframework.util.ErrorHandler;
  * As oppose to the low level Redis (one connection per subscription), the container uses only one connection that is
  * 'multiplexed' for all registered listeners, the message dispatch being done through the task executor.
  * <p>
+ * Unless a task executor is configured explicitly, messages are dispatched through a
+ * {@link ChannelOrderedMessageDispatcher} that uses a fixed number of worker threads and preserves the message order
+ * within a channel.
+ * <p>
  * Note the container uses the connection in a lazy fashion (the connection is used only if at least one listener is
  * configured).
  * <p>
@@ -97,6 +102,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 	private @Nullable Executor taskExecutor;
 
+	private @Nullable ChannelOrderedMessageDispatcher messageDispatcher;
+
 	private @Nullable RedisConnectionFactory connectionFactory;
 
 	private @Nullable String beanName;
@@ -114,6 +121,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 	private volatile boolean manageExecutor = false;
 
+	private volatile boolean manageMessageDispatcher = false;
+
 	// lookup maps
 	// to avoid creation of hashes for each message, the maps use raw byte arrays (wrapped to respect the equals/hashcode
 	// contract)
@@ -137,6 +146,11 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		if (taskExecutor == null) {
 			manageExecutor = true;
 			taskExecutor = createDefaultTaskExecutor();
+
+			if (messageDispatcher == null) {
+				messageDispatcher = createDefaultMessageDispatcher();
+				manageMessageDispatcher = messageDispatcher != null;
+			}
 		}
 
 		if (subscriptionExecutor == null) {
@@ -159,6 +173,23 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		return new SimpleAsyncTaskExecutor(threadNamePrefix);
 	}
 
+	/**
+	 * Creates a default {@link ChannelOrderedMessageDispatcher}. Called if neither a TaskExecutor nor a message
+	 * dispatcher has been specified.
+	 * <p>
+	 * The default implementation creates a dispatcher with one worker per available processor using the specified bean
+	 * name (or the class name, if no bean name specified) as thread name prefix. Returning {@literal null} dispatches
+	 * messages through the {@link #createDefaultTaskExecutor() default TaskExecutor}.
+	 *
+	 * @return the {@link ChannelOrderedMessageDispatcher} to use, may be {@literal null}.
+	 * @since 2.2
+	 */
+	@Nullable
+	protected ChannelOrderedMessageDispatcher createDefaultMessageDispatcher() {
+		String threadNamePrefix = (beanName != null ? beanName + "-" : DEFAULT_THREAD_NAME_PREFIX) + "dispatch-";
+		return new ChannelOrderedMessageDispatcher(threadNamePrefix);
+	}
+
 	public void destroy() throws Exception {
 		initialized = false;
 
@@ -173,6 +204,14 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 				}
 			}
 		}
+
+		if (manageMessageDispatcher && messageDispatcher != null) {
+			messageDispatcher.destroy();
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Stopped internally-managed message dispatcher");
+			}
+		}
 	}
 
 	public boolean isAutoStartup() {
@@ -318,8 +357,9 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 	/**
 	 * Sets the task executor used for running the message listeners when messages are received. If no task executor is
-	 * set, an instance of {@link SimpleAsyncTaskExecutor} will be used by default. The task executor can be adjusted
-	 * depending on the work done by the listeners and the number of messages coming in.
+	 * set, messages are dispatched through a {@link ChannelOrderedMessageDispatcher} and an instance of
+	 * {@link SimpleAsyncTaskExecutor} is used for the subscription. The task executor can be adjusted depending on the
+	 * work done by the listeners and the number of messages coming in.
 	 *
 	 * @param taskExecutor The taskExecutor to set.
 	 */
@@ -327,6 +367,31 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Sets the {@link ChannelOrderedMessageDispatcher} used for running the message listeners when messages are
+	 * received. A configured dispatcher takes precedence over the {@link #setTaskExecutor(Executor) task executor} for
+	 * message dispatch and runs messages of the same channel in the order they were received. The dispatcher is not
+	 * shut down by the container.
+	 *
+	 * @param messageDispatcher The messageDispatcher to set.
+	 * @since 2.2
+	 */
+	public void setMessageDispatcher(ChannelOrderedMessageDispatcher messageDispatcher) {
+		this.messageDispatcher = messageDispatcher;
+	}
+
+	/**
+	 * Returns the {@link ChannelOrderedMessageDispatcher} used for message dispatch, for example to inspect its queue
+	 * depth.
+	 *
+	 * @return the message dispatcher or {@literal null} if messages are dispatched through the task executor.
+	 * @since 2.2
+	 */
+	@Nullable
+	public ChannelOrderedMessageDispatcher getMessageDispatcher() {
+		return messageDispatcher;
+	}
+
 	/**
 	 * Sets the task execution used for subscribing to Redis channels. By default, if no executor is set, the
 	 * {@link #setTaskExecutor(Executor)} will be used. In some cases, this might be undersired as the listening to the
@@ -982,6 +1047,20 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 	private void dispatchMessage(Collection<MessageListener> listeners, final Message message, final byte[] pattern) {
 		final byte[] source = (pattern != null ? pattern.clone() : message.getChannel());
 
+		if (messageDispatcher != null) {
+
+			try {
+				messageDispatcher.dispatch(new ByteArrayWrapper(message.getChannel()), () -> {
+					for (MessageListener messageListener : listeners) {
+						processMessage(messageListener, message, source);
+					}
+				});
+			} catch (TaskRejectedException ex) {
+				handleListenerException(ex);
+			}
+			return;
+		}
+
 		for (final MessageListener messageListener : listeners) {
 			taskExecutor.execute(() -> processMessage(messageListener, message, source));
 		}
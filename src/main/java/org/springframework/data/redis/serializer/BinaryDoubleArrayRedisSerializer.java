@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Binary {@link RedisSerializer} for {@code double[]} writing the eight byte {@literal IEEE 754} representation of each
+ * element in big-endian order. The element count is derived from the value length, so an empty array is written as an
+ * empty value. Reading a {@link ByteBuffer} uses bulk transfer without an intermediate {@code byte[]}.
+ *
+ * @since 2.2
+ * @see BinaryDoubleRedisSerializer
+ */
+public enum BinaryDoubleArrayRedisSerializer implements ByteBufferRedisSerializer<double[]> {
+
+	INSTANCE;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public byte[] serialize(@Nullable double[] values) {
+
+		if (values == null) {
+			return null;
+		}
+
+		byte[] bytes = new byte[values.length * Double.BYTES];
+
+		for (int i = 0; i < values.length; i++) {
+			BinaryNumbers.writeLong(Double.doubleToRawLongBits(values[i]), bytes, i * Double.BYTES);
+		}
+
+		return bytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public double[] deserialize(@Nullable byte[] bytes) {
+
+		if (bytes == null) {
+			return null;
+		}
+
+		double[] values = new double[elementCount(bytes.length)];
+
+		for (int i = 0; i < values.length; i++) {
+			values[i] = Double.longBitsToDouble(BinaryNumbers.readLong(bytes, i * Double.BYTES));
+		}
+
+		return values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Override
+	public double[] deserializeFromBuffer(ByteBuffer buffer) {
+
+		double[] values = new double[elementCount(buffer.remaining())];
+		buffer.duplicate().asDoubleBuffer().get(values);
+		return values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#getTargetType()
+	 */
+	@Override
+	public Class<?> getTargetType() {
+		return double[].class;
+	}
+
+	private static int elementCount(int length) {
+
+		if (length % Double.BYTES != 0) {
+			throw new SerializationException(
+					String.format("Cannot read double array: Length %d is not a multiple of %d", length, Double.BYTES));
+		}
+
+		return length / Double.BYTES;
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Binary {@link RedisSerializer} for {@link Double} values writing the eight byte {@literal IEEE 754} representation
+ * in big-endian order. Values are read back bit-exact, including {@literal NaN} and signed zero.
+ * <p>
+ * Primitive methods such as {@link #serializeDouble(double)}, {@link #deserializeDouble(byte[])} and
+ * {@link #write(double, ByteBuffer)} avoid boxing. Redis treats binary values as opaque strings, so commands
+ * interpreting values as numbers such as {@literal INCRBYFLOAT} cannot be used on values written by this serializer.
+ *
+ * @since 2.2
+ */
+public enum BinaryDoubleRedisSerializer implements ByteBufferRedisSerializer<Double> {
+
+	INSTANCE;
+
+	/**
+	 * Serialize a primitive {@code double}.
+	 *
+	 * @param value the value to serialize.
+	 * @return the binary representation.
+	 */
+	public byte[] serializeDouble(double value) {
+
+		byte[] bytes = new byte[Double.BYTES];
+		BinaryNumbers.writeLong(Double.doubleToRawLongBits(value), bytes, 0);
+		return bytes;
+	}
+
+	/**
+	 * Deserialize a primitive {@code double}.
+	 *
+	 * @param bytes must not be {@literal null}.
+	 * @return the deserialized value.
+	 * @throws SerializationException if {@code bytes} does not hold exactly one value.
+	 */
+	public double deserializeDouble(byte[] bytes) {
+
+		BinaryNumbers.requireSize(bytes, Double.BYTES);
+		return Double.longBitsToDouble(BinaryNumbers.readLong(bytes, 0));
+	}
+
+	/**
+	 * Write {@code value} to {@code target} advancing its position.
+	 *
+	 * @param value the value to write.
+	 * @param target must not be {@literal null}.
+	 * @throws java.nio.BufferOverflowException if {@code target} has insufficient space.
+	 */
+	public void write(double value, ByteBuffer target) {
+		BinaryNumbers.putLong(Double.doubleToRawLongBits(value), target);
+	}
+
+	/**
+	 * Read a value from {@code source} advancing its position.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the value read.
+	 * @throws SerializationException if {@code source} does not hold a complete value.
+	 */
+	public double read(ByteBuffer source) {
+
+		if (source.remaining() < Double.BYTES) {
+			throw new SerializationException(String.format("Cannot read fixed length number: Expected %d bytes but got %d",
+					Double.BYTES, source.remaining()));
+		}
+
+		return Double.longBitsToDouble(BinaryNumbers.getLong(source));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public byte[] serialize(@Nullable Double value) {
+		return value == null ? null : serializeDouble(value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public Double deserialize(@Nullable byte[] bytes) {
+		return SerializationUtils.isEmpty(bytes) ? null : deserializeDouble(bytes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Nullable
+	@Override
+	public Double deserializeFromBuffer(ByteBuffer buffer) {
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+
+		if (buffer.remaining() != Double.BYTES) {
+			throw new SerializationException(String.format("Cannot read fixed length number: Expected %d bytes but got %d",
+					Double.BYTES, buffer.remaining()));
+		}
+
+		return Double.longBitsToDouble(BinaryNumbers.getLong(buffer.duplicate()));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#getTargetType()
+	 */
+	@Override
+	public Class<?> getTargetType() {
+		return Double.class;
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Binary {@link RedisSerializer} for {@link Integer} values. {@link #FIXED} writes four bytes in big-endian order,
+ * {@link #VARIABLE} writes a {@literal ZigZag} encoded variable length number taking one byte for values between
+ * {@literal -64} and {@literal 63}.
+ * <p>
+ * Primitive methods such as {@link #serializeInt(int)}, {@link #deserializeInt(byte[])} and
+ * {@link #write(int, ByteBuffer)} avoid boxing. Redis treats binary values as opaque strings, so commands interpreting
+ * values as numbers such as {@literal INCR} cannot be used on values written by this serializer.
+ *
+ * @since 2.2
+ */
+public enum BinaryIntegerRedisSerializer implements ByteBufferRedisSerializer<Integer> {
+
+	/**
+	 * Four bytes, big-endian. Keys for non-negative values sort in numeric order.
+	 */
+	FIXED {
+
+		@Override
+		public byte[] serializeInt(int value) {
+			return new byte[] { (byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value };
+		}
+
+		@Override
+		public int deserializeInt(byte[] bytes) {
+
+			BinaryNumbers.requireSize(bytes, Integer.BYTES);
+			return (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF);
+		}
+
+		@Override
+		public void write(int value, ByteBuffer target) {
+			BinaryNumbers.putInt(value, target);
+		}
+
+		@Override
+		public int read(ByteBuffer source) {
+
+			if (source.remaining() < Integer.BYTES) {
+				throw new SerializationException(String.format(
+						"Cannot read fixed length number: Expected %d bytes but got %d", Integer.BYTES, source.remaining()));
+			}
+
+			return BinaryNumbers.getInt(source);
+		}
+	},
+
+	/**
+	 * One to five bytes depending on the magnitude of the value.
+	 */
+	VARIABLE {
+
+		@Override
+		public byte[] serializeInt(int value) {
+
+			long encoded = BinaryNumbers.zigZag(value);
+			byte[] bytes = new byte[BinaryNumbers.varLongSize(encoded)];
+			BinaryNumbers.writeVarLong(encoded, ByteBuffer.wrap(bytes));
+			return bytes;
+		}
+
+		@Override
+		public int deserializeInt(byte[] bytes) {
+
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			int value = read(buffer);
+
+			if (buffer.hasRemaining()) {
+				throw new SerializationException(
+						String.format("Cannot read variable length number: %d trailing bytes", buffer.remaining()));
+			}
+
+			return value;
+		}
+
+		@Override
+		public void write(int value, ByteBuffer target) {
+			BinaryNumbers.writeVarLong(BinaryNumbers.zigZag(value), target);
+		}
+
+		@Override
+		public int read(ByteBuffer source) {
+			long value = BinaryNumbers.unZigZag(BinaryNumbers.readVarLong(source));
+
+			if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+				throw new SerializationException(String.format("Cannot read integer: %d is out of range", value));
+			}
+
+			return (int) value;
+		}
+	};
+
+	/**
+	 * Serialize a primitive {@code int}.
+	 *
+	 * @param value the value to serialize.
+	 * @return the binary representation.
+	 */
+	public abstract byte[] serializeInt(int value);
+
+	/**
+	 * Deserialize a primitive {@code int}.
+	 *
+	 * @param bytes must not be {@literal null}.
+	 * @return the deserialized value.
+	 * @throws SerializationException if {@code bytes} does not hold exactly one value.
+	 */
+	public abstract int deserializeInt(byte[] bytes);
+
+	/**
+	 * Write {@code value} to {@code target} advancing its position.
+	 *
+	 * @param value the value to write.
+	 * @param target must not be {@literal null}.
+	 * @throws java.nio.BufferOverflowException if {@code target} has insufficient space.
+	 */
+	public abstract void write(int value, ByteBuffer target);
+
+	/**
+	 * Read a value from {@code source} advancing its position. Remaining content is left untouched so that multiple
+	 * values can be read from the same buffer.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the value read.
+	 * @throws SerializationException if {@code source} does not hold a complete value.
+	 */
+	public abstract int read(ByteBuffer source);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public byte[] serialize(@Nullable Integer value) {
+		return value == null ? null : serializeInt(value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public Integer deserialize(@Nullable byte[] bytes) {
+		return SerializationUtils.isEmpty(bytes) ? null : deserializeInt(bytes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Nullable
+	@Override
+	public Integer deserializeFromBuffer(ByteBuffer buffer) {
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+
+		ByteBuffer source = buffer.duplicate();
+		int value = read(source);
+
+		if (source.hasRemaining()) {
+			throw new SerializationException(String.format("Cannot read number: %d trailing bytes", source.remaining()));
+		}
+
+		return value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#getTargetType()
+	 */
+	@Override
+	public Class<?> getTargetType() {
+		return Integer.class;
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Binary {@link RedisSerializer} for {@code long[]} using the element encodings of {@link BinaryLongRedisSerializer}.
+ * The element count is derived from the value, so an empty array is written as an empty value. {@link #VARIABLE} suits
+ * arrays of mostly small numbers such as counters or deltas.
+ *
+ * @since 2.2
+ * @see BinaryLongRedisSerializer
+ */
+public enum BinaryLongArrayRedisSerializer implements ByteBufferRedisSerializer<long[]> {
+
+	/**
+	 * Eight bytes per element, big-endian.
+	 */
+	FIXED {
+
+		@Override
+		public byte[] serialize(@Nullable long[] values) {
+
+			if (values == null) {
+				return null;
+			}
+
+			byte[] bytes = new byte[values.length * Long.BYTES];
+
+			for (int i = 0; i < values.length; i++) {
+				BinaryNumbers.writeLong(values[i], bytes, i * Long.BYTES);
+			}
+
+			return bytes;
+		}
+
+		@Override
+		long[] read(ByteBuffer source) {
+
+			if (source.remaining() % Long.BYTES != 0) {
+				throw new SerializationException(String.format(
+						"Cannot read long array: Length %d is not a multiple of %d", source.remaining(), Long.BYTES));
+			}
+
+			long[] values = new long[source.remaining() / Long.BYTES];
+			source.asLongBuffer().get(values);
+			return values;
+		}
+	},
+
+	/**
+	 * One to ten bytes per element depending on its magnitude.
+	 */
+	VARIABLE {
+
+		@Override
+		public byte[] serialize(@Nullable long[] values) {
+
+			if (values == null) {
+				return null;
+			}
+
+			int size = 0;
+			for (long value : values) {
+				size += BinaryNumbers.varLongSize(BinaryNumbers.zigZag(value));
+			}
+
+			byte[] bytes = new byte[size];
+			ByteBuffer target = ByteBuffer.wrap(bytes);
+
+			for (long value : values) {
+				BinaryNumbers.writeVarLong(BinaryNumbers.zigZag(value), target);
+			}
+
+			return bytes;
+		}
+
+		@Override
+		long[] read(ByteBuffer source) {
+
+			// every element ends with the only byte of its encoding without continuation bit
+			int count = 0;
+			for (int i = source.position(); i < source.limit(); i++) {
+				if ((source.get(i) & 0x80) == 0) {
+					count++;
+				}
+			}
+
+			long[] values = new long[count];
+
+			for (int i = 0; i < count; i++) {
+				values[i] = BinaryNumbers.unZigZag(BinaryNumbers.readVarLong(source));
+			}
+
+			if (source.hasRemaining()) {
+				throw new SerializationException("Cannot read long array: Unexpected end of input");
+			}
+
+			return values;
+		}
+	};
+
+	/**
+	 * Read all remaining elements of {@code source}. {@code source} is a big-endian buffer owned by the caller.
+	 */
+	abstract long[] read(ByteBuffer source);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public long[] deserialize(@Nullable byte[] bytes) {
+		return bytes == null ? null : read(ByteBuffer.wrap(bytes));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Override
+	public long[] deserializeFromBuffer(ByteBuffer buffer) {
+		return read(buffer.duplicate());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#getTargetType()
+	 */
+	@Override
+	public Class<?> getTargetType() {
+		return long[].class;
+	}
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Binary {@link RedisSerializer} for {@link Long} values. {@link #FIXED} writes eight bytes in big-endian order,
+ * {@link #VARIABLE} writes a {@literal ZigZag} encoded variable length number taking one byte for values between
+ * {@literal -64} and {@literal 63}.
+ * <p>
+ * Primitive methods such as {@link #serializeLong(long)}, {@link #deserializeLong(byte[])} and
+ * {@link #write(long, ByteBuffer)} avoid boxing. Redis treats binary values as opaque strings, so commands interpreting
+ * values as numbers such as {@literal INCR} cannot be used on values written by this serializer.
+ *
+ * @since 2.2
+ */
+public enum BinaryLongRedisSerializer implements ByteBufferRedisSerializer<Long> {
+
+	/**
+	 * Eight bytes, big-endian. Keys for non-negative values sort in numeric order.
+	 */
+	FIXED {
+
+		@Override
+		public byte[] serializeLong(long value) {
+
+			byte[] bytes = new byte[Long.BYTES];
+			BinaryNumbers.writeLong(value, bytes, 0);
+			return bytes;
+		}
+
+		@Override
+		public long deserializeLong(byte[] bytes) {
+
+			BinaryNumbers.requireSize(bytes, Long.BYTES);
+			return BinaryNumbers.readLong(bytes, 0);
+		}
+
+		@Override
+		public void write(long value, ByteBuffer target) {
+			BinaryNumbers.putLong(value, target);
+		}
+
+		@Override
+		public long read(ByteBuffer source) {
+
+			if (source.remaining() < Long.BYTES) {
+				throw new SerializationException(String.format(
+						"Cannot read fixed length number: Expected %d bytes but got %d", Long.BYTES, source.remaining()));
+			}
+
+			return BinaryNumbers.getLong(source);
+		}
+	},
+
+	/**
+	 * One to ten bytes depending on the magnitude of the value.
+	 */
+	VARIABLE {
+
+		@Override
+		public byte[] serializeLong(long value) {
+
+			long encoded = BinaryNumbers.zigZag(value);
+			byte[] bytes = new byte[BinaryNumbers.varLongSize(encoded)];
+			BinaryNumbers.writeVarLong(encoded, ByteBuffer.wrap(bytes));
+			return bytes;
+		}
+
+		@Override
+		public long deserializeLong(byte[] bytes) {
+
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			long value = read(buffer);
+
+			if (buffer.hasRemaining()) {
+				throw new SerializationException(
+						String.format("Cannot read variable length number: %d trailing bytes", buffer.remaining()));
+			}
+
+			return value;
+		}
+
+		@Override
+		public void write(long value, ByteBuffer target) {
+			BinaryNumbers.writeVarLong(BinaryNumbers.zigZag(value), target);
+		}
+
+		@Override
+		public long read(ByteBuffer source) {
+			return BinaryNumbers.unZigZag(BinaryNumbers.readVarLong(source));
+		}
+	};
+
+	/**
+	 * Serialize a primitive {@code long}.
+	 *
+	 * @param value the value to serialize.
+	 * @return the binary representation.
+	 */
+	public abstract byte[] serializeLong(long value);
+
+	/**
+	 * Deserialize a primitive {@code long}.
+	 *
+	 * @param bytes must not be {@literal null}.
+	 * @return the deserialized value.
+	 * @throws SerializationException if {@code bytes} does not hold exactly one value.
+	 */
+	public abstract long deserializeLong(byte[] bytes);
+
+	/**
+	 * Write {@code value} to {@code target} advancing its position.
+	 *
+	 * @param value the value to write.
+	 * @param target must not be {@literal null}.
+	 * @throws java.nio.BufferOverflowException if {@code target} has insufficient space.
+	 */
+	public abstract void write(long value, ByteBuffer target);
+
+	/**
+	 * Read a value from {@code source} advancing its position. Remaining content is left untouched so that multiple
+	 * values can be read from the same buffer.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the value read.
+	 * @throws SerializationException if {@code source} does not hold a complete value.
+	 */
+	public abstract long read(ByteBuffer source);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
+	 */
+	@Nullable
+	@Override
+	public byte[] serialize(@Nullable Long value) {
+		return value == null ? null : serializeLong(value);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#deserialize(byte[])
+	 */
+	@Nullable
+	@Override
+	public Long deserialize(@Nullable byte[] bytes) {
+		return SerializationUtils.isEmpty(bytes) ? null : deserializeLong(bytes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Nullable
+	@Override
+	public Long deserializeFromBuffer(ByteBuffer buffer) {
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+
+		ByteBuffer source = buffer.duplicate();
+		long value = read(source);
+
+		if (source.hasRemaining()) {
+			throw new SerializationException(String.format("Cannot read number: %d trailing bytes", source.remaining()));
+		}
+
+		return value;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializer#getTargetType()
+	 */
+	@Override
+	public Class<?> getTargetType() {
+		return Long.class;
+	}
+}
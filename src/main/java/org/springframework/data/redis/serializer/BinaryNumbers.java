@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Encoding utilities for binary number serializers. Variable length numbers use {@literal ZigZag} encoding followed by
+ * groups of seven bits, least significant group first, with the high bit marking continuation.
+ *
+ * @since 2.2
+ */
+final class BinaryNumbers {
+
+	static final int MAX_VAR_LONG_SIZE = 10;
+
+	private BinaryNumbers() {}
+
+	static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * @param value the {@link #zigZag(long) ZigZag encoded} value.
+	 * @return number of bytes required to write {@code value}.
+	 */
+	static int varLongSize(long value) {
+
+		int size = 1;
+
+		while ((value & ~0x7FL) != 0) {
+
+			value >>>= 7;
+			size++;
+		}
+
+		return size;
+	}
+
+	/**
+	 * Write the {@link #zigZag(long) ZigZag encoded} {@code value} to {@code target}.
+	 */
+	static void writeVarLong(long value, ByteBuffer target) {
+
+		while ((value & ~0x7FL) != 0) {
+
+			target.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		target.put((byte) value);
+	}
+
+	/**
+	 * Read a value written by {@link #writeVarLong(long, ByteBuffer)} without decoding {@literal ZigZag}.
+	 *
+	 * @throws SerializationException if {@code source} does not hold a complete value.
+	 */
+	static long readVarLong(ByteBuffer source) {
+
+		long value = 0;
+
+		try {
+
+			for (int shift = 0; shift < 64; shift += 7) {
+
+				byte b = source.get();
+				value |= (long) (b & 0x7F) << shift;
+
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+		} catch (BufferUnderflowException e) {
+			throw new SerializationException("Cannot read variable length number: Unexpected end of input", e);
+		}
+
+		throw new SerializationException("Cannot read variable length number: Too many bytes");
+	}
+
+	/**
+	 * Ensure {@code bytes} holds exactly {@code size} bytes.
+	 *
+	 * @throws SerializationException otherwise.
+	 */
+	static void requireSize(byte[] bytes, int size) {
+
+		if (bytes.length != size) {
+			throw new SerializationException(
+					String.format("Cannot read fixed length number: Expected %d bytes but got %d", size, bytes.length));
+		}
+	}
+
+	static void writeLong(long value, byte[] target, int offset) {
+
+		for (int i = 7; i >= 0; i--) {
+			target[offset + i] = (byte) value;
+			value >>>= 8;
+		}
+	}
+
+	static long readLong(byte[] source, int offset) {
+
+		long value = 0;
+
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (source[offset + i] & 0xFF);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Put {@code value} to {@code target} in big-endian order regardless of the buffer {@link ByteBuffer#order() order}.
+	 */
+	static void putLong(long value, ByteBuffer target) {
+		target.putLong(target.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value));
+	}
+
+	/**
+	 * Get a big-endian {@code long} from {@code source} regardless of the buffer {@link ByteBuffer#order() order}.
+	 */
+	static long getLong(ByteBuffer source) {
+
+		long value = source.getLong();
+		return source.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+	}
+
+	static void putInt(int value, ByteBuffer target) {
+		target.putInt(target.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value));
+	}
+
+	static int getInt(ByteBuffer source) {
+
+		int value = source.getInt();
+		return source.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link RedisSerializer} extension reading and writing {@link ByteBuffer}s directly. {@link RedisElementReader} and
+ * {@link RedisElementWriter} created for a {@link ByteBufferRedisSerializer} use these methods instead of copying
+ * buffers to and from {@code byte[]}. Subclasses that override {@link #serialize(Object)} or
+ * {@link #deserialize(byte[])} without overriding the corresponding buffer method are used through the {@code byte[]}
+ * methods.
+ *
+ * @since 2.2
+ * @see RedisElementReader#from(RedisSerializer)
+ * @see RedisElementWriter#from(RedisSerializer)
+ */
+public interface ByteBufferRedisSerializer<T> extends RedisSerializer<T> {
+
+	/**
+	 * Serialize the given object to a {@link ByteBuffer}. The returned buffer is owned by the caller and must not be
+	 * reused by the serializer.
+	 *
+	 * @param t object to serialize. Can be {@literal null}.
+	 * @return the equivalent binary data ready to be read.
+	 */
+	default ByteBuffer serializeToBuffer(@Nullable T t) throws SerializationException {
+		return ByteBuffer.wrap(serialize(t));
+	}
+
+	/**
+	 * Deserialize an object from the remaining content of the given {@link ByteBuffer} without changing its position.
+	 * Implementations may read the backing array of heap buffers in place.
+	 *
+	 * @param buffer object binary representation. Must not be {@literal null}.
+	 * @return the equivalent object instance. Can be {@literal null}.
+	 */
+	@Nullable
+	T deserializeFromBuffer(ByteBuffer buffer) throws SerializationException;
+}
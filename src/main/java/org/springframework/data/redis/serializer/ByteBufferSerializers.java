@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Utilities to decide whether a {@link ByteBufferRedisSerializer} can be used through its {@link ByteBuffer} methods.
+ * Subclasses of extensible serializers may override {@link RedisSerializer#serialize(Object)} or
+ * {@link RedisSerializer#deserialize(byte[])} only, in which case the inherited buffer methods would bypass the
+ * override.
+ *
+ * @since 2.2
+ */
+final class ByteBufferSerializers {
+
+	private ByteBufferSerializers() {}
+
+	/**
+	 * @param serializer can be {@literal null}.
+	 * @return {@literal true} if {@link ByteBufferRedisSerializer#serializeToBuffer(Object)} is consistent with
+	 *         {@link RedisSerializer#serialize(Object)}.
+	 */
+	static boolean canSerializeToBuffer(@Nullable RedisSerializer<?> serializer) {
+		return serializer instanceof ByteBufferRedisSerializer
+				&& isNotOverridden(serializer.getClass(), "serialize", "serializeToBuffer");
+	}
+
+	/**
+	 * @param serializer can be {@literal null}.
+	 * @return {@literal true} if {@link ByteBufferRedisSerializer#deserializeFromBuffer(ByteBuffer)} is consistent with
+	 *         {@link RedisSerializer#deserialize(byte[])}.
+	 */
+	static boolean canDeserializeFromBuffer(@Nullable RedisSerializer<?> serializer) {
+		return serializer instanceof ByteBufferRedisSerializer
+				&& isNotOverridden(serializer.getClass(), "deserialize", "deserializeFromBuffer");
+	}
+
+	/**
+	 * Checks that the buffer method is implemented by the same class as the array method or one of its subclasses.
+	 * Buffer methods inherited from the interface delegate to the array method and are always consistent.
+	 */
+	private static boolean isNotOverridden(Class<?> type, String arrayMethodName, String bufferMethodName) {
+
+		Class<?> bufferDeclaringClass = findImplementingClass(type, bufferMethodName);
+
+		if (bufferDeclaringClass == null) {
+			return true;
+		}
+
+		Class<?> arrayDeclaringClass = findImplementingClass(type, arrayMethodName);
+
+		return arrayDeclaringClass != null && arrayDeclaringClass.isAssignableFrom(bufferDeclaringClass);
+	}
+
+	/**
+	 * @return the most specific class declaring a single argument, non-bridge method with the given name or
+	 *         {@literal null} if the method is only declared by interfaces.
+	 */
+	@Nullable
+	private static Class<?> findImplementingClass(Class<?> type, String methodName) {
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Method method : current.getDeclaredMethods()) {
+				if (method.getName().equals(methodName) && method.getParameterCount() == 1 && !method.isBridge()) {
+					return current;
+				}
+			}
+		}
+
+		return null;
+	}
+}
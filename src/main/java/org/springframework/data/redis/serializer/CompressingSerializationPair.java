@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.util.ByteUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SerializationPair} decorator compressing serialized values using {@literal DEFLATE} once they exceed a size
+ * threshold. Compressed values start with a four byte marker followed by the uncompressed length so that values written
+ * without compression, either because they are small or because they were written before enabling compression, are
+ * read as-is. {@link Deflater} and {@link Inflater} instances are pooled to avoid allocating native {@literal zlib}
+ * state per value.
+ *
+ * @since 2.2
+ * @see SerializationPair#compressing(SerializationPair, int)
+ */
+class CompressingSerializationPair<T> implements SerializationPair<T> {
+
+	private static final byte[] MARKER = { 0, 'S', 'D', 'Z' };
+	private static final int HEADER_LENGTH = MARKER.length + 4;
+
+	private final SerializationPair<T> delegate;
+	private final int threshold;
+	private final Pool<Deflater> deflaters;
+	private final Pool<Inflater> inflaters;
+	private final RedisElementReader<T> reader = this::decompressAndRead;
+	private final RedisElementWriter<T> writer = this::writeAndCompress;
+
+	/**
+	 * @param delegate must not be {@literal null}.
+	 * @param threshold minimum size in bytes of values to compress. Must not be negative.
+	 * @param level compression level, see {@link Deflater#setLevel(int)}.
+	 * @param poolSize maximum number of pooled {@link Deflater} and {@link Inflater} instances each. Must be greater
+	 *          than zero.
+	 */
+	CompressingSerializationPair(SerializationPair<T> delegate, int threshold, int level, int poolSize) {
+
+		Assert.notNull(delegate, "SerializationPair must not be null!");
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+		Assert.isTrue(level == Deflater.DEFAULT_COMPRESSION || (level >= 0 && level <= 9),
+				"Compression level must be between 0 and 9!");
+		Assert.isTrue(poolSize > 0, "Pool size must be greater than zero!");
+
+		this.delegate = delegate;
+		this.threshold = threshold;
+		this.deflaters = new Pool<>(poolSize, () -> new Deflater(level, true), Deflater::reset, Deflater::end);
+		this.inflaters = new Pool<>(poolSize, () -> new Inflater(true), Inflater::reset, Inflater::end);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair#getReader()
+	 */
+	@Override
+	public RedisElementReader<T> getReader() {
+		return reader;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair#getWriter()
+	 */
+	@Override
+	public RedisElementWriter<T> getWriter() {
+		return writer;
+	}
+
+	private ByteBuffer writeAndCompress(T element) {
+
+		ByteBuffer serialized = delegate.write(element);
+
+		if (serialized.remaining() < threshold || serialized.remaining() <= HEADER_LENGTH) {
+			return serialized;
+		}
+
+		byte[] input = ByteUtils.getBytes(serialized);
+		byte[] output = new byte[input.length];
+		Deflater deflater = deflaters.borrow();
+
+		try {
+
+			deflater.setInput(input);
+			deflater.finish();
+
+			int length = HEADER_LENGTH;
+			while (!deflater.finished() && length < output.length) {
+				length += deflater.deflate(output, length, output.length - length);
+			}
+
+			// keep values that do not get smaller uncompressed
+			if (!deflater.finished()) {
+				return serialized;
+			}
+
+			System.arraycopy(MARKER, 0, output, 0, MARKER.length);
+			ByteBuffer.wrap(output, MARKER.length, 4).putInt(input.length);
+
+			return ByteBuffer.wrap(output, 0, length);
+		} finally {
+			deflaters.release(deflater);
+		}
+	}
+
+	private T decompressAndRead(ByteBuffer buffer) {
+
+		if (!isCompressed(buffer)) {
+			return delegate.read(buffer);
+		}
+
+		byte[] input = ByteUtils.getBytes(buffer);
+		int length = ByteBuffer.wrap(input, MARKER.length, 4).getInt();
+
+		if (length < 0) {
+			throw new SerializationException(String.format("Cannot decompress value: Invalid length %d", length));
+		}
+
+		byte[] output = new byte[length];
+		Inflater inflater = inflaters.borrow();
+
+		try {
+
+			inflater.setInput(input, HEADER_LENGTH, input.length - HEADER_LENGTH);
+
+			int inflated = 0;
+			while (!inflater.finished() && inflated < length) {
+
+				int count = inflater.inflate(output, inflated, length - inflated);
+
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+
+				inflated += count;
+			}
+
+			if (!inflater.finished() || inflated != length) {
+				throw new SerializationException("Cannot decompress value: Unexpected end of compressed data");
+			}
+		} catch (DataFormatException e) {
+			throw new SerializationException("Cannot decompress value", e);
+		} finally {
+			inflaters.release(inflater);
+		}
+
+		return delegate.read(ByteBuffer.wrap(output));
+	}
+
+	private static boolean isCompressed(ByteBuffer buffer) {
+
+		if (buffer.remaining() < HEADER_LENGTH) {
+			return false;
+		}
+
+		for (int i = 0; i < MARKER.length; i++) {
+			if (buffer.get(buffer.position() + i) != MARKER[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Bounded pool of reusable objects. Objects exceeding the pool capacity on release are disposed.
+	 */
+	private static class Pool<O> {
+
+		private final Queue<O> objects;
+		private final Supplier<O> factory;
+		private final Consumer<O> reset;
+		private final Consumer<O> dispose;
+
+		Pool(int size, Supplier<O> factory, Consumer<O> reset, Consumer<O> dispose) {
+
+			this.objects = new ArrayBlockingQueue<>(size);
+			this.factory = factory;
+			this.reset = reset;
+			this.dispose = dispose;
+		}
+
+		O borrow() {
+
+			O object = objects.poll();
+			return object != null ? object : factory.get();
+		}
+
+		void release(O object) {
+
+			reset.accept(object);
+
+			if (!objects.offer(object)) {
+				dispose.accept(object);
+			}
+		}
+	}
+}
@@ -16,6 +16,10 @@
 package org.springframework.data.redis.serializer;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.cache.support.NullValue;
 import org.springframework.lang.Nullable;
@@ -25,13 +29,23 @@ import org.springframework.util.StringUtils;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
+import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * Generic Jackson 2-based {@link RedisSerializer} that maps {@link Object objects} to JSON using dynamic typing.
@@ -40,9 +54,11 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
  * @author Mark Paluch
  * @since 1.6
  */
-public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Object> {
+public class GenericJackson2JsonRedisSerializer implements ByteBufferRedisSerializer<Object> {
 
 	private final ObjectMapper mapper;
+	private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+	private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
 
 	/**
 	 * Creates {@link GenericJackson2JsonRedisSerializer} and configures {@link ObjectMapper} for default typing.
@@ -73,10 +89,31 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 		}
 	}
 
+	/**
+	 * Creates {@link GenericJackson2JsonRedisSerializer} and configures {@link ObjectMapper} for default typing writing
+	 * the aliases registered in {@code typeAliases} instead of fully qualified class names. Type hints holding fully
+	 * qualified class names are still read.
+	 *
+	 * @param classPropertyTypeName Name of the JSON property holding type information. Can be {@literal null}.
+	 * @param typeAliases must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public GenericJackson2JsonRedisSerializer(@Nullable String classPropertyTypeName, TypeAliases typeAliases) {
+
+		this(new ObjectMapper());
+
+		registerNullValueSerializer(mapper, classPropertyTypeName);
+		enableDefaultTyping(mapper, classPropertyTypeName, typeAliases);
+	}
+
 	/**
 	 * Setting a custom-configured {@link ObjectMapper} is one way to take further control of the JSON serialization
 	 * process. For example, an extended {@link SerializerFactory} can be configured that provides custom serializers for
 	 * specific types.
+	 * <p>
+	 * {@link ObjectReader} and {@link ObjectWriter} instances are resolved once per type from the given
+	 * {@link ObjectMapper} and reused. Changes to the {@link ObjectMapper} configuration after first use are therefore
+	 * not picked up.
 	 *
 	 * @param mapper must not be {@literal null}.
 	 */
@@ -102,6 +139,33 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 		objectMapper.registerModule(new SimpleModule().addSerializer(new NullValueSerializer(classPropertyTypeName)));
 	}
 
+	/**
+	 * Enable default typing for non-final types in the given {@link ObjectMapper} writing the aliases registered in
+	 * {@code typeAliases} instead of fully qualified class names. This method should be called by code that customizes
+	 * {@link GenericJackson2JsonRedisSerializer} by providing an external {@link ObjectMapper}.
+	 *
+	 * @param objectMapper the object mapper to customize.
+	 * @param classPropertyTypeName name of the type property. Defaults to {@code @class} if {@literal null}/empty.
+	 * @param typeAliases must not be {@literal null}.
+	 * @since 2.2
+	 */
+	public static void enableDefaultTyping(ObjectMapper objectMapper, @Nullable String classPropertyTypeName,
+			TypeAliases typeAliases) {
+
+		Assert.notNull(objectMapper, "ObjectMapper must not be null!");
+		Assert.notNull(typeAliases, "TypeAliases must not be null!");
+
+		TypeResolverBuilder<?> typer = new AliasingTypeResolverBuilder(typeAliases) //
+				.init(JsonTypeInfo.Id.CLASS, null) //
+				.inclusion(As.PROPERTY);
+
+		if (StringUtils.hasText(classPropertyTypeName)) {
+			typer = typer.typeProperty(classPropertyTypeName);
+		}
+
+		objectMapper.setDefaultTyping(typer);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.redis.serializer.RedisSerializer#serialize(java.lang.Object)
@@ -113,10 +177,16 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 			return SerializationUtils.EMPTY_ARRAY;
 		}
 
+		ReusableOutputStream stream = ReusableOutputStream.acquire();
+
 		try {
-			return mapper.writeValueAsBytes(source);
-		} catch (JsonProcessingException e) {
+
+			getWriter(source.getClass()).writeValue(stream, source);
+			return stream.toByteArray();
+		} catch (IOException e) {
 			throw new SerializationException("Could not write JSON: " + e.getMessage(), e);
+		} finally {
+			stream.release();
 		}
 	}
 
@@ -146,12 +216,151 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 		}
 
 		try {
-			return mapper.readValue(source, type);
+			return getReader(type).readValue(source);
+		} catch (Exception ex) {
+			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Override
+	public Object deserializeFromBuffer(ByteBuffer buffer) throws SerializationException {
+		return deserializeFromBuffer(buffer, Object.class);
+	}
+
+	/**
+	 * Deserialize the remaining content of {@code buffer} without copying it.
+	 *
+	 * @param buffer must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@literal null} for an empty buffer.
+	 * @throws SerializationException
+	 * @since 2.2
+	 */
+	@Nullable
+	public <T> T deserializeFromBuffer(ByteBuffer buffer, Class<T> type) throws SerializationException {
+
+		Assert.notNull(buffer, "ByteBuffer must not be null!");
+		Assert.notNull(type,
+				"Deserialization type must not be null! Pleaes provide Object.class to make use of Jackson2 default typing.");
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+
+		try {
+
+			if (buffer.hasArray()) {
+				return getReader(type).readValue(buffer.array(), buffer.arrayOffset() + buffer.position(),
+						buffer.remaining());
+			}
+
+			return getReader(type).readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
 		} catch (Exception ex) {
 			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
 		}
 	}
 
+	/**
+	 * Obtain the {@link ObjectReader} for the given target {@code type}.
+	 */
+	private ObjectReader getReader(Class<?> type) {
+
+		ObjectReader reader = readers.get(type);
+
+		if (reader == null) {
+
+			reader = mapper.readerFor(type);
+			readers.put(type, reader);
+		}
+
+		return reader;
+	}
+
+	/**
+	 * Obtain the {@link ObjectWriter} for values of the given {@code type} with its serializer resolved upfront.
+	 */
+	private ObjectWriter getWriter(Class<?> type) {
+
+		ObjectWriter writer = writers.get(type);
+
+		if (writer == null) {
+
+			writer = mapper.writerFor(type);
+			writers.put(type, writer);
+		}
+
+		return writer;
+	}
+
+	/**
+	 * {@link ObjectMapper.DefaultTypeResolverBuilder} for {@link DefaultTyping#NON_FINAL} types resolving type ids through
+	 * {@link AliasingTypeIdResolver}.
+	 */
+	private static class AliasingTypeResolverBuilder extends ObjectMapper.DefaultTypeResolverBuilder {
+
+		private static final long serialVersionUID = -4382632546357214163L;
+
+		private final TypeAliases typeAliases;
+
+		AliasingTypeResolverBuilder(TypeAliases typeAliases) {
+
+			super(DefaultTyping.NON_FINAL);
+			this.typeAliases = typeAliases;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder#idResolver(com.fasterxml.jackson.databind.cfg.MapperConfig, com.fasterxml.jackson.databind.JavaType, java.util.Collection, boolean, boolean)
+		 */
+		@Override
+		protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType, Collection<NamedType> subtypes,
+				boolean forSer, boolean forDeser) {
+			return new AliasingTypeIdResolver(baseType, config.getTypeFactory(), typeAliases);
+		}
+	}
+
+	/**
+	 * {@link ClassNameIdResolver} writing registered {@link TypeAliases} instead of class names and accepting both on read.
+	 */
+	private static class AliasingTypeIdResolver extends ClassNameIdResolver {
+
+		private final TypeAliases typeAliases;
+
+		AliasingTypeIdResolver(JavaType baseType, TypeFactory typeFactory, TypeAliases typeAliases) {
+
+			super(baseType, typeFactory);
+			this.typeAliases = typeAliases;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver#_idFrom(java.lang.Object, java.lang.Class, com.fasterxml.jackson.databind.type.TypeFactory)
+		 */
+		@Override
+		protected String _idFrom(Object value, Class<?> cls, TypeFactory typeFactory) {
+
+			String id = super._idFrom(value, cls, typeFactory);
+			String alias = typeAliases.getAlias(id);
+
+			return alias != null ? alias : id;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver#_typeFromId(java.lang.String, com.fasterxml.jackson.databind.DatabindContext)
+		 */
+		@Override
+		protected JavaType _typeFromId(String id, DatabindContext ctxt) throws IOException {
+
+			String className = typeAliases.getClassName(id);
+			return super._typeFromId(className != null ? className : id, ctxt);
+		}
+	}
+
 	/**
 	 * {@link StdSerializer} adding class information required by default typing. This allows de-/serialization of
 	 * {@link NullValue}.
@@ -15,16 +15,22 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * {@link RedisSerializer} that can read and write JSON using
@@ -33,17 +39,24 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
  * <p>
  * This converter can be used to bind to typed beans, or untyped {@link java.util.HashMap HashMap} instances.
  * <b>Note:</b>Null objects are serialized as empty arrays and vice versa.
+ * <p>
+ * {@link ObjectReader} and {@link ObjectWriter} instances are resolved once per type from the configured
+ * {@link ObjectMapper} and reused. Changes to the {@link ObjectMapper} configuration after setting it are therefore not
+ * picked up.
  *
  * @author Thomas Darimont
  * @since 1.2
  */
-public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
+public class Jackson2JsonRedisSerializer<T> implements ByteBufferRedisSerializer<T> {
 
 	public static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
 
 	private final JavaType javaType;
 
+	private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
 	private ObjectMapper objectMapper = new ObjectMapper();
+	private @Nullable ObjectReader reader;
 
 	/**
 	 * Creates a new {@link Jackson2JsonRedisSerializer} for the given target {@link Class}.
@@ -70,7 +83,28 @@ public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
 			return null;
 		}
 		try {
-			return (T) this.objectMapper.readValue(bytes, 0, bytes.length, javaType);
+			return (T) getReader().readValue(bytes, 0, bytes.length);
+		} catch (Exception ex) {
+			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.redis.serializer.ByteBufferRedisSerializer#deserializeFromBuffer(java.nio.ByteBuffer)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public T deserializeFromBuffer(ByteBuffer buffer) throws SerializationException {
+
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+		try {
+			if (buffer.hasArray()) {
+				return (T) getReader().readValue(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			}
+			return (T) getReader().readValue(new ByteBufferBackedInputStream(buffer.duplicate()));
 		} catch (Exception ex) {
 			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
 		}
@@ -82,10 +116,15 @@ public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
 		if (t == null) {
 			return SerializationUtils.EMPTY_ARRAY;
 		}
+
+		ReusableOutputStream stream = ReusableOutputStream.acquire();
 		try {
-			return this.objectMapper.writeValueAsBytes(t);
+			getWriter(t.getClass()).writeValue(stream, t);
+			return stream.toByteArray();
 		} catch (Exception ex) {
 			throw new SerializationException("Could not write JSON: " + ex.getMessage(), ex);
+		} finally {
+			stream.release();
 		}
 	}
 
@@ -102,6 +141,41 @@ public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
 
 		Assert.notNull(objectMapper, "'objectMapper' must not be null");
 		this.objectMapper = objectMapper;
+		this.reader = null;
+		this.writers.clear();
+	}
+
+	/**
+	 * Obtain the {@link ObjectReader} for the target type. Resolved on first use as the {@link ObjectMapper} is typically
+	 * set after construction.
+	 */
+	private ObjectReader getReader() {
+
+		ObjectReader reader = this.reader;
+
+		if (reader == null) {
+
+			reader = objectMapper.readerFor(javaType);
+			this.reader = reader;
+		}
+
+		return reader;
+	}
+
+	/**
+	 * Obtain the {@link ObjectWriter} for values of the given {@code type} with its serializer resolved upfront.
+	 */
+	private ObjectWriter getWriter(Class<?> type) {
+
+		ObjectWriter writer = writers.get(type);
+
+		if (writer == null) {
+
+			writer = objectMapper.writerFor(type);
+			writers.put(type, writer);
+		}
+
+		return writer;
 	}
 
 	/**
@@ -16,6 +16,7 @@
 package org.springframework.data.redis.serializer;
 
 import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
 
 import org.springframework.util.Assert;
 
@@ -202,6 +203,52 @@ public interface RedisSerializationContext<K, V> {
 			return new DefaultSerializationPair<>(reader, writer);
 		}
 
+		/**
+		 * Creates a {@link SerializationPair} decorator compressing values of at least {@literal 1024} bytes serialized by
+		 * the given {@link SerializationPair}.
+		 *
+		 * @param serializationPair must not be {@literal null}.
+		 * @return a compressing {@link SerializationPair}.
+		 * @since 2.2
+		 * @see #compressing(SerializationPair, int, int)
+		 */
+		static <T> SerializationPair<T> compressing(SerializationPair<T> serializationPair) {
+			return compressing(serializationPair, 1024);
+		}
+
+		/**
+		 * Creates a {@link SerializationPair} decorator compressing values of at least {@code threshold} bytes serialized
+		 * by the given {@link SerializationPair} using the default compression level.
+		 *
+		 * @param serializationPair must not be {@literal null}.
+		 * @param threshold minimum size in bytes of serialized values to compress. Must not be negative.
+		 * @return a compressing {@link SerializationPair}.
+		 * @since 2.2
+		 * @see #compressing(SerializationPair, int, int)
+		 */
+		static <T> SerializationPair<T> compressing(SerializationPair<T> serializationPair, int threshold) {
+			return compressing(serializationPair, threshold, Deflater.DEFAULT_COMPRESSION);
+		}
+
+		/**
+		 * Creates a {@link SerializationPair} decorator compressing values of at least {@code threshold} bytes serialized
+		 * by the given {@link SerializationPair} using {@literal DEFLATE}. Compressed values are marked with a small
+		 * header. Values without header, such as values below the threshold or values written before enabling
+		 * compression, are passed on to {@code serializationPair} as-is. Values that do not get smaller are stored
+		 * uncompressed.
+		 *
+		 * @param serializationPair must not be {@literal null}.
+		 * @param threshold minimum size in bytes of serialized values to compress. Must not be negative.
+		 * @param level compression level between {@literal 0} and {@literal 9} or
+		 *          {@link Deflater#DEFAULT_COMPRESSION}.
+		 * @return a compressing {@link SerializationPair}.
+		 * @since 2.2
+		 */
+		static <T> SerializationPair<T> compressing(SerializationPair<T> serializationPair, int threshold, int level) {
+			return new CompressingSerializationPair<>(serializationPair, threshold, level,
+					Runtime.getRuntime().availableProcessors());
+		}
+
 		/**
 		 * Creates a pass through {@link SerializationPair} to pass-thru {@link ByteBuffer} objects.
 		 *
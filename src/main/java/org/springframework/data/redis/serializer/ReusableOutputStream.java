@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Thread-confined {@link ByteArrayOutputStream} reused across serializations on the same thread so that serializers
+ * writing through an {@link java.io.OutputStream} do not grow a new buffer per value. Buffers that grew beyond
+ * {@value #MAX_RETAINED_SIZE} bytes are released after use.
+ *
+ * @since 2.2
+ */
+class ReusableOutputStream extends ByteArrayOutputStream {
+
+	private static final int INITIAL_SIZE = 1024;
+	private static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<ReusableOutputStream> STREAMS = ThreadLocal.withInitial(ReusableOutputStream::new);
+
+	private boolean inUse;
+
+	private ReusableOutputStream() {
+		super(INITIAL_SIZE);
+	}
+
+	/**
+	 * Obtain an empty stream confined to the current thread. Nested calls on the same thread, for example from within a
+	 * custom serializer, get a new stream. Callers must {@link #release() release} the stream once done.
+	 *
+	 * @return the empty stream.
+	 */
+	static ReusableOutputStream acquire() {
+
+		ReusableOutputStream stream = STREAMS.get();
+
+		if (stream.inUse) {
+			stream = new ReusableOutputStream();
+		}
+
+		stream.inUse = true;
+		return stream;
+	}
+
+	/**
+	 * Reset the stream to be reused by the next {@link #acquire()} call.
+	 */
+	void release() {
+
+		reset();
+
+		if (buf.length > MAX_RETAINED_SIZE) {
+			buf = new byte[INITIAL_SIZE];
+		}
+
+		inUse = false;
+	}
+
+	/**
+	 * @return the size of the current buffer.
+	 */
+	int capacity() {
+		return buf.length;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Table of short aliases written instead of fully qualified class names as type hints. Aliases are registered
+ * explicitly or taken from {@link TypeAlias @TypeAlias} annotations. Type hints holding a fully qualified class name are
+ * still resolved so that values written before registering an alias remain readable.
+ *
+ * @since 2.2
+ * @see GenericJackson2JsonRedisSerializer#GenericJackson2JsonRedisSerializer(String, TypeAliases)
+ */
+public class TypeAliases implements Serializable {
+
+	private static final long serialVersionUID = 5127366284652134451L;
+
+	private final Map<String, String> aliasesByClassName = new ConcurrentHashMap<>();
+	private final Map<String, String> classNamesByAlias = new ConcurrentHashMap<>();
+
+	/**
+	 * Register the given {@code alias} for {@code type}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param alias must not be {@literal null} or empty and must not contain {@literal .} so that it cannot be mistaken
+	 *          for a class name.
+	 * @return {@literal this} {@link TypeAliases}.
+	 * @throws IllegalArgumentException if {@code type} or {@code alias} are already registered with a different
+	 *           counterpart.
+	 */
+	public synchronized TypeAliases register(Class<?> type, String alias) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.hasText(alias, "Alias must not be null or empty!");
+		Assert.isTrue(alias.indexOf('.') == -1, "Alias must not contain '.'!");
+
+		String className = type.getName();
+		String existingAlias = aliasesByClassName.get(className);
+		String existingClassName = classNamesByAlias.get(alias);
+
+		Assert.isTrue(existingAlias == null || existingAlias.equals(alias),
+				() -> String.format("Type %s is already registered with alias %s!", className, existingAlias));
+		Assert.isTrue(existingClassName == null || existingClassName.equals(className),
+				() -> String.format("Alias %s is already registered for type %s!", alias, existingClassName));
+
+		aliasesByClassName.put(className, alias);
+		classNamesByAlias.put(alias, className);
+
+		return this;
+	}
+
+	/**
+	 * Register the aliases declared through {@link TypeAlias @TypeAlias} on the given {@code types}.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @return {@literal this} {@link TypeAliases}.
+	 * @throws IllegalArgumentException if a type is not annotated with {@link TypeAlias @TypeAlias} or an alias is
+	 *           already registered for a different type.
+	 */
+	public TypeAliases register(Class<?>... types) {
+
+		Assert.notNull(types, "Types must not be null!");
+
+		for (Class<?> type : types) {
+
+			TypeAlias typeAlias = AnnotatedElementUtils.findMergedAnnotation(type, TypeAlias.class);
+
+			Assert.isTrue(typeAlias != null && StringUtils.hasText(typeAlias.value()),
+					() -> String.format("Type %s must be annotated with @TypeAlias!", type.getName()));
+
+			register(type, typeAlias.value());
+		}
+
+		return this;
+	}
+
+	/**
+	 * @param className must not be {@literal null}.
+	 * @return the alias registered for the class with the given name or {@literal null} if none.
+	 */
+	@Nullable
+	public String getAlias(String className) {
+		return aliasesByClassName.get(className);
+	}
+
+	/**
+	 * @param alias must not be {@literal null}.
+	 * @return the name of the class registered for {@code alias} or {@literal null} if none.
+	 */
+	@Nullable
+	public String getClassName(String alias) {
+		return classNamesByAlias.get(alias);
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Unit tests for {@link CacheKeyEncoder}.
+ */
+public class CacheKeyEncoderUnitTests {
+
+	static final byte[] PREFIX = "cache::".getBytes(StandardCharsets.UTF_8);
+	static final Function<String, byte[]> UTF8 = RedisSerializer.string()::serialize;
+
+	CacheKeyEncoder encoder = CacheKeyEncoder.create(new DefaultConversionService(), UTF8);
+
+	@Test
+	public void shouldEncodeStrings() {
+
+		assertEncodedAsToString("key");
+		assertEncodedAsToString("");
+		assertEncodedAsToString("kéy-€-😀");
+	}
+
+	@Test
+	public void shouldEncodeIntegralNumbers() {
+
+		for (long value : new long[] { 0, 1, -1, 9, 10, -10, 99, 100, 123456789, Integer.MIN_VALUE, Integer.MAX_VALUE,
+				999_999_999_999_999_999L, 1_000_000_000_000_000_000L, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1 }) {
+			assertEncodedAsToString(value);
+		}
+
+		assertEncodedAsToString(42);
+		assertEncodedAsToString((short) -7);
+		assertEncodedAsToString((byte) 127);
+	}
+
+	@Test
+	public void shouldEncodeUuids() {
+
+		assertEncodedAsToString(UUID.randomUUID());
+		assertEncodedAsToString(new UUID(0, 0));
+		assertEncodedAsToString(new UUID(-1, -1));
+	}
+
+	@Test
+	public void shouldNotEncodeOtherTypes() {
+
+		assertThat(encoder.encode(PREFIX, 1.5d)).isNull();
+		assertThat(encoder.encode(PREFIX, new Object())).isNull();
+	}
+
+	@Test
+	public void shouldNotEncodeTypesUsingCustomConverter() {
+
+		DefaultConversionService conversionService = new DefaultConversionService();
+		conversionService.addConverter(Long.class, String.class, source -> "long-" + source);
+
+		CacheKeyEncoder encoder = CacheKeyEncoder.create(conversionService, UTF8);
+
+		assertThat(encoder.encode(PREFIX, 1L)).isNull();
+		assertThat(encoder.encode(PREFIX, "key")).isEqualTo("cache::key".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void shouldNotCreateEncoderForNonUtf8KeySerializer() {
+
+		assertThat(CacheKeyEncoder.create(new DefaultConversionService(), new JdkSerializationRedisSerializer()::serialize))
+				.isNull();
+		assertThat(CacheKeyEncoder.create(new DefaultConversionService(),
+				key -> key.getBytes(StandardCharsets.ISO_8859_1))).isNull();
+	}
+
+	private void assertEncodedAsToString(Object key) {
+		assertThat(encoder.encode(PREFIX, key)).isEqualTo(("cache::" + key).getBytes(StandardCharsets.UTF_8));
+	}
+}
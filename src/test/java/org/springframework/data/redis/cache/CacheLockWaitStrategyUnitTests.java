@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Unit tests for {@link CacheLockWaitStrategy}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CacheLockWaitStrategyUnitTests {
+
+	@Mock RedisMessageListenerContainer listenerContainer;
+
+	@Test
+	public void sleepShouldCheckLockUntilReleased() throws InterruptedException {
+
+		AtomicInteger checks = new AtomicInteger();
+
+		CacheLockWaitStrategy.sleep(Duration.ofMillis(1)).awaitUnlocked("cache", () -> checks.incrementAndGet() < 3);
+
+		assertThat(checks).hasValue(3);
+		assertThat(CacheLockWaitStrategy.sleep(Duration.ofMillis(1)).requiresReleaseNotification()).isFalse();
+	}
+
+	@Test
+	public void notificationShouldSubscribeToLockReleasedChannel() {
+
+		CacheLockWaitStrategy strategy = CacheLockWaitStrategy.notification(listenerContainer, Duration.ofSeconds(1));
+
+		assertThat(strategy.requiresReleaseNotification()).isTrue();
+		verify(listenerContainer).addMessageListener(any(),
+				eq(new ChannelTopic(CacheLockWaitStrategy.LOCK_RELEASED_CHANNEL)));
+	}
+
+	@Test
+	public void notificationShouldWakeUpWaitingThreadOnRelease() throws InterruptedException {
+
+		NotificationCacheLockWaitStrategy strategy = new NotificationCacheLockWaitStrategy(listenerContainer,
+				Duration.ofSeconds(30));
+
+		AtomicBoolean locked = new AtomicBoolean(true);
+		CountDownLatch waiting = new CountDownLatch(1);
+		CountDownLatch released = new CountDownLatch(1);
+
+		Thread waiter = new Thread(() -> {
+			try {
+				strategy.awaitUnlocked("cache", () -> {
+					waiting.countDown();
+					return locked.get();
+				});
+				released.countDown();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		waiter.start();
+
+		assertThat(waiting.await(5, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(50);
+
+		locked.set(false);
+		strategy.onMessage(new DefaultMessage(CacheLockWaitStrategy.LOCK_RELEASED_CHANNEL.getBytes(), "cache".getBytes()),
+				null);
+
+		assertThat(released.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void notificationShouldRecheckLockAfterMaxSleepTime() throws InterruptedException {
+
+		NotificationCacheLockWaitStrategy strategy = new NotificationCacheLockWaitStrategy(listenerContainer,
+				Duration.ofMillis(10));
+
+		AtomicInteger checks = new AtomicInteger();
+
+		strategy.awaitUnlocked("cache", () -> checks.incrementAndGet() < 3);
+
+		assertThat(checks).hasValue(3);
+	}
+}
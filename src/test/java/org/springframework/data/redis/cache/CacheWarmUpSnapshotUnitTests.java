@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link CacheWarmUpSnapshot}.
+ */
+public class CacheWarmUpSnapshotUnitTests {
+
+	@Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void shouldReadWrittenSnapshot() throws IOException {
+
+		Path file = temporaryFolder.getRoot().toPath().resolve("snapshot");
+
+		Map<String, List<String>> snapshot = new LinkedHashMap<>();
+		snapshot.put("users", Arrays.asList("users::1", "users::kéy", ""));
+		snapshot.put("empty", Collections.emptyList());
+
+		CacheWarmUpSnapshot.write(file, snapshot);
+
+		assertThat(CacheWarmUpSnapshot.read(file)).isEqualTo(snapshot);
+		assertThat(file.resolveSibling("snapshot.tmp")).doesNotExist();
+	}
+
+	@Test
+	public void shouldReplaceExistingSnapshot() throws IOException {
+
+		Path file = temporaryFolder.getRoot().toPath().resolve("nested/snapshot");
+
+		CacheWarmUpSnapshot.write(file, Collections.singletonMap("users", Arrays.asList("users::1", "users::2")));
+		CacheWarmUpSnapshot.write(file, Collections.singletonMap("orders", Collections.singletonList("orders::1")));
+
+		assertThat(CacheWarmUpSnapshot.read(file))
+				.isEqualTo(Collections.singletonMap("orders", Collections.singletonList("orders::1")));
+	}
+
+	@Test
+	public void shouldReadMissingSnapshotAsEmpty() throws IOException {
+		assertThat(CacheWarmUpSnapshot.read(temporaryFolder.getRoot().toPath().resolve("missing"))).isEmpty();
+	}
+
+	@Test
+	public void shouldRejectCorruptSnapshot() throws IOException {
+
+		Path file = temporaryFolder.getRoot().toPath().resolve("snapshot");
+
+		CacheWarmUpSnapshot.write(file, Collections.singletonMap("users", Collections.singletonList("users::1")));
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 2));
+
+		assertThatExceptionOfType(IOException.class).isThrownBy(() -> CacheWarmUpSnapshot.read(file));
+
+		Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+
+		assertThatExceptionOfType(IOException.class).isThrownBy(() -> CacheWarmUpSnapshot.read(file));
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.redis.SettingsUtils;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+/**
+ * Integration tests for {@link DefaultAsyncRedisCacheWriter}.
+ */
+public class DefaultAsyncRedisCacheWriterTests {
+
+	static final String CACHE_NAME = "default-async-redis-cache-writer-tests";
+
+	byte[] binaryCacheKey = (CACHE_NAME + "::key-1").getBytes(StandardCharsets.UTF_8);
+	byte[] otherBinaryCacheKey = (CACHE_NAME + "::key-2").getBytes(StandardCharsets.UTF_8);
+	byte[] binaryCacheValue = "value".getBytes(StandardCharsets.UTF_8);
+
+	LettuceConnectionFactory connectionFactory;
+	AsyncRedisCacheWriter writer;
+
+	@Before
+	public void setUp() {
+
+		connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(SettingsUtils.getHost(), SettingsUtils.getPort()));
+		connectionFactory.afterPropertiesSet();
+
+		writer = AsyncRedisCacheWriter.create(connectionFactory);
+
+		RedisConnection connection = connectionFactory.getConnection();
+		try {
+			connection.flushAll();
+		} finally {
+			connection.close();
+		}
+	}
+
+	@After
+	public void tearDown() {
+		connectionFactory.destroy();
+	}
+
+	@Test
+	public void putAndGetShouldRoundtrip() throws Exception {
+
+		writer.put(CACHE_NAME, binaryCacheKey, binaryCacheValue, Duration.ofMinutes(1)).get(5, TimeUnit.SECONDS);
+
+		assertThat(writer.get(CACHE_NAME, binaryCacheKey).get(5, TimeUnit.SECONDS)).isEqualTo(binaryCacheValue);
+		assertThat(writer.get(CACHE_NAME, otherBinaryCacheKey).get(5, TimeUnit.SECONDS)).isNull();
+	}
+
+	@Test
+	public void shouldRecordStatistics() throws Exception {
+
+		CacheStatisticsCollector statistics = CacheStatisticsCollector.create();
+		AsyncRedisCacheWriter writer = new DefaultAsyncRedisCacheWriter(connectionFactory, statistics);
+
+		writer.put(CACHE_NAME, binaryCacheKey, binaryCacheValue, null).get(5, TimeUnit.SECONDS);
+		writer.putIfAbsent(CACHE_NAME, binaryCacheKey, binaryCacheValue, null).get(5, TimeUnit.SECONDS);
+		writer.get(CACHE_NAME, binaryCacheKey).get(5, TimeUnit.SECONDS);
+		writer.get(CACHE_NAME, otherBinaryCacheKey).get(5, TimeUnit.SECONDS);
+		writer.remove(CACHE_NAME, binaryCacheKey).get(5, TimeUnit.SECONDS);
+
+		CacheStatistics cacheStatistics = statistics.getCacheStatistics(CACHE_NAME);
+
+		assertThat(cacheStatistics.getPuts()).isEqualTo(1);
+		assertThat(cacheStatistics.getHits()).isEqualTo(1);
+		assertThat(cacheStatistics.getMisses()).isEqualTo(1);
+		assertThat(cacheStatistics.getDeletes()).isEqualTo(1);
+		assertThat(cacheStatistics.getLatency(CacheOperation.GET).getCount()).isEqualTo(2);
+		assertThat(cacheStatistics.getLatency(CacheOperation.PUT_IF_ABSENT).getCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void putIfAbsentShouldReturnExistingValue() throws Exception {
+
+		assertThat(writer.putIfAbsent(CACHE_NAME, binaryCacheKey, binaryCacheValue, null).get(5, TimeUnit.SECONDS))
+				.isNull();
+		assertThat(writer.putIfAbsent(CACHE_NAME, binaryCacheKey, "other".getBytes(), null).get(5, TimeUnit.SECONDS))
+				.isEqualTo(binaryCacheValue);
+	}
+
+	@Test
+	public void removeAndCleanShouldDeleteKeys() throws Exception {
+
+		writer.put(CACHE_NAME, binaryCacheKey, binaryCacheValue, null).get(5, TimeUnit.SECONDS);
+		writer.put(CACHE_NAME, otherBinaryCacheKey, binaryCacheValue, null).get(5, TimeUnit.SECONDS);
+
+		writer.remove(CACHE_NAME, binaryCacheKey).get(5, TimeUnit.SECONDS);
+
+		assertThat(writer.get(CACHE_NAME, binaryCacheKey).get(5, TimeUnit.SECONDS)).isNull();
+
+		writer.clean(CACHE_NAME, (CACHE_NAME + "::*").getBytes(StandardCharsets.UTF_8)).get(5, TimeUnit.SECONDS);
+
+		assertThat(writer.get(CACHE_NAME, otherBinaryCacheKey).get(5, TimeUnit.SECONDS)).isNull();
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Unit tests for {@link DefaultCacheStatisticsCollector} and its use by {@link DefaultRedisCacheWriter}.
+ */
+public class DefaultCacheStatisticsCollectorUnitTests {
+
+	CacheStatisticsCollector collector = CacheStatisticsCollector.create();
+
+	@Test
+	public void shouldCountPerCache() {
+
+		collector.incPuts("cache", 2);
+		collector.incHits("cache", 3);
+		collector.incMisses("cache", 1);
+		collector.incDeletes("cache", 4);
+		collector.incPuts("other", 1);
+
+		CacheStatistics statistics = collector.getCacheStatistics("cache");
+
+		assertThat(statistics.getCacheName()).isEqualTo("cache");
+		assertThat(statistics.getPuts()).isEqualTo(2);
+		assertThat(statistics.getHits()).isEqualTo(3);
+		assertThat(statistics.getMisses()).isEqualTo(1);
+		assertThat(statistics.getGets()).isEqualTo(4);
+		assertThat(statistics.getDeletes()).isEqualTo(4);
+		assertThat(collector.getCacheStatistics("other").getPuts()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldRecordLatencyHistogram() {
+
+		for (int i = 0; i < 99; i++) {
+			collector.recordLatency("cache", CacheOperation.GET, TimeUnit.MICROSECONDS.toNanos(100));
+		}
+		collector.recordLatency("cache", CacheOperation.GET, TimeUnit.MILLISECONDS.toNanos(50));
+
+		LatencyHistogram histogram = collector.getCacheStatistics("cache").getLatency(CacheOperation.GET);
+
+		assertThat(histogram.getCount()).isEqualTo(100);
+		assertThat(histogram.getMax()).isEqualTo(Duration.ofMillis(50));
+		assertThat(histogram.getPercentile(0.5)).isBetween(Duration.ofNanos(100_000), Duration.ofNanos(200_000));
+		assertThat(histogram.getPercentile(0.99)).isBetween(Duration.ofNanos(100_000), Duration.ofNanos(200_000));
+		assertThat(histogram.getPercentile(1)).isEqualTo(Duration.ofMillis(50));
+		assertThat(collector.getCacheStatistics("cache").getLatency(CacheOperation.PUT).getCount()).isZero();
+	}
+
+	@Test
+	public void shouldExportAndResetStatistics() {
+
+		collector.incPuts("cache", 1);
+		collector.incPuts("other", 1);
+
+		List<String> exported = new ArrayList<>();
+		collector.export(statistics -> exported.add(statistics.getCacheName()));
+
+		assertThat(exported).containsExactlyInAnyOrder("cache", "other");
+
+		collector.reset("cache");
+
+		assertThat(collector.getCacheStatistics("cache").getPuts()).isZero();
+	}
+
+	@Test
+	public void noOpCollectorShouldReportEmptyStatistics() {
+
+		CacheStatisticsCollector none = CacheStatisticsCollector.none();
+		none.incPuts("cache", 1);
+		none.recordLatency("cache", CacheOperation.GET, 1000);
+
+		assertThat(none.isEnabled()).isFalse();
+		assertThat(none.getCacheStatistics("cache").getPuts()).isZero();
+		assertThat(none.getCacheStatistics("cache").getLatency(CacheOperation.GET).getPercentile(0.99))
+				.isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	public void cacheWriterShouldReportToCollector() {
+
+		RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+		RedisConnection connection = mock(RedisConnection.class);
+		when(connectionFactory.getConnection()).thenReturn(connection);
+
+		byte[] key = "key".getBytes(StandardCharsets.UTF_8);
+		byte[] value = "value".getBytes(StandardCharsets.UTF_8);
+		when(connection.get(key)).thenReturn(value, (byte[]) null);
+		when(connection.del(any(byte[].class))).thenReturn(1L);
+
+		RedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory).withStatisticsCollector(collector);
+
+		writer.put("cache", key, value, null);
+		writer.get("cache", key);
+		writer.get("cache", key);
+		writer.remove("cache", key);
+
+		CacheStatistics statistics = writer.getCacheStatistics("cache");
+
+		assertThat(statistics.getPuts()).isEqualTo(1);
+		assertThat(statistics.getHits()).isEqualTo(1);
+		assertThat(statistics.getMisses()).isEqualTo(1);
+		assertThat(statistics.getDeletes()).isEqualTo(1);
+		assertThat(statistics.getLatency(CacheOperation.GET).getCount()).isEqualTo(2);
+		assertThat(statistics.getLatency(CacheOperation.PUT).getCount()).isEqualTo(1);
+		assertThat(statistics.getLatency(CacheOperation.LOCK_WAIT).getCount()).isZero();
+	}
+}
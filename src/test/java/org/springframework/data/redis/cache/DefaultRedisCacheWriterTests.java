@@ -21,7 +21,11 @@ import static org.springframework.data.redis.cache.RedisCacheWriter.*;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -54,6 +58,7 @@ public class DefaultRedisCacheWriterTests {
 
 	byte[] binaryCacheKey = cacheKey.getBytes(StandardCharsets.UTF_8);
 	byte[] binaryCacheValue = "value".getBytes(StandardCharsets.UTF_8);
+	byte[] otherBinaryCacheKey = (CACHE_NAME + "::key-2").getBytes(StandardCharsets.UTF_8);
 
 	RedisConnectionFactory connectionFactory;
 
@@ -136,6 +141,165 @@ public class DefaultRedisCacheWriterTests {
 		});
 	}
 
+	@Test
+	public void putAllShouldAddExpiringEntries() {
+
+		Map<byte[], byte[]> entries = new LinkedHashMap<>();
+		entries.put(binaryCacheKey, binaryCacheValue);
+		entries.put(otherBinaryCacheKey, binaryCacheValue);
+
+		nonLockingRedisCacheWriter(connectionFactory).putAll(CACHE_NAME, entries, Duration.ofSeconds(5));
+
+		doWithConnection(connection -> {
+			assertThat(connection.get(binaryCacheKey)).isEqualTo(binaryCacheValue);
+			assertThat(connection.get(otherBinaryCacheKey)).isEqualTo(binaryCacheValue);
+			assertThat(connection.ttl(otherBinaryCacheKey)).isGreaterThan(3).isLessThan(6);
+		});
+	}
+
+	@Test
+	public void putAllShouldAddEternalEntries() {
+
+		nonLockingRedisCacheWriter(connectionFactory).putAll(CACHE_NAME,
+				Collections.singletonMap(binaryCacheKey, binaryCacheValue), Duration.ZERO);
+
+		doWithConnection(connection -> {
+			assertThat(connection.get(binaryCacheKey)).isEqualTo(binaryCacheValue);
+			assertThat(connection.ttl(binaryCacheKey)).isEqualTo(-1);
+		});
+	}
+
+	@Test
+	public void getAllShouldReturnValuesInKeyOrder() {
+
+		doWithConnection(connection -> connection.set(otherBinaryCacheKey, binaryCacheValue));
+
+		assertThat(nonLockingRedisCacheWriter(connectionFactory).getAll(CACHE_NAME,
+				Arrays.asList(binaryCacheKey, otherBinaryCacheKey))).containsExactly(null, binaryCacheValue);
+	}
+
+	@Test
+	public void putTaggedShouldLinkEntryToExpiringTagSet() {
+
+		byte[] tagKey = (CACHE_NAME + "~tag::customer").getBytes(StandardCharsets.UTF_8);
+
+		nonLockingRedisCacheWriter(connectionFactory).putTagged(CACHE_NAME, binaryCacheKey, binaryCacheValue,
+				Duration.ofSeconds(5), Collections.singleton(tagKey));
+
+		doWithConnection(connection -> {
+			assertThat(connection.get(binaryCacheKey)).isEqualTo(binaryCacheValue);
+			assertThat(connection.sIsMember(tagKey, binaryCacheKey)).isTrue();
+			assertThat(connection.ttl(tagKey)).isGreaterThan(3).isLessThan(6);
+		});
+	}
+
+	@Test
+	public void removeByTagsShouldRemoveTaggedEntriesAndTagSet() {
+
+		byte[] tagKey = (CACHE_NAME + "~tag::customer").getBytes(StandardCharsets.UTF_8);
+		byte[] untaggedKey = (CACHE_NAME + "::key-3").getBytes(StandardCharsets.UTF_8);
+		RedisCacheWriter writer = nonLockingRedisCacheWriter(connectionFactory);
+
+		writer.putTagged(CACHE_NAME, binaryCacheKey, binaryCacheValue, null, Collections.singleton(tagKey));
+		writer.putTagged(CACHE_NAME, otherBinaryCacheKey, binaryCacheValue, null, Collections.singleton(tagKey));
+		writer.put(CACHE_NAME, untaggedKey, binaryCacheValue, null);
+
+		assertThat(writer.removeByTags(CACHE_NAME, Collections.singleton(tagKey))).isEqualTo(2);
+
+		doWithConnection(connection -> {
+			assertThat(connection.exists(binaryCacheKey)).isFalse();
+			assertThat(connection.exists(otherBinaryCacheKey)).isFalse();
+			assertThat(connection.exists(tagKey)).isFalse();
+			assertThat(connection.exists(untaggedKey)).isTrue();
+		});
+	}
+
+	@Test
+	public void getAndExpireShouldReturnValueAndRestartExpiration() {
+
+		doWithConnection(connection -> connection.set(binaryCacheKey, binaryCacheValue,
+				Expiration.from(1, TimeUnit.SECONDS), SetOption.upsert()));
+
+		RedisCacheWriter writer = nonLockingRedisCacheWriter(connectionFactory);
+
+		assertThat(writer.getAndExpire(CACHE_NAME, binaryCacheKey, Duration.ofSeconds(30))).isEqualTo(binaryCacheValue);
+		assertThat(writer.getAndExpire(CACHE_NAME, otherBinaryCacheKey, Duration.ofSeconds(30))).isNull();
+
+		doWithConnection(connection -> {
+			assertThat(connection.ttl(binaryCacheKey)).isGreaterThan(25);
+			assertThat(connection.exists(otherBinaryCacheKey)).isFalse();
+		});
+	}
+
+	@Test
+	public void expireShouldRestartExpirationOfExistingKeys() {
+
+		doWithConnection(connection -> connection.set(binaryCacheKey, binaryCacheValue,
+				Expiration.from(1, TimeUnit.SECONDS), SetOption.upsert()));
+
+		nonLockingRedisCacheWriter(connectionFactory).expire(CACHE_NAME,
+				Arrays.asList(binaryCacheKey, otherBinaryCacheKey), Duration.ofSeconds(30));
+
+		doWithConnection(connection -> {
+			assertThat(connection.ttl(binaryCacheKey)).isGreaterThan(25);
+			assertThat(connection.exists(otherBinaryCacheKey)).isFalse();
+		});
+	}
+
+	@Test
+	public void putBoundedShouldEvictOldestEntries() {
+
+		byte[] thirdBinaryCacheKey = (CACHE_NAME + "::key-3").getBytes(StandardCharsets.UTF_8);
+		byte[] indexKey = (CACHE_NAME + "::~lru").getBytes(StandardCharsets.UTF_8);
+		RedisCacheWriter writer = nonLockingRedisCacheWriter(connectionFactory);
+
+		writer.putBounded(CACHE_NAME, binaryCacheKey, binaryCacheValue, Duration.ZERO, indexKey, 2);
+		writer.putBounded(CACHE_NAME, otherBinaryCacheKey, binaryCacheValue, Duration.ZERO, indexKey, 2);
+		writer.putBounded(CACHE_NAME, thirdBinaryCacheKey, binaryCacheValue, Duration.ZERO, indexKey, 2);
+
+		doWithConnection(connection -> {
+			assertThat(connection.exists(binaryCacheKey)).isFalse();
+			assertThat(connection.exists(otherBinaryCacheKey)).isTrue();
+			assertThat(connection.exists(thirdBinaryCacheKey)).isTrue();
+			assertThat(connection.zCard(indexKey)).isEqualTo(2);
+		});
+	}
+
+	@Test
+	public void indexBoundedShouldEvictKeysWrittenBefore() {
+
+		doWithConnection(connection -> {
+			connection.set(binaryCacheKey, binaryCacheValue);
+			connection.set(otherBinaryCacheKey, binaryCacheValue);
+		});
+
+		nonLockingRedisCacheWriter(connectionFactory).indexBounded(CACHE_NAME,
+				Arrays.asList(binaryCacheKey, otherBinaryCacheKey), Duration.ZERO,
+				(CACHE_NAME + "::~lru").getBytes(StandardCharsets.UTF_8), 1);
+
+		doWithConnection(connection -> {
+			assertThat(connection.exists(binaryCacheKey)).isFalse();
+			assertThat(connection.exists(otherBinaryCacheKey)).isTrue();
+		});
+	}
+
+	@Test
+	public void removeAllShouldRemoveEntries() {
+
+		doWithConnection(connection -> {
+			connection.set(binaryCacheKey, binaryCacheValue);
+			connection.set(otherBinaryCacheKey, binaryCacheValue);
+		});
+
+		nonLockingRedisCacheWriter(connectionFactory).removeAll(CACHE_NAME,
+				Arrays.asList(binaryCacheKey, otherBinaryCacheKey));
+
+		doWithConnection(connection -> {
+			assertThat(connection.exists(binaryCacheKey)).isFalse();
+			assertThat(connection.exists(otherBinaryCacheKey)).isFalse();
+		});
+	}
+
 	@Test // DATAREDIS-481
 	public void getShouldReturnValue() {
 
@@ -185,6 +349,20 @@ public class DefaultRedisCacheWriterTests {
 		});
 	}
 
+	@Test
+	public void putIfAbsentShouldNotAddExpiringEntryWhenKeyAlreadyExist() {
+
+		doWithConnection(connection -> connection.set(binaryCacheKey, binaryCacheValue));
+
+		assertThat(nonLockingRedisCacheWriter(connectionFactory).putIfAbsent(CACHE_NAME, binaryCacheKey, "foo".getBytes(),
+				Duration.ofSeconds(5))).isEqualTo(binaryCacheValue);
+
+		doWithConnection(connection -> {
+			assertThat(connection.get(binaryCacheKey)).isEqualTo(binaryCacheValue);
+			assertThat(connection.ttl(binaryCacheKey)).isEqualTo(-1);
+		});
+	}
+
 	@Test // DATAREDIS-481
 	public void removeShouldDeleteEntry() {
 
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.types.Expiration;
+
+/**
+ * Unit tests for {@link DefaultRedisCacheWriter}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DefaultRedisCacheWriterUnitTests {
+
+	static final byte[] KEY = "key".getBytes(StandardCharsets.UTF_8);
+	static final byte[] VALUE = "value".getBytes(StandardCharsets.UTF_8);
+	static final byte[] EXISTING = "existing".getBytes(StandardCharsets.UTF_8);
+
+	@Mock RedisConnectionFactory connectionFactory;
+	@Mock RedisClusterConnection clusterConnection;
+	@Mock RedisConnection connection;
+	@Mock CacheLockWaitStrategy lockWaitStrategy;
+
+	@Test
+	public void putIfAbsentShouldFallBackToSetIfAbsentWithoutScripting() {
+
+		when(connectionFactory.getConnection()).thenReturn(clusterConnection);
+		when(clusterConnection.evalSha(anyString(), any(), anyInt(), any()))
+				.thenThrow(new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment."));
+		when(clusterConnection.set(eq(KEY), eq(VALUE), expiringAfter(1000), eq(SetOption.ifAbsent()))).thenReturn(false,
+				true);
+		when(clusterConnection.get(KEY)).thenReturn(EXISTING);
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory);
+
+		assertThat(writer.putIfAbsent("cache", KEY, VALUE, Duration.ofSeconds(1))).isEqualTo(EXISTING);
+		assertThat(writer.putIfAbsent("cache", KEY, VALUE, Duration.ofSeconds(1))).isNull();
+
+		verify(clusterConnection, times(1)).evalSha(anyString(), any(), anyInt(), any());
+		verify(clusterConnection, never()).eval(any(), any(), anyInt(), any());
+	}
+
+	@Test
+	public void putIfAbsentShouldRetrySetIfAbsentWhenExistingValueExpired() {
+
+		when(connectionFactory.getConnection()).thenReturn(clusterConnection);
+		when(clusterConnection.evalSha(anyString(), any(), anyInt(), any()))
+				.thenThrow(new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment."));
+		when(clusterConnection.set(eq(KEY), eq(VALUE), persistent(), eq(SetOption.ifAbsent()))).thenReturn(false, true);
+		when(clusterConnection.get(KEY)).thenReturn(null);
+
+		assertThat(new DefaultRedisCacheWriter(connectionFactory).putIfAbsent("cache", KEY, VALUE, null)).isNull();
+
+		verify(clusterConnection, times(2)).set(eq(KEY), eq(VALUE), persistent(), eq(SetOption.ifAbsent()));
+	}
+
+	@Test
+	public void putIfAbsentShouldLoadScriptOnNoScriptError() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connection.evalSha(anyString(), any(), anyInt(), any()))
+				.thenThrow(new RedisSystemException("NOSCRIPT No matching script", null));
+		when(connection.eval(any(), eq(ReturnType.VALUE), eq(1), any())).thenReturn(EXISTING);
+
+		assertThat(new DefaultRedisCacheWriter(connectionFactory).putIfAbsent("cache", KEY, VALUE, null))
+				.isEqualTo(EXISTING);
+		verify(connection, never()).set(any(), any(), any(), any());
+	}
+
+	@Test
+	public void putIfAbsentShouldNotFallBackOnStandaloneConnectionErrors() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connection.evalSha(anyString(), any(), anyInt(), any()))
+				.thenThrow(new InvalidDataAccessApiUsageException("WRONGTYPE"));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> new DefaultRedisCacheWriter(connectionFactory).putIfAbsent("cache", KEY, VALUE, null));
+		verify(connection, never()).set(any(), any(), any(), any());
+	}
+
+	@Test
+	public void putTaggedShouldFallBackToPlainCommandsWithoutScripting() {
+
+		byte[] tagKey = "cache~tag::tag".getBytes(StandardCharsets.UTF_8);
+
+		when(connectionFactory.getConnection()).thenReturn(clusterConnection);
+		when(clusterConnection.evalSha(anyString(), any(), anyInt(), any()))
+				.thenThrow(new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment."));
+		when(clusterConnection.exists(tagKey)).thenReturn(true);
+		when(clusterConnection.pTtl(tagKey)).thenReturn(500L);
+
+		new DefaultRedisCacheWriter(connectionFactory).putTagged("cache", KEY, VALUE, Duration.ofSeconds(1),
+				Collections.singletonList(tagKey));
+
+		verify(clusterConnection).sAdd(tagKey, KEY);
+		verify(clusterConnection).pExpire(tagKey, 1000);
+		verify(clusterConnection).set(eq(KEY), eq(VALUE), expiringAfter(1000), eq(SetOption.upsert()));
+	}
+
+	@Test
+	public void putTaggedShouldPruneRemovedEntriesFromPersistentTagSets() {
+
+		byte[] tagKey = "cache~tag::tag".getBytes(StandardCharsets.UTF_8);
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connection.sRandMember(tagKey, 3)).thenReturn(Arrays.asList(KEY, EXISTING));
+		when(connection.exists(KEY)).thenReturn(true);
+		when(connection.exists(EXISTING)).thenReturn(false);
+
+		new DefaultRedisCacheWriter(connectionFactory).putTagged("cache", KEY, VALUE, null,
+				Collections.singletonList(tagKey));
+
+		verify(connection).set(KEY, VALUE);
+		verify(connection).sRem(tagKey, EXISTING);
+	}
+
+	@Test
+	public void putTaggedShouldNotPruneExpiringTagSets() {
+
+		byte[] tagKey = "cache~tag::tag".getBytes(StandardCharsets.UTF_8);
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+
+		new DefaultRedisCacheWriter(connectionFactory).putTagged("cache", KEY, VALUE, Duration.ofSeconds(1),
+				Collections.singletonList(tagKey));
+
+		verify(connection, never()).sRandMember(any(), anyLong());
+	}
+
+	@Test
+	public void unlockShouldReleaseOwnLockAndNotify() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(lockWaitStrategy.requiresReleaseNotification()).thenReturn(true);
+		when(connection.setNX(any(), any())).thenReturn(true);
+		when(connection.evalSha(anyString(), eq(ReturnType.INTEGER), eq(1), any())).thenReturn(1L);
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory, null, lockWaitStrategy);
+		writer.lock("cache");
+		writer.unlock("cache");
+
+		ArgumentCaptor<byte[]> token = ArgumentCaptor.forClass(byte[].class);
+		verify(connection).setNX(eq("cache~lock".getBytes(StandardCharsets.UTF_8)), token.capture());
+		assertThat(token.getValue()).isNotEmpty();
+		verify(connection, never()).del(any());
+		verify(connection).publish(any(), eq("cache".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void unlockShouldNotNotifyWhenLockWasTakenOver() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connection.setNX(any(), any())).thenReturn(true);
+		when(connection.evalSha(anyString(), eq(ReturnType.INTEGER), eq(1), any())).thenReturn(0L);
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory, null, lockWaitStrategy);
+		writer.lock("cache");
+		writer.unlock("cache");
+
+		verify(connection, never()).del(any());
+		verify(connection, never()).publish(any(), any());
+	}
+
+	@Test
+	public void unlockShouldUseLockTokenForEachAcquisition() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connection.setNX(any(), any())).thenReturn(true);
+		when(connection.evalSha(anyString(), eq(ReturnType.INTEGER), eq(1), any())).thenReturn(1L);
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory, null, lockWaitStrategy);
+		writer.lock("cache");
+		writer.unlock("cache");
+		writer.lock("cache");
+
+		ArgumentCaptor<byte[]> tokens = ArgumentCaptor.forClass(byte[].class);
+		verify(connection, times(2)).setNX(any(), tokens.capture());
+		assertThat(tokens.getAllValues().get(0)).isNotEqualTo(tokens.getAllValues().get(1));
+	}
+
+	@Test
+	public void unlockShouldFallBackToWatchedDeleteWithoutScripting() {
+
+		ArgumentCaptor<byte[]> token = ArgumentCaptor.forClass(byte[].class);
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(lockWaitStrategy.requiresReleaseNotification()).thenReturn(true);
+		when(connection.setNX(any(), token.capture())).thenReturn(true);
+		when(connection.evalSha(anyString(), any(), anyInt(), any())).thenThrow(new UnsupportedOperationException());
+		when(connection.get(any())).thenAnswer(invocation -> token.getValue());
+		when(connection.exec()).thenReturn(Collections.singletonList(1L));
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory, null, lockWaitStrategy);
+		writer.lock("cache");
+		writer.unlock("cache");
+
+		verify(connection).watch(any());
+		verify(connection).multi();
+		verify(connection).del(any());
+		verify(connection).publish(any(), any());
+	}
+
+	@Test
+	public void unlockShouldNotDeleteLockTakenOverOnClusterWithoutScripting() {
+
+		when(connectionFactory.getConnection()).thenReturn(clusterConnection);
+		when(clusterConnection.setNX(any(), any())).thenReturn(true);
+		when(clusterConnection.evalSha(anyString(), any(), anyInt(), any()))
+				.thenThrow(new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment."));
+		when(clusterConnection.get(any())).thenReturn("other".getBytes(StandardCharsets.UTF_8));
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory, null, lockWaitStrategy);
+		writer.lock("cache");
+		writer.unlock("cache");
+
+		verify(clusterConnection, never()).del(any());
+		verify(clusterConnection, never()).publish(any(), any());
+	}
+
+	@Test
+	public void bulkOperationsShouldRecordLatency() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connection.mGet(KEY)).thenReturn(Collections.singletonList(VALUE));
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory)
+				.withStatisticsCollector(CacheStatisticsCollector.create());
+
+		writer.getAll("cache", Collections.singletonList(KEY));
+		writer.putAll("cache", Collections.singletonMap(KEY, VALUE), null);
+		writer.expire("cache", Collections.singletonList(KEY), Duration.ofSeconds(1));
+		writer.removeAll("cache", Collections.singletonList(KEY));
+		writer.removeByTags("cache", Collections.emptyList());
+
+		CacheStatistics statistics = writer.getCacheStatistics("cache");
+
+		assertThat(statistics.getLatency(CacheOperation.GET_ALL).getCount()).isOne();
+		assertThat(statistics.getLatency(CacheOperation.PUT_ALL).getCount()).isOne();
+		assertThat(statistics.getLatency(CacheOperation.EXPIRE).getCount()).isOne();
+		assertThat(statistics.getLatency(CacheOperation.REMOVE_ALL).getCount()).isOne();
+		assertThat(statistics.getLatency(CacheOperation.REMOVE_BY_TAGS).getCount()).isOne();
+		assertThat(statistics.getLatency(CacheOperation.GET).getCount()).isZero();
+	}
+
+	@Test
+	public void leasesShouldNotRecordStatistics() {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		when(connection.set(eq(KEY), eq(VALUE), expiringAfter(1000), eq(SetOption.ifAbsent()))).thenReturn(true);
+		when(connection.evalSha(anyString(), eq(ReturnType.INTEGER), eq(1), any())).thenReturn(1L);
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(connectionFactory)
+				.withStatisticsCollector(CacheStatisticsCollector.create());
+
+		assertThat(writer.acquireLease("cache", KEY, VALUE, Duration.ofSeconds(1))).isTrue();
+		writer.peek("cache", KEY);
+		writer.releaseLease("cache", KEY, VALUE);
+
+		CacheStatistics statistics = writer.getCacheStatistics("cache");
+
+		assertThat(statistics.getPuts()).isZero();
+		assertThat(statistics.getGets()).isZero();
+		assertThat(statistics.getDeletes()).isZero();
+		verify(connection).evalSha(anyString(), eq(ReturnType.INTEGER), eq(1), eq(KEY), eq(VALUE));
+	}
+
+	@Test
+	public void releaseLeaseShouldKeepLeaseAcquiredByOtherCallerWithoutScripting() {
+
+		when(connectionFactory.getConnection()).thenReturn(clusterConnection);
+		when(clusterConnection.evalSha(anyString(), any(), anyInt(), any()))
+				.thenThrow(new InvalidDataAccessApiUsageException("EvalSha is not supported in cluster environment."));
+		when(clusterConnection.get(KEY)).thenReturn(EXISTING);
+
+		new DefaultRedisCacheWriter(connectionFactory).releaseLease("cache", KEY, VALUE);
+
+		verify(clusterConnection, never()).del(any());
+	}
+
+	private static Expiration expiringAfter(long millis) {
+		return argThat(it -> !it.isPersistent() && it.getExpirationTimeInMilliseconds() == millis);
+	}
+
+	private static Expiration persistent() {
+		return argThat(Expiration::isPersistent);
+	}
+}
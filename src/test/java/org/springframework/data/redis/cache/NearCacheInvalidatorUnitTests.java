@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Unit tests for {@link NearCacheInvalidator}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class NearCacheInvalidatorUnitTests {
+
+	static final String CHANNEL = "invalidations";
+
+	@Mock RedisMessageListenerContainer listenerContainer;
+	@Mock RedisConnectionFactory connectionFactory;
+	@Mock RedisConnection connection;
+
+	NearCache nearCache = new NearCache(10, Duration.ZERO);
+
+	@Before
+	public void setUp() {
+
+		when(listenerContainer.getConnectionFactory()).thenReturn(connectionFactory);
+		when(connectionFactory.getConnection()).thenReturn(connection);
+	}
+
+	@Test
+	public void shouldSubscribeToChannel() {
+
+		NearCacheInvalidator invalidator = new NearCacheInvalidator(listenerContainer, CHANNEL);
+
+		verify(listenerContainer).addMessageListener(invalidator, new ChannelTopic(CHANNEL));
+	}
+
+	@Test
+	public void shouldEvictKeyPublishedByOtherProcess() {
+
+		NearCacheInvalidator sender = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		NearCacheInvalidator receiver = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		receiver.register("cache", nearCache);
+
+		nearCache.put("cache::key", "value");
+		nearCache.put("cache::other", "value");
+
+		sender.publishEvict("cache", "cache::key");
+		receiver.onMessage(new DefaultMessage(CHANNEL.getBytes(), publishedMessage()), null);
+
+		assertThat(nearCache.get("cache::key")).isNull();
+		assertThat(nearCache.get("cache::other")).isEqualTo("value");
+	}
+
+	@Test
+	public void shouldEvictKeysPublishedInSingleMessage() {
+
+		NearCacheInvalidator sender = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		NearCacheInvalidator receiver = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		receiver.register("cache", nearCache);
+
+		nearCache.put("cache::key-1", "value");
+		nearCache.put("cache::key-2", "value");
+		nearCache.put("cache::other", "value");
+
+		sender.publishEvictAll("cache", Arrays.asList("cache::key-1", "cache::key-2"));
+		receiver.onMessage(new DefaultMessage(CHANNEL.getBytes(), publishedMessage()), null);
+
+		assertThat(nearCache.get("cache::key-1")).isNull();
+		assertThat(nearCache.get("cache::key-2")).isNull();
+		assertThat(nearCache.get("cache::other")).isEqualTo("value");
+	}
+
+	@Test
+	public void shouldPublishLargeBatchesOverSingleConnection() {
+
+		NearCacheInvalidator invalidator = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		List<String> keys = new ArrayList<>();
+
+		for (int i = 0; i < 2500; i++) {
+			keys.add("cache::key-" + i);
+		}
+
+		invalidator.publishEvictAll("cache", keys);
+
+		verify(connectionFactory).getConnection();
+		verify(connection, times(3)).publish(eq(CHANNEL.getBytes()), any());
+		verify(connection).close();
+	}
+
+	@Test
+	public void shouldClearCachePublishedByOtherProcess() {
+
+		NearCacheInvalidator sender = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		NearCacheInvalidator receiver = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		receiver.register("cache", nearCache);
+
+		nearCache.put("cache::key", "value");
+
+		sender.publishClear("cache");
+		receiver.onMessage(new DefaultMessage(CHANNEL.getBytes(), publishedMessage()), null);
+
+		assertThat(nearCache.size()).isZero();
+	}
+
+	@Test
+	public void shouldIgnoreOwnMessages() {
+
+		NearCacheInvalidator invalidator = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		invalidator.register("cache", nearCache);
+
+		nearCache.put("cache::key", "value");
+
+		invalidator.publishEvict("cache", "cache::key");
+		invalidator.onMessage(new DefaultMessage(CHANNEL.getBytes(), publishedMessage()), null);
+
+		assertThat(nearCache.get("cache::key")).isEqualTo("value");
+		verify(connection).close();
+	}
+
+	@Test
+	public void shouldIgnoreMalformedMessages() {
+
+		NearCacheInvalidator invalidator = new NearCacheInvalidator(listenerContainer, CHANNEL);
+		invalidator.register("cache", nearCache);
+
+		nearCache.put("cache::key", "value");
+
+		byte[] header = ByteBuffer.allocate(16 + 1 + 4).putLong(1).putLong(2).put((byte) 'C').putInt(Integer.MAX_VALUE)
+				.array();
+		byte[] negativeLength = ByteBuffer.allocate(16 + 1 + 4).putLong(1).putLong(2).put((byte) 'C').putInt(-1).array();
+
+		invalidator.onMessage(new DefaultMessage(CHANNEL.getBytes(), header), null);
+		invalidator.onMessage(new DefaultMessage(CHANNEL.getBytes(), negativeLength), null);
+		invalidator.onMessage(new DefaultMessage(CHANNEL.getBytes(), new byte[] { 1, 2, 3 }), null);
+
+		assertThat(nearCache.get("cache::key")).isEqualTo("value");
+	}
+
+	private byte[] publishedMessage() {
+
+		ArgumentCaptor<byte[]> message = ArgumentCaptor.forClass(byte[].class);
+		verify(connection).publish(eq(CHANNEL.getBytes()), message.capture());
+		return message.getValue();
+	}
+}
@@ -17,6 +17,8 @@ package org.springframework.data.redis.cache;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.junit.Test;
 import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.instrument.classloading.ShadowingClassLoader;
@@ -43,4 +45,104 @@ public class RedisCacheConfigurationUnitTests {
 
 		assertThat(usedClassLoader).isSameAs(classLoader);
 	}
+
+	@Test
+	public void shouldConfigureSingleFlightLoading() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(config.isSingleFlightLoading()).isFalse();
+		assertThat(config.getLoadLeaseTtl()).isEqualTo(Duration.ZERO);
+
+		RedisCacheConfiguration singleFlight = config.enableSingleFlightLoading(Duration.ofSeconds(10))
+				.entryTtl(Duration.ofMinutes(1));
+
+		assertThat(singleFlight.isSingleFlightLoading()).isTrue();
+		assertThat(singleFlight.getLoadLeaseTtl()).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	public void shouldConfigureGenerationalKeys() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(config.useGenerationalKeys()).isFalse();
+		assertThat(config.getGenerationRefreshInterval()).isNull();
+
+		RedisCacheConfiguration generational = config.enableGenerationalKeys(Duration.ofSeconds(5))
+				.entryTtl(Duration.ofMinutes(1));
+
+		assertThat(generational.useGenerationalKeys()).isTrue();
+		assertThat(generational.getGenerationRefreshInterval()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(generational.getKeyPrefixFor("cache", 3)).isEqualTo("cache::3::");
+	}
+
+	@Test
+	public void shouldConfigureNearCache() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(config.useNearCache()).isFalse();
+
+		RedisCacheConfiguration nearCache = config.enableNearCache(100, Duration.ofSeconds(5))
+				.entryTtl(Duration.ofMinutes(1));
+
+		assertThat(nearCache.useNearCache()).isTrue();
+		assertThat(nearCache.getNearCacheMaxSize()).isEqualTo(100);
+		assertThat(nearCache.getNearCacheTtl()).isEqualTo(Duration.ofSeconds(5));
+		assertThat(nearCache.getTtl()).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	public void shouldConfigureRefreshAhead() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(config.useRefreshAhead()).isFalse();
+		assertThat(config.enableEarlyRefresh().useRefreshAhead()).isFalse();
+
+		RedisCacheConfiguration refreshAhead = config.enableEarlyRefresh(2.0)
+				.enableStaleWhileRevalidate(Duration.ofSeconds(30)).entryTtl(Duration.ofMinutes(1));
+
+		assertThat(refreshAhead.useRefreshAhead()).isTrue();
+		assertThat(refreshAhead.getEarlyRefreshBeta()).isEqualTo(2.0);
+		assertThat(refreshAhead.getStaleWhileRevalidate()).isEqualTo(Duration.ofSeconds(30));
+	}
+
+	@Test
+	public void shouldConfigureSlidingExpiration() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(config.useSlidingExpiration()).isFalse();
+		assertThat(config.enableSlidingExpiration().useSlidingExpiration()).isFalse();
+
+		RedisCacheConfiguration sliding = config.enableSlidingExpiration(Duration.ofSeconds(1))
+				.entryTtl(Duration.ofMinutes(30));
+
+		assertThat(sliding.useSlidingExpiration()).isTrue();
+		assertThat(sliding.getSlidingExpirationTouchInterval()).isEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	public void shouldRejectSlidingExpirationCombinedWithRefreshAhead() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> config.enableEarlyRefresh().enableSlidingExpiration());
+		assertThatIllegalStateException()
+				.isThrownBy(() -> config.enableSlidingExpiration().enableStaleWhileRevalidate(Duration.ofSeconds(1)));
+	}
+
+	@Test
+	public void shouldConfigureMaxEntries() {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
+
+		assertThat(config.useSizeBound()).isFalse();
+		assertThat(config.maxEntries(100).useSizeBound()).isTrue();
+		assertThat(config.maxEntries(100).getMaxEntries()).isEqualTo(100);
+		assertThatIllegalArgumentException().isThrownBy(() -> config.maxEntries(0));
+	}
 }
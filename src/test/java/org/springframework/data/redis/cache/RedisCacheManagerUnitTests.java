@@ -16,16 +16,33 @@
 package org.springframework.data.redis.cache;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.cache.Cache;
 import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.data.redis.cache.RedisCacheManager.RedisCacheManagerBuilder;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -39,6 +56,8 @@ public class RedisCacheManagerUnitTests {
 
 	@Mock RedisCacheWriter cacheWriter;
 
+	@Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
 	@Test // DATAREDIS-481
 	public void missingCacheShouldBeCreatedWithDefaultConfiguration() {
 
@@ -150,4 +169,181 @@ public class RedisCacheManagerUnitTests {
 
 		assertThat(cmb.getCacheConfigurationFor("unknown")).isNotPresent();
 	}
+
+	@Test
+	public void cleanStrategyShouldBeAppliedToDefaultCacheWriter() {
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(mock(RedisConnectionFactory.class));
+		CacheCleanStrategy cleanStrategy = CacheCleanStrategy.scan(1000, 100);
+
+		RedisCacheManager cm = RedisCacheManager.builder(writer).cleanStrategy(cleanStrategy).build();
+		cm.afterPropertiesSet();
+
+		RedisCacheWriter usedWriter = cm.getMissingCache("new-cache").getNativeCache();
+
+		assertThat(usedWriter).isNotSameAs(writer);
+		assertThat(ReflectionTestUtils.getField(usedWriter, "cleanStrategy")).isSameAs(cleanStrategy);
+	}
+
+	@Test
+	public void cleanStrategyShouldBeRejectedForCustomCacheWriter() {
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> RedisCacheManager.builder(cacheWriter).cleanStrategy(CacheCleanStrategy.keys()).build());
+	}
+
+	@Test
+	public void statisticsCollectorShouldBeAppliedToDefaultCacheWriter() {
+
+		DefaultRedisCacheWriter writer = new DefaultRedisCacheWriter(mock(RedisConnectionFactory.class));
+		CacheCleanStrategy cleanStrategy = CacheCleanStrategy.scan(1000, 100);
+		CacheStatisticsCollector statisticsCollector = CacheStatisticsCollector.create();
+
+		RedisCacheManager cm = RedisCacheManager.builder(writer).cleanStrategy(cleanStrategy)
+				.enableStatistics(statisticsCollector).build();
+		cm.afterPropertiesSet();
+
+		RedisCacheWriter usedWriter = cm.getMissingCache("new-cache").getNativeCache();
+
+		assertThat(ReflectionTestUtils.getField(usedWriter, "cleanStrategy")).isSameAs(cleanStrategy);
+		assertThat(ReflectionTestUtils.getField(usedWriter, "statistics")).isSameAs(statisticsCollector);
+	}
+
+	@Test
+	public void statisticsShouldBeRejectedForCustomCacheWriter() {
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> RedisCacheManager.builder(cacheWriter).enableStatistics().build());
+	}
+
+	@Test
+	public void fromConnectionFactoryShouldConfigureAsyncCacheWriterForReactiveConnectionFactory() {
+
+		RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class,
+				withSettings().extraInterfaces(ReactiveRedisConnectionFactory.class));
+
+		RedisCacheManager cm = RedisCacheManager.builder(connectionFactory).build();
+		cm.afterPropertiesSet();
+
+		assertThat(ReflectionTestUtils.getField(cm.getMissingCache("new-cache"), "asyncCacheWriter"))
+				.isInstanceOf(DefaultAsyncRedisCacheWriter.class);
+	}
+
+	@Test
+	public void statisticsShouldBeAppliedToAsyncCacheWriter() {
+
+		RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class,
+				withSettings().extraInterfaces(ReactiveRedisConnectionFactory.class));
+		CacheStatisticsCollector statisticsCollector = CacheStatisticsCollector.create();
+
+		RedisCacheManager cm = RedisCacheManager.builder(connectionFactory).enableStatistics(statisticsCollector).build();
+		cm.afterPropertiesSet();
+
+		Object asyncCacheWriter = ReflectionTestUtils.getField(cm.getMissingCache("new-cache"), "asyncCacheWriter");
+
+		assertThat(ReflectionTestUtils.getField(asyncCacheWriter, "statistics")).isSameAs(statisticsCollector);
+	}
+
+	@Test
+	public void fromConnectionFactoryShouldNotConfigureAsyncCacheWriterForBlockingConnectionFactory() {
+
+		RedisCacheManager cm = RedisCacheManager.builder(mock(RedisConnectionFactory.class)).build();
+		cm.afterPropertiesSet();
+
+		assertThat(ReflectionTestUtils.getField(cm.getMissingCache("new-cache"), "asyncCacheWriter")).isNull();
+	}
+
+	@Test
+	public void evictByTagShouldEvictFromAllCaches() {
+
+		when(cacheWriter.removeByTags(anyString(), anyCollection())).thenReturn(2L);
+
+		RedisCacheManager cm = RedisCacheManager.builder(cacheWriter)
+				.initialCacheNames(new LinkedHashSet<>(Arrays.asList("cache-1", "cache-2"))).transactionAware().build();
+		cm.afterPropertiesSet();
+
+		assertThat(cm.evictByTag("customer:1")).isEqualTo(4);
+
+		verify(cacheWriter).removeByTags(eq("cache-1"), anyCollection());
+		verify(cacheWriter).removeByTags(eq("cache-2"), anyCollection());
+	}
+
+	@Test
+	public void nearCacheInvalidationShouldSubscribeAndPassInvalidatorToCaches() {
+
+		RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+		when(listenerContainer.getConnectionFactory()).thenReturn(mock(RedisConnectionFactory.class));
+
+		RedisCacheManager cm = RedisCacheManager.builder(cacheWriter)
+				.cacheDefaults(RedisCacheConfiguration.defaultCacheConfig().enableNearCache(100, Duration.ofMinutes(1)))
+				.nearCacheInvalidation(listenerContainer, "invalidations").build();
+		cm.afterPropertiesSet();
+
+		RedisCache cache = cm.getMissingCache("new-cache");
+
+		verify(listenerContainer).addMessageListener(any(NearCacheInvalidator.class),
+				eq(new ChannelTopic("invalidations")));
+		assertThat(ReflectionTestUtils.getField(cache, "nearCacheInvalidator")).isNotNull();
+	}
+
+	@Test
+	public void warmUpShouldPopulateNearCachesFromSnapshotAndRecordKeysOnDestroy() throws Exception {
+
+		Path snapshot = temporaryFolder.getRoot().toPath().resolve("snapshot");
+		RedisCacheUnitTests.InMemoryCacheWriter writer = new RedisCacheUnitTests.InMemoryCacheWriter();
+		RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig().enableNearCache(100,
+				Duration.ZERO);
+
+		RedisCache source = new RedisCache("cache", writer, configuration);
+		source.put("key-1", "value-1");
+		source.put("key-2", "value-2");
+
+		CacheWarmUpSnapshot.write(snapshot, Collections.singletonMap("cache", Arrays.asList(source.createCacheKey("key-1"),
+				source.createCacheKey("key-2"), source.createCacheKey("absent"))));
+
+		List<CacheWarmUpProgress> progress = new CopyOnWriteArrayList<>();
+		RedisCacheManager cm = RedisCacheManager.builder(writer).cacheDefaults(configuration)
+				.warmUp(CacheWarmUpConfiguration.snapshotFile(snapshot).withBatchSize(2).withListener(progress::add)).build();
+		cm.afterPropertiesSet();
+		cm.whenWarmedUp().get(5, TimeUnit.SECONDS);
+
+		int gets = writer.gets.get();
+
+		assertThat(cm.getCache("cache").get("key-1").get()).isEqualTo("value-1");
+		assertThat(cm.getCache("cache").get("key-2").get()).isEqualTo("value-2");
+		assertThat(writer.gets).hasValue(gets);
+		assertThat(progress).hasSize(2).filteredOn(CacheWarmUpProgress::isComplete)
+				.extracting(CacheWarmUpProgress::getFoundKeys).containsExactly(2);
+
+		Files.delete(snapshot);
+		cm.destroy();
+
+		assertThat(CacheWarmUpSnapshot.read(snapshot).get("cache")).containsExactlyInAnyOrder(
+				source.createCacheKey("key-1"), source.createCacheKey("key-2"));
+	}
+
+	@Test
+	public void destroyShouldShutDownOwnedExecutorsOnly() {
+
+		ExecutorService backgroundExecutor = mock(ExecutorService.class);
+
+		RedisCacheManager owning = RedisCacheManager.builder(cacheWriter).build();
+		RedisCacheManager custom = RedisCacheManager.builder(cacheWriter).backgroundExecutor(backgroundExecutor).build();
+
+		RedisCache cache = owning.getMissingCache("new-cache");
+
+		assertThat(ReflectionTestUtils.getField(cache, "backgroundExecutor"))
+				.isSameAs(ReflectionTestUtils.getField(owning, "defaultBackgroundExecutor"));
+		assertThat(ReflectionTestUtils.getField(custom.getMissingCache("new-cache"), "backgroundExecutor"))
+				.isSameAs(backgroundExecutor);
+
+		owning.destroy();
+		custom.destroy();
+
+		assertThat((ExecutorService) ReflectionTestUtils.getField(owning, "defaultBackgroundExecutor")).matches(
+				ExecutorService::isShutdown);
+		assertThat((ExecutorService) ReflectionTestUtils.getField(owning, "touchScheduler")).matches(
+				ExecutorService::isShutdown);
+		verifyZeroInteractions(backgroundExecutor);
+	}
 }
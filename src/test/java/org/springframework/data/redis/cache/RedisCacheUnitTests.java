@@ -0,0 +1,1123 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link RedisCache}.
+ */
+public class RedisCacheUnitTests {
+
+	private final InMemoryCacheWriter writer = new InMemoryCacheWriter();
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	@After
+	public void tearDown() {
+
+		executor.shutdownNow();
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void singleFlightShouldInvokeLoaderOnceForConcurrentCallers() throws Exception {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableSingleFlightLoading());
+
+		AtomicInteger invocations = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			results.add(executor.submit(() -> cache.get("key", () -> {
+
+				invocations.incrementAndGet();
+				release.await(5, TimeUnit.SECONDS);
+				return "value";
+			})));
+		}
+
+		while (writer.gets.get() < 5) {
+			Thread.sleep(5);
+		}
+		Thread.sleep(50);
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		}
+
+		assertThat(invocations).hasValue(1);
+		assertThat(writer.puts).hasValue(1);
+	}
+
+	@Test
+	public void singleFlightShouldLoadDifferentKeysInParallel() throws Exception {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableSingleFlightLoading());
+
+		CountDownLatch bothLoading = new CountDownLatch(2);
+
+		Future<Boolean> first = executor.submit(() -> cache.get("key-1", () -> {
+			bothLoading.countDown();
+			return bothLoading.await(5, TimeUnit.SECONDS);
+		}));
+		Future<Boolean> second = executor.submit(() -> cache.get("key-2", () -> {
+			bothLoading.countDown();
+			return bothLoading.await(5, TimeUnit.SECONDS);
+		}));
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void singleFlightShouldPropagateLoaderFailure() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableSingleFlightLoading());
+
+		assertThatThrownBy(() -> cache.get("key", () -> {
+			throw new IllegalStateException("o_O");
+		})).isInstanceOf(ValueRetrievalException.class).hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void leaseShouldWaitForValueLoadedByLeaseHolder() throws Exception {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableSingleFlightLoading(Duration.ofSeconds(5)));
+
+		writer.putIfAbsent("cache", "cache::key~load".getBytes(), "1".getBytes(), null);
+
+		Future<String> result = executor.submit(() -> cache.get("key", () -> "loaded-locally"));
+
+		Thread.sleep(100);
+		cache.put("key", "loaded-elsewhere");
+
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded-elsewhere");
+	}
+
+	@Test
+	public void leaseShouldBeReleasedAfterLoading() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableSingleFlightLoading(Duration.ofSeconds(5)));
+
+		assertThat(cache.get("key", () -> "value")).isEqualTo("value");
+		assertThat(writer.get("cache", "cache::key~load".getBytes())).isNull();
+	}
+
+	@Test
+	public void leaseShouldNotReleaseLeaseAcquiredByOtherCaller() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableSingleFlightLoading(Duration.ofSeconds(5)));
+		byte[] leaseKey = "cache::key~load".getBytes();
+
+		assertThat(cache.get("key", () -> {
+
+			// the lease expired and got acquired by another caller while loading
+			writer.store.put(new ByteArrayWrapper(leaseKey), "other".getBytes());
+			return "value";
+		})).isEqualTo("value");
+
+		assertThat(writer.get("cache", leaseKey)).isEqualTo("other".getBytes());
+	}
+
+	@Test
+	public void generationalKeysShouldPrefixKeysWithGeneration() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMinutes(1)).enableGenerationalKeys(Duration.ofMinutes(1)));
+
+		cache.put("key", "value");
+
+		assertThat(writer.store).containsKey(new ByteArrayWrapper("cache::0::key".getBytes()));
+	}
+
+	@Test
+	public void generationalClearShouldIncrementGenerationInsteadOfRemovingEntries() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMinutes(1)).enableGenerationalKeys(Duration.ofMinutes(1)));
+
+		cache.put("key", "value");
+		cache.clear();
+
+		assertThat(cache.get("key")).isNull();
+		assertThat(writer.store).containsKey(new ByteArrayWrapper("cache::0::key".getBytes()));
+
+		cache.put("key", "other");
+
+		assertThat(cache.get("key").get()).isEqualTo("other");
+		assertThat(writer.store).containsKey(new ByteArrayWrapper("cache::1::key".getBytes()));
+	}
+
+	@Test
+	public void generationalKeysShouldPickUpGenerationChangedElsewhereAfterRefreshInterval() throws InterruptedException {
+
+		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1))
+				.enableGenerationalKeys(Duration.ofMillis(20));
+		RedisCache cache = new RedisCache("cache", writer, config);
+		RedisCache other = new RedisCache("cache", writer, config);
+
+		cache.put("key", "value");
+		other.clear();
+
+		Thread.sleep(30);
+
+		assertThat(cache.get("key")).isNull();
+	}
+
+	@Test
+	public void generationalKeysShouldBeRejectedWithoutTtl() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new RedisCache("cache", writer,
+						RedisCacheConfiguration.defaultCacheConfig().enableGenerationalKeys(Duration.ofMinutes(1))))
+				.withMessageContaining("TTL");
+	}
+
+	@Test
+	public void generationalKeysShouldNotReadGenerationAsCacheAccess() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMinutes(1)).enableGenerationalKeys(Duration.ofMinutes(1)));
+
+		cache.put("key", "value");
+
+		assertThat(writer.gets).hasValue(0);
+	}
+
+	@Test
+	public void shouldRejectFeaturesNotImplementedByCacheWriter() {
+
+		RedisCacheWriter basic = new BasicCacheWriter(writer);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new RedisCache("cache", basic, RedisCacheConfiguration
+				.defaultCacheConfig().entryTtl(Duration.ofMinutes(1)).enableGenerationalKeys(Duration.ofMinutes(1))))
+				.withMessageContaining("generational keys");
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new RedisCache("cache", basic, RedisCacheConfiguration.defaultCacheConfig().maxEntries(2)))
+				.withMessageContaining("size bounds");
+		assertThatIllegalArgumentException().isThrownBy(() -> new RedisCache("cache", basic,
+				RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1)).enableSlidingExpiration()))
+				.withMessageContaining("sliding expiration");
+	}
+
+	@Test
+	public void shouldUseDefaultCacheWriterMethodsBuiltOnImplementedOperations() {
+
+		RedisCacheWriter expiring = new BasicCacheWriter(writer) {
+
+			@Override
+			public void expire(String name, Collection<byte[]> keys, Duration ttl) {
+				writer.expire(name, keys, ttl);
+			}
+
+			@Override
+			public boolean supports(RedisCacheWriterFeature feature) {
+				return feature == RedisCacheWriterFeature.SLIDING_EXPIRATION;
+			}
+		};
+
+		RedisCache cache = new RedisCache("cache", expiring,
+				RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1)).enableSlidingExpiration());
+
+		cache.put("key", "value");
+
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(writer.expirations).containsOnlyKeys(new ByteArrayWrapper("cache::key".getBytes()));
+	}
+
+	@Test
+	public void getAllShouldReturnPresentValuesInKeyOrder() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig());
+
+		cache.put("key-2", "value-2");
+		cache.put("key-3", null);
+
+		Map<String, ValueWrapper> values = cache.getAll(Arrays.asList("key-1", "key-2", "key-3"));
+
+		assertThat(values).containsOnlyKeys("key-2", "key-3");
+		assertThat(values.get("key-2").get()).isEqualTo("value-2");
+		assertThat(values.get("key-3").get()).isNull();
+		assertThat(writer.gets).hasValue(1);
+	}
+
+	@Test
+	public void putAllShouldStoreAllEntries() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig());
+
+		Map<String, String> entries = new LinkedHashMap<>();
+		entries.put("key-1", "value-1");
+		entries.put("key-2", "value-2");
+
+		cache.putAll(entries);
+
+		assertThat(cache.get("key-1", String.class)).isEqualTo("value-1");
+		assertThat(cache.get("key-2", String.class)).isEqualTo("value-2");
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void putAllShouldRejectNullValuesIfNotAllowed() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().disableCachingNullValues());
+
+		cache.putAll(Collections.singletonMap("key", null));
+	}
+
+	@Test
+	public void evictAllShouldRemoveAllEntries() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig());
+
+		cache.put("key-1", "value-1");
+		cache.put("key-2", "value-2");
+		cache.put("key-3", "value-3");
+
+		cache.evictAll(Arrays.asList("key-1", "key-2"));
+
+		assertThat(cache.get("key-1")).isNull();
+		assertThat(cache.get("key-2")).isNull();
+		assertThat(cache.get("key-3", String.class)).isEqualTo("value-3");
+	}
+
+	@Test
+	public void nearCacheShouldServeRepeatedReadsLocally() {
+
+		new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()).put("key", "value");
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableNearCache(10, Duration.ofMinutes(1)));
+
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(cache.get("missing")).isNull();
+
+		assertThat(writer.gets).hasValue(2);
+
+		NearCacheStatistics statistics = cache.getNearCacheStatistics();
+		assertThat(statistics.getSize()).isEqualTo(1);
+		assertThat(statistics.getLocalHits()).isEqualTo(1);
+		assertThat(statistics.getLocalMisses()).isEqualTo(2);
+		assertThat(statistics.getRemoteHits()).isEqualTo(1);
+		assertThat(statistics.getRemoteMisses()).isEqualTo(1);
+	}
+
+	@Test
+	public void nearCacheShouldBeUpdatedOnWrite() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableNearCache(10, Duration.ofMinutes(1)));
+
+		cache.put("key", "value");
+		cache.put("key", "other");
+
+		assertThat(cache.get("key", String.class)).isEqualTo("other");
+		assertThat(writer.gets).hasValue(0);
+
+		cache.evict("key");
+
+		assertThat(cache.get("key")).isNull();
+		assertThat(writer.gets).hasValue(1);
+	}
+
+	@Test
+	public void nearCacheShouldEvictLeastRecentlyUsedValues() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableNearCache(2, Duration.ZERO));
+
+		cache.put("key-1", "value-1");
+		cache.put("key-2", "value-2");
+		cache.get("key-1");
+		cache.put("key-3", "value-3");
+
+		assertThat(cache.getNearCacheStatistics().getSize()).isEqualTo(2);
+
+		cache.get("key-1");
+		cache.get("key-3");
+		assertThat(writer.gets).hasValue(0);
+
+		cache.get("key-2");
+		assertThat(writer.gets).hasValue(1);
+	}
+
+	@Test
+	public void nearCacheShouldExpireValues() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableNearCache(10, Duration.ofMillis(10)));
+
+		cache.put("key", "value");
+		Thread.sleep(20);
+
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(writer.gets).hasValue(1);
+	}
+
+	@Test
+	public void getNearCacheStatisticsShouldReturnNullWithoutNearCache() {
+		assertThat(new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()).getNearCacheStatistics())
+				.isNull();
+	}
+
+	@Test
+	public void staleWhileRevalidateShouldServeExpiredValueWhileRefreshing() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMillis(20)).enableStaleWhileRevalidate(Duration.ofMinutes(1)));
+
+		cache.get("key", () -> "value");
+		Thread.sleep(30);
+
+		assertThat(cache.get("key", () -> "refreshed")).isEqualTo("value");
+		awaitValue(cache, "key", "refreshed");
+	}
+
+	@Test
+	public void refreshAheadShouldRecordRemoteLookupsAndFillNearCache() {
+
+		RedisCacheConfiguration configuration = RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMinutes(1)).enableStaleWhileRevalidate(Duration.ofMinutes(1))
+				.enableNearCache(10, Duration.ofMinutes(1));
+
+		new RedisCache("cache", writer, configuration).put("key", "value");
+
+		RedisCache cache = new RedisCache("cache", writer, configuration);
+
+		assertThat(cache.get("key", () -> "loaded")).isEqualTo("value");
+		assertThat(cache.get("key", () -> "loaded")).isEqualTo("value");
+
+		NearCacheStatistics statistics = cache.getNearCacheStatistics();
+		assertThat(writer.gets).hasValue(1);
+		assertThat(statistics.getRemoteHits()).isEqualTo(1);
+		assertThat(statistics.getLocalHits()).isEqualTo(1);
+	}
+
+	@Test
+	public void refreshLeaseShouldBeReleasedByToken() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMillis(20)).enableStaleWhileRevalidate(Duration.ofMinutes(1)));
+		byte[] leaseKey = "cache::key~refresh".getBytes();
+
+		cache.get("key", () -> "value");
+		Thread.sleep(30);
+
+		assertThat(cache.get("key", () -> {
+
+			// the lease expired and got acquired by another caller while refreshing
+			writer.store.put(new ByteArrayWrapper(leaseKey), "other".getBytes());
+			return "refreshed";
+		})).isEqualTo("value");
+
+		awaitValue(cache, "key", "refreshed");
+		assertThat(writer.get("cache", leaseKey)).isEqualTo("other".getBytes());
+	}
+
+	@Test
+	public void staleWhileRevalidateShouldServeExpiredValueIfRefreshIsRejected() throws InterruptedException {
+
+		AtomicInteger rejected = new AtomicInteger();
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMillis(20))
+						.enableStaleWhileRevalidate(Duration.ofMinutes(1)),
+				null, null, task -> {
+
+					rejected.incrementAndGet();
+					throw new RejectedExecutionException();
+				});
+
+		cache.get("key", () -> "value");
+		Thread.sleep(30);
+
+		assertThat(cache.get("key", () -> "refreshed")).isEqualTo("value");
+		assertThat(cache.get("key", () -> "refreshed")).isEqualTo("value");
+		assertThat(rejected).hasValue(2);
+	}
+
+	@Test
+	public void staleWhileRevalidateShouldTreatExpiredValueAsAbsentForPlainGet() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMillis(10)).enableStaleWhileRevalidate(Duration.ofMinutes(1)));
+
+		cache.put("key", "value");
+
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+
+		Thread.sleep(20);
+
+		assertThat(cache.get("key")).isNull();
+	}
+
+	@Test
+	public void staleWhileRevalidateShouldTreatExpiredValueAsAbsentForPutIfAbsent() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMillis(10)).enableStaleWhileRevalidate(Duration.ofMinutes(1)));
+
+		cache.put("key", "value");
+
+		assertThat(cache.putIfAbsent("key", "other").get()).isEqualTo("value");
+
+		Thread.sleep(20);
+
+		assertThat(cache.putIfAbsent("key", "other")).isNull();
+		assertThat(cache.get("key", String.class)).isEqualTo("other");
+	}
+
+	@Test
+	public void earlyRefreshShouldRefreshValueBeforeExpiration() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMinutes(1)).enableEarlyRefresh(1_000_000_000));
+
+		cache.get("key", () -> {
+			Thread.sleep(5);
+			return "value";
+		});
+
+		assertThat(cache.get("key", () -> "refreshed")).isEqualTo("value");
+		awaitValue(cache, "key", "refreshed");
+	}
+
+	@Test
+	public void earlyRefreshShouldNotRefreshValuesWithoutComputationTime() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMinutes(1)).enableEarlyRefresh(1_000_000_000));
+
+		cache.put("key", "value");
+
+		assertThat(cache.get("key", () -> "refreshed")).isEqualTo("value");
+
+		Thread.sleep(50);
+
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(writer.puts).hasValue(1);
+	}
+
+	@Test
+	public void retrieveShouldReadThroughAsyncCacheWriter() throws Exception {
+
+		InMemoryAsyncCacheWriter asyncWriter = new InMemoryAsyncCacheWriter(writer);
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig(), null,
+				asyncWriter);
+
+		cache.put("key", "value");
+
+		assertThat(cache.retrieve("key").get(5, TimeUnit.SECONDS).get()).isEqualTo("value");
+		assertThat(cache.retrieve("absent").get(5, TimeUnit.SECONDS)).isNull();
+		assertThat(asyncWriter.gets).hasValue(2);
+		assertThat(writer.gets).hasValue(0);
+	}
+
+	@Test
+	public void retrieveShouldLoadAndStoreAbsentValueAsynchronously() throws Exception {
+
+		InMemoryAsyncCacheWriter asyncWriter = new InMemoryAsyncCacheWriter(writer);
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig(), null,
+				asyncWriter);
+		AtomicInteger invocations = new AtomicInteger();
+
+		for (int i = 0; i < 2; i++) {
+
+			String value = cache.retrieve("key", () -> {
+
+				invocations.incrementAndGet();
+				return CompletableFuture.completedFuture("value");
+			}).get(5, TimeUnit.SECONDS);
+
+			assertThat(value).isEqualTo("value");
+		}
+
+		assertThat(invocations).hasValue(1);
+		assertThat(asyncWriter.puts).hasValue(1);
+		assertThat(writer.puts).hasValue(0);
+	}
+
+	@Test
+	public void retrieveShouldShareSingleFlightLoad() throws Exception {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableSingleFlightLoading(), null,
+				new InMemoryAsyncCacheWriter(writer));
+		AtomicInteger invocations = new AtomicInteger();
+		CompletableFuture<String> load = new CompletableFuture<>();
+
+		CompletableFuture<String> first = cache.retrieve("key", () -> {
+			invocations.incrementAndGet();
+			return load;
+		});
+		CompletableFuture<String> second = cache.retrieve("key", () -> {
+			invocations.incrementAndGet();
+			return load;
+		});
+
+		assertThat(first).isNotDone();
+		load.complete("value");
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(invocations).hasValue(1);
+	}
+
+	@Test
+	public void retrieveShouldPropagateLoaderFailure() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig(), null,
+				new InMemoryAsyncCacheWriter(writer));
+
+		CompletableFuture<Object> result = cache.retrieve("key", () -> {
+			throw new IllegalStateException("boom");
+		});
+
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+				.withCauseInstanceOf(IllegalStateException.class);
+		assertThat(writer.store).isEmpty();
+	}
+
+	@Test
+	public void retrieveShouldNotReadGenerationOnAsyncCacheWriterThreads() throws Exception {
+
+		Set<Thread> generationReaders = ConcurrentHashMap.newKeySet();
+		InMemoryCacheWriter writer = new InMemoryCacheWriter() {
+
+			@Override
+			public long getCounter(String name, byte[] key) {
+
+				generationReaders.add(Thread.currentThread());
+				return super.getCounter(name, key);
+			}
+		};
+		InMemoryAsyncCacheWriter asyncWriter = new InMemoryAsyncCacheWriter(writer) {
+
+			@Override
+			public CompletableFuture<byte[]> get(String name, byte[] key) {
+				return super.get(name, key).thenApplyAsync(it -> it, executor);
+			}
+
+			@Override
+			public CompletableFuture<Void> put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+				return super.put(name, key, value, ttl).thenApplyAsync(it -> it, executor);
+			}
+		};
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1))
+						.enableGenerationalKeys(Duration.ZERO).enableSingleFlightLoading(),
+				null, asyncWriter);
+
+		assertThat(cache.retrieve("key", () -> CompletableFuture.completedFuture("value")).get(5, TimeUnit.SECONDS))
+				.isEqualTo("value");
+		assertThat(generationReaders).containsOnly(Thread.currentThread());
+	}
+
+	@Test
+	public void retrieveShouldFallBackToCacheWriterWithoutAsyncCacheWriter() throws Exception {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig());
+
+		cache.put("key", "value");
+
+		assertThat(cache.retrieve("key").get(5, TimeUnit.SECONDS).get()).isEqualTo("value");
+		assertThat(writer.gets).hasValue(1);
+	}
+
+	@Test
+	public void evictByTagShouldRemoveTaggedEntriesOnly() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().enableNearCache(10, Duration.ofMinutes(1)));
+
+		cache.put("key-1", "value", Arrays.asList("customer:1", "region:eu"));
+		cache.put("key-2", "value", Collections.singleton("customer:2"));
+		cache.put("key-3", "value");
+
+		assertThat(cache.evictByTag("region:eu")).isEqualTo(1);
+
+		assertThat(cache.get("key-1")).isNull();
+		assertThat(cache.get("key-2")).isNotNull();
+		assertThat(cache.get("key-3")).isNotNull();
+		assertThat(writer.tags).doesNotContainKey(new ByteArrayWrapper("cache::~tag::region:eu".getBytes()));
+	}
+
+	@Test
+	public void shouldWriteKeysLikeConversionServiceAndKeySerializer() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig());
+		List<Object> keys = Arrays.asList("key", "kéy", 42, -42L, Long.MIN_VALUE, (short) 7,
+				UUID.fromString("123e4567-e89b-12d3-a456-426655440000"), 1.5d);
+
+		keys.forEach(key -> cache.put(key, "value"));
+
+		assertThat(writer.store.keySet()).containsExactlyInAnyOrderElementsOf(keys.stream() //
+				.map(key -> new ByteArrayWrapper(cache.serializeCacheKey(cache.createCacheKey(key)))) //
+				.collect(Collectors.toList()));
+		keys.forEach(key -> assertThat(cache.get(key)).isNotNull());
+	}
+
+	@Test
+	public void shouldWriteKeysUsingPrefixAndCustomConverters() {
+
+		DefaultFormattingConversionService conversionService = new DefaultFormattingConversionService();
+		conversionService.addConverter(Long.class, String.class, source -> "long-" + source);
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.prefixKeysWith("app::").withConversionService(conversionService));
+
+		cache.put(1L, "value");
+		cache.put("key", "value");
+
+		assertThat(writer.store).containsOnlyKeys(new ByteArrayWrapper("app::long-1".getBytes()),
+				new ByteArrayWrapper("app::key".getBytes()));
+	}
+
+	@Test
+	public void shouldUseOverriddenCacheKeyCreation() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()) {
+
+			@Override
+			protected String createCacheKey(Object key) {
+				return "custom::" + key;
+			}
+		};
+
+		cache.put("key", "value");
+
+		assertThat(writer.store).containsOnlyKeys(new ByteArrayWrapper("custom::key".getBytes()));
+		assertThat(cache.get("key")).isNotNull();
+	}
+
+	@Test
+	public void slidingExpirationShouldRestartTtlOnEachRead() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1)).enableSlidingExpiration());
+
+		cache.put("key-1", "value");
+
+		assertThat(cache.get("key-1").get()).isEqualTo("value");
+		assertThat(cache.get("key-2")).isNull();
+
+		assertThat(writer.expirations).containsOnlyKeys(new ByteArrayWrapper("cache::key-1".getBytes()));
+		assertThat(writer.expirations).containsValue(Duration.ofMinutes(1));
+		assertThat(writer.gets).hasValue(2);
+	}
+
+	@Test
+	public void coalescedSlidingExpirationShouldExpireEachKeyOncePerInterval() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMinutes(1)).enableSlidingExpiration(Duration.ofMillis(100)),
+				null, null, executor, scheduler);
+
+		cache.put("key-1", "value");
+		cache.put("key-2", "value");
+
+		for (int i = 0; i < 10; i++) {
+			cache.get("key-1");
+			cache.get("key-2");
+		}
+
+		assertThat(writer.expires).hasValue(0);
+
+		Thread.sleep(150);
+		cache.get("key-1");
+
+		for (int i = 0; i < 500 && writer.expirations.size() < 2; i++) {
+			Thread.sleep(10);
+		}
+
+		assertThat(writer.expirations).containsOnlyKeys(new ByteArrayWrapper("cache::key-1".getBytes()),
+				new ByteArrayWrapper("cache::key-2".getBytes()));
+		assertThat(writer.expires).hasValue(2);
+	}
+
+	@Test
+	public void coalescedSlidingExpirationShouldExpireKeysWithoutFurtherReads() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(Duration.ofMinutes(1)).enableSlidingExpiration(Duration.ofMillis(50)),
+				null, null, executor, scheduler);
+
+		cache.put("key-1", "value");
+		cache.get("key-1");
+
+		assertThat(writer.expires).hasValue(0);
+
+		for (int i = 0; i < 500 && writer.expirations.isEmpty(); i++) {
+			Thread.sleep(10);
+		}
+
+		assertThat(writer.expirations).containsOnlyKeys(new ByteArrayWrapper("cache::key-1".getBytes()));
+	}
+
+	@Test
+	public void coalescedSlidingExpirationShouldTouchNearCacheHits() throws InterruptedException {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().entryTtl(Duration.ofMinutes(1))
+						.enableNearCache(10, Duration.ZERO).enableSlidingExpiration(Duration.ofMillis(100)),
+				null, null, executor, scheduler);
+
+		cache.put("key-1", "value");
+		Thread.sleep(150);
+
+		assertThat(cache.get("key-1").get()).isEqualTo("value");
+
+		for (int i = 0; i < 500 && writer.expirations.isEmpty(); i++) {
+			Thread.sleep(10);
+		}
+
+		assertThat(writer.gets).hasValue(0);
+		assertThat(writer.expirations).containsOnlyKeys(new ByteArrayWrapper("cache::key-1".getBytes()));
+	}
+
+	@Test
+	public void boundedCacheShouldEvictOldestEntries() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig().maxEntries(2));
+
+		cache.put("key-1", "value");
+		cache.putIfAbsent("key-2", "value");
+		cache.put("key-3", "value");
+
+		assertThat(cache.get("key-1")).isNull();
+		assertThat(cache.get("key-2").get()).isEqualTo("value");
+		assertThat(cache.get("key-3").get()).isEqualTo("value");
+	}
+
+	@Test
+	public void boundedCacheShouldIndexBulkWrites() {
+
+		RedisCache cache = new RedisCache("cache", writer, RedisCacheConfiguration.defaultCacheConfig().maxEntries(2));
+
+		Map<Object, Object> entries = new LinkedHashMap<>();
+		entries.put("key-1", "value");
+		entries.put("key-2", "value");
+		entries.put("key-3", "value");
+
+		cache.putAll(entries);
+
+		assertThat(writer.store).hasSize(2);
+		assertThat(writer.index).hasSize(2);
+	}
+
+	@Test
+	public void boundedCacheShouldKeepIndexWithinKeyPrefix() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().prefixKeysWith("{tenant}:").maxEntries(2));
+
+		cache.put("key-1", "value");
+		cache.putAll(Collections.singletonMap("key-2", "value"));
+
+		assertThat(writer.indexKeys).containsOnly(new ByteArrayWrapper("{tenant}:~lru".getBytes()));
+	}
+
+	@Test
+	public void taggedEntriesShouldKeepTagSetsWithinKeyPrefix() {
+
+		RedisCache cache = new RedisCache("cache", writer,
+				RedisCacheConfiguration.defaultCacheConfig().prefixKeysWith("{tenant}:"));
+
+		cache.put("key-1", "value", Collections.singleton("customer:1"));
+
+		assertThat(writer.tags).containsOnlyKeys(new ByteArrayWrapper("{tenant}:~tag::customer:1".getBytes()));
+	}
+
+	private static void awaitValue(RedisCache cache, Object key, Object expected) throws InterruptedException {
+
+		for (int i = 0; i < 500 && !expected.equals(cache.get(key, Object.class)); i++) {
+			Thread.sleep(10);
+		}
+
+		assertThat(cache.get(key, Object.class)).isEqualTo(expected);
+	}
+
+	static class InMemoryCacheWriter implements RedisCacheWriter {
+
+		final Map<ByteArrayWrapper, byte[]> store = new ConcurrentHashMap<>();
+		final Map<ByteArrayWrapper, Set<ByteArrayWrapper>> tags = new ConcurrentHashMap<>();
+		final Map<ByteArrayWrapper, Duration> expirations = new ConcurrentHashMap<>();
+		final AtomicInteger gets = new AtomicInteger();
+		final AtomicInteger puts = new AtomicInteger();
+		final AtomicInteger expires = new AtomicInteger();
+		final Map<ByteArrayWrapper, Boolean> index = new LinkedHashMap<>();
+		final Set<ByteArrayWrapper> indexKeys = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+			puts.incrementAndGet();
+			store.put(new ByteArrayWrapper(key), value);
+		}
+
+		@Override
+		public void putBounded(String name, byte[] key, byte[] value, @Nullable Duration ttl, byte[] indexKey,
+				long maxEntries) {
+
+			put(name, key, value, ttl);
+			indexBounded(name, Collections.singletonList(key), ttl, indexKey, maxEntries);
+		}
+
+		@Override
+		public synchronized void indexBounded(String name, Collection<byte[]> keys, @Nullable Duration ttl,
+				byte[] indexKey, long maxEntries) {
+
+			indexKeys.add(new ByteArrayWrapper(indexKey));
+
+			for (byte[] key : keys) {
+
+				index.remove(new ByteArrayWrapper(key));
+				index.put(new ByteArrayWrapper(key), Boolean.TRUE);
+			}
+
+			Iterator<ByteArrayWrapper> iterator = index.keySet().iterator();
+			while (index.size() > maxEntries) {
+
+				store.remove(iterator.next());
+				iterator.remove();
+			}
+		}
+
+		@Nullable
+		@Override
+		public byte[] getAndExpire(String name, byte[] key, Duration ttl) {
+
+			byte[] value = get(name, key);
+			expire(name, Collections.singletonList(key), ttl);
+			return value;
+		}
+
+		@Override
+		public void expire(String name, Collection<byte[]> keys, Duration ttl) {
+
+			for (byte[] key : keys) {
+
+				expires.incrementAndGet();
+
+				if (store.containsKey(new ByteArrayWrapper(key))) {
+					expirations.put(new ByteArrayWrapper(key), ttl);
+				}
+			}
+		}
+
+		@Nullable
+		@Override
+		public byte[] get(String name, byte[] key) {
+
+			gets.incrementAndGet();
+			return store.get(new ByteArrayWrapper(key));
+		}
+
+		@Nullable
+		@Override
+		public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+			return store.putIfAbsent(new ByteArrayWrapper(key), value);
+		}
+
+		@Override
+		public void remove(String name, byte[] key) {
+			store.remove(new ByteArrayWrapper(key));
+		}
+
+		@Override
+		public List<byte[]> getAll(String name, List<byte[]> keys) {
+
+			gets.incrementAndGet();
+			return keys.stream().map(key -> store.get(new ByteArrayWrapper(key))).collect(Collectors.toList());
+		}
+
+		@Override
+		public void clean(String name, byte[] pattern) {
+			store.clear();
+		}
+
+		@Override
+		public void putTagged(String name, byte[] key, byte[] value, @Nullable Duration ttl, Collection<byte[]> tagKeys) {
+
+			tagKeys.forEach(tagKey -> tags.computeIfAbsent(new ByteArrayWrapper(tagKey), it -> ConcurrentHashMap.newKeySet())
+					.add(new ByteArrayWrapper(key)));
+			put(name, key, value, ttl);
+		}
+
+		@Override
+		public long removeByTags(String name, Collection<byte[]> tagKeys) {
+
+			long removed = 0;
+
+			for (byte[] tagKey : tagKeys) {
+
+				Set<ByteArrayWrapper> keys = tags.remove(new ByteArrayWrapper(tagKey));
+
+				if (keys != null) {
+					removed += keys.stream().filter(key -> store.remove(key) != null).count();
+				}
+			}
+
+			return removed;
+		}
+
+		@Override
+		public long increment(String name, byte[] key) {
+
+			byte[] value = store.merge(new ByteArrayWrapper(key), "1".getBytes(), (current, one) -> Long
+					.toString(Long.parseLong(new String(current)) + 1).getBytes());
+			return Long.parseLong(new String(value));
+		}
+
+		@Override
+		public long getCounter(String name, byte[] key) {
+
+			byte[] value = store.get(new ByteArrayWrapper(key));
+			return value != null ? Long.parseLong(new String(value)) : 0;
+		}
+
+		@Override
+		public boolean supports(RedisCacheWriterFeature feature) {
+			return true;
+		}
+	}
+
+	/**
+	 * {@link RedisCacheWriter} implementing the required operations only.
+	 */
+	static class BasicCacheWriter implements RedisCacheWriter {
+
+		final RedisCacheWriter delegate;
+
+		BasicCacheWriter(RedisCacheWriter delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+			delegate.put(name, key, value, ttl);
+		}
+
+		@Nullable
+		@Override
+		public byte[] get(String name, byte[] key) {
+			return delegate.get(name, key);
+		}
+
+		@Nullable
+		@Override
+		public byte[] putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+			return delegate.putIfAbsent(name, key, value, ttl);
+		}
+
+		@Override
+		public void remove(String name, byte[] key) {
+			delegate.remove(name, key);
+		}
+
+		@Override
+		public void clean(String name, byte[] pattern) {
+			delegate.clean(name, pattern);
+		}
+	}
+
+	static class InMemoryAsyncCacheWriter implements AsyncRedisCacheWriter {
+
+		final InMemoryCacheWriter delegate;
+		final AtomicInteger gets = new AtomicInteger();
+		final AtomicInteger puts = new AtomicInteger();
+
+		InMemoryAsyncCacheWriter(InMemoryCacheWriter delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public CompletableFuture<byte[]> get(String name, byte[] key) {
+
+			gets.incrementAndGet();
+			return CompletableFuture.completedFuture(delegate.store.get(new ByteArrayWrapper(key)));
+		}
+
+		@Override
+		public CompletableFuture<Void> put(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+
+			puts.incrementAndGet();
+			delegate.store.put(new ByteArrayWrapper(key), value);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		@Override
+		public CompletableFuture<byte[]> putIfAbsent(String name, byte[] key, byte[] value, @Nullable Duration ttl) {
+			return CompletableFuture.completedFuture(delegate.putIfAbsent(name, key, value, ttl));
+		}
+
+		@Override
+		public CompletableFuture<Void> remove(String name, byte[] key) {
+
+			delegate.remove(name, key);
+			return CompletableFuture.completedFuture(null);
+		}
+
+		@Override
+		public CompletableFuture<Void> clean(String name, byte[] pattern) {
+
+			delegate.clean(name, pattern);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.redis.cache.CacheCleanStrategy.CleanListener;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+
+/**
+ * Unit tests for {@link ScanCacheCleanStrategy}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ScanCacheCleanStrategyUnitTests {
+
+	@Mock RedisConnection connection;
+	@Mock RedisClusterConnection clusterConnection;
+
+	List<Long> progress = new CopyOnWriteArrayList<>();
+	List<Long> completed = new CopyOnWriteArrayList<>();
+
+	CleanListener listener = new CleanListener() {
+
+		@Override
+		public void onProgress(String name, long removed) {
+			progress.add(removed);
+		}
+
+		@Override
+		public void onComplete(String name, long removed, Duration duration) {
+			completed.add(removed);
+		}
+	};
+
+	@Test
+	public void shouldUnlinkScannedKeysInPipelinedBatches() {
+
+		Cursor<byte[]> cursor = cursor("k1", "k2", "k3", "k4", "k5");
+		when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+		when(connection.closePipeline()).thenReturn(Arrays.asList(2L, 2L, 1L));
+
+		long removed = new ScanCacheCleanStrategy(100, 2, listener, new SyncTaskExecutor()).clean(connection, "cache",
+				"cache::*".getBytes());
+
+		assertThat(removed).isEqualTo(5);
+		assertThat(progress).containsExactly(2L, 4L, 5L);
+		assertThat(completed).containsExactly(5L);
+		verify(connection).openPipeline();
+		verify(connection, times(3)).unlink(any());
+		verify(connection).closePipeline();
+		verify(connection, never()).keys(any());
+	}
+
+	@Test
+	public void shouldLimitBatchesPerPipeline() {
+
+		String[] keys = new String[ScanCacheCleanStrategy.PIPELINE_DEPTH + 1];
+		Arrays.setAll(keys, i -> "k" + i);
+
+		Cursor<byte[]> cursor = cursor(keys);
+		when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+		when(connection.closePipeline()).thenReturn(Collections.nCopies(ScanCacheCleanStrategy.PIPELINE_DEPTH, 1L));
+		when(connection.unlink(any())).thenReturn(1L);
+
+		long removed = new ScanCacheCleanStrategy(100, 1, listener, new SyncTaskExecutor()).clean(connection, "cache",
+				"cache::*".getBytes());
+
+		assertThat(removed).isEqualTo(ScanCacheCleanStrategy.PIPELINE_DEPTH + 1);
+		verify(connection, times(1)).openPipeline();
+		verify(connection, times(ScanCacheCleanStrategy.PIPELINE_DEPTH + 1)).unlink(any());
+	}
+
+	@Test
+	public void shouldUnlinkScannedKeysInBatchesWithoutPipelining() {
+
+		Cursor<byte[]> cursor = cursor("k1", "k2", "k3", "k4", "k5");
+		when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+		doThrow(new UnsupportedOperationException()).when(connection).openPipeline();
+		when(connection.unlink(any())).thenAnswer(invocation -> (long) invocation.getArguments().length);
+
+		long removed = new ScanCacheCleanStrategy(100, 2, listener, new SyncTaskExecutor()).clean(connection, "cache",
+				"cache::*".getBytes());
+
+		assertThat(removed).isEqualTo(5);
+		assertThat(progress).containsExactly(2L, 4L, 5L);
+		assertThat(completed).containsExactly(5L);
+		verify(connection, times(3)).unlink(any());
+		verify(connection, never()).keys(any());
+	}
+
+	@Test
+	public void shouldNotUnlinkWhenNoKeysMatch() {
+
+		Cursor<byte[]> cursor = cursor();
+		when(connection.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+		long removed = new ScanCacheCleanStrategy(100, 2, listener, new SyncTaskExecutor()).clean(connection, "cache",
+				"cache::*".getBytes());
+
+		assertThat(removed).isZero();
+		assertThat(completed).containsExactly(0L);
+		verify(connection, never()).unlink(any());
+	}
+
+	@Test
+	public void shouldScanEachClusterMaster() {
+
+		RedisClusterNode master1 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7379)
+				.promotedAs(NodeType.MASTER).build();
+		RedisClusterNode master2 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7380)
+				.promotedAs(NodeType.MASTER).build();
+		RedisClusterNode replica = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7381)
+				.promotedAs(NodeType.SLAVE).build();
+
+		Cursor<byte[]> cursor1 = cursor("k1", "k2", "k3");
+		Cursor<byte[]> cursor2 = cursor("k4");
+
+		when(clusterConnection.clusterGetNodes()).thenReturn(Arrays.asList(master1, master2, replica));
+		when(clusterConnection.scan(eq(master1), any(ScanOptions.class))).thenReturn(cursor1);
+		when(clusterConnection.scan(eq(master2), any(ScanOptions.class))).thenReturn(cursor2);
+		when(clusterConnection.unlink(any())).thenAnswer(invocation -> (long) invocation.getArguments().length);
+
+		long removed = new ScanCacheCleanStrategy(100, 10, listener, new SyncTaskExecutor()).clean(clusterConnection,
+				"cache", "cache::*".getBytes());
+
+		assertThat(removed).isEqualTo(4);
+		verify(clusterConnection, never()).scan(eq(replica), any(ScanOptions.class));
+		verify(clusterConnection, times(2)).unlink(any());
+		verify(clusterConnection, never()).openPipeline();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Cursor<byte[]> cursor(String... keys) {
+
+		Iterator<String> iterator = Arrays.asList(keys).iterator();
+		Cursor<byte[]> cursor = mock(Cursor.class);
+
+		when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+		if (keys.length > 0) {
+			when(cursor.next()).thenAnswer(invocation -> iterator.next().getBytes());
+		}
+
+		return cursor;
+	}
+}
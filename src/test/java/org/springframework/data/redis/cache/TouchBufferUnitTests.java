@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link TouchBuffer}.
+ */
+public class TouchBufferUnitTests {
+
+	static final long INTERVAL = Duration.ofSeconds(1).toNanos();
+
+	TouchBuffer buffer = new TouchBuffer(Duration.ofSeconds(1));
+	long start = System.nanoTime();
+
+	@Test
+	public void shouldCollectKeysUntilIntervalElapsed() {
+
+		assertThat(buffer.add(Collections.singletonList("key-1".getBytes()), start)).isNull();
+		assertThat(buffer.add(Arrays.asList("key-1".getBytes(), "key-2".getBytes()), start)).isNull();
+
+		assertThat(buffer.size()).isEqualTo(2);
+
+		List<byte[]> due = buffer.add(Collections.singletonList("key-1".getBytes()), start + INTERVAL);
+
+		assertThat(due).containsExactlyInAnyOrder("key-1".getBytes(), "key-2".getBytes());
+		assertThat(buffer.size()).isZero();
+	}
+
+	@Test
+	public void shouldDrainOncePerInterval() {
+
+		assertThat(buffer.add(Collections.singletonList("key-1".getBytes()), start + INTERVAL)).hasSize(1);
+		assertThat(buffer.add(Collections.singletonList("key-1".getBytes()), start + INTERVAL)).isNull();
+		assertThat(buffer.add(Collections.singletonList("key-1".getBytes()), start + 2 * INTERVAL - 1)).isNull();
+		assertThat(buffer.add(Collections.singletonList("key-1".getBytes()), start + 2 * INTERVAL)).hasSize(1);
+	}
+
+	@Test
+	public void shouldDrainOnceMaxPendingKeysAreCollected() {
+
+		TouchBuffer buffer = new TouchBuffer(Duration.ofSeconds(1), 2);
+
+		assertThat(buffer.add(Collections.singletonList("key-1".getBytes()), start)).isNull();
+		assertThat(buffer.add(Collections.singletonList("key-2".getBytes()), start))
+				.containsExactlyInAnyOrder("key-1".getBytes(), "key-2".getBytes());
+		assertThat(buffer.size()).isZero();
+	}
+
+	@Test
+	public void shouldRequestSingleFlushForCollectedKeys() {
+
+		assertThat(buffer.requestFlush()).isFalse();
+
+		buffer.add(Collections.singletonList("key-1".getBytes()), start);
+
+		assertThat(buffer.requestFlush()).isTrue();
+		assertThat(buffer.requestFlush()).isFalse();
+
+		assertThat(buffer.flush(start)).containsExactly("key-1".getBytes());
+		assertThat(buffer.requestFlush()).isFalse();
+
+		buffer.add(Collections.singletonList("key-2".getBytes()), start);
+
+		assertThat(buffer.requestFlush()).isTrue();
+	}
+
+	@Test
+	public void flushShouldRestartInterval() {
+
+		buffer.add(Collections.singletonList("key-1".getBytes()), start);
+		buffer.flush(start + INTERVAL);
+
+		assertThat(buffer.add(Collections.singletonList("key-1".getBytes()), start + INTERVAL)).isNull();
+		assertThat(buffer.add(Collections.singletonList("key-1".getBytes()), start + 2 * INTERVAL)).hasSize(1);
+	}
+
+	@Test
+	public void shouldRejectNonPositiveInterval() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new TouchBuffer(Duration.ZERO));
+	}
+}
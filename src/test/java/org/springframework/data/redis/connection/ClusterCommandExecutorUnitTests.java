@@ -21,9 +21,17 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.redis.test.util.MockitoUtils.*;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.hamcrest.core.IsInstanceOf;
 import org.junit.After;
@@ -37,12 +45,14 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.redis.ClusterRedirectException;
 import org.springframework.data.redis.PassThroughExceptionTranslationStrategy;
 import org.springframework.data.redis.TooManyClusterRedirectionsException;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.ClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiKeyClusterCommandCallback;
 import org.springframework.data.redis.connection.ClusterCommandExecutor.MultiNodeResult;
+import org.springframework.data.redis.connection.ClusterCommandExecutor.SlotGroupedClusterCommandCallback;
 import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
 import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
 import org.springframework.data.redis.connection.RedisNode.NodeType;
@@ -253,6 +263,54 @@ public class ClusterCommandExecutorUnitTests {
 		assertThat(result.resultsAsList(), hasItems("rand", "mat", "perrin"));
 	}
 
+	@Test
+	public void executeCommandOnAllNodesShouldFailForNodesExceedingTimeout() {
+
+		when(con1.theWheelWeavesAsTheWheelWills()).thenReturn("rand");
+		when(con2.theWheelWeavesAsTheWheelWills()).thenReturn("mat");
+		when(con3.theWheelWeavesAsTheWheelWills()).thenAnswer(it -> {
+			Thread.sleep(2000);
+			return "perrin";
+		});
+
+		try {
+			executor.executeCommandOnAllNodes(COMMAND_CALLBACK, Duration.ofMillis(100));
+			fail("Missing ClusterCommandExecutionFailureException");
+		} catch (ClusterCommandExecutionFailureException e) {
+
+			assertThat(e.getCauses().size(), is(1));
+			assertThat(e.getCauses().iterator().next(), IsInstanceOf.instanceOf(QueryTimeoutException.class));
+		}
+	}
+
+	@Test
+	public void submitCommandOnAllNodesShouldCollectResults() throws Exception {
+
+		when(con1.theWheelWeavesAsTheWheelWills()).thenReturn("rand");
+		when(con2.theWheelWeavesAsTheWheelWills()).thenReturn("mat");
+		when(con3.theWheelWeavesAsTheWheelWills()).thenReturn("perrin");
+
+		MultiNodeResult<String> result = executor.submitCommandOnAllNodes(COMMAND_CALLBACK).toCompletableFuture()
+				.get(1, TimeUnit.SECONDS);
+
+		assertThat(result.resultsAsList(), hasItems("rand", "mat", "perrin"));
+	}
+
+	@Test
+	public void submitCommandOnAllNodesShouldCompleteExceptionallyOnError() throws Exception {
+
+		when(con1.theWheelWeavesAsTheWheelWills()).thenReturn("rand");
+		when(con2.theWheelWeavesAsTheWheelWills()).thenThrow(new IllegalStateException("(error) mat lost the dagger..."));
+		when(con3.theWheelWeavesAsTheWheelWills()).thenReturn("perrin");
+
+		try {
+			executor.submitCommandOnAllNodes(COMMAND_CALLBACK).toCompletableFuture().get(1, TimeUnit.SECONDS);
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e.getCause(), IsInstanceOf.instanceOf(ClusterCommandExecutionFailureException.class));
+		}
+	}
+
 	@Test // DATAREDIS-315, DATAREDIS-467
 	public void executeMultikeyCommandShouldRunCommandAcrossCluster() {
 
@@ -312,6 +370,52 @@ public class ClusterCommandExecutorUnitTests {
 		verifyInvocationsAcross("theWheelWeavesAsTheWheelWills", times(1), con1, con2, con3);
 	}
 
+	@Test
+	public void executeSlotGroupedCommandInKeyOrderShouldInvokeCallbackOncePerNode() {
+
+		Map<Connection, List<byte[][]>> invocations = new ConcurrentHashMap<>();
+
+		List<String> result = executor.executeSlotGroupedCommandInKeyOrder(
+				(SlotGroupedConnectionCommandCallback<List<String>>) (client, slotGroups) -> {
+
+					invocations.put(client, slotGroups);
+					return slotGroups.stream().map(
+							keys -> Arrays.stream(keys).map(key -> new String(key).toUpperCase()).collect(Collectors.toList()))
+							.collect(Collectors.toList());
+				}, "key-1".getBytes(), "key-2".getBytes(), "{key-1}-a".getBytes(), "key-3".getBytes());
+
+		assertThat(result, is(Arrays.asList("KEY-1", "KEY-2", "{KEY-1}-A", "KEY-3")));
+		assertThat(invocations.size(), is(3));
+		assertThat(invocations.get(con1).size(), is(1));
+		assertThat(invocations.get(con1).get(0).length, is(2));
+	}
+
+	@Test
+	public void executeSlotGroupedCommandShouldReturnOneResultPerSlotGroup() {
+
+		MultiNodeResult<Integer> result = executor.executeSlotGroupedCommand(
+				(SlotGroupedConnectionCommandCallback<Integer>) (client, slotGroups) -> slotGroups.stream()
+						.map(keys -> keys.length).collect(Collectors.toList()),
+				"key-1".getBytes(), "key-2".getBytes(), "{key-1}-a".getBytes());
+
+		assertThat(result.getResults().size(), is(2));
+		assertThat(result.getResults().get(0).getNode(), is(CLUSTER_NODE_1));
+		assertThat(result.getResults().get(0).getKey(), is("key-1".getBytes()));
+		assertThat(result.resultsAsList(), is(Arrays.asList(2, 1)));
+	}
+
+	@Test(expected = ClusterCommandExecutionFailureException.class)
+	public void executeSlotGroupedCommandShouldFailWhenNodeFails() {
+
+		executor.executeSlotGroupedCommand((SlotGroupedConnectionCommandCallback<String>) (client, slotGroups) -> {
+
+			if (client == con3) {
+				throw new IllegalStateException("(error) mat");
+			}
+			return Collections.nCopies(slotGroups.size(), "OK");
+		}, "key-1".getBytes(), "key-2".getBytes());
+	}
+
 	class MockClusterNodeProvider implements ClusterTopologyProvider {
 
 		@Override
@@ -355,6 +459,10 @@ public class ClusterCommandExecutorUnitTests {
 
 	}
 
+	static interface SlotGroupedConnectionCommandCallback<S> extends SlotGroupedClusterCommandCallback<Connection, S> {
+
+	}
+
 	static interface Connection {
 
 		String theWheelWeavesAsTheWheelWills();
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+
+import org.junit.Test;
+import org.springframework.data.redis.ClusterStateFailureException;
+import org.springframework.data.redis.connection.RedisClusterNode.LinkState;
+import org.springframework.data.redis.connection.RedisClusterNode.SlotRange;
+import org.springframework.data.redis.connection.RedisNode.NodeType;
+
+/**
+ * Unit tests for {@link ClusterTopology}.
+ */
+public class ClusterTopologyUnitTests {
+
+	static final RedisClusterNode MASTER_1 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7379)
+			.serving(new SlotRange(0, 5460)).withId("ef570f86c7b1a953846668debc177a3a16733420").promotedAs(NodeType.MASTER)
+			.linkState(LinkState.CONNECTED).build();
+	static final RedisClusterNode MASTER_2 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7380)
+			.serving(new SlotRange(5461, 16383)).withId("0f2ee5df45d18c50aca07228cc18b1da96fd5e84")
+			.promotedAs(NodeType.MASTER).linkState(LinkState.CONNECTED).build();
+	static final RedisClusterNode REPLICA_2 = RedisClusterNode.newRedisClusterNode().listeningAt("127.0.0.1", 7382)
+			.withId("3b9b8192a874fa8f1f09dbc0ee20afab5738eee7").promotedAs(NodeType.SLAVE)
+			.replicaOf(MASTER_2.getId()).linkState(LinkState.CONNECTED).build();
+
+	ClusterTopology topology = new ClusterTopology(new LinkedHashSet<>(Arrays.asList(MASTER_1, MASTER_2, REPLICA_2)));
+
+	@Test
+	public void shouldResolveKeyServingMasterNode() {
+
+		assertThat(topology.getKeyServingMasterNode("key-1".getBytes())).isEqualTo(MASTER_1);
+		assertThat(topology.getKeyServingMasterNode("key-2".getBytes())).isEqualTo(MASTER_2);
+		assertThat(topology.getSlotServingMasterNode(5461)).isEqualTo(MASTER_2);
+	}
+
+	@Test
+	public void shouldResolveSlotServingNodes() {
+
+		assertThat(topology.getSlotServingNodes(0)).containsExactly(MASTER_1);
+		assertThat(topology.getSlotServingNodes(16383)).containsExactly(MASTER_2);
+		assertThat(topology.getSlotServingNodes(16384)).isEmpty();
+		assertThat(topology.getSlotServingNodes(-1)).isEmpty();
+	}
+
+	@Test
+	public void shouldResolveReplicaNodes() {
+
+		assertThat(topology.getSlotServingReplicaNodes(16383)).containsExactly(REPLICA_2);
+		assertThat(topology.getSlotServingReplicaNodes(0)).isEmpty();
+		assertThat(topology.getKeyServingReplicaNodes("key-2".getBytes())).containsExactly(REPLICA_2);
+	}
+
+	@Test
+	public void shouldFailForUnservedSlot() {
+
+		ClusterTopology topology = new ClusterTopology(new LinkedHashSet<>(Arrays.asList(MASTER_1)));
+
+		assertThatThrownBy(() -> topology.getSlotServingMasterNode(16383))
+				.isInstanceOf(ClusterStateFailureException.class);
+		assertThatThrownBy(() -> topology.getKeyServingMasterNode("key-2".getBytes()))
+				.isInstanceOf(ClusterStateFailureException.class);
+	}
+}
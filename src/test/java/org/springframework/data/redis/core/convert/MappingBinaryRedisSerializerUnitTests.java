@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Data;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Reference;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Unit tests for {@link MappingBinaryRedisSerializer}.
+ */
+public class MappingBinaryRedisSerializerUnitTests {
+
+	@Test
+	public void shouldRoundTripAllSupportedTypes() {
+
+		MappingBinaryRedisSerializer<Order> serializer = new MappingBinaryRedisSerializer<>(Order.class);
+		Order order = order();
+
+		assertThat(serializer.deserialize(serializer.serialize(order))).isEqualTo(order);
+	}
+
+	@Test
+	public void shouldRoundTripNullProperties() {
+
+		MappingBinaryRedisSerializer<Order> serializer = new MappingBinaryRedisSerializer<>(Order.class);
+		Order order = new Order();
+		order.setQuantity(-1);
+
+		assertThat(serializer.deserialize(serializer.serialize(order))).isEqualTo(order);
+	}
+
+	@Test
+	public void shouldRoundTripImmutableAndRecursiveTypes() {
+
+		MappingBinaryRedisSerializer<Node> serializer = new MappingBinaryRedisSerializer<>(Node.class);
+		Node node = new Node("root", new Node("child", null, Collections.emptyList()),
+				Arrays.asList(new Node("leaf", null, Collections.emptyList())));
+
+		assertThat(serializer.deserialize(serializer.serialize(node))).isEqualTo(node);
+	}
+
+	@Test
+	public void shouldTreatNullAndEmptyArraysAlike() {
+
+		MappingBinaryRedisSerializer<Order> serializer = new MappingBinaryRedisSerializer<>(Order.class);
+
+		assertThat(serializer.serialize(null)).isEmpty();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	public void shouldRejectValuesWrittenForDifferentSchema() {
+
+		byte[] serialized = new MappingBinaryRedisSerializer<>(Item.class).serialize(new Item("sku-1", 1));
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> new MappingBinaryRedisSerializer<>(Node.class).deserialize(serialized))
+				.withMessageContaining("Schema hash");
+	}
+
+	@Test
+	public void shouldRejectTruncatedValues() {
+
+		MappingBinaryRedisSerializer<Order> serializer = new MappingBinaryRedisSerializer<>(Order.class);
+		byte[] serialized = serializer.serialize(order());
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> serializer.deserialize(Arrays.copyOf(serialized, serialized.length - 3)));
+	}
+
+	@Test
+	public void shouldRejectUnsupportedPropertyTypes() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new MappingBinaryRedisSerializer<>(WithObject.class))
+				.withMessageContaining("value");
+		assertThatIllegalArgumentException().isThrownBy(() -> new MappingBinaryRedisSerializer<>(WithReference.class));
+	}
+
+	@Test
+	public void shouldBeSmallerThanJson() {
+
+		Order order = order();
+
+		int binary = new MappingBinaryRedisSerializer<>(Order.class).serialize(order).length;
+		int json = new GenericJackson2JsonRedisSerializer().serialize(order).length;
+
+		assertThat(binary * 3).isLessThan(json);
+	}
+
+	static Order order() {
+
+		Order order = new Order();
+		order.setId(UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e"));
+		order.setCustomer("customer-4711");
+		order.setStatus(Status.SHIPPED);
+		order.setExpress(true);
+		order.setQuantity(42);
+		order.setTotal(new BigDecimal("1234.56"));
+		order.setWeight(2.5);
+		order.setCreated(new Date(1560000000000L));
+		order.setShipped(Instant.ofEpochSecond(1560000000L, 42));
+		order.setDelivery(LocalDate.of(2019, 6, 8));
+		order.setUpdated(LocalDateTime.of(2019, 6, 8, 12, 30, 15));
+		order.setSignature(new byte[] { 1, 2, 3 });
+		order.setItems(Arrays.asList(new Item("sku-1", 1), null, new Item("sku-2", 300)));
+		order.setTags(Collections.singleton("gift"));
+
+		Map<String, Long> counters = new LinkedHashMap<>();
+		counters.put("views", 1000L);
+		counters.put("edits", null);
+		order.setCounters(counters);
+
+		return order;
+	}
+
+	enum Status {
+		NEW, SHIPPED
+	}
+
+	@Data
+	static class Order {
+
+		@Id UUID id;
+		String customer;
+		Status status;
+		boolean express;
+		int quantity;
+		BigDecimal total;
+		Double weight;
+		Date created;
+		Instant shipped;
+		LocalDate delivery;
+		LocalDateTime updated;
+		byte[] signature;
+		List<Item> items;
+		Set<String> tags;
+		Map<String, Long> counters;
+	}
+
+	@Value
+	static class Item {
+
+		String sku;
+		int quantity;
+	}
+
+	@Value
+	static class Node {
+
+		String name;
+		Node parent;
+		List<Node> children;
+	}
+
+	@Data
+	static class WithObject {
+		Object value;
+	}
+
+	@Data
+	static class WithReference {
+		@Reference Item item;
+	}
+}
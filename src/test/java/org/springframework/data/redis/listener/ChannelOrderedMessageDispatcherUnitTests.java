@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.connection.util.ByteArrayWrapper;
+import org.springframework.data.redis.listener.ChannelOrderedMessageDispatcher.OverflowPolicy;
+
+/**
+ * Unit tests for {@link ChannelOrderedMessageDispatcher}.
+ */
+public class ChannelOrderedMessageDispatcherUnitTests {
+
+	private static final ByteArrayWrapper CHANNEL = new ByteArrayWrapper("channel".getBytes());
+
+	private ChannelOrderedMessageDispatcher dispatcher;
+
+	@After
+	public void tearDown() {
+
+		if (dispatcher != null) {
+			dispatcher.destroy();
+		}
+	}
+
+	@Test
+	public void shouldRunTasksOfSameChannelInDispatchOrder() throws InterruptedException {
+
+		dispatcher = new ChannelOrderedMessageDispatcher(4, 1000, OverflowPolicy.BLOCK, "test-");
+
+		List<Integer> received = new CopyOnWriteArrayList<>();
+		CountDownLatch latch = new CountDownLatch(500);
+
+		for (int i = 0; i < 500; i++) {
+
+			int value = i;
+			dispatcher.dispatch(CHANNEL, () -> {
+				received.add(value);
+				latch.countDown();
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(received).isSorted().hasSize(500);
+		assertThat(dispatcher.getDispatchedCount()).isEqualTo(500);
+	}
+
+	@Test
+	public void shouldAssignSameChannelToSameWorker() {
+
+		dispatcher = new ChannelOrderedMessageDispatcher(8, 10, OverflowPolicy.BLOCK, "test-");
+
+		assertThat(dispatcher.workerIndex(new ByteArrayWrapper("channel".getBytes())))
+				.isEqualTo(dispatcher.workerIndex(CHANNEL)).isBetween(0, 7);
+	}
+
+	@Test
+	public void dropOldestShouldDiscardPendingTasks() throws InterruptedException {
+
+		dispatcher = new ChannelOrderedMessageDispatcher(1, 2, OverflowPolicy.DROP_OLDEST, "test-");
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		List<Integer> received = new CopyOnWriteArrayList<>();
+
+		dispatcher.dispatch(CHANNEL, () -> {
+			started.countDown();
+			awaitQuietly(blocker);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		for (int i = 0; i < 5; i++) {
+
+			int value = i;
+			dispatcher.dispatch(CHANNEL, () -> received.add(value));
+		}
+
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+		assertThat(dispatcher.getQueueDepth(0)).isEqualTo(2);
+		assertThat(dispatcher.getDroppedCount()).isEqualTo(3);
+
+		blocker.countDown();
+
+		// let the worker drain the queue so that the next task does not drop a pending one
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (dispatcher.getQueueDepth(0) > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+
+		CountDownLatch done = new CountDownLatch(1);
+		dispatcher.dispatch(CHANNEL, done::countDown);
+
+		assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(dispatcher.getDroppedCount()).isEqualTo(3);
+		assertThat(received).containsExactly(3, 4);
+	}
+
+	@Test
+	public void failShouldRejectTasksWhenQueueIsFull() throws InterruptedException {
+
+		dispatcher = new ChannelOrderedMessageDispatcher(1, 1, OverflowPolicy.FAIL, "test-");
+
+		CountDownLatch blocker = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+
+		dispatcher.dispatch(CHANNEL, () -> {
+			started.countDown();
+			awaitQuietly(blocker);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		dispatcher.dispatch(CHANNEL, () -> {});
+
+		assertThatThrownBy(() -> dispatcher.dispatch(CHANNEL, () -> {})).isInstanceOf(TaskRejectedException.class);
+		assertThat(dispatcher.getRejectedCount()).isEqualTo(1);
+
+		blocker.countDown();
+	}
+
+	@Test
+	public void shouldRejectTasksAfterShutdown() {
+
+		dispatcher = new ChannelOrderedMessageDispatcher(1, 1, OverflowPolicy.BLOCK, "test-");
+		dispatcher.destroy();
+
+		assertThat(dispatcher.isRunning()).isFalse();
+		assertThatThrownBy(() -> dispatcher.dispatch(CHANNEL, () -> {})).isInstanceOf(TaskRejectedException.class);
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
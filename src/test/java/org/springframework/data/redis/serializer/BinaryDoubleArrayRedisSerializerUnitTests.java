@@ -0,0 +1,57 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BinaryDoubleArrayRedisSerializer}.
+ */
+public class BinaryDoubleArrayRedisSerializerUnitTests {
+
+	BinaryDoubleArrayRedisSerializer serializer = BinaryDoubleArrayRedisSerializer.INSTANCE;
+
+	@Test
+	public void shouldRoundTripArrays() {
+
+		double[] values = { 0d, -1.5, Math.E, Double.MAX_VALUE, Double.NEGATIVE_INFINITY };
+		ByteBuffer direct = ByteBuffer.allocateDirect(values.length * 8);
+		direct.put(serializer.serialize(values)).flip();
+
+		assertThat(serializer.deserialize(serializer.serialize(values))).containsExactly(values);
+		assertThat(serializer.deserializeFromBuffer(direct)).containsExactly(values);
+		assertThat(direct.position()).isZero();
+		assertThat(serializer.deserialize(new byte[0])).isEmpty();
+		assertThat(serializer.serialize(null)).isNull();
+		assertThat(serializer.deserialize(null)).isNull();
+	}
+
+	@Test
+	public void shouldMatchSingleValueEncoding() {
+
+		assertThat(serializer.serialize(new double[] { 1d })).containsExactly(BinaryDoubleRedisSerializer.INSTANCE.serialize(1d));
+	}
+
+	@Test
+	public void shouldRejectInvalidLength() {
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.deserialize(new byte[9]));
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BinaryDoubleRedisSerializer}.
+ */
+public class BinaryDoubleRedisSerializerUnitTests {
+
+	BinaryDoubleRedisSerializer serializer = BinaryDoubleRedisSerializer.INSTANCE;
+
+	@Test
+	public void shouldRoundTripValues() {
+
+		for (double value : new double[] { 0d, -0d, 1.5, -Math.PI, Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN,
+				Double.NEGATIVE_INFINITY }) {
+
+			assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+			assertThat(Double.doubleToRawLongBits(serializer.deserializeDouble(serializer.serializeDouble(value))))
+					.isEqualTo(Double.doubleToRawLongBits(value));
+		}
+	}
+
+	@Test
+	public void shouldWriteBigEndianIeee754() {
+
+		assertThat(serializer.serialize(1d)).containsExactly(0x3F, 0xF0, 0, 0, 0, 0, 0, 0);
+	}
+
+	@Test
+	public void shouldReadBufferRegardlessOfByteOrder() {
+
+		ByteBuffer buffer = ByteBuffer.allocateDirect(8).order(ByteOrder.LITTLE_ENDIAN);
+		serializer.write(2.5, buffer);
+		buffer.flip();
+
+		assertThat(serializer.deserializeFromBuffer(buffer)).isEqualTo(2.5);
+		assertThat(buffer.position()).isZero();
+		assertThat(serializer.read(buffer)).isEqualTo(2.5);
+	}
+
+	@Test
+	public void shouldHandleNullAndEmpty() {
+
+		assertThat(serializer.serialize(null)).isNull();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	public void shouldRejectInvalidLength() {
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.deserialize(new byte[4]));
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BinaryIntegerRedisSerializer}.
+ */
+public class BinaryIntegerRedisSerializerUnitTests {
+
+	static final int[] VALUES = { 0, 1, -1, 63, -64, 64, 300, Short.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE };
+
+	@Test
+	public void shouldRoundTripValues() {
+
+		for (BinaryIntegerRedisSerializer serializer : BinaryIntegerRedisSerializer.values()) {
+			for (int value : VALUES) {
+
+				assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+				assertThat(serializer.deserializeInt(serializer.serializeInt(value))).isEqualTo(value);
+				assertThat(serializer.deserializeFromBuffer(ByteBuffer.wrap(serializer.serializeInt(value)))).isEqualTo(value);
+			}
+		}
+	}
+
+	@Test
+	public void shouldWriteExpectedSize() {
+
+		assertThat(BinaryIntegerRedisSerializer.FIXED.serialize(258)).containsExactly(0, 0, 1, 2);
+		assertThat(BinaryIntegerRedisSerializer.VARIABLE.serialize(-64)).hasSize(1);
+		assertThat(BinaryIntegerRedisSerializer.VARIABLE.serialize(Integer.MIN_VALUE)).hasSize(5);
+	}
+
+	@Test
+	public void shouldHandleNullAndEmpty() {
+
+		for (BinaryIntegerRedisSerializer serializer : BinaryIntegerRedisSerializer.values()) {
+
+			assertThat(serializer.serialize(null)).isNull();
+			assertThat(serializer.deserialize(null)).isNull();
+			assertThat(serializer.deserialize(new byte[0])).isNull();
+		}
+	}
+
+	@Test
+	public void variableShouldRejectValuesOutOfRange() {
+
+		byte[] bytes = BinaryLongRedisSerializer.VARIABLE.serializeLong(Integer.MAX_VALUE + 1L);
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> BinaryIntegerRedisSerializer.VARIABLE.deserialize(bytes));
+	}
+
+	@Test
+	public void fixedShouldRejectInvalidLength() {
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> BinaryIntegerRedisSerializer.FIXED.deserialize(new byte[8]));
+	}
+}
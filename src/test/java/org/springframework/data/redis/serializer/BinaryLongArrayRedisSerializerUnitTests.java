@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BinaryLongArrayRedisSerializer}.
+ */
+public class BinaryLongArrayRedisSerializerUnitTests {
+
+	@Test
+	public void shouldRoundTripArrays() {
+
+		for (BinaryLongArrayRedisSerializer serializer : BinaryLongArrayRedisSerializer.values()) {
+
+			long[] values = BinaryLongRedisSerializerUnitTests.VALUES;
+
+			assertThat(serializer.deserialize(serializer.serialize(values))).containsExactly(values);
+			assertThat(serializer.deserializeFromBuffer(ByteBuffer.wrap(serializer.serialize(values))))
+					.containsExactly(values);
+			assertThat(serializer.deserialize(serializer.serialize(new long[0]))).isEmpty();
+			assertThat(serializer.serialize(null)).isNull();
+			assertThat(serializer.deserialize(null)).isNull();
+		}
+	}
+
+	@Test
+	public void shouldUseElementEncoding() {
+
+		assertThat(BinaryLongArrayRedisSerializer.FIXED.serialize(new long[] { 1, 2 })).hasSize(16);
+		assertThat(BinaryLongArrayRedisSerializer.VARIABLE.serialize(new long[] { 1, -1, 300 })).containsExactly(
+				BinaryLongRedisSerializer.VARIABLE.serializeLong(1)[0], BinaryLongRedisSerializer.VARIABLE.serializeLong(-1)[0],
+				0xD8, 0x04);
+	}
+
+	@Test
+	public void shouldRejectMalformedValues() {
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> BinaryLongArrayRedisSerializer.FIXED.deserialize(new byte[12]));
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> BinaryLongArrayRedisSerializer.VARIABLE.deserialize(new byte[] { 2, (byte) 0x80 }));
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link BinaryLongRedisSerializer}.
+ */
+public class BinaryLongRedisSerializerUnitTests {
+
+	static final long[] VALUES = { 0, 1, -1, 63, -64, 64, 300, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE,
+			Long.MIN_VALUE };
+
+	@Test
+	public void shouldRoundTripValues() {
+
+		for (BinaryLongRedisSerializer serializer : BinaryLongRedisSerializer.values()) {
+			for (long value : VALUES) {
+
+				assertThat(serializer.deserialize(serializer.serialize(value))).isEqualTo(value);
+				assertThat(serializer.deserializeLong(serializer.serializeLong(value))).isEqualTo(value);
+				assertThat(serializer.deserializeFromBuffer(ByteBuffer.wrap(serializer.serializeLong(value))))
+						.isEqualTo(value);
+			}
+		}
+	}
+
+	@Test
+	public void fixedShouldWriteBigEndian() {
+
+		assertThat(BinaryLongRedisSerializer.FIXED.serialize(258L)).containsExactly(0, 0, 0, 0, 0, 0, 1, 2);
+		assertThat(BinaryLongRedisSerializer.FIXED.serialize(-1L)).hasSize(8).containsOnly(0xFF);
+	}
+
+	@Test
+	public void variableShouldWriteSmallValuesCompact() {
+
+		assertThat(BinaryLongRedisSerializer.VARIABLE.serialize(0L)).containsExactly(0);
+		assertThat(BinaryLongRedisSerializer.VARIABLE.serialize(-1L)).containsExactly(1);
+		assertThat(BinaryLongRedisSerializer.VARIABLE.serialize(63L)).containsExactly(126);
+		assertThat(BinaryLongRedisSerializer.VARIABLE.serialize(64L)).hasSize(2);
+		assertThat(BinaryLongRedisSerializer.VARIABLE.serialize(Long.MIN_VALUE)).hasSize(10);
+	}
+
+	@Test
+	public void shouldHandleNullAndEmpty() {
+
+		for (BinaryLongRedisSerializer serializer : BinaryLongRedisSerializer.values()) {
+
+			assertThat(serializer.serialize(null)).isNull();
+			assertThat(serializer.deserialize(null)).isNull();
+			assertThat(serializer.deserialize(new byte[0])).isNull();
+			assertThat(serializer.deserializeFromBuffer(ByteBuffer.allocate(0))).isNull();
+		}
+	}
+
+	@Test
+	public void shouldReadAndWriteSequenceInBufferRegardlessOfByteOrder() {
+
+		for (BinaryLongRedisSerializer serializer : BinaryLongRedisSerializer.values()) {
+
+			ByteBuffer buffer = ByteBuffer.allocateDirect(VALUES.length * 10).order(ByteOrder.LITTLE_ENDIAN);
+
+			for (long value : VALUES) {
+				serializer.write(value, buffer);
+			}
+
+			buffer.flip();
+
+			for (long value : VALUES) {
+				assertThat(serializer.read(buffer)).isEqualTo(value);
+			}
+
+			assertThat(buffer.hasRemaining()).isFalse();
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+		BinaryLongRedisSerializer.FIXED.write(258L, buffer);
+
+		assertThat(buffer.array()).containsExactly(BinaryLongRedisSerializer.FIXED.serialize(258L));
+	}
+
+	@Test
+	public void deserializeFromBufferShouldNotChangePosition() {
+
+		ByteBuffer buffer = ByteBuffer.wrap(BinaryLongRedisSerializer.VARIABLE.serializeLong(300));
+
+		assertThat(BinaryLongRedisSerializer.VARIABLE.deserializeFromBuffer(buffer)).isEqualTo(300L);
+		assertThat(buffer.position()).isZero();
+	}
+
+	@Test
+	public void shouldRejectMalformedValues() {
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> BinaryLongRedisSerializer.FIXED.deserialize(new byte[7]));
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> BinaryLongRedisSerializer.VARIABLE.deserialize(new byte[] { (byte) 0x80 }));
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> BinaryLongRedisSerializer.VARIABLE.deserialize(new byte[] { 1, 1 }));
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> BinaryLongRedisSerializer.VARIABLE.deserializeFromBuffer(ByteBuffer.wrap(new byte[] { 1, 1 })));
+	}
+}
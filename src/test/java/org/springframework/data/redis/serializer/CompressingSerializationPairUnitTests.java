@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.junit.Test;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.util.ByteUtils;
+
+/**
+ * Unit tests for {@link CompressingSerializationPair}.
+ */
+public class CompressingSerializationPairUnitTests {
+
+	SerializationPair<String> plain = SerializationPair.fromSerializer(StringRedisSerializer.UTF_8);
+	SerializationPair<String> compressing = SerializationPair.compressing(plain, 64);
+
+	@Test
+	public void shouldCompressValuesExceedingThreshold() {
+
+		String value = repeat("spring-data-redis", 100);
+
+		byte[] written = ByteUtils.getBytes(compressing.write(value));
+
+		assertThat(written.length).isLessThan(value.length());
+		assertThat(written).startsWith(0, 'S', 'D', 'Z');
+		assertThat(compressing.read(ByteBuffer.wrap(written))).isEqualTo(value);
+	}
+
+	@Test
+	public void shouldNotCompressValuesBelowThreshold() {
+
+		ByteBuffer written = compressing.write("small");
+
+		assertThat(ByteUtils.getBytes(written)).isEqualTo(ByteUtils.getBytes(plain.write("small")));
+		assertThat(compressing.read(written)).isEqualTo("small");
+	}
+
+	@Test
+	public void shouldReadUncompressedValues() {
+
+		String value = repeat("spring-data-redis", 100);
+
+		assertThat(compressing.read(plain.write(value))).isEqualTo(value);
+	}
+
+	@Test
+	public void shouldKeepIncompressibleValuesUncompressed() {
+
+		byte[] random = new byte[512];
+		new Random(42).nextBytes(random);
+		random[0] = 'x';
+
+		SerializationPair<byte[]> pair = SerializationPair
+				.compressing(SerializationPair.<byte[]> just(ByteUtils::getBytes, ByteBuffer::wrap), 64);
+		byte[] written = ByteUtils.getBytes(pair.write(random));
+
+		assertThat(written).isEqualTo(random);
+		assertThat(pair.read(ByteBuffer.wrap(written))).isEqualTo(random);
+	}
+
+	@Test
+	public void shouldRoundtripConcurrently() throws InterruptedException {
+
+		String value = repeat("concurrent", 200);
+		Thread[] threads = new Thread[8];
+		Throwable[] failure = new Throwable[1];
+
+		for (int i = 0; i < threads.length; i++) {
+			threads[i] = new Thread(() -> {
+				try {
+					for (int j = 0; j < 100; j++) {
+						assertThat(compressing.read(compressing.write(value))).isEqualTo(value);
+					}
+				} catch (Throwable e) {
+					failure[0] = e;
+				}
+			});
+			threads[i].start();
+		}
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		assertThat(failure[0]).isNull();
+	}
+
+	@Test(expected = SerializationException.class)
+	public void shouldRejectCorruptCompressedValues() {
+
+		byte[] written = ByteUtils.getBytes(compressing.write(repeat("spring-data-redis", 100)));
+		byte[] truncated = new byte[written.length / 2];
+		System.arraycopy(written, 0, truncated, 0, truncated.length);
+
+		compressing.read(ByteBuffer.wrap(truncated));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNegativeThreshold() {
+		SerializationPair.compressing(plain, -1);
+	}
+
+	private static String repeat(String value, int times) {
+
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < times; i++) {
+			builder.append(value);
+		}
+		return builder.toString();
+	}
+}
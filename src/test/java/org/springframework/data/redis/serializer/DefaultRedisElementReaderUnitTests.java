@@ -55,4 +55,74 @@ public class DefaultRedisElementReaderUnitTests {
 
 		assertThat(result, is(equalTo(input)));
 	}
+
+	@Test
+	public void shouldDecodeByteBufferSliceInPlace() {
+
+		ByteBuffer input = ByteBuffer.wrap("xxfoo-bar".getBytes(StandardCharsets.UTF_8));
+		input.position(2);
+
+		DefaultRedisElementReader<String> reader = new DefaultRedisElementReader<>(StringRedisSerializer.UTF_8);
+
+		assertThat(reader.read(input.slice()), is(equalTo("foo-bar")));
+		assertThat(reader.read(input), is(equalTo("foo-bar")));
+		assertThat(input.position(), is(2));
+	}
+
+	@Test
+	public void shouldDecodeDirectByteBuffer() {
+
+		ByteBuffer input = ByteBuffer.allocateDirect(7);
+		input.put("foo-bar".getBytes(StandardCharsets.UTF_8)).flip();
+
+		DefaultRedisElementReader<String> reader = new DefaultRedisElementReader<>(StringRedisSerializer.UTF_8);
+
+		assertThat(reader.read(input), is(equalTo("foo-bar")));
+		assertThat(input.remaining(), is(7));
+	}
+
+	@Test
+	public void shouldReturnBackingArrayForRawSerializer() {
+
+		byte[] bytes = { 1, 2, 3 };
+		ByteBuffer sliced = ByteBuffer.wrap(bytes, 1, 2);
+
+		DefaultRedisElementReader<byte[]> reader = new DefaultRedisElementReader<>(RedisSerializer.byteArray());
+
+		assertThat(reader.read(ByteBuffer.wrap(bytes)), is(sameInstance(bytes)));
+		assertThat(reader.read(sliced), is(equalTo(new byte[] { 2, 3 })));
+	}
+
+	@Test
+	public void shouldUseOverriddenDeserializeOfSubclass() {
+
+		DefaultRedisElementReader<String> reader = new DefaultRedisElementReader<>(new StringRedisSerializer() {
+
+			@Override
+			public String deserialize(byte[] bytes) {
+				return super.deserialize(bytes).toUpperCase();
+			}
+		});
+
+		assertThat(reader.read(ByteBuffer.wrap("foo".getBytes(StandardCharsets.UTF_8))), is(equalTo("FOO")));
+	}
+
+	@Test
+	public void shouldUseBufferPathOfSubclassOverridingBothMethods() {
+
+		DefaultRedisElementReader<String> reader = new DefaultRedisElementReader<>(new StringRedisSerializer() {
+
+			@Override
+			public String deserialize(byte[] bytes) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public String deserializeFromBuffer(ByteBuffer buffer) {
+				return "buffer";
+			}
+		});
+
+		assertThat(reader.read(ByteBuffer.wrap(new byte[] { 1 })), is(equalTo("buffer")));
+	}
 }
@@ -73,4 +73,18 @@ public class DefaultRedisElementWriterUnitTests {
 
 		writer.write(new Object());
 	}
+
+	@Test
+	public void shouldUseOverriddenSerializeOfSubclass() {
+
+		DefaultRedisElementWriter<String> writer = new DefaultRedisElementWriter<>(new StringRedisSerializer() {
+
+			@Override
+			public byte[] serialize(String value) {
+				return super.serialize(value.toUpperCase());
+			}
+		});
+
+		assertThat(writer.write("foo"), is(equalTo(ByteBuffer.wrap("FOO".getBytes(StandardCharsets.UTF_8)))));
+	}
 }
@@ -16,6 +16,8 @@
 package org.springframework.data.redis.serializer;
 
 import static org.hamcrest.core.Is.*;
+import static org.hamcrest.core.IsNot.*;
+import static org.hamcrest.core.StringContains.*;
 import static org.hamcrest.core.IsInstanceOf.*;
 import static org.hamcrest.core.IsNull.*;
 import static org.junit.Assert.*;
@@ -25,6 +27,9 @@ import static org.springframework.test.util.ReflectionTestUtils.*;
 import static org.springframework.util.ObjectUtils.*;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -34,10 +39,11 @@ import org.springframework.cache.support.NullValue;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.core.JsonGenerationException;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
@@ -93,6 +99,69 @@ public class GenericJackson2JsonRedisSerializerUnitTests {
 		assertThat(new GenericJackson2JsonRedisSerializer().deserialize(SerializationUtils.EMPTY_ARRAY), nullValue());
 	}
 
+	@Test
+	public void deserializeShouldReadByteBuffersWithoutCopying() {
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+		byte[] serialized = serializer.serialize(SIMPLE_OBJECT);
+
+		ByteBuffer heap = ByteBuffer.allocate(serialized.length + 2);
+		heap.position(2);
+		heap.put(serialized).position(2);
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(serialized.length);
+		direct.put(serialized).flip();
+
+		assertThat((SimpleObject) serializer.deserializeFromBuffer(heap), is(SIMPLE_OBJECT));
+		assertThat((SimpleObject) serializer.deserializeFromBuffer(direct), is(SIMPLE_OBJECT));
+		assertThat(heap.position(), is(2));
+		assertThat(serializer.deserializeFromBuffer(ByteBuffer.allocate(0)), nullValue());
+	}
+
+	@Test
+	public void serializeShouldWriteSameJsonAsObjectMapper() throws IOException {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.enableDefaultTyping(DefaultTyping.NON_FINAL, As.PROPERTY);
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(mapper);
+
+		for (int i = 0; i < 2; i++) {
+
+			assertThat(serializer.serialize(SIMPLE_OBJECT), is(mapper.writeValueAsBytes(SIMPLE_OBJECT)));
+			assertThat(serializer.serialize("foo"), is(mapper.writeValueAsBytes("foo")));
+		}
+	}
+
+	@Test
+	public void shouldWriteAndReadTypeAliases() {
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(null,
+				new TypeAliases().register(ComplexObject.class, "complex").register(SimpleObject.class, "simple"));
+		ComplexObject source = new ComplexObject("steelheart", SIMPLE_OBJECT);
+
+		byte[] serialized = serializer.serialize(source);
+		String json = new String(serialized, StandardCharsets.UTF_8);
+
+		assertThat(json, containsString("\"@class\":\"complex\""));
+		assertThat(json, containsString("\"@class\":\"simple\""));
+		assertThat(json, not(containsString(SimpleObject.class.getName())));
+		assertThat(serializer.deserialize(serialized), is(source));
+	}
+
+	@Test
+	public void shouldReadClassNamesWhenUsingTypeAliases() {
+
+		ComplexObject source = new ComplexObject("steelheart", SIMPLE_OBJECT);
+		byte[] serialized = new GenericJackson2JsonRedisSerializer("_type").serialize(source);
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer("_type",
+				new TypeAliases().register(ComplexObject.class, "complex"));
+
+		assertThat(serializer.deserialize(serialized), is(source));
+		assertThat(new String(serializer.serialize(source), StandardCharsets.UTF_8),
+				containsString("\"_type\":\"complex\""));
+	}
+
 	@Test // DATAREDIS-392
 	public void deserializeShouldBeAbleToRestoreSimpleObjectAfterSerialization() {
 
@@ -110,10 +179,13 @@ public class GenericJackson2JsonRedisSerializerUnitTests {
 	}
 
 	@Test(expected = SerializationException.class) // DATAREDIS-392
-	public void serializeShouldThrowSerializationExceptionProcessingError() throws JsonProcessingException {
+	public void serializeShouldThrowSerializationExceptionProcessingError() throws IOException {
 
 		ObjectMapper objectMapperMock = mock(ObjectMapper.class);
-		when(objectMapperMock.writeValueAsBytes(any())).thenThrow(new JsonGenerationException("nightwielder"));
+		ObjectWriter objectWriterMock = mock(ObjectWriter.class);
+		when(objectMapperMock.writerFor(Mockito.any(Class.class))).thenReturn(objectWriterMock);
+		doThrow(new JsonGenerationException("nightwielder")).when(objectWriterMock)
+				.writeValue(Mockito.any(OutputStream.class), any());
 
 		new GenericJackson2JsonRedisSerializer(objectMapperMock).serialize(SIMPLE_OBJECT);
 	}
@@ -122,8 +194,9 @@ public class GenericJackson2JsonRedisSerializerUnitTests {
 	public void deserializeShouldThrowSerializationExceptionProcessingError() throws IOException {
 
 		ObjectMapper objectMapperMock = mock(ObjectMapper.class);
-		when(objectMapperMock.readValue(Mockito.any(byte[].class), Mockito.any(Class.class)))
-				.thenThrow(new JsonMappingException("conflux"));
+		ObjectReader objectReaderMock = mock(ObjectReader.class);
+		when(objectMapperMock.readerFor(Mockito.any(Class.class))).thenReturn(objectReaderMock);
+		when(objectReaderMock.readValue(Mockito.any(byte[].class))).thenThrow(new JsonMappingException("conflux"));
 
 		new GenericJackson2JsonRedisSerializer(objectMapperMock).deserialize(new byte[] { 1 });
 	}
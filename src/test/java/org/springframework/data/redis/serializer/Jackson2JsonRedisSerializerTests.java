@@ -17,6 +17,7 @@ package org.springframework.data.redis.serializer;
 
 import static org.junit.Assert.*;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.hamcrest.core.Is;
@@ -46,6 +47,17 @@ public class Jackson2JsonRedisSerializerTests {
 		assertEquals(person, serializer.deserialize(serializer.serialize(person)));
 	}
 
+	@Test
+	public void testJackson2JsonSerializerShouldDeserializeByteBuffer() {
+
+		Person person = new PersonObjectFactory().instance();
+		ByteBuffer buffer = ByteBuffer.wrap(serializer.serialize(person));
+
+		assertEquals(person, serializer.deserializeFromBuffer(buffer));
+		assertEquals(0, buffer.position());
+		assertThat(serializer.deserializeFromBuffer(ByteBuffer.allocate(0)), IsNull.nullValue());
+	}
+
 	@Test // DATAREDIS-241
 	public void testJackson2JsonSerializerShouldReturnEmptyByteArrayWhenSerializingNull() {
 		assertThat(serializer.serialize(null), Is.is(new byte[0]));
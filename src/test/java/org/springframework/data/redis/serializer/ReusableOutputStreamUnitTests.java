@@ -0,0 +1,63 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ReusableOutputStream}.
+ */
+public class ReusableOutputStreamUnitTests {
+
+	@Test
+	public void shouldReuseReleasedStream() {
+
+		ReusableOutputStream stream = ReusableOutputStream.acquire();
+		stream.write(1);
+		stream.release();
+
+		ReusableOutputStream next = ReusableOutputStream.acquire();
+
+		assertThat(next).isSameAs(stream);
+		assertThat(next.size()).isZero();
+
+		next.release();
+	}
+
+	@Test
+	public void shouldNotShareStreamWithNestedAcquire() {
+
+		ReusableOutputStream outer = ReusableOutputStream.acquire();
+		ReusableOutputStream nested = ReusableOutputStream.acquire();
+
+		assertThat(nested).isNotSameAs(outer);
+
+		nested.release();
+		outer.release();
+	}
+
+	@Test
+	public void shouldDropGrownBufferOnRelease() {
+
+		ReusableOutputStream stream = ReusableOutputStream.acquire();
+		stream.write(new byte[128 * 1024], 0, 128 * 1024);
+		stream.release();
+
+		assertThat(stream.capacity()).isLessThan(128 * 1024);
+	}
+}
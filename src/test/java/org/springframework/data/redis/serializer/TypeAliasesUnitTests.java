@@ -0,0 +1,62 @@
+/*
+ * Copyright 2019 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+import org.springframework.data.annotation.TypeAlias;
+
+/**
+ * Unit tests for {@link TypeAliases}.
+ */
+public class TypeAliasesUnitTests {
+
+	@Test
+	public void shouldResolveRegisteredAliases() {
+
+		TypeAliases aliases = new TypeAliases().register(String.class, "str");
+
+		assertThat(aliases.getAlias(String.class.getName())).isEqualTo("str");
+		assertThat(aliases.getClassName("str")).isEqualTo(String.class.getName());
+		assertThat(aliases.getAlias(Integer.class.getName())).isNull();
+		assertThat(aliases.getClassName("int")).isNull();
+	}
+
+	@Test
+	public void shouldRegisterAnnotatedAliases() {
+
+		TypeAliases aliases = new TypeAliases().register(Annotated.class);
+
+		assertThat(aliases.getAlias(Annotated.class.getName())).isEqualTo("annotated");
+		assertThatIllegalArgumentException().isThrownBy(() -> aliases.register(TypeAliasesUnitTests.class));
+	}
+
+	@Test
+	public void shouldRejectConflictingAliases() {
+
+		TypeAliases aliases = new TypeAliases().register(String.class, "str");
+
+		aliases.register(String.class, "str");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> aliases.register(String.class, "string"));
+		assertThatIllegalArgumentException().isThrownBy(() -> aliases.register(Integer.class, "str"));
+		assertThatIllegalArgumentException().isThrownBy(() -> aliases.register(Integer.class, "java.lang.Integer"));
+	}
+
+	@TypeAlias("annotated")
+	static class Annotated {}
+}